@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.converter.compiler.CompilationResult;
+import cool.klass.model.converter.compiler.CompilationUnit;
+import cool.klass.model.converter.compiler.KlassCompiler;
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.AnsiColorScheme;
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KlassCompilerBenchmark {
+
+	private static final AnsiColorScheme COLOR_SCHEME = ColorSchemeProvider.getByName("dark");
+
+	@Param("500")
+	public int classCount;
+
+	@Param("10")
+	public int classesPerFile;
+
+	private ImmutableList<String> sources;
+
+	@Setup
+	public void setUp() {
+		this.sources = SyntheticDomainModel.generateSources(this.classCount, this.classesPerFile);
+
+		CompilationResult compilationResult = this.compile();
+		if (compilationResult.domainModelWithSourceCode().isEmpty()) {
+			throw new IllegalStateException(compilationResult.compilerAnnotations().makeString("\n"));
+		}
+	}
+
+	@Benchmark
+	public ImmutableList<CompilationUnit> parseSerially() {
+		return this.sources.collectWithIndex(KlassCompilerBenchmark::createCompilationUnit);
+	}
+
+	@Benchmark
+	public ImmutableList<CompilationUnit> parseInParallel() {
+		return CompilationUnit.createAllInParallel(this.sources, KlassCompilerBenchmark::createCompilationUnit);
+	}
+
+	@Benchmark
+	public CompilationResult compile() {
+		var klassCompiler = new KlassCompiler(this.parseInParallel(), COLOR_SCHEME, false);
+		return klassCompiler.compile();
+	}
+
+	@Nonnull
+	private static CompilationUnit createCompilationUnit(@Nonnull String sourceCodeText, int index) {
+		String sourceName = "synthetic-%03d.klass".formatted(index);
+		return CompilationUnit.createFromText(index, Optional.empty(), sourceName, sourceCodeText);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks;
+
+import javax.annotation.Nonnull;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * Generates the source of a domain model with a chain of one-to-many associations, split across several files.
+ */
+public final class SyntheticDomainModel {
+
+	private SyntheticDomainModel() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	@Nonnull
+	public static ImmutableList<String> generateSources(int classCount, int classesPerFile) {
+		MutableList<String> result = Lists.mutable.empty();
+		for (int fileStart = 0; fileStart < classCount; fileStart += classesPerFile) {
+			int fileEnd = Math.min(fileStart + classesPerFile, classCount);
+			result.add(generateSource(fileStart, fileEnd));
+		}
+		return result.toImmutable();
+	}
+
+	@Nonnull
+	private static String generateSource(int start, int end) {
+		var stringBuilder = new StringBuilder();
+		stringBuilder.append("package cool.klass.benchmarks.synthetic\n\n");
+		for (int index = start; index < end; index++) {
+			appendClass(stringBuilder, index);
+			if (index > 0) {
+				appendAssociation(stringBuilder, index);
+			}
+		}
+		return stringBuilder.toString();
+	}
+
+	private static void appendClass(@Nonnull StringBuilder stringBuilder, int index) {
+		stringBuilder
+			.append("class ")
+			.append(getClassName(index))
+			.append("\n{\n")
+			.append("    id                     : Long key id;\n");
+		if (index > 0) {
+			stringBuilder.append("    ").append(getEndName(index - 1)).append("Id : Long private final;\n");
+		}
+		stringBuilder
+			.append("    name                   : String;\n")
+			.append("    description            : String?;\n")
+			.append("    createdOn              : Instant;\n")
+			.append("    rank                   : Integer;\n")
+			.append("}\n\n");
+	}
+
+	private static void appendAssociation(@Nonnull StringBuilder stringBuilder, int index) {
+		String parentClassName = getClassName(index - 1);
+		String childClassName = getClassName(index);
+		stringBuilder
+			.append("association ")
+			.append(parentClassName)
+			.append("Has")
+			.append(childClassName)
+			.append("\n{\n")
+			.append("    ")
+			.append(getEndName(index - 1))
+			.append(" : ")
+			.append(parentClassName)
+			.append("[1..1];\n")
+			.append("    ")
+			.append(getEndName(index))
+			.append("s : ")
+			.append(childClassName)
+			.append("[0..*];\n")
+			.append("}\n\n");
+	}
+
+	@Nonnull
+	private static String getClassName(int index) {
+		return "Entity%04d".formatted(index);
+	}
+
+	@Nonnull
+	private static String getEndName(int index) {
+		return "entity%04d".formatted(index);
+	}
+}
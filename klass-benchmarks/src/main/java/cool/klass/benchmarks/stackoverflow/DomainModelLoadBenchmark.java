@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stackoverflow.meta.constants.StackOverflowDomainModel;
+import cool.klass.dropwizard.configuration.domain.model.loader.compiler.DomainModelCompilerFactory;
+import cool.klass.model.meta.domain.api.DomainModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cold start cost of getting a {@link DomainModel}, once per fresh JVM, which is what an application pays
+ * at startup. Compiling from source scans the classpath for {@code .klass} files, while the constant model only loads
+ * and initializes generated classes.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class DomainModelLoadBenchmark {
+
+	@Benchmark
+	public DomainModel compileFromSource() {
+		var domainModelFactory = new DomainModelCompilerFactory();
+		domainModelFactory.setSourcePackages(List.of("com.stackoverflow"));
+		domainModelFactory.setColorScheme("dark");
+		return domainModelFactory.createDomainModel(new ObjectMapper());
+	}
+
+	@Benchmark
+	public DomainModel loadConstants() {
+		// The static initializer of the generated domain model initializes the constant of every top level element
+		return StackOverflowDomainModel.INSTANCE;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Posts a query for every seeded question and its answers to the running application's {@code /graphql} endpoint, so
+ * that parsing, validation, the Reladomo finder data fetchers and response serialization are all included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQLQueryBenchmark {
+
+	private static final String QUERY = """
+		query {
+			questions {
+				id
+				title
+				body
+				status
+				deleted
+				createdOn
+				answers {
+					id
+					body
+					deleted
+				}
+				version {
+					number
+				}
+			}
+		}
+		""";
+
+	private HttpClient httpClient;
+
+	private HttpRequest httpRequest;
+
+	@Setup
+	public void setUp(@Nonnull StackOverflowApplicationState application) throws IOException, InterruptedException {
+		byte[] requestBody = application.getObjectMapper().writeValueAsBytes(Map.of("query", QUERY));
+
+		this.httpClient = HttpClient.newHttpClient();
+		this.httpRequest = HttpRequest.newBuilder(application.getGraphQLUri())
+			.header("Content-Type", "application/json")
+			.POST(BodyPublishers.ofByteArray(requestBody))
+			.build();
+
+		HttpResponse<String> response = this.httpClient.send(this.httpRequest, BodyHandlers.ofString());
+		if (response.statusCode() != 200 || response.body().contains("\"errors\"")) {
+			String message = "Expected a successful GraphQL response but got %d: %s".formatted(
+				response.statusCode(),
+				response.body()
+			);
+			throw new IllegalStateException(message);
+		}
+	}
+
+	@Benchmark
+	public byte[] query() throws IOException, InterruptedException {
+		return this.httpClient.send(this.httpRequest, BodyHandlers.ofByteArray()).body();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import cool.klass.deserializer.json.OperationMode;
+import cool.klass.deserializer.json.RequiredPropertiesValidator;
+import cool.klass.deserializer.json.ValidationPlans;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingValidator;
+import cool.klass.dropwizard.configuration.domain.model.loader.compiler.DomainModelCompilerFactory;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the same validators as a generated create service over a large array of questions, without a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonValidationBenchmark {
+
+	@Param("1000")
+	public int questionCount;
+
+	@Param("10")
+	public int answersPerQuestion;
+
+	private ValidationPlans validationPlans;
+
+	private Klass questionKlass;
+
+	private ArrayNode incomingQuestions;
+
+	@Setup
+	public void setUp() {
+		var domainModelFactory = new DomainModelCompilerFactory();
+		domainModelFactory.setSourcePackages(List.of("com.stackoverflow"));
+		domainModelFactory.setColorScheme("dark");
+		DomainModel domainModel = domainModelFactory.createDomainModel(new ObjectMapper());
+
+		this.validationPlans = new ValidationPlans(domainModel);
+		this.questionKlass = domainModel.getClassByName("Question");
+		this.incomingQuestions = StackOverflowPayloads.questions(this.questionCount, this.answersPerQuestion);
+
+		MutableList<String> errors = this.validate();
+		if (errors.notEmpty()) {
+			throw new IllegalStateException(errors.makeString("\n"));
+		}
+	}
+
+	@Benchmark
+	public MutableList<String> validate() {
+		MutableList<String> errors = Lists.mutable.empty();
+		MutableList<String> warnings = Lists.mutable.empty();
+		for (JsonNode incomingQuestion : this.incomingQuestions) {
+			ObjectNodeTypeCheckingValidator.validate(
+				this.validationPlans,
+				errors,
+				incomingQuestion,
+				this.questionKlass
+			);
+			RequiredPropertiesValidator.validate(
+				this.validationPlans,
+				errors,
+				warnings,
+				this.questionKlass,
+				(ObjectNode) incomingQuestion,
+				OperationMode.CREATE
+			);
+		}
+		return errors;
+	}
+}
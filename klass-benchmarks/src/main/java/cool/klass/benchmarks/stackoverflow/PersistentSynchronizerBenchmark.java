@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import cool.klass.data.store.DataStore;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.reladomo.persistent.writer.PersistentCreator;
+import cool.klass.reladomo.persistent.writer.PersistentPatcher;
+import cool.klass.reladomo.persistent.writer.PersistentReplacer;
+import org.eclipse.collections.api.list.MutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes questions through the same synchronizers as the generated create, replace and patch services. Validation is
+ * left out, since {@link JsonValidationBenchmark} covers it. Every invocation is rolled back, so that the tables do not
+ * grow over the run and later iterations measure the same work as earlier ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistentSynchronizerBenchmark {
+
+	@Param("100")
+	public int createBatchSize;
+
+	private StackOverflowApplicationState application;
+
+	private Object persistentQuestion;
+
+	private long questionId;
+
+	private int revision;
+
+	@Setup
+	public void setUp(@Nonnull StackOverflowApplicationState application) {
+		this.application = application;
+
+		Klass questionKlass = application.getQuestionKlass();
+		DataTypeProperty idProperty = questionKlass.getKeyProperties().getOnly();
+		this.persistentQuestion = application.createQuestions(StackOverflowPayloads.questions(1, 0)).getOnly();
+		this.questionId = (Long) application.getDataStore().getDataTypeProperty(this.persistentQuestion, idProperty);
+	}
+
+	@Benchmark
+	public MutableList<Object> create() {
+		ArrayNode incomingQuestions = StackOverflowPayloads.questions(
+			this.createBatchSize,
+			this.application.answersPerQuestion
+		);
+		DataStore dataStore = this.application.getDataStore();
+		var creator = new PersistentCreator(this.application.createMutationContext(), dataStore);
+		return this.application.runAndRollBack(() ->
+			creator.createAll(this.application.getQuestionKlass(), incomingQuestions)
+		);
+	}
+
+	@Benchmark
+	public boolean replace() {
+		this.revision++;
+		DataStore dataStore = this.application.getDataStore();
+		var replacer = new PersistentReplacer(this.application.createMutationContext(), dataStore);
+		return this.application.runAndRollBack(() ->
+			replacer.synchronize(
+				this.application.getQuestionKlass(),
+				this.persistentQuestion,
+				StackOverflowPayloads.replacement(this.questionId, this.revision)
+			)
+		);
+	}
+
+	@Benchmark
+	public boolean patch() {
+		this.revision++;
+		DataStore dataStore = this.application.getDataStore();
+		var patcher = new PersistentPatcher(this.application.createMutationContext(), dataStore);
+		return this.application.runAndRollBack(() ->
+			patcher.synchronize(
+				this.application.getQuestionKlass(),
+				this.persistentQuestion,
+				StackOverflowPayloads.patch(this.revision)
+			)
+		);
+	}
+}
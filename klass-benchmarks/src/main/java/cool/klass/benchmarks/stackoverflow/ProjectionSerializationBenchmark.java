@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.stackoverflow.json.view.QuestionReadProjection_JsonView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes every seeded question through {@code QuestionReadProjection}, with the object mapper that the application
+ * registered its json view serializers on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionSerializationBenchmark {
+
+	private StackOverflowApplicationState application;
+
+	private ObjectWriter objectWriter;
+
+	private List<Object> resolvedQuestions;
+
+	@Setup
+	public void setUp(@Nonnull StackOverflowApplicationState application) throws IOException {
+		this.application = application;
+		this.objectWriter = application.getObjectMapper().writerWithView(QuestionReadProjection_JsonView.class);
+
+		// Copied out of the MithraList, so that only the objects and their cached relationships are serialized
+		this.resolvedQuestions = new ArrayList<>(this.findQuestions());
+		if (this.resolvedQuestions.size() != application.questionCount) {
+			String message = "Expected %d questions but found %d".formatted(
+				application.questionCount,
+				this.resolvedQuestions.size()
+			);
+			throw new IllegalStateException(message);
+		}
+		this.serializeResolved();
+	}
+
+	@Benchmark
+	public void serializeResolved() throws IOException {
+		this.objectWriter.writeValue(OutputStream.nullOutputStream(), this.resolvedQuestions);
+	}
+
+	@Benchmark
+	public void findAndSerialize() throws IOException {
+		this.objectWriter.writeValue(OutputStream.nullOutputStream(), this.findQuestions());
+	}
+
+	@Nonnull
+	private List<Object> findQuestions() {
+		return this.application.getDataStore().findAll(this.application.getQuestionKlass());
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.stackoverflow.dropwizard.application.StackOverflowApplication;
+import com.stackoverflow.dropwizard.application.StackOverflowConfiguration;
+import cool.klass.data.store.DataStore;
+import cool.klass.dropwizard.configuration.KlassFactory;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.reladomo.persistent.writer.MutationContext;
+import cool.klass.reladomo.persistent.writer.PersistentCreator;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.testing.DropwizardTestSupport;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs the stackoverflow example application against an in-memory H2 database for the length of a trial, seeded with
+ * {@code questionCount} questions.
+ */
+@State(Scope.Benchmark)
+public class StackOverflowApplicationState {
+
+	public static final String USER_ID = "benchmark user";
+
+	private static final String CONFIG_PATH = "benchmark-stackoverflow.json5";
+
+	@Param("1000")
+	public int questionCount;
+
+	@Param("3")
+	public int answersPerQuestion;
+
+	private DropwizardTestSupport<StackOverflowConfiguration> testSupport;
+
+	private ObjectMapper objectMapper;
+
+	private DomainModel domainModel;
+
+	private DataStore dataStore;
+
+	private Klass questionKlass;
+
+	private Instant lastTransactionTime = Instant.EPOCH;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.testSupport = new DropwizardTestSupport<>(
+			StackOverflowApplication.class,
+			CONFIG_PATH,
+			new ResourceConfigurationSourceProvider()
+		);
+		this.testSupport.before();
+
+		this.objectMapper = this.testSupport.getEnvironment().getObjectMapper();
+		KlassFactory klassFactory = this.testSupport.getConfiguration().getKlassFactory();
+		this.domainModel = klassFactory.getDomainModelFactory().createDomainModel(this.objectMapper);
+		StackOverflowApplication application = this.testSupport.getApplication();
+		this.dataStore = application.getDataStore();
+		this.questionKlass = this.domainModel.getClassByName("Question");
+
+		ArrayNode incomingQuestions = StackOverflowPayloads.questions(this.questionCount, this.answersPerQuestion);
+		this.createQuestions(incomingQuestions);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.testSupport.after();
+	}
+
+	@Nonnull
+	public MutableList<Object> createQuestions(@Nonnull ArrayNode incomingQuestions) {
+		var creator = new PersistentCreator(this.createMutationContext(), this.dataStore);
+		return this.dataStore.runInTransaction((transaction) ->
+			creator.createAll(this.questionKlass, incomingQuestions)
+		);
+	}
+
+	/**
+	 * Runs the command in a transaction that is always rolled back, so that every invocation of a write benchmark
+	 * starts from the same rows. Reladomo buffers writes until commit, so they are flushed first to keep the statements
+	 * in the measurement.
+	 */
+	public <Result> Result runAndRollBack(@Nonnull Supplier<Result> command) {
+		MithraTransaction transaction = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+		try {
+			Result result = command.get();
+			transaction.executeBufferedOperations();
+			return result;
+		} finally {
+			transaction.rollback();
+		}
+	}
+
+	/**
+	 * Transaction times strictly increase, even when several transactions run within the same millisecond, so that the
+	 * milestones of system temporal classes never overlap.
+	 */
+	@Nonnull
+	public MutationContext createMutationContext() {
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		this.lastTransactionTime = now.isAfter(this.lastTransactionTime)
+			? now
+			: this.lastTransactionTime.plusMillis(1);
+		return new MutationContext(Optional.of(USER_ID), this.lastTransactionTime, Maps.immutable.empty());
+	}
+
+	@Nonnull
+	public ObjectMapper getObjectMapper() {
+		return this.objectMapper;
+	}
+
+	@Nonnull
+	public DomainModel getDomainModel() {
+		return this.domainModel;
+	}
+
+	@Nonnull
+	public DataStore getDataStore() {
+		return this.dataStore;
+	}
+
+	@Nonnull
+	public Klass getQuestionKlass() {
+		return this.questionKlass;
+	}
+
+	@Nonnull
+	public URI getGraphQLUri() {
+		return URI.create("http://localhost:" + this.testSupport.getLocalPort() + "/graphql");
+	}
+}
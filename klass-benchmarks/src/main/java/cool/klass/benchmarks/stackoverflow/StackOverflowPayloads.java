@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.benchmarks.stackoverflow;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds incoming json for the stackoverflow {@code Question} class, shaped like the bodies that the generated
+ * resources accept. Tags are left out, since they would have to refer to existing {@code Tag} rows.
+ */
+public final class StackOverflowPayloads {
+
+	private StackOverflowPayloads() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	@Nonnull
+	public static ArrayNode questions(int questionCount, int answersPerQuestion) {
+		ArrayNode result = JsonNodeFactory.instance.arrayNode(questionCount);
+		for (int index = 0; index < questionCount; index++) {
+			result.add(question(index, answersPerQuestion));
+		}
+		return result;
+	}
+
+	@Nonnull
+	public static ObjectNode question(int index, int answersPerQuestion) {
+		ObjectNode result = JsonNodeFactory.instance.objectNode();
+		result.put("title", "benchmark title " + index);
+		result.put("body", "benchmark body " + index);
+		result.put("status", "Open");
+		result.put("deleted", false);
+
+		ArrayNode answers = result.putArray("answers");
+		for (int answerIndex = 0; answerIndex < answersPerQuestion; answerIndex++) {
+			ObjectNode answer = answers.addObject();
+			answer.put("body", "benchmark answer " + index + "." + answerIndex);
+			answer.put("deleted", false);
+		}
+
+		result.putArray("tags");
+		return result;
+	}
+
+	/**
+	 * The body of a replace of an existing question, without its answers.
+	 */
+	@Nonnull
+	public static ObjectNode replacement(long id, int revision) {
+		ObjectNode result = JsonNodeFactory.instance.objectNode();
+		result.put("id", id);
+		result.put("title", "replaced title " + revision);
+		result.put("body", "replaced body " + revision);
+		result.put("status", revision % 2 == 0 ? "Open" : "On hold");
+		result.put("deleted", false);
+		result.putArray("answers");
+		result.putArray("tags");
+		return result;
+	}
+
+	@Nonnull
+	public static ObjectNode patch(int revision) {
+		ObjectNode result = JsonNodeFactory.instance.objectNode();
+		result.put("title", "patched title " + revision);
+		return result;
+	}
+}
@@ -16,6 +16,7 @@
 
 package cool.klass.data.store;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.Nonnull;
@@ -39,6 +40,24 @@ public interface DataStore {
 
 	List<Object> findByKeyReturningList(Klass klass, MapIterable<DataTypeProperty, Object> keys);
 
+	/**
+	 * Finds the instances of {@code klass} with any of the given keys. Keys without a matching instance are skipped,
+	 * and the result is in no particular order.
+	 */
+	default List<Object> findAllByKeys(
+		@Nonnull Klass klass,
+		@Nonnull List<? extends MapIterable<DataTypeProperty, Object>> keys
+	) {
+		List<Object> result = new ArrayList<>(keys.size());
+		for (MapIterable<DataTypeProperty, Object> eachKeys : keys) {
+			Object persistentInstance = this.findByKey(klass, eachKeys);
+			if (persistentInstance != null) {
+				result.add(persistentInstance);
+			}
+		}
+		return result;
+	}
+
 	default Object getReferenceProperty(Object persistentInstance, ReferenceProperty referenceProperty) {
 		if (referenceProperty.getMultiplicity().isToOne()) {
 			return this.getToOne(persistentInstance, referenceProperty);
@@ -64,6 +83,10 @@ public interface DataStore {
 
 	void insert(Object persistentInstance);
 
+	default void insertAll(@Nonnull List<Object> persistentInstances) {
+		persistentInstances.forEach(this::insert);
+	}
+
 	boolean setToOne(Object persistentSourceInstance, AssociationEnd associationEnd, Object persistentTargetInstance);
 
 	void deleteOrTerminate(@Nonnull Object persistentInstance);
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.request.execution;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the requests that run at once, so that they do not outnumber the database connections. Requests past that
+ * bound wait for a slot, up to {@code maxQueueDepth} of them for at most {@code queueTimeoutNanos} each, and the rest
+ * are refused.
+ *
+ * <p>A request calls {@link #tryEnqueue()}, then {@link #awaitPermit()}, and {@link #release()} once it has finished.
+ *
+ * <p>The bound is a fixed count rather than a reading of the pools' active and idle connections. Connections held
+ * outside of requests, and requests that hold more than one connection, are not counted, so admitted requests can
+ * still wait on the pool.
+ */
+public class RequestAdmissionController {
+
+	private final int maxConcurrentRequests;
+
+	private final int maxQueueDepth;
+
+	private final long queueTimeoutNanos;
+
+	private final Semaphore permits;
+
+	// Requests between tryEnqueue() and the end of awaitPermit()
+	private final AtomicInteger queued = new AtomicInteger();
+
+	public RequestAdmissionController(int maxConcurrentRequests, int maxQueueDepth, long queueTimeoutNanos) {
+		if (maxConcurrentRequests <= 0) {
+			throw new IllegalArgumentException(
+				"Expected a positive number of concurrent requests but got " + maxConcurrentRequests
+			);
+		}
+		if (maxQueueDepth < 0) {
+			throw new IllegalArgumentException("Expected a non-negative queue depth but got " + maxQueueDepth);
+		}
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.maxQueueDepth = maxQueueDepth;
+		this.queueTimeoutNanos = queueTimeoutNanos;
+		this.permits = new Semaphore(maxConcurrentRequests, true);
+	}
+
+	/**
+	 * @return false when the queue is full, and the request should be refused without waiting
+	 */
+	public boolean tryEnqueue() {
+		// Free slots are counted too, so that requests are only refused once the database is saturated
+		if (this.queued.incrementAndGet() > this.maxQueueDepth + this.permits.availablePermits()) {
+			this.queued.decrementAndGet();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return false when no slot freed up within the queue timeout
+	 */
+	public boolean awaitPermit() throws InterruptedException {
+		try {
+			return this.permits.tryAcquire(this.queueTimeoutNanos, TimeUnit.NANOSECONDS);
+		} finally {
+			this.queued.decrementAndGet();
+		}
+	}
+
+	public void release() {
+		this.permits.release();
+	}
+
+	public int getActive() {
+		return this.maxConcurrentRequests - this.permits.availablePermits();
+	}
+
+	public int getQueued() {
+		return this.queued.get();
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.request.execution;
+
+import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.annotation.Nonnull;
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterRegistration;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.auto.service.AutoService;
+import cool.klass.dropwizard.configuration.request.execution.RequestExecutionFactory;
+import cool.klass.dropwizard.configuration.request.execution.RequestExecutionFactoryProvider;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import io.liftwizard.dropwizard.bundle.prioritized.PrioritizedBundle;
+import io.liftwizard.dropwizard.configuration.datasource.NamedDataSourceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@AutoService(PrioritizedBundle.class)
+public class RequestExecutionBundle implements PrioritizedBundle {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RequestExecutionBundle.class);
+
+	@Override
+	public void runWithMdc(@Nonnull Object configuration, @Nonnull Environment environment) {
+		RequestExecutionFactoryProvider requestExecutionFactoryProvider = this.safeCastConfiguration(
+			RequestExecutionFactoryProvider.class,
+			configuration
+		);
+
+		RequestExecutionFactory requestExecutionFactory = requestExecutionFactoryProvider.getRequestExecutionFactory();
+		if (!requestExecutionFactory.isVirtualThreads()) {
+			LOGGER.info("{} disabled.", this.getClass().getSimpleName());
+			return;
+		}
+
+		LOGGER.info("Running {}.", this.getClass().getSimpleName());
+
+		var admissionController = new RequestAdmissionController(
+			this.getMaxConcurrentRequests(configuration, requestExecutionFactory),
+			requestExecutionFactory.getMaxQueueDepth(),
+			requestExecutionFactory.getQueueTimeout().toNanoseconds()
+		);
+
+		ThreadFactory threadFactory = Thread.ofVirtual().name("klass-request-", 0).factory();
+		ExecutorService executorService = Executors.newThreadPerTaskExecutor(threadFactory);
+		var executorServiceManager = new ExecutorServiceManager(executorService, Duration.seconds(30), "klass-request");
+		environment.lifecycle().manage(executorServiceManager);
+
+		MetricRegistry metricRegistry = environment.metrics();
+		metricRegistry.register("klass.request.execution.active", (Gauge<Integer>) admissionController::getActive);
+		metricRegistry.register("klass.request.execution.queued", (Gauge<Integer>) admissionController::getQueued);
+
+		String jerseyUrlPattern = environment.jersey().getUrlPattern();
+		var filter = new VirtualThreadRequestFilter(
+			executorService,
+			admissionController,
+			metricRegistry.meter("klass.request.execution.rejected"),
+			getServletPath(jerseyUrlPattern)
+		);
+		FilterRegistration.Dynamic registration = environment
+			.servlets()
+			.addFilter(VirtualThreadRequestFilter.class.getSimpleName(), filter);
+		registration.setAsyncSupported(true);
+		// In front of the other filters, so that none of them returns before the response is written
+		registration.addMappingForUrlPatterns(
+			EnumSet.of(DispatcherType.REQUEST),
+			false,
+			jerseyUrlPattern
+		);
+
+		LOGGER.info("Completing {}.", this.getClass().getSimpleName());
+	}
+
+	@Nonnull
+	private static String getServletPath(@Nonnull String urlPattern) {
+		return urlPattern.endsWith("/*") ? urlPattern.substring(0, urlPattern.length() - 2) : urlPattern;
+	}
+
+	private int getMaxConcurrentRequests(
+		@Nonnull Object configuration,
+		@Nonnull RequestExecutionFactory requestExecutionFactory
+	) {
+		Integer maxConcurrentRequests = requestExecutionFactory.getMaxConcurrentRequests();
+		if (maxConcurrentRequests != null) {
+			return maxConcurrentRequests;
+		}
+
+		NamedDataSourceProvider namedDataSourceProvider = this.safeCastConfiguration(
+			NamedDataSourceProvider.class,
+			configuration
+		);
+		int poolSize = namedDataSourceProvider
+			.getNamedDataSourcesFactory()
+			.getNamedDataSourceFactories()
+			.stream()
+			.mapToInt((each) -> each.getMaxSize())
+			.sum();
+		if (poolSize <= 0) {
+			throw new IllegalStateException(
+				"Expected requestExecution.maxConcurrentRequests or at least one data source, but found neither."
+			);
+		}
+		return poolSize;
+	}
+}
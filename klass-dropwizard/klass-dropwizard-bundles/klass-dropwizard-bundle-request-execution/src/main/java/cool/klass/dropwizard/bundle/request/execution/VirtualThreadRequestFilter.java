@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.request.execution;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnull;
+import javax.servlet.AsyncContext;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.codahale.metrics.Meter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Hands each request to {@code executor}, and releases the Jetty worker thread until the response is complete. The
+ * rest of the filter chain, including Jersey, runs on the executor's thread once {@link RequestAdmissionController}
+ * admits the request. Refused requests get 503 Service Unavailable.
+ *
+ * <p>Once the request goes async, {@code doFilter} returns on the Jetty thread before the response is written. Any
+ * servlet filter ahead of this one would run its post-processing too early, such as logging the status or the duration,
+ * or flushing a wrapped response. {@link RequestExecutionBundle} registers this filter in front of the others, so the
+ * only code ahead of it is Jetty's handlers, whose request log and metrics wait for the async request to complete.
+ * Filters later registered with {@code isMatchAfter=false} are ahead of this one, and must wait for completion with an
+ * {@link javax.servlet.AsyncListener} themselves.
+ *
+ * <p>Requests that cannot go async, because a filter ahead of this one does not support it, still go through admission
+ * but run on the Jetty thread.
+ *
+ * <p>Only requests for the Jersey servlet are handled. The filter is mapped to Jersey's url pattern, which also covers
+ * servlets with their own mappings when the pattern is {@code /*}. Those requests, such as the GraphQL servlet's, pass
+ * straight through, since an async servlet cannot start async again on a request this filter already made async.
+ */
+public class VirtualThreadRequestFilter implements Filter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadRequestFilter.class);
+
+	@Nonnull
+	private final Executor executor;
+
+	@Nonnull
+	private final RequestAdmissionController admissionController;
+
+	@Nonnull
+	private final Meter rejectedMeter;
+
+	@Nonnull
+	private final String jerseyServletPath;
+
+	/**
+	 * @param jerseyServletPath the servlet path of requests for Jersey, which is its url pattern without the trailing
+	 *                          {@code /*}.
+	 */
+	public VirtualThreadRequestFilter(
+		@Nonnull Executor executor,
+		@Nonnull RequestAdmissionController admissionController,
+		@Nonnull Meter rejectedMeter,
+		@Nonnull String jerseyServletPath
+	) {
+		this.executor = Objects.requireNonNull(executor);
+		this.admissionController = Objects.requireNonNull(admissionController);
+		this.rejectedMeter = Objects.requireNonNull(rejectedMeter);
+		this.jerseyServletPath = Objects.requireNonNull(jerseyServletPath);
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		if (!this.jerseyServletPath.equals(((HttpServletRequest) request).getServletPath())) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		if (!this.admissionController.tryEnqueue()) {
+			this.reject(response);
+			return;
+		}
+
+		if (!request.isAsyncSupported()) {
+			this.admitAndRun(request, response, chain);
+			return;
+		}
+
+		AsyncContext asyncContext = request.startAsync(request, response);
+		// The request runs to completion on its own thread, like a blocking request would
+		asyncContext.setTimeout(0);
+		Map<String, String> contextMap = MDC.getCopyOfContextMap();
+		this.executor.execute(() -> this.run(asyncContext, chain, contextMap));
+	}
+
+	private void run(AsyncContext asyncContext, FilterChain chain, Map<String, String> contextMap) {
+		if (contextMap != null) {
+			MDC.setContextMap(contextMap);
+		}
+		ServletResponse response = asyncContext.getResponse();
+		try {
+			this.admitAndRun(asyncContext.getRequest(), response, chain);
+		} catch (IOException | ServletException | RuntimeException e) {
+			LOGGER.error("Request failed on its virtual thread.", e);
+			this.sendErrorIfUncommitted(response);
+		} finally {
+			MDC.clear();
+			asyncContext.complete();
+		}
+	}
+
+	private void admitAndRun(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		boolean admitted;
+		try {
+			admitted = this.admissionController.awaitPermit();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			admitted = false;
+		}
+
+		if (!admitted) {
+			this.reject(response);
+			return;
+		}
+
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			this.admissionController.release();
+		}
+	}
+
+	private void reject(ServletResponse response) throws IOException {
+		this.rejectedMeter.mark();
+		((HttpServletResponse) response).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+	}
+
+	private void sendErrorIfUncommitted(ServletResponse response) {
+		if (response.isCommitted()) {
+			return;
+		}
+		try {
+			((HttpServletResponse) response).sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		} catch (IOException e) {
+			LOGGER.warn("Could not send error response.", e);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.request.execution;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestAdmissionControllerTest {
+
+	private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void admitsUpToMaxConcurrentRequests() throws InterruptedException {
+		var admissionController = new RequestAdmissionController(2, 0, TIMEOUT_NANOS);
+
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isTrue();
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isTrue();
+
+		assertThat(admissionController.getActive()).isEqualTo(2);
+		assertThat(admissionController.getQueued()).isEqualTo(0);
+	}
+
+	@Test
+	void refusesRequestsPastQueueDepth() throws InterruptedException {
+		var admissionController = new RequestAdmissionController(1, 2, TIMEOUT_NANOS);
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isTrue();
+
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.getQueued()).isEqualTo(2);
+
+		assertThat(admissionController.tryEnqueue()).isFalse();
+		assertThat(admissionController.getQueued()).isEqualTo(2);
+	}
+
+	@Test
+	void freeSlotsCountTowardsQueueDepth() {
+		var admissionController = new RequestAdmissionController(2, 0, TIMEOUT_NANOS);
+
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.tryEnqueue()).isFalse();
+	}
+
+	@Test
+	void queuedRequestsTimeOut() throws InterruptedException {
+		var admissionController = new RequestAdmissionController(1, 1, TIMEOUT_NANOS);
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isTrue();
+
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isFalse();
+
+		assertThat(admissionController.getActive()).isEqualTo(1);
+		assertThat(admissionController.getQueued()).isEqualTo(0);
+	}
+
+	@Test
+	void releasedSlotsAdmitQueuedRequests() throws InterruptedException {
+		var admissionController = new RequestAdmissionController(1, 1, TimeUnit.SECONDS.toNanos(5));
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isTrue();
+		assertThat(admissionController.tryEnqueue()).isTrue();
+
+		admissionController.release();
+
+		assertThat(admissionController.awaitPermit()).isTrue();
+		assertThat(admissionController.getActive()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsInvalidLimits() {
+		assertThatThrownBy(() -> new RequestAdmissionController(0, 0, TIMEOUT_NANOS))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new RequestAdmissionController(1, -1, TIMEOUT_NANOS))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
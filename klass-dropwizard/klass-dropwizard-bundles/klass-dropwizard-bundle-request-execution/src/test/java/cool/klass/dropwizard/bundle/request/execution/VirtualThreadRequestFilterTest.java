@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.request.execution;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.servlet.AsyncContext;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.codahale.metrics.Meter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadRequestFilterTest {
+
+	private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final String JERSEY_SERVLET_PATH = "";
+
+	private final Meter rejectedMeter = new Meter();
+	private final AtomicInteger sentError = new AtomicInteger();
+	private final AtomicInteger chainCalls = new AtomicInteger();
+	private final FilterChain chain = (request, response) -> this.chainCalls.incrementAndGet();
+
+	@Test
+	void runsAdmittedRequests() throws Exception {
+		var admissionController = new RequestAdmissionController(1, 0, TIMEOUT_NANOS);
+		VirtualThreadRequestFilter filter = this.getFilter(admissionController);
+
+		filter.doFilter(getSyncRequest(), this.getResponse(), this.chain);
+
+		assertThat(this.chainCalls.get()).isEqualTo(1);
+		assertThat(this.sentError.get()).isEqualTo(0);
+		assertThat(admissionController.getActive()).isEqualTo(0);
+	}
+
+	@Test
+	void refusesRequestsPastQueueDepth() throws Exception {
+		var admissionController = new RequestAdmissionController(1, 0, TIMEOUT_NANOS);
+		holdPermit(admissionController);
+		VirtualThreadRequestFilter filter = this.getFilter(admissionController);
+
+		filter.doFilter(getSyncRequest(), this.getResponse(), this.chain);
+
+		assertThat(this.chainCalls.get()).isEqualTo(0);
+		assertThat(this.sentError.get()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(this.rejectedMeter.getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void refusesRequestsThatTimeOut() throws Exception {
+		var admissionController = new RequestAdmissionController(1, 1, TIMEOUT_NANOS);
+		holdPermit(admissionController);
+		VirtualThreadRequestFilter filter = this.getFilter(admissionController);
+
+		filter.doFilter(getSyncRequest(), this.getResponse(), this.chain);
+
+		assertThat(this.chainCalls.get()).isEqualTo(0);
+		assertThat(this.sentError.get()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(this.rejectedMeter.getCount()).isEqualTo(1);
+		assertThat(admissionController.getQueued()).isEqualTo(0);
+	}
+
+	@Test
+	void runsAsyncJerseyRequestsOnTheExecutor() throws Exception {
+		var admissionController = new RequestAdmissionController(1, 0, TIMEOUT_NANOS);
+		VirtualThreadRequestFilter filter = this.getFilter(admissionController);
+		AtomicInteger startAsyncCalls = new AtomicInteger();
+
+		filter.doFilter(getAsyncRequest(JERSEY_SERVLET_PATH, startAsyncCalls), this.getResponse(), this.chain);
+
+		assertThat(startAsyncCalls.get()).isEqualTo(1);
+		assertThat(this.chainCalls.get()).isEqualTo(1);
+		assertThat(admissionController.getActive()).isEqualTo(0);
+	}
+
+	// With both virtual threads and async GraphQL, the GraphQL servlet starts async itself
+	@Test
+	void passesAsyncServletRequestsThrough() throws Exception {
+		var admissionController = new RequestAdmissionController(1, 0, TIMEOUT_NANOS);
+		VirtualThreadRequestFilter filter = this.getFilter(admissionController);
+		AtomicInteger startAsyncCalls = new AtomicInteger();
+		FilterChain asyncServlet = (request, response) -> {
+			request.startAsync(request, response);
+			this.chainCalls.incrementAndGet();
+		};
+
+		filter.doFilter(getAsyncRequest("/graphql", startAsyncCalls), this.getResponse(), asyncServlet);
+
+		assertThat(startAsyncCalls.get()).isEqualTo(1);
+		assertThat(this.chainCalls.get()).isEqualTo(1);
+		assertThat(this.sentError.get()).isEqualTo(0);
+		assertThat(admissionController.getActive()).isEqualTo(0);
+	}
+
+	@Nonnull
+	private VirtualThreadRequestFilter getFilter(@Nonnull RequestAdmissionController admissionController) {
+		return new VirtualThreadRequestFilter(
+			Runnable::run,
+			admissionController,
+			this.rejectedMeter,
+			JERSEY_SERVLET_PATH
+		);
+	}
+
+	private static void holdPermit(@Nonnull RequestAdmissionController admissionController)
+		throws InterruptedException {
+		assertThat(admissionController.tryEnqueue()).isTrue();
+		assertThat(admissionController.awaitPermit()).isTrue();
+	}
+
+	@Nonnull
+	private static HttpServletRequest getSyncRequest() {
+		return (HttpServletRequest) Proxy.newProxyInstance(
+			HttpServletRequest.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getServletPath" -> JERSEY_SERVLET_PATH;
+				case "isAsyncSupported" -> false;
+				default -> throw new UnsupportedOperationException(method.getName());
+			}
+		);
+	}
+
+	// Like Jetty, starting async a second time on the same dispatch throws
+	@Nonnull
+	private static HttpServletRequest getAsyncRequest(
+		@Nonnull String servletPath,
+		@Nonnull AtomicInteger startAsyncCalls
+	) {
+		return (HttpServletRequest) Proxy.newProxyInstance(
+			HttpServletRequest.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getServletPath" -> servletPath;
+				case "isAsyncSupported" -> true;
+				case "startAsync" -> {
+					if (startAsyncCalls.incrementAndGet() > 1) {
+						throw new IllegalStateException("Async already started");
+					}
+					yield getAsyncContext((ServletRequest) proxy, args[1]);
+				}
+				default -> throw new UnsupportedOperationException(method.getName());
+			}
+		);
+	}
+
+	@Nonnull
+	private static AsyncContext getAsyncContext(@Nonnull ServletRequest request, @Nonnull Object response) {
+		return (AsyncContext) Proxy.newProxyInstance(
+			AsyncContext.class.getClassLoader(),
+			new Class<?>[] {AsyncContext.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getRequest" -> request;
+				case "getResponse" -> response;
+				case "setTimeout", "complete" -> null;
+				default -> throw new UnsupportedOperationException(method.getName());
+			}
+		);
+	}
+
+	@Nonnull
+	private HttpServletResponse getResponse() {
+		return (HttpServletResponse) Proxy.newProxyInstance(
+			HttpServletResponse.class.getClassLoader(),
+			new Class<?>[] {HttpServletResponse.class},
+			(proxy, method, args) -> {
+				if (method.getName().equals("sendError")) {
+					this.sentError.set((Integer) args[0]);
+					return null;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			}
+		);
+	}
+}
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -39,6 +40,7 @@ public class ReladomoDataStoreFactory implements DataStoreFactory {
 
 	private @NotNull @Valid UUIDSupplierFactory uuidFactory = new SeedUUIDSupplierFactory();
 	private int retryCount = 1;
+	private @Min(0) int streamingChunkSize;
 
 	private DataStore dataStore;
 
@@ -64,6 +66,17 @@ public class ReladomoDataStoreFactory implements DataStoreFactory {
 		this.retryCount = retryCount;
 	}
 
+	@Override
+	@JsonProperty
+	public int getStreamingChunkSize() {
+		return this.streamingChunkSize;
+	}
+
+	@JsonProperty
+	public void setStreamingChunkSize(int streamingChunkSize) {
+		this.streamingChunkSize = streamingChunkSize;
+	}
+
 	@Override
 	public DataStore createDataStore(DomainModel domainModel) {
 		if (this.dataStore != null) {
@@ -71,7 +84,7 @@ public class ReladomoDataStoreFactory implements DataStoreFactory {
 		}
 
 		Supplier<UUID> uuidSupplier = this.uuidFactory.createUUIDSupplier();
-		this.dataStore = new ReladomoDataStore(uuidSupplier, this.retryCount);
+		this.dataStore = new ReladomoDataStore(domainModel, uuidSupplier, this.retryCount);
 		return this.dataStore;
 	}
 }
@@ -29,4 +29,12 @@ public interface DataStoreFactory extends Discoverable {
 	UUIDSupplierFactory getUuidFactory();
 
 	DataStore createDataStore(DomainModel domainModel);
+
+	/**
+	 * The number of root objects to read, deep fetch, and serialize at a time when streaming to-many responses, or 0 to
+	 * resolve and serialize whole lists at once.
+	 */
+	default int getStreamingChunkSize() {
+		return 0;
+	}
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.configuration.domain.model.loader.snapshot;
+
+import javax.annotation.Nonnull;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auto.service.AutoService;
+import cool.klass.dropwizard.configuration.domain.model.loader.DomainModelFactory;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.loader.snapshot.DomainModelSnapshotLoader;
+
+@JsonTypeName("snapshot")
+@AutoService(DomainModelFactory.class)
+public class DomainModelSnapshotFactory implements DomainModelFactory {
+
+	private @Valid @NotNull String resourceName = DomainModelSnapshotLoader.DEFAULT_RESOURCE_NAME;
+
+	private DomainModel domainModel;
+
+	@Nonnull
+	@Override
+	public DomainModel createDomainModel(ObjectMapper objectMapper) {
+		if (this.domainModel != null) {
+			return this.domainModel;
+		}
+
+		var domainModelLoader = new DomainModelSnapshotLoader(
+			this.resourceName,
+			Thread.currentThread().getContextClassLoader()
+		);
+		this.domainModel = domainModelLoader.load();
+		return this.domainModel;
+	}
+
+	@JsonProperty
+	public String getResourceName() {
+		return this.resourceName;
+	}
+
+	@JsonProperty
+	public void setResourceName(String resourceName) {
+		this.resourceName = resourceName;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.configuration.request.execution;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+public class RequestExecutionFactory {
+
+	private boolean virtualThreads;
+
+	private @Nullable @Min(1) Integer maxConcurrentRequests;
+
+	private @Min(0) int maxQueueDepth = 1_000;
+
+	private @NotNull Duration queueTimeout = Duration.seconds(10);
+
+	/**
+	 * Runs Jersey requests on virtual threads instead of Jetty's worker pool, behind the admission limits below.
+	 */
+	@JsonProperty
+	public boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	@JsonProperty
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	/**
+	 * Requests allowed to run at once. Defaults to the total size of the configured connection pools, which
+	 * approximates one connection per request. Connections held by background work, or by requests that use several,
+	 * are not accounted for, so set this lower when the pools are shared.
+	 */
+	@Nullable
+	@JsonProperty
+	public Integer getMaxConcurrentRequests() {
+		return this.maxConcurrentRequests;
+	}
+
+	@JsonProperty
+	public void setMaxConcurrentRequests(@Nullable Integer maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	/**
+	 * Requests allowed to wait for a slot. Requests past this depth are rejected with 503 Service Unavailable.
+	 */
+	@JsonProperty
+	public int getMaxQueueDepth() {
+		return this.maxQueueDepth;
+	}
+
+	@JsonProperty
+	public void setMaxQueueDepth(int maxQueueDepth) {
+		this.maxQueueDepth = maxQueueDepth;
+	}
+
+	/**
+	 * How long a queued request waits for a slot before it is rejected with 503 Service Unavailable.
+	 */
+	@Nonnull
+	@JsonProperty
+	public Duration getQueueTimeout() {
+		return this.queueTimeout;
+	}
+
+	@JsonProperty
+	public void setQueueTimeout(@Nonnull Duration queueTimeout) {
+		this.queueTimeout = Objects.requireNonNull(queueTimeout);
+	}
+}
@@ -30,6 +30,8 @@ import cool.klass.dropwizard.configuration.data.store.DataStoreFactory;
 import cool.klass.dropwizard.configuration.data.store.DataStoreFactoryProvider;
 import cool.klass.dropwizard.configuration.domain.model.loader.DomainModelFactory;
 import cool.klass.dropwizard.configuration.domain.model.loader.DomainModelFactoryProvider;
+import cool.klass.dropwizard.configuration.request.execution.RequestExecutionFactory;
+import cool.klass.dropwizard.configuration.request.execution.RequestExecutionFactoryProvider;
 import cool.klass.dropwizard.configuration.sample.data.SampleDataFactory;
 import cool.klass.dropwizard.configuration.sample.data.SampleDataFactoryProvider;
 import io.liftwizard.dropwizard.configuration.connectionmanager.ConnectionManagerProvider;
@@ -67,6 +69,7 @@ import io.liftwizard.dropwizard.configuration.uuid.UUIDSupplierFactoryProvider;
 		"connectionManagers",
 		"sampleData",
 		"bootstrap",
+		"requestExecution",
 	}
 )
 public abstract class AbstractKlassConfiguration
@@ -81,7 +84,8 @@ public abstract class AbstractKlassConfiguration
 		UUIDSupplierFactoryProvider,
 		NamedDataSourceProvider,
 		ConnectionManagerProvider,
-		LiquibaseMigrationFactoryProvider {
+		LiquibaseMigrationFactoryProvider,
+		RequestExecutionFactoryProvider {
 
 	private @Valid KlassFactory klassFactory;
 
@@ -92,6 +96,7 @@ public abstract class AbstractKlassConfiguration
 	private @Valid @NotNull SampleDataFactory sampleDataFactory = new SampleDataFactory();
 	private @Valid @NotNull EnabledFactory bootstrapFactory = new EnabledFactory();
 	private @Valid @NotNull LiquibaseMigrationFactory liquibaseMigrationFactory = new LiquibaseMigrationFactory();
+	private @Valid @NotNull RequestExecutionFactory requestExecutionFactory = new RequestExecutionFactory();
 
 	@JsonUnwrapped
 	private @Valid @NotNull NamedDataSourcesFactory namedDataSourcesFactory = new NamedDataSourcesFactory();
@@ -204,6 +209,17 @@ public abstract class AbstractKlassConfiguration
 		this.liquibaseMigrationFactory = liquibaseMigrationFactory;
 	}
 
+	@JsonProperty("requestExecution")
+	@Override
+	public RequestExecutionFactory getRequestExecutionFactory() {
+		return this.requestExecutionFactory;
+	}
+
+	@JsonProperty("requestExecution")
+	public void setRequestExecutionFactory(RequestExecutionFactory requestExecutionFactory) {
+		this.requestExecutionFactory = requestExecutionFactory;
+	}
+
 	@Override
 	@JsonIgnore
 	public DataStoreFactory getDataStoreFactory() {
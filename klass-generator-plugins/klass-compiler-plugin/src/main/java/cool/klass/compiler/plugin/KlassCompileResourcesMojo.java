@@ -40,6 +40,6 @@ public class KlassCompileResourcesMojo extends AbstractGenerateMojo {
 
 	@Override
 	public void execute() throws MojoExecutionException {
-		this.getDomainModel();
+		this.getDomainModelWithSourceCode();
 	}
 }
@@ -20,11 +20,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -41,10 +47,13 @@ import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.AnsiCo
 import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
 import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
 import cool.klass.model.meta.loader.compiler.DomainModelCompilerLoader;
+import cool.klass.model.meta.loader.snapshot.DomainModelSnapshotLoader;
+import cool.klass.model.meta.loader.snapshot.DomainModelSnapshotWriter;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
@@ -84,14 +93,35 @@ public abstract class AbstractGenerateMojo extends AbstractMojo {
 	@Parameter(property = "cachingEnabled", defaultValue = "true")
 	protected boolean cachingEnabled;
 
+	/**
+	 * Opt-in, since a stale snapshot would silently generate code from an old model. The cache key covers the Klass
+	 * sources, the source packages, the plugin version, and the snapshot format version.
+	 */
+	@Parameter(property = "klass.domainModelCacheEnabled", defaultValue = "false")
+	protected boolean domainModelCacheEnabled;
+
+	/**
+	 * Compiled domain models are shared between the generator plugins of a reactor build through snapshots in this
+	 * directory.
+	 */
+	@Parameter(
+		property = "klass.domainModelCacheDirectory",
+		defaultValue = "${session.topLevelProject.build.directory}/klass-domain-model-cache"
+	)
+	protected File domainModelCacheDirectory;
+
 	@Parameter(defaultValue = "${project}", required = true, readonly = true)
 	protected MavenProject mavenProject;
 
+	@Parameter(defaultValue = "${plugin}", required = true, readonly = true)
+	protected PluginDescriptor pluginDescriptor;
+
 	@Component
 	protected BuildContext buildContext;
 
 	private ImmutableList<File> cachedInputFiles;
 	private ImmutableMap<String, String> cachedFileContents = Maps.immutable.empty();
+	private String cachedClasspathHash;
 
 	public enum InputSource {
 		FILESYSTEM,
@@ -134,8 +164,110 @@ public abstract class AbstractGenerateMojo extends AbstractMojo {
 		return klassCompiler.compile();
 	}
 
+	/**
+	 * Loads the domain model from the shared cache when another plugin in the build already compiled the same sources,
+	 * and otherwise compiles it and writes it to the cache. Cached models are rebuilt from their source code, so they
+	 * have the same source code, tokens, and parse trees as compiled models.
+	 */
 	@Nonnull
 	protected DomainModelWithSourceCode getDomainModel() throws MojoExecutionException {
+		if (!this.domainModelCacheEnabled || this.klassSourcePackages.isEmpty()) {
+			return this.getDomainModelWithSourceCode();
+		}
+
+		Instant start = Instant.now();
+		String cacheKey = this.calculateDomainModelCacheKey();
+		Path snapshotPath = this.domainModelCacheDirectory.toPath().resolve(cacheKey + ".snapshot");
+
+		if (Files.exists(snapshotPath)) {
+			try {
+				DomainModelWithSourceCode domainModel = DomainModelSnapshotLoader.read(snapshotPath.toUri().toURL());
+				this.logDomainModelDuration("Loaded cached domain model", start);
+				return domainModel;
+			} catch (MalformedURLException | RuntimeException e) {
+				this.getLog().warn("Failed to load cached domain model, recompiling: " + e.getMessage());
+			}
+		}
+
+		DomainModelWithSourceCode domainModel = this.getDomainModelWithSourceCode();
+		this.writeDomainModelCache(domainModel, snapshotPath);
+		this.logDomainModelDuration("Compiled and cached domain model", start);
+		return domainModel;
+	}
+
+	@Nonnull
+	private String calculateDomainModelCacheKey() throws MojoExecutionException {
+		String cacheKeyInputs = String.join(
+			"\n",
+			this.calculateClasspathHash(),
+			String.join(",", this.klassSourcePackages),
+			this.getPluginVersion(),
+			String.valueOf(DomainModelSnapshotLoader.SNAPSHOT_FORMAT_VERSION)
+		);
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return toHexString(digest.digest(cacheKeyInputs.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new MojoExecutionException("Failed to calculate domain model cache key", e);
+		}
+	}
+
+	@Nonnull
+	private String getPluginVersion() {
+		String version = this.pluginDescriptor.getVersion();
+		if (!version.endsWith("-SNAPSHOT")) {
+			return version;
+		}
+
+		// Snapshot builds of the compiler change without changing the version
+		URL compilerLocation = KlassCompiler.class.getProtectionDomain().getCodeSource().getLocation();
+		try {
+			long lastModified = Files.getLastModifiedTime(Path.of(compilerLocation.toURI())).toMillis();
+			return version + "@" + lastModified;
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			this.getLog().debug("Could not read the compiler's last modified time: " + e.getMessage());
+			return version + "@" + compilerLocation;
+		}
+	}
+
+	private void writeDomainModelCache(@Nonnull DomainModelWithSourceCode domainModel, @Nonnull Path snapshotPath) {
+		Path temporaryPath = null;
+		try {
+			// Parallel builds may read the cache at any time, so the snapshot is written aside and moved into place
+			Files.createDirectories(snapshotPath.getParent());
+			String fileName = snapshotPath.getFileName().toString();
+			temporaryPath = Files.createTempFile(snapshotPath.getParent(), fileName, ".tmp");
+			DomainModelSnapshotWriter.write(domainModel, temporaryPath);
+			Files.move(
+				temporaryPath,
+				snapshotPath,
+				StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE
+			);
+		} catch (IOException | RuntimeException e) {
+			this.getLog().warn("Failed to cache domain model: " + e.getMessage());
+			deleteQuietly(temporaryPath);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException ignored) {
+			// The cache directory is under target, so leftover temporary files are cleaned with the build
+		}
+	}
+
+	private void logDomainModelDuration(@Nonnull String action, @Nonnull Instant start) {
+		long millis = Duration.between(start, Instant.now()).toMillis();
+		this.getLog().info("%s for %s in %d ms".formatted(action, this.getClass().getSimpleName(), millis));
+	}
+
+	@Nonnull
+	protected DomainModelWithSourceCode getDomainModelWithSourceCode() throws MojoExecutionException {
 		if (this.klassSourcePackages.isEmpty()) {
 			String message =
 				""
@@ -248,11 +380,14 @@ public abstract class AbstractGenerateMojo extends AbstractMojo {
 			this.cachedFileContents = this.buildFileContentCache(klassLocations);
 		}
 
-		ImmutableList<CompilationUnit> compilationUnits = klassLocations.collectWithIndex((file, index) -> {
-			String path = file.getAbsolutePath();
-			String content = this.cachedFileContents.get(path);
-			return CompilationUnit.createFromText(index, Optional.empty(), path, content);
-		});
+		ImmutableList<CompilationUnit> compilationUnits = CompilationUnit.createAllInParallel(
+			klassLocations,
+			(file, index) -> {
+				String path = file.getAbsolutePath();
+				String content = this.cachedFileContents.get(path);
+				return CompilationUnit.createFromText(index, Optional.empty(), path, content);
+			}
+		);
 
 		return compilationUnits;
 	}
@@ -358,6 +493,13 @@ public abstract class AbstractGenerateMojo extends AbstractMojo {
 	}
 
 	private String calculateClasspathHash() throws MojoExecutionException {
+		if (this.cachedClasspathHash == null) {
+			this.cachedClasspathHash = this.computeClasspathHash();
+		}
+		return this.cachedClasspathHash;
+	}
+
+	private String computeClasspathHash() throws MojoExecutionException {
 		try {
 			MessageDigest digest = MessageDigest.getInstance("SHA-256");
 			ClassLoader classLoader = this.getClassLoader();
@@ -389,21 +531,25 @@ public abstract class AbstractGenerateMojo extends AbstractMojo {
 				}
 			}
 
-			byte[] hashBytes = digest.digest();
-			var hexString = new StringBuilder();
-			for (byte b : hashBytes) {
-				String hex = Integer.toHexString(0xff & b);
-				if (hex.length() == 1) {
-					hexString.append('0');
-				}
-				hexString.append(hex);
-			}
-			return hexString.toString();
+			return toHexString(digest.digest());
 		} catch (Exception e) {
 			throw new MojoExecutionException("Failed to calculate classpath hash", e);
 		}
 	}
 
+	@Nonnull
+	private static String toHexString(@Nonnull byte[] hashBytes) {
+		var hexString = new StringBuilder();
+		for (byte b : hashBytes) {
+			String hex = Integer.toHexString(0xff & b);
+			if (hex.length() == 1) {
+				hexString.append('0');
+			}
+			hexString.append(hex);
+		}
+		return hexString.toString();
+	}
+
 	private String loadPreviousInputHash(File outputDirectory) {
 		if (!this.cachingEnabled) {
 			return "";
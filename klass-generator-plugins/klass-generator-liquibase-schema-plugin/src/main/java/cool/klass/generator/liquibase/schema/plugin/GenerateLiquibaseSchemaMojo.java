@@ -43,6 +43,9 @@ public class GenerateLiquibaseSchemaMojo extends AbstractGenerateMojo {
 	)
 	private File outputDirectory;
 
+	@Parameter(property = "indexReportFile")
+	private File indexReportFile;
+
 	@Parameter(property = "fileName")
 	private final String fileName = "migrations-initial-schema.xml";
 
@@ -60,6 +63,9 @@ public class GenerateLiquibaseSchemaMojo extends AbstractGenerateMojo {
 				var generator = new LiquibaseSchemaGenerator(domainModel, this.fileName);
 				try {
 					generator.writeFiles(outputPath);
+					if (this.indexReportFile != null) {
+						generator.writeIndexReport(this.indexReportFile.toPath());
+					}
 				} catch (RuntimeException e) {
 					throw new MojoExecutionException(e.getMessage(), e);
 				}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.meta.snapshot.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import cool.klass.generator.plugin.AbstractGenerateMojo;
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.loader.snapshot.DomainModelSnapshotLoader;
+import cool.klass.model.meta.loader.snapshot.DomainModelSnapshotWriter;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+@Mojo(
+	name = "generate-meta-model-snapshot",
+	defaultPhase = LifecyclePhase.GENERATE_RESOURCES,
+	threadSafe = true,
+	requiresDependencyResolution = ResolutionScope.RUNTIME
+)
+public class GenerateDomainModelSnapshotMojo extends AbstractGenerateMojo {
+
+	@Parameter(
+		property = "outputDirectory",
+		defaultValue = "${project.build.directory}/generated-resources/meta-model-snapshot"
+	)
+	private File outputDirectory;
+
+	@Parameter(property = "resourceName", defaultValue = DomainModelSnapshotLoader.DEFAULT_RESOURCE_NAME)
+	private String resourceName;
+
+	@Override
+	protected InputSource getInputSource() {
+		return InputSource.CLASSPATH;
+	}
+
+	@Override
+	public void execute() throws MojoExecutionException {
+		boolean wasGenerated = this.executeWithCaching(this.outputDirectory, () -> {
+				DomainModelWithSourceCode domainModel = this.getDomainModel();
+				Path outputPath = this.outputDirectory.toPath().resolve(this.resourceName);
+				try {
+					DomainModelSnapshotWriter.write(domainModel, outputPath);
+				} catch (IOException e) {
+					throw new MojoExecutionException(e.getMessage(), e);
+				}
+				return null;
+			});
+
+		if (wasGenerated) {
+			this.getLog().info("Generated meta model snapshot in: " + this.outputDirectory.getPath());
+		}
+
+		var resource = new Resource();
+		resource.setDirectory(this.outputDirectory.getAbsolutePath());
+		this.mavenProject.addResource(resource);
+	}
+}
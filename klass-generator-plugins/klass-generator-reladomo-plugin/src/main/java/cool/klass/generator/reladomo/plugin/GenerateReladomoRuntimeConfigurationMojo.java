@@ -19,6 +19,7 @@ package cool.klass.generator.reladomo.plugin;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 
 import cool.klass.generator.plugin.AbstractGenerateMojo;
 import cool.klass.generator.reladomo.runtimeconfig.ReladomoRuntimeConfigurationGenerator;
@@ -67,6 +68,11 @@ public class GenerateReladomoRuntimeConfigurationMojo extends AbstractGenerateMo
 	@Parameter(property = "cacheType", required = true, defaultValue = "partial")
 	private String cacheType;
 
+	// Class name to partial cache time to live in milliseconds
+	@SuppressWarnings("FieldMayBeFinal")
+	@Parameter(property = "cacheTimeToLive")
+	private Map<String, String> cacheTimeToLive = Map.of();
+
 	@Override
 	protected InputSource getInputSource() {
 		return InputSource.CLASSPATH;
@@ -88,7 +94,8 @@ public class GenerateReladomoRuntimeConfigurationMojo extends AbstractGenerateMo
 				this.connectionManagerClassName,
 				this.connectionManagerName,
 				this.rootPackageName,
-				this.cacheType
+				this.cacheType,
+				this.cacheTimeToLive
 			);
 			reladomoRuntimeConfigurationGenerator.writeRuntimeConfigFile(path);
 		} catch (IOException e) {
@@ -43,6 +43,9 @@ public class GenerateRelationalSchemaMojo extends AbstractGenerateMojo {
 	)
 	private File outputDirectory;
 
+	@Parameter(property = "indexReportFile")
+	private File indexReportFile;
+
 	@Override
 	protected InputSource getInputSource() {
 		return InputSource.CLASSPATH;
@@ -57,6 +60,9 @@ public class GenerateRelationalSchemaMojo extends AbstractGenerateMojo {
 				var generator = new RelationalSchemaGenerator(domainModel);
 				try {
 					generator.writeRelationalSchema(outputPath);
+					if (this.indexReportFile != null) {
+						generator.writeIndexReport(this.indexReportFile.toPath());
+					}
 				} catch (RuntimeException e) {
 					throw new MojoExecutionException(e.getMessage(), e);
 				}
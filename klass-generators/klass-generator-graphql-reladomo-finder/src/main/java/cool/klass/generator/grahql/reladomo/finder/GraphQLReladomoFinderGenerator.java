@@ -23,6 +23,7 @@ import javax.annotation.Nonnull;
 import cool.klass.generator.perpackage.AbstractPerPackageGenerator;
 import cool.klass.model.meta.domain.api.Classifier;
 import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.property.Property;
 
 public class GraphQLReladomoFinderGenerator extends AbstractPerPackageGenerator {
@@ -80,6 +81,29 @@ public class GraphQLReladomoFinderGenerator extends AbstractPerPackageGenerator
 			+ classifier.getProperties().collect(this::getSourceCode).makeString("")
 			+ "}\n"
 			+ "\n"
+			+ this.getConnectionSourceCode(classifier)
+		);
+	}
+
+	// The result of the paginated ByFinder and ByOperation queries
+	private String getConnectionSourceCode(@Nonnull Classifier classifier) {
+		if (!(classifier instanceof Klass)) {
+			return "";
+		}
+
+		String classifierName = classifier.getName();
+		return (
+			""
+			+ "type _"
+			+ classifierName
+			+ "Connection {\n"
+			+ "    nodes      : ["
+			+ classifierName
+			+ "!]!\n"
+			+ "    endCursor  : String\n"
+			+ "    hasNextPage: Boolean!\n"
+			+ "}\n"
+			+ "\n"
 		);
 	}
 
@@ -131,7 +131,7 @@ public class GraphQLSchemaQueryGenerator extends AbstractPerPackageGenerator {
 		String classifierName = classifier.getName();
 		String lowerCaseName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, classifierName);
 		return MessageFormat.format(
-			"    {0}ByOperation(operation: String!, orderBy: [_{1}OrderBy!]! = [], pageNumber: Int = 1, pageSize: Int = 20): [{1}!]!\n",
+			"    {0}ByOperation(operation: String!, orderBy: [_{1}OrderBy!]! = [], first: Int = 20, after: String): _{1}Connection!\n",
 			lowerCaseName,
 			classifierName
 		);
@@ -142,7 +142,7 @@ public class GraphQLSchemaQueryGenerator extends AbstractPerPackageGenerator {
 		String lowerCaseName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, classifierName);
 
 		return MessageFormat.format(
-			"    {0}ByFinder(operation: _{1}Finder!, orderBy: [_{1}OrderBy!]! = [], pageNumber: Int = 1, pageSize: Int = 20): [{1}!]!\n",
+			"    {0}ByFinder(operation: _{1}Finder!, orderBy: [_{1}OrderBy!]! = [], first: Int = 20, after: String): _{1}Connection!\n",
 			lowerCaseName,
 			classifierName
 		);
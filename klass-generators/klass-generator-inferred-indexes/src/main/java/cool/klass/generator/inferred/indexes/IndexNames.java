@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.inferred.indexes;
+
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Keeps generated index names within the identifier length limits of the supported databases.
+ */
+public final class IndexNames {
+
+	/**
+	 * The shortest limit among the supported databases, from Oracle before 12.2. PostgreSQL allows 63 characters.
+	 */
+	public static final int MAX_IDENTIFIER_LENGTH = 30;
+
+	private static final int HASH_LENGTH = 8;
+
+	private IndexNames() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	/**
+	 * Returns names that fit unchanged. Longer names are cut short and end with a hash of the full name, so that
+	 * indexes that share a long prefix keep distinct names.
+	 */
+	@Nonnull
+	public static String truncate(@Nonnull String indexName) {
+		if (indexName.length() <= MAX_IDENTIFIER_LENGTH) {
+			return indexName;
+		}
+
+		String hash = String.format(Locale.ROOT, "%08X", indexName.hashCode());
+		String prefix = indexName.substring(0, MAX_IDENTIFIER_LENGTH - HASH_LENGTH - 1);
+		while (prefix.endsWith("_")) {
+			prefix = prefix.substring(0, prefix.length() - 1);
+		}
+		return prefix + "_" + hash;
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.inferred.indexes;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * A secondary index derived from the way services and associations query a class.
+ *
+ * @param properties the indexed properties, ending with the temporal {@code to} properties of temporal classes.
+ * @param usages     human-readable descriptions of the criteria, orderBys, and relationships served by this index.
+ */
+public record InferredIndex(
+	@Nonnull Klass klass,
+	@Nonnull ImmutableList<DataTypeProperty> properties,
+	@Nonnull ImmutableList<String> usages
+) {}
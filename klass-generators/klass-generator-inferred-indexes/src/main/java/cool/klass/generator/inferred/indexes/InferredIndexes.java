@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.inferred.indexes;
+
+import java.util.LinkedHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.model.meta.domain.api.Association;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.criteria.AllCriteria;
+import cool.klass.model.meta.domain.api.criteria.AndCriteria;
+import cool.klass.model.meta.domain.api.criteria.Criteria;
+import cool.klass.model.meta.domain.api.criteria.EdgePointCriteria;
+import cool.klass.model.meta.domain.api.criteria.OperatorCriteria;
+import cool.klass.model.meta.domain.api.criteria.OrCriteria;
+import cool.klass.model.meta.domain.api.order.OrderBy;
+import cool.klass.model.meta.domain.api.order.OrderByMemberReferencePath;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.service.Service;
+import cool.klass.model.meta.domain.api.service.ServiceGroup;
+import cool.klass.model.meta.domain.api.service.url.Url;
+import cool.klass.model.meta.domain.api.value.ExpressionValue;
+import cool.klass.model.meta.domain.api.value.MemberReferencePath;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.eclipse.collections.impl.map.mutable.MapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+
+/**
+ * Derives secondary indexes from service query criteria, service orderBys, and association relationships.
+ *
+ * <p>Within one conjunction, equality columns lead, followed by either the first range column or the service's orderBy.
+ * Disjunctions produce one index per branch. Indexes that are a prefix of the primary key, a foreign key index, or
+ * another inferred index are dropped.
+ */
+public final class InferredIndexes {
+
+	private InferredIndexes() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	@Nonnull
+	public static ImmutableListMultimap<Klass, InferredIndex> infer(@Nonnull DomainModel domainModel) {
+		MutableMap<Klass, MutableOrderedMap<ImmutableList<DataTypeProperty>, MutableList<String>>> candidates =
+			MapAdapter.adapt(new LinkedHashMap<>());
+
+		for (ServiceGroup serviceGroup : domainModel.getServiceGroups()) {
+			for (Url url : serviceGroup.getUrls()) {
+				for (Service service : url.getServices()) {
+					String usage = service.getVerb().name() + " " + url.getUrlString();
+					addServiceCandidates(serviceGroup.getKlass(), service, usage, candidates);
+				}
+			}
+		}
+
+		for (Association association : domainModel.getAssociations()) {
+			String usage = "relationship " + association.getName();
+			for (ImmutableList<IndexColumn> conjunction : getConjunctions(association.getCriteria())) {
+				addCandidates(conjunction, null, Lists.immutable.empty(), usage, candidates);
+			}
+		}
+
+		MutableListMultimap<Klass, InferredIndex> result = Multimaps.mutable.list.empty();
+		candidates.forEachKeyValue((klass, candidatesForKlass) ->
+			result.putAll(klass, getIndexes(klass, candidatesForKlass))
+		);
+		return result.toImmutable();
+	}
+
+	private static void addServiceCandidates(
+		@Nonnull Klass klass,
+		@Nonnull Service service,
+		@Nonnull String usage,
+		@Nonnull MutableMap<Klass, MutableOrderedMap<ImmutableList<DataTypeProperty>, MutableList<String>>> candidates
+	) {
+		// Authorize, validate, and conflict criteria are evaluated in memory against the query results
+		ImmutableList<ImmutableList<IndexColumn>> conjunctions = service
+			.getQueryCriteria()
+			.map(InferredIndexes::getConjunctions)
+			.orElseGet(() -> Lists.immutable.with(Lists.immutable.empty()));
+
+		ImmutableList<DataTypeProperty> orderByProperties = service
+			.getOrderBy()
+			.map(InferredIndexes::getOrderByProperties)
+			.orElseGet(Lists.immutable::empty);
+
+		String clauses = service.getQueryCriteria().isEmpty()
+			? "orderBy"
+			: orderByProperties.isEmpty() ? "criteria" : "criteria and orderBy";
+		String serviceUsage = usage + " " + clauses;
+		for (ImmutableList<IndexColumn> conjunction : conjunctions) {
+			addCandidates(conjunction, klass, orderByProperties, serviceUsage, candidates);
+		}
+	}
+
+	private static void addCandidates(
+		@Nonnull ImmutableList<IndexColumn> conjunction,
+		@Nullable Klass orderedKlass,
+		@Nonnull ImmutableList<DataTypeProperty> orderByProperties,
+		@Nonnull String usage,
+		@Nonnull MutableMap<Klass, MutableOrderedMap<ImmutableList<DataTypeProperty>, MutableList<String>>> candidates
+	) {
+		MutableList<Klass> klasses = conjunction.collect(IndexColumn::klass).distinct().toList();
+		if (orderedKlass != null && !klasses.contains(orderedKlass)) {
+			klasses.add(orderedKlass);
+		}
+
+		for (Klass klass : klasses) {
+			ImmutableList<IndexColumn> columns = conjunction.select((each) -> each.klass() == klass);
+			MutableList<DataTypeProperty> properties = columns
+				.select(IndexColumn::equality)
+				.collect(IndexColumn::property)
+				.distinct()
+				.toList();
+
+			IndexColumn rangeColumn = columns.detect((each) -> !each.equality());
+			if (rangeColumn != null) {
+				properties.add(rangeColumn.property());
+			} else if (klass == orderedKlass) {
+				properties.addAllIterable(orderByProperties);
+			}
+
+			ImmutableList<DataTypeProperty> distinctProperties = properties.distinct().toImmutable();
+			if (distinctProperties.notEmpty()) {
+				candidates
+					.getIfAbsentPut(klass, () -> OrderedMapAdapter.adapt(new LinkedHashMap<>()))
+					.getIfAbsentPut(distinctProperties, Lists.mutable::empty)
+					.add(usage);
+			}
+		}
+	}
+
+	@Nonnull
+	private static ImmutableList<DataTypeProperty> getOrderByProperties(@Nonnull OrderBy orderBy) {
+		return orderBy
+			.getOrderByMemberReferencePaths()
+			.collect(OrderByMemberReferencePath::getThisMemberReferencePath)
+			.select((each) -> each.getAssociationEnds().isEmpty())
+			.collect(MemberReferencePath::getProperty)
+			.select(InferredIndexes::isIndexable);
+	}
+
+	@Nonnull
+	private static ImmutableList<ImmutableList<IndexColumn>> getConjunctions(@Nonnull Criteria criteria) {
+		if (criteria instanceof AllCriteria || criteria instanceof EdgePointCriteria) {
+			return Lists.immutable.with(Lists.immutable.empty());
+		}
+
+		if (criteria instanceof AndCriteria andCriteria) {
+			ImmutableList<ImmutableList<IndexColumn>> left = getConjunctions(andCriteria.getLeft());
+			ImmutableList<ImmutableList<IndexColumn>> right = getConjunctions(andCriteria.getRight());
+			return left.flatCollect((leftColumns) -> right.collect(leftColumns::newWithAll));
+		}
+
+		if (criteria instanceof OrCriteria orCriteria) {
+			ImmutableList<ImmutableList<IndexColumn>> left = getConjunctions(orCriteria.getLeft());
+			ImmutableList<ImmutableList<IndexColumn>> right = getConjunctions(orCriteria.getRight());
+			return left.newWithAll(right);
+		}
+
+		if (criteria instanceof OperatorCriteria operatorCriteria) {
+			String operatorText = operatorCriteria.getOperator().getOperatorText();
+			MutableList<IndexColumn> columns = Lists.mutable.empty();
+			switch (operatorText) {
+				case "==", "in" -> {
+					addColumn(operatorCriteria.getSourceValue(), true, columns);
+					addColumn(operatorCriteria.getTargetValue(), true, columns);
+				}
+				case "<", ">", "<=", ">=", "startsWith" -> {
+					addColumn(operatorCriteria.getSourceValue(), false, columns);
+					addColumn(operatorCriteria.getTargetValue(), false, columns);
+				}
+				case "!=", "contains", "endsWith" -> {
+					// Cannot seek an index
+				}
+				default -> throw new AssertionError("Unexpected operator: " + operatorText);
+			}
+			return Lists.immutable.with(columns.toImmutable());
+		}
+
+		throw new AssertionError(criteria.getClass().getSimpleName());
+	}
+
+	private static void addColumn(
+		@Nonnull ExpressionValue expressionValue,
+		boolean equality,
+		@Nonnull MutableList<IndexColumn> columns
+	) {
+		if (!(expressionValue instanceof MemberReferencePath memberReferencePath)) {
+			return;
+		}
+
+		DataTypeProperty property = memberReferencePath.getProperty();
+		if (!isIndexable(property)) {
+			return;
+		}
+
+		Klass klass = memberReferencePath.getAssociationEnds().isEmpty()
+			? memberReferencePath.getKlass()
+			: memberReferencePath.getAssociationEnds().getLast().getType();
+		columns.add(new IndexColumn(klass, property, equality));
+	}
+
+	private static boolean isIndexable(@Nonnull DataTypeProperty property) {
+		// Temporal to properties are appended to every index of a temporal class
+		return !property.isDerived() && !property.isTemporalRange() && !property.isTo();
+	}
+
+	@Nonnull
+	private static ImmutableList<InferredIndex> getIndexes(
+		@Nonnull Klass klass,
+		@Nonnull MutableOrderedMap<ImmutableList<DataTypeProperty>, MutableList<String>> candidates
+	) {
+		MutableList<ImmutableList<DataTypeProperty>> existingIndexes = Lists.mutable.with(klass.getKeyProperties());
+		klass
+			.getForeignKeys()
+			.forEachValue((foreignKeys) -> existingIndexes.add(foreignKeys.keysView().toList().toImmutable()));
+
+		MutableOrderedMap<ImmutableList<DataTypeProperty>, MutableList<String>> usagesByIndex =
+			OrderedMapAdapter.adapt(new LinkedHashMap<>());
+		candidates.forEachKeyValue((properties, usages) -> {
+			if (existingIndexes.anySatisfy((each) -> isPrefixList(properties, each))) {
+				return;
+			}
+
+			// The longest candidate that starts with these properties serves the same queries
+			ImmutableList<DataTypeProperty> coveringIndex = candidates
+				.keysView()
+				.select((each) -> isPrefixList(properties, each))
+				.maxBy(ImmutableList::size);
+			usagesByIndex.getIfAbsentPut(coveringIndex, Lists.mutable::empty).addAll(usages);
+		});
+
+		ImmutableList<DataTypeProperty> toProperties = klass.getDataTypeProperties().select(DataTypeProperty::isTo);
+		return usagesByIndex
+			.keyValuesView()
+			.collect((pair) ->
+				new InferredIndex(
+					klass,
+					pair.getOne().newWithAll(toProperties),
+					pair.getTwo().distinct().toImmutable()
+				)
+			)
+			.toImmutableList();
+	}
+
+	private static boolean isPrefixList(ImmutableList<DataTypeProperty> list1, ImmutableList<DataTypeProperty> list2) {
+		if (list1.size() > list2.size()) {
+			return false;
+		}
+
+		return list1.equals(list2.subList(0, list1.size()));
+	}
+
+	private record IndexColumn(@Nonnull Klass klass, @Nonnull DataTypeProperty property, boolean equality) {}
+}
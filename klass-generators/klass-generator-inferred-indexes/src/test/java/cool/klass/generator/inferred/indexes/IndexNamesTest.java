@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.inferred.indexes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexNamesTest {
+
+	@Test
+	void keepsShortNames() {
+		String indexName = "BOOK_IDX_TITLE";
+		assertThat(IndexNames.truncate(indexName)).isEqualTo(indexName);
+
+		String longestName = "A".repeat(IndexNames.MAX_IDENTIFIER_LENGTH);
+		assertThat(IndexNames.truncate(longestName)).isEqualTo(longestName);
+	}
+
+	@Test
+	void truncatesLongNames() {
+		String indexName = "BOOK_IDX_AUTHOR_NAME_PUBLISHED_ON";
+		String truncated = IndexNames.truncate(indexName);
+
+		assertThat(truncated)
+			.hasSizeLessThanOrEqualTo(IndexNames.MAX_IDENTIFIER_LENGTH)
+			.startsWith("BOOK_IDX_AUTHOR_NAME_")
+			.doesNotContain("__");
+		assertThat(IndexNames.truncate(indexName)).isEqualTo(truncated);
+	}
+
+	@Test
+	void keepsLongNamesDistinct() {
+		String first = IndexNames.truncate("BOOK_IDX_AUTHOR_NAME_PUBLISHED_ON");
+		String second = IndexNames.truncate("BOOK_IDX_AUTHOR_NAME_PUBLISHED_AT");
+
+		assertThat(first).isNotEqualTo(second);
+	}
+}
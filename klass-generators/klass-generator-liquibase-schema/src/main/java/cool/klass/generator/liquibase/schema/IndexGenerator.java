@@ -18,12 +18,18 @@ package cool.klass.generator.liquibase.schema;
 
 import java.util.Objects;
 
+import javax.annotation.Nonnull;
+
+import cool.klass.generator.inferred.indexes.IndexNames;
+import cool.klass.generator.inferred.indexes.InferredIndex;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 
 public final class IndexGenerator {
 
@@ -32,6 +38,10 @@ public final class IndexGenerator {
 	}
 
 	public static String getIndex(Klass klass, int ordinal) {
+		return getIndex(klass, ordinal, Lists.immutable.empty());
+	}
+
+	public static String getIndex(Klass klass, int ordinal, ImmutableList<InferredIndex> inferredIndexes) {
 		String tableName = TableGenerator.TABLE_NAME_CONVERTER.convert(klass.getName());
 
 		MutableOrderedMap<AssociationEnd, MutableOrderedMap<DataTypeProperty, DataTypeProperty>> foreignKeyConstraints =
@@ -44,10 +54,11 @@ public final class IndexGenerator {
 			)
 			.reject(String::isEmpty)
 			.toList();
+		result.addAllIterable(inferredIndexes.collect((each) -> getInferredIndex(each, tableName, ordinal)));
 
 		if (!Objects.equals(result, result.distinct())) {
 			throw new AssertionError(
-				"Duplicate foreign key index detected for "
+				"Duplicate index detected for "
 				+ tableName
 				+ " in "
 				+ klass.getName()
@@ -81,7 +92,49 @@ public final class IndexGenerator {
 			return "";
 		}
 
-		ImmutableList<String> foreignKeyColumns = allKeyProperties
+		return getCreateIndex(constraintName, tableName, allKeyProperties, ordinal);
+	}
+
+	@Nonnull
+	public static String getIndexReport(@Nonnull ImmutableListMultimap<Klass, InferredIndex> inferredIndexes) {
+		return inferredIndexes
+			.valuesView()
+			.collect((inferredIndex) -> {
+				String tableName = TableGenerator.TABLE_NAME_CONVERTER.convert(inferredIndex.klass().getName());
+				String columnNames = inferredIndex
+					.properties()
+					.collect(DataTypeProperty::getName)
+					.collect(TableGenerator.COLUMN_NAME_CONVERTER::convert)
+					.makeString(", ");
+				String usages = inferredIndex.usages().collect((usage) -> "    " + usage + "\n").makeString("");
+				String indexName = getInferredIndexName(inferredIndex, tableName);
+				return indexName + " on " + tableName + "(" + columnNames + ")\n" + usages;
+			})
+			.makeString("");
+	}
+
+	private static String getInferredIndex(InferredIndex inferredIndex, String tableName, int ordinal) {
+		String indexName = getInferredIndexName(inferredIndex, tableName);
+		return getCreateIndex(indexName, tableName, inferredIndex.properties(), ordinal);
+	}
+
+	private static String getInferredIndexName(InferredIndex inferredIndex, String tableName) {
+		String indexName = inferredIndex
+			.properties()
+			.reject(DataTypeProperty::isTo)
+			.collect(DataTypeProperty::getName)
+			.collect(TableGenerator.COLUMN_NAME_CONVERTER::convert)
+			.makeString(tableName + "_IDX_", "_", "");
+		return IndexNames.truncate(indexName);
+	}
+
+	private static String getCreateIndex(
+		String constraintName,
+		String tableName,
+		ImmutableList<DataTypeProperty> properties,
+		int ordinal
+	) {
+		ImmutableList<String> columns = properties
 			.collect(DataTypeProperty::getName)
 			.collect(TableGenerator.COLUMN_NAME_CONVERTER::convert)
 			.collect((columnName) -> "            <column name=\"" + columnName + "\" />\n");
@@ -100,7 +153,7 @@ public final class IndexGenerator {
 			+ "                tableName=\""
 			+ tableName
 			+ "\">\n"
-			+ foreignKeyColumns.makeString("")
+			+ columns.makeString("")
 			+ "        </createIndex>\n"
 			+ "    </changeSet>\n\n"
 		);
@@ -21,12 +21,17 @@ import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import cool.klass.generator.inferred.indexes.InferredIndex;
+import cool.klass.generator.inferred.indexes.InferredIndexes;
 import cool.klass.generator.perpackage.AbstractPerPackageGenerator;
 import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 
 public class LiquibaseSchemaGenerator extends AbstractPerPackageGenerator {
 
 	private final String fileName;
+	private final ImmutableListMultimap<Klass, InferredIndex> inferredIndexes;
 
 	public LiquibaseSchemaGenerator(DomainModel domainModel) {
 		this(domainModel, "migrations.xml");
@@ -35,6 +40,7 @@ public class LiquibaseSchemaGenerator extends AbstractPerPackageGenerator {
 	public LiquibaseSchemaGenerator(DomainModel domainModel, String fileName) {
 		super(domainModel);
 		this.fileName = Objects.requireNonNull(fileName);
+		this.inferredIndexes = InferredIndexes.infer(domainModel);
 	}
 
 	@Nonnull
@@ -52,6 +58,15 @@ public class LiquibaseSchemaGenerator extends AbstractPerPackageGenerator {
 	@Override
 	@Nonnull
 	protected String getPackageSourceCode(@Nonnull String fullyQualifiedPackage) {
-		return SchemaGenerator.getSourceCode(this.domainModel, fullyQualifiedPackage);
+		return SchemaGenerator.getSourceCode(this.domainModel, fullyQualifiedPackage, this.inferredIndexes);
+	}
+
+	/**
+	 * Lists the changeSets that come from {@link InferredIndexes}, with the services and relationships behind each one.
+	 */
+	public void writeIndexReport(@Nonnull Path reportPath) {
+		String report = IndexGenerator.getIndexReport(this.inferredIndexes);
+		reportPath.toAbsolutePath().getParent().toFile().mkdirs();
+		this.printStringToFile(reportPath, report);
 	}
 }
@@ -16,9 +16,12 @@
 
 package cool.klass.generator.liquibase.schema;
 
+import cool.klass.generator.inferred.indexes.InferredIndex;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
 
 public final class SchemaGenerator {
 
@@ -27,6 +30,14 @@ public final class SchemaGenerator {
 	}
 
 	public static String getSourceCode(DomainModel domainModel, String fullyQualifiedPackage) {
+		return getSourceCode(domainModel, fullyQualifiedPackage, Multimaps.immutable.list.empty());
+	}
+
+	public static String getSourceCode(
+		DomainModel domainModel,
+		String fullyQualifiedPackage,
+		ImmutableListMultimap<Klass, InferredIndex> inferredIndexes
+	) {
 		ImmutableList<Klass> classes = domainModel
 			.getClasses()
 			.select((each) -> each.getPackageName().equals(fullyQualifiedPackage));
@@ -34,7 +45,9 @@ public final class SchemaGenerator {
 		ImmutableList<String> foreignKeySourceCodes = classes.collectWithIndex(
 			SchemaGenerator::getForeignKeySourceCode
 		);
-		ImmutableList<String> indexSourceCodes = classes.collectWithIndex(SchemaGenerator::getIndexSourceCode);
+		ImmutableList<String> indexSourceCodes = classes.collectWithIndex((klass, index) ->
+			getIndexSourceCode(klass, index, inferredIndexes.get(klass))
+		);
 
 		// language=XML
 		return (
@@ -60,6 +73,10 @@ public final class SchemaGenerator {
 		return IndexGenerator.getIndex(klass, index + 1);
 	}
 
+	public static String getIndexSourceCode(Klass klass, int index, ImmutableList<InferredIndex> inferredIndexes) {
+		return IndexGenerator.getIndex(klass, index + 1, inferredIndexes);
+	}
+
 	public static String getForeignKeySourceCode(Klass klass, int index) {
 		return ForeignKeyGenerator.getForeignKeys(klass, index + 1).orElse("");
 	}
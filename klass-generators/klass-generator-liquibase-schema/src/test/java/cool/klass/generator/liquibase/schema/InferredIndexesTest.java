@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.liquibase.schema;
+
+import cool.klass.generator.inferred.indexes.InferredIndexes;
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.loader.compiler.DomainModelCompilerLoader;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.junit.extension.match.file.FileMatchExtension;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@ExtendWith(LogMarkerTestExtension.class)
+public class InferredIndexesTest {
+
+	public static final String FULLY_QUALIFIED_PACKAGE = "cool.klass.generator.liquibase.index";
+
+	@RegisterExtension
+	final FileMatchExtension fileMatchExtension = new FileMatchExtension(this.getClass());
+
+	@Test
+	void inferredIndexes() {
+		ImmutableList<String> klassSourcePackages = Lists.immutable.with(FULLY_QUALIFIED_PACKAGE);
+
+		var domainModelCompilerLoader = new DomainModelCompilerLoader(
+			klassSourcePackages,
+			Thread.currentThread().getContextClassLoader(),
+			DomainModelCompilerLoader::logCompilerError,
+			ColorSchemeProvider.getByName("dark"),
+			false
+		);
+
+		DomainModelWithSourceCode domainModel = domainModelCompilerLoader.load();
+
+		var liquibaseSchemaGenerator = new LiquibaseSchemaGenerator(domainModel);
+		this.fileMatchExtension.assertFileContents(
+			"migrations-with-inferred-indexes.xml",
+			liquibaseSchemaGenerator.getPackageSourceCode(FULLY_QUALIFIED_PACKAGE)
+		);
+
+		String indexReport = IndexGenerator.getIndexReport(InferredIndexes.infer(domainModel));
+		this.fileMatchExtension.assertFileContents("index-report.txt", indexReport);
+	}
+}
@@ -19,6 +19,7 @@ package cool.klass.generator.reladomo.runtimeconfig;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.Nonnull;
@@ -36,8 +37,12 @@ import cool.klass.generator.reladomo.AbstractReladomoGenerator;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.PackageableElement;
+import cool.klass.model.meta.domain.api.modifier.Modifier;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
 
 // TODO: Split out into Liftwizard by passing in a list of class names (and Sequence name) into the constructor
 public class ReladomoRuntimeConfigurationGenerator extends AbstractReladomoGenerator {
@@ -52,21 +57,38 @@ public class ReladomoRuntimeConfigurationGenerator extends AbstractReladomoGener
 	@Nonnull
 	private final String rootPackageName;
 
+	// Used for classes without a cache modifier
 	@Nonnull
 	private final CacheType cacheType;
 
+	// Milliseconds, by class name
+	@Nonnull
+	private final ImmutableMap<String, Integer> cacheTimeToLive;
+
 	public ReladomoRuntimeConfigurationGenerator(
 		@Nonnull DomainModel domainModel,
 		@Nonnull String connectionManagerClassName,
 		@Nullable String connectionManagerName,
 		@Nonnull String rootPackageName,
 		@Nonnull String cacheType
+	) {
+		this(domainModel, connectionManagerClassName, connectionManagerName, rootPackageName, cacheType, Map.of());
+	}
+
+	public ReladomoRuntimeConfigurationGenerator(
+		@Nonnull DomainModel domainModel,
+		@Nonnull String connectionManagerClassName,
+		@Nullable String connectionManagerName,
+		@Nonnull String rootPackageName,
+		@Nonnull String cacheType,
+		@Nonnull Map<String, String> cacheTimeToLive
 	) {
 		super(domainModel);
 		this.connectionManagerClassName = Objects.requireNonNull(connectionManagerClassName);
 		this.connectionManagerName = connectionManagerName;
 		this.rootPackageName = Objects.requireNonNull(rootPackageName);
 		this.cacheType = ReladomoRuntimeConfigurationGenerator.getCacheType(cacheType);
+		this.cacheTimeToLive = this.getCacheTimeToLive(cacheTimeToLive);
 	}
 
 	private static CacheType getCacheType(@Nonnull String cacheType) {
@@ -84,7 +106,53 @@ public class ReladomoRuntimeConfigurationGenerator extends AbstractReladomoGener
 		};
 	}
 
+	@Nonnull
+	private static CacheType getModifierCacheType(@Nonnull Modifier cacheModifier) {
+		if (cacheModifier.isFullCache() || cacheModifier.isOffHeapCache()) {
+			return CacheType.FULL;
+		}
+		if (cacheModifier.isPartialCache()) {
+			return CacheType.PARTIAL;
+		}
+		if (cacheModifier.isNoCache()) {
+			return CacheType.NONE;
+		}
+		throw new AssertionError(cacheModifier.getKeyword());
+	}
+
+	@Nonnull
+	private ImmutableMap<String, Integer> getCacheTimeToLive(@Nonnull Map<String, String> cacheTimeToLive) {
+		MutableMap<String, Integer> result = Maps.mutable.empty();
+		cacheTimeToLive.forEach((className, timeToLive) -> {
+			Klass klass = this.domainModel
+				.findClassByName(className)
+				.orElseThrow(() -> new RuntimeException("Invalid cacheTimeToLive. Could not find class: " + className));
+			if (!CacheType.PARTIAL.equals(this.getCacheType(klass))) {
+				String message = String.format(
+					"Invalid cacheTimeToLive for %s. Only partially cached classes can expire.",
+					className
+				);
+				throw new RuntimeException(message);
+			}
+			result.put(className, Integer.parseInt(timeToLive.trim()));
+		});
+		return result.toImmutable();
+	}
+
+	@Nonnull
+	private CacheType getCacheType(@Nonnull Klass klass) {
+		return klass
+			.getCacheModifier()
+			.map(ReladomoRuntimeConfigurationGenerator::getModifierCacheType)
+			.orElse(this.cacheType);
+	}
+
 	public void writeRuntimeConfigFile(@Nonnull Path path) throws IOException {
+		this.printStringToFile(path, this.getSourceCode());
+	}
+
+	@Nonnull
+	String getSourceCode() throws IOException {
 		MithraRuntime mithraRuntime = this.getMithraRuntime();
 
 		var mithraRuntimeMarshaller = new MithraRuntimeMarshaller();
@@ -92,9 +160,7 @@ public class ReladomoRuntimeConfigurationGenerator extends AbstractReladomoGener
 
 		var stringBuilder = new StringBuilder();
 		mithraRuntimeMarshaller.marshall(stringBuilder, mithraRuntime);
-		String xmlString = this.sanitizeXmlString(stringBuilder);
-
-		this.printStringToFile(path, xmlString);
+		return this.sanitizeXmlString(stringBuilder);
 	}
 
 	@Nonnull
@@ -169,8 +235,27 @@ public class ReladomoRuntimeConfigurationGenerator extends AbstractReladomoGener
 		return this.domainModel.getClasses()
 			// TODO: Can a class be transient and abstract? Is that redundant?
 			.reject(Klass::isTransient)
-			.collect(PackageableElement::getFullyQualifiedName)
-			.collectWith(ReladomoRuntimeConfigurationGenerator::createMithraObjectConfigurationType, this.cacheType);
+			.collect(this::createMithraObjectConfigurationType);
+	}
+
+	@Nonnull
+	private MithraObjectConfigurationType createMithraObjectConfigurationType(@Nonnull Klass klass) {
+		MithraObjectConfigurationType mithraObjectConfigurationType =
+			ReladomoRuntimeConfigurationGenerator.createMithraObjectConfigurationType(
+				klass.getFullyQualifiedName(),
+				this.getCacheType(klass)
+			);
+
+		boolean offHeapCache = klass.getCacheModifier().map(Modifier::isOffHeapCache).orElse(false);
+		if (offHeapCache) {
+			mithraObjectConfigurationType.setOffHeapFullCache(true);
+		}
+
+		Integer cacheTimeToLive = this.cacheTimeToLive.get(klass.getName());
+		if (cacheTimeToLive != null) {
+			mithraObjectConfigurationType.setCacheTimeToLive(cacheTimeToLive);
+		}
+		return mithraObjectConfigurationType;
 	}
 
 	@Nonnull
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.generator.reladomo.runtimeconfig;
+
+import java.io.IOException;
+import java.util.Map;
+
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.loader.compiler.DomainModelCompilerLoader;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.junit.extension.match.file.FileMatchExtension;
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(LogMarkerTestExtension.class)
+public class ReladomoRuntimeConfigurationGeneratorTest {
+
+	public static final String FULLY_QUALIFIED_PACKAGE = "cool.klass.generator.reladomo.runtimeconfig";
+
+	@RegisterExtension
+	final FileMatchExtension fileMatchExtension = new FileMatchExtension(this.getClass());
+
+	@Test
+	void cacheModifiers() throws IOException {
+		var generator = new ReladomoRuntimeConfigurationGenerator(
+			this.loadDomainModel(),
+			"ConnectionManagerHolder",
+			null,
+			FULLY_QUALIFIED_PACKAGE,
+			"full",
+			Map.of("PartialCache", "60000", "InheritedCache", "30000")
+		);
+
+		this.fileMatchExtension.assertFileContents("ReladomoRuntimeConfiguration.xml", generator.getSourceCode());
+	}
+
+	@Test
+	void cacheTimeToLiveRequiresPartialCache() {
+		DomainModelWithSourceCode domainModel = this.loadDomainModel();
+
+		assertThatThrownBy(() ->
+			new ReladomoRuntimeConfigurationGenerator(
+				domainModel,
+				"ConnectionManagerHolder",
+				null,
+				FULLY_QUALIFIED_PACKAGE,
+				"full",
+				Map.of("FullCache", "60000")
+			)
+		).hasMessage("Invalid cacheTimeToLive for FullCache. Only partially cached classes can expire.");
+	}
+
+	private DomainModelWithSourceCode loadDomainModel() {
+		var domainModelCompilerLoader = new DomainModelCompilerLoader(
+			Lists.immutable.with(FULLY_QUALIFIED_PACKAGE),
+			Thread.currentThread().getContextClassLoader(),
+			DomainModelCompilerLoader::logCompilerError,
+			ColorSchemeProvider.getByName("dark"),
+			false
+		);
+		return domainModelCompilerLoader.load();
+	}
+}
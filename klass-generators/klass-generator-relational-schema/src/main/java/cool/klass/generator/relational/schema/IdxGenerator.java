@@ -18,12 +18,16 @@ package cool.klass.generator.relational.schema;
 
 import javax.annotation.Nonnull;
 
+import cool.klass.generator.inferred.indexes.IndexNames;
+import cool.klass.generator.inferred.indexes.InferredIndex;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.NamedElement;
 import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 
 public final class IdxGenerator {
 
@@ -32,6 +36,10 @@ public final class IdxGenerator {
 	}
 
 	public static String getIdx(Klass klass) {
+		return getIdx(klass, Lists.immutable.empty());
+	}
+
+	public static String getIdx(Klass klass, ImmutableList<InferredIndex> inferredIndexes) {
 		String tableName = DdlGenerator.getTableName(klass);
 		String constraintName = tableName + "_PK";
 
@@ -52,7 +60,51 @@ public final class IdxGenerator {
 			)
 			.makeString("");
 
-		return primaryKeyIndex + foreignKeyIndexes;
+		String inferredIndexSourceCode = inferredIndexes
+			.collect((inferredIndex) -> getInferredIndex(inferredIndex, tableName))
+			.makeString("");
+
+		return primaryKeyIndex + foreignKeyIndexes + inferredIndexSourceCode;
+	}
+
+	@Nonnull
+	public static String getIndexReport(@Nonnull ImmutableListMultimap<Klass, InferredIndex> inferredIndexes) {
+		return inferredIndexes
+			.valuesView()
+			.collect((inferredIndex) -> {
+				String tableName = DdlGenerator.getTableName(inferredIndex.klass());
+				String usages = inferredIndex.usages().collect("    %s%n"::formatted).makeString("");
+				return "%s on %s(%s)%n%s".formatted(
+					getInferredIndexName(inferredIndex, tableName),
+					tableName,
+					getColumnNames(inferredIndex.properties()),
+					usages
+				);
+			})
+			.makeString("");
+	}
+
+	private static String getInferredIndex(InferredIndex inferredIndex, String tableName) {
+		String indexName = getInferredIndexName(inferredIndex, tableName);
+		String columnNames = getColumnNames(inferredIndex.properties());
+		return "create index %s on %s(%s);%n".formatted(indexName, tableName, columnNames);
+	}
+
+	private static String getInferredIndexName(InferredIndex inferredIndex, String tableName) {
+		String indexName = inferredIndex
+			.properties()
+			.reject(DataTypeProperty::isTo)
+			.collect(DataTypeProperty::getName)
+			.collect(DdlGenerator.TABLE_NAME_CONVERTER::convert)
+			.makeString(tableName + "_IDX_", "_", "");
+		return IndexNames.truncate(indexName);
+	}
+
+	private static String getColumnNames(ImmutableList<DataTypeProperty> properties) {
+		return properties
+			.collect(DataTypeProperty::getName)
+			.collect(DdlGenerator.COLUMN_NAME_CONVERTER::convert)
+			.makeString(", ");
 	}
 
 	private static String getForeignKeyIndex(
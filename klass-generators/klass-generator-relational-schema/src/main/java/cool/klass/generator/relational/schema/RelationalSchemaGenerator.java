@@ -30,8 +30,11 @@ import javax.annotation.Nonnull;
 
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Converter;
+import cool.klass.generator.inferred.indexes.InferredIndex;
+import cool.klass.generator.inferred.indexes.InferredIndexes;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 
 public class RelationalSchemaGenerator {
 
@@ -40,9 +43,11 @@ public class RelationalSchemaGenerator {
 	);
 
 	private final DomainModel domainModel;
+	private final ImmutableListMultimap<Klass, InferredIndex> inferredIndexes;
 
 	public RelationalSchemaGenerator(DomainModel domainModel) {
 		this.domainModel = Objects.requireNonNull(domainModel);
+		this.inferredIndexes = InferredIndexes.infer(domainModel);
 	}
 
 	public void writeRelationalSchema(@Nonnull Path path) {
@@ -62,7 +67,7 @@ public class RelationalSchemaGenerator {
 
 			Path idxOutputPath = parentPath.resolve(tableName + ".idx");
 			if (!idxOutputPath.toFile().exists()) {
-				String sourceCode = IdxGenerator.getIdx(klass);
+				String sourceCode = IdxGenerator.getIdx(klass, this.inferredIndexes.get(klass));
 				this.printStringToFile(idxOutputPath, sourceCode);
 			}
 
@@ -74,6 +79,16 @@ public class RelationalSchemaGenerator {
 		}
 	}
 
+	/**
+	 * Writes the indexes inferred from services and associations, along with the usages that justify each one, so that
+	 * they can be reviewed before they are applied.
+	 */
+	public void writeIndexReport(@Nonnull Path reportPath) {
+		createDirectories(reportPath.toAbsolutePath().getParent());
+		String report = IdxGenerator.getIndexReport(this.inferredIndexes);
+		this.printStringToFile(reportPath, report);
+	}
+
 	private static void createDirectories(Path dir) {
 		try {
 			Files.createDirectories(dir);
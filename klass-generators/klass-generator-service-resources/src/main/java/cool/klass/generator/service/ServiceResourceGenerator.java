@@ -44,10 +44,14 @@ import cool.klass.model.meta.domain.api.order.OrderByDirectionDeclaration;
 import cool.klass.model.meta.domain.api.order.OrderByMemberReferencePath;
 import cool.klass.model.meta.domain.api.parameter.Parameter;
 import cool.klass.model.meta.domain.api.projection.Projection;
+import cool.klass.model.meta.domain.api.projection.ProjectionDataTypeProperty;
+import cool.klass.model.meta.domain.api.projection.ProjectionWithReferenceProperty;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
 import cool.klass.model.meta.domain.api.service.Service;
 import cool.klass.model.meta.domain.api.service.ServiceGroup;
 import cool.klass.model.meta.domain.api.service.ServiceMultiplicity;
+import cool.klass.model.meta.domain.api.service.ServicePagination;
 import cool.klass.model.meta.domain.api.service.ServiceProjectionDispatch;
 import cool.klass.model.meta.domain.api.service.Verb;
 import cool.klass.model.meta.domain.api.service.url.Url;
@@ -151,6 +155,8 @@ public class ServiceResourceGenerator {
 			(service) -> service.getServiceMultiplicity() == ServiceMultiplicity.MANY
 		);
 
+		boolean hasPaginatedServices = allServices.anySatisfy((service) -> service.getPagination().isPresent());
+
 		boolean hasServiceNeedingAuth = allServices.anySatisfy(
 			(service) -> service.isAuthorizeClauseRequired() || klass.isAudited()
 		);
@@ -158,6 +164,25 @@ public class ServiceResourceGenerator {
 		String authImport = hasServiceNeedingAuth ? "import io.dropwizard.auth.Auth;\n" : "";
 
 		String arrayNodeImport = hasPostWithMany ? "import com.fasterxml.jackson.databind.node.ArrayNode;\n" : "";
+		String inputStreamImport = hasPostWithMany ? "import java.io.InputStream;\n" : "";
+		String streamingImports = hasPostWithMany
+			? """
+			import com.fasterxml.jackson.core.JsonParser;
+			import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
+			"""
+			: "";
+		String validationPlansField = hasWriteServices
+			? "    @Nonnull\n    private final ValidationPlans validationPlans;\n"
+			: "";
+		String validationPlansInitialization = hasWriteServices
+			? "        this.validationPlans = new ValidationPlans(domainModel);\n"
+			: "";
+		String codecsField = hasPostWithMany
+			? "    @Nonnull\n    private final DataTypeJsonCodecs codecs;\n"
+			: "";
+		String codecsInitialization = hasPostWithMany
+			? "        this.codecs      = new DataTypeJsonCodecs(domainModel);\n"
+			: "";
 
 		String writeImports = hasWriteServices
 			? """
@@ -169,18 +194,31 @@ public class ServiceResourceGenerator {
 			"""
 			: "";
 
-		String projectionImports = hasPostWithProjection
+		String projectionImports = hasPostWithProjection || hasPaginatedServices
 			? """
 			import cool.klass.model.meta.domain.api.projection.Projection;
 			import cool.klass.serialization.jackson.response.KlassResponseBuilder;
 			"""
 			: "";
 
+		boolean hasConditionalServices = allServices.anySatisfy(this::isConditionalGet);
+		String conditionalImports = hasConditionalServices
+			? "import cool.klass.serialization.jackson.response.KlassEntityTag;\n"
+			: "";
+
+		String paginationImports = hasPaginatedServices
+			? """
+			import cool.klass.serialization.jackson.response.KlassResponse;
+			import cool.klass.serialization.jackson.response.KlassResponseCursor;
+			"""
+			: "";
+
 		// @formatter:off
 		// language=JAVA
 		return ""
 				+ "package " + packageName + ";\n"
 				+ "\n"
+				+ inputStreamImport
 				+ "import java.security.Principal;\n"
 				+ "import java.sql.Timestamp;\n"
 				+ "import java.time.Clock;\n"
@@ -209,7 +247,10 @@ public class ServiceResourceGenerator {
 				+ jsr310Import
 				+ writeImports
 				+ arrayNodeImport
+				+ streamingImports
 				+ projectionImports
+				+ paginationImports
+				+ conditionalImports
 				+ "\n"
 				+ "import org.eclipse.collections.api.factory.Maps;\n"
 				+ "import org.eclipse.collections.api.list.MutableList;\n"
@@ -231,6 +272,8 @@ public class ServiceResourceGenerator {
 				+ "    private final DataStore   dataStore;\n"
 				+ "    @Nonnull\n"
 				+ "    private final Clock       clock;\n"
+				+ validationPlansField
+				+ codecsField
 				+ "\n"
 				+ "    public " + serviceResourceName + "(\n"
 				+ "            @Nonnull DomainModel domainModel,\n"
@@ -240,6 +283,8 @@ public class ServiceResourceGenerator {
 				+ "        this.domainModel = Objects.requireNonNull(domainModel);\n"
 				+ "        this.dataStore   = Objects.requireNonNull(dataStore);\n"
 				+ "        this.clock       = Objects.requireNonNull(clock);\n"
+				+ validationPlansInitialization
+				+ codecsInitialization
 				+ "    }\n"
 				+ "\n"
 				+ ""
@@ -271,6 +316,10 @@ public class ServiceResourceGenerator {
 			return this.getGetSourceCode(service, index);
 		}
 
+		if (service.getVerb() == Verb.POST && service.getServiceMultiplicity() == ServiceMultiplicity.MANY) {
+			return this.getPostSourceCode(service, index) + "\n" + this.getStreamingPostSourceCode(service, index);
+		}
+
 		if (service.getVerb() == Verb.POST) {
 			return this.getPostSourceCode(service, index);
 		}
@@ -305,10 +354,12 @@ public class ServiceResourceGenerator {
 
 		Klass klass = serviceGroup.getKlass();
 		String klassName = this.getKlassName(klass);
-		String returnType = service.getServiceMultiplicity() == ServiceMultiplicity.ONE
-			? klassName
-			: "List<" + klassName + ">";
-		String returnStatement = this.getReturnStatement(service.getServiceMultiplicity());
+		Optional<ServicePagination> pagination = service.getPagination();
+		String returnType = pagination.isPresent()
+			? "KlassResponse"
+			: service.getServiceMultiplicity() == ServiceMultiplicity.ONE
+				? klassName
+				: "List<" + klassName + ">";
 
 		String queryParametersString = queryParameters.isEmpty()
 			? ""
@@ -316,7 +367,9 @@ public class ServiceResourceGenerator {
 
 		boolean hasAuthorizeCriteria = service.isAuthorizeClauseRequired();
 
-		int numParameters = service.getNumParameters();
+		boolean isConditional = this.isConditionalGet(service);
+
+		int numParameters = service.getNumParameters() + (pagination.isPresent() ? 2 : 0) + (isConditional ? 1 : 0);
 		boolean lineWrapParameters = numParameters > 1;
 
 		String parameterPrefix = lineWrapParameters ? "\n" : "";
@@ -325,9 +378,17 @@ public class ServiceResourceGenerator {
 		ImmutableList<String> parameterStrings1 = pathParameters
 			.newWithAll(queryParameters)
 			.collectWith(this::getParameterSourceCode, parameterIndent);
-		ImmutableList<String> parameterStrings = hasAuthorizeCriteria
-			? parameterStrings1.newWith(parameterIndent + "@Nonnull @Auth Principal principal")
+		ImmutableList<String> parameterStrings2 = pagination.isPresent()
+			? parameterStrings1
+				.newWith(parameterIndent + "@Nullable @QueryParam(\"pageSize\") Integer pageSize")
+				.newWith(parameterIndent + "@Nullable @QueryParam(\"cursor\") String cursor")
 			: parameterStrings1;
+		ImmutableList<String> parameterStrings3 = hasAuthorizeCriteria
+			? parameterStrings2.newWith(parameterIndent + "@Nonnull @Auth Principal principal")
+			: parameterStrings2;
+		ImmutableList<String> parameterStrings = isConditional
+			? parameterStrings3.newWith(parameterIndent + "@Context javax.ws.rs.core.Request request")
+			: parameterStrings3;
 
 		String userPrincipalNameLocalVariable = hasAuthorizeCriteria
 			? "        String    userPrincipalName  = principal.getName();\n"
@@ -364,8 +425,6 @@ public class ServiceResourceGenerator {
 			"ClientErrorException(Status.CONFLICT)"
 		);
 
-		String executeOperationSourceCode = this.getExecuteOperationSourceCode(service.getQueryCriteria(), klassName);
-
 		// Compiler validates GET services have projections in AntlrService.reportInvalidProjection() (ERR_GET_PRJ)
 		ServiceProjectionDispatch serviceProjectionDispatch = service
 			.getProjectionDispatch()
@@ -375,11 +434,68 @@ public class ServiceResourceGenerator {
 		var reladomoProjectionConverter = new ReladomoProjectionConverter();
 		RootReladomoNode projectionReladomoNode = reladomoProjectionConverter.getRootReladomoNode(klass, projection);
 		ImmutableList<String> deepFetchStrings = projectionReladomoNode.getDeepFetchStrings();
+		// Conditional GETs deep fetch into a copy of the root list, after the validator is checked
+		String deepFetchListName = isConditional ? "projected" : "result";
 		String deepFetchSourceCode = deepFetchStrings
-			.collect((each) -> "        result.deepFetch(" + each + ");\n")
+			.collect((each) -> "        " + deepFetchListName + ".deepFetch(" + each + ");\n")
 			.makeString("");
 
-		String orderBySourceCode = service.getOrderBy().map(this::getOrderBysSourceCode).orElse("");
+		String executeOperationSourceCode = pagination
+			.map((each) -> this.getExecutePageOperationSourceCode(service, each, klass, klassName))
+			.orElseGet(() -> this.getExecuteOperationSourceCode(service.getQueryCriteria(), klassName));
+
+		String orderBySourceCode = pagination.isPresent()
+			? this.getKeysetOrderBySourceCode(service, klass)
+			: service.getOrderBy().map(this::getOrderBysSourceCode).orElse("");
+
+		String returnStatement = pagination
+			.map((each) -> this.getPageReturnStatement(service, klass, klassName, projection))
+			.orElseGet(() -> this.getReturnStatement(service.getServiceMultiplicity()));
+
+		// Paginated services return a KlassResponse, and keep the JsonView so that its data serializes through the
+		// JsonView serializers when the KlassResponse serializer is not registered
+		String jsonViewAnnotation = "    @JsonView(" + projection.getName() + "_JsonView.class)\n";
+
+		if (isConditional) {
+			String predicatesSourceCode =
+				authorizePredicateSourceCode + validatePredicateSourceCode + conflictPredicateSourceCode;
+
+			// @formatter:off
+			// language=JAVA
+			return ""
+					+ "    @Timed\n"
+					+ "    @ExceptionMetered\n"
+					+ "    @" + service.getVerb().name() + "\n"
+					+ "    @Path(\"" + url.getUrlString() + "\")" + queryParametersString + "\n"
+					+ "    @Produces(MediaType.APPLICATION_JSON)\n"
+					+ jsonViewAnnotation
+					+ "    public Response method" + index + "(" + parameterPrefix + parametersSourceCode + ")\n"
+					+ "    {\n"
+					+ "        // " + klassName + "\n"
+					+ "\n"
+					+ userPrincipalNameLocalVariable
+					+ queryOperationSourceCode
+					+ authorizeOperationSourceCode
+					+ validateOperationSourceCode
+					+ conflictOperationSourceCode
+					+ "\n"
+					+ executeOperationSourceCode
+					+ orderBySourceCode
+					+ this.getVersionDeepFetchSourceCode(klass, klassName)
+					+ "\n"
+					+ predicatesSourceCode
+					+ (predicatesSourceCode.isEmpty() ? "" : "\n")
+					+ this.getNotModifiedSourceCode(service.getServiceMultiplicity(), klass, klassName, projection)
+					+ "\n"
+					+ "        " + klassName + "List projected = new " + klassName + "List();\n"
+					+ "        projected.addAll(result);\n"
+					+ "        // Deep fetch using projection " + projection.getName() + "\n"
+					+ deepFetchSourceCode
+					+ "\n"
+					+ this.getConditionalReturnStatement(service.getServiceMultiplicity())
+					+ "    }\n";
+			// @formatter:on
+		}
 
 		// @formatter:off
 		// language=JAVA
@@ -389,7 +505,7 @@ public class ServiceResourceGenerator {
 				+ "    @" + service.getVerb().name() + "\n"
 				+ "    @Path(\"" + url.getUrlString() + "\")" + queryParametersString + "\n"
 				+ "    @Produces(MediaType.APPLICATION_JSON)\n"
-				+ "    @JsonView(" + projection.getName() + "_JsonView.class)\n"
+				+ jsonViewAnnotation
 				+ "    public " + returnType + " method" + index + "(" + parameterPrefix + parametersSourceCode + ")\n"
 				+ "    {\n"
 				+ "        // " + klassName + "\n"
@@ -556,6 +672,116 @@ public class ServiceResourceGenerator {
 		// @formatter:on
 	}
 
+	/**
+	 * Bulk creation for clients that send StreamingPersistentCreator.MEDIA_TYPE. Reads the array element by element and
+	 * commits it in chunks, instead of binding it to an ArrayNode like {@link #getPostSourceCode}.
+	 */
+	private String getStreamingPostSourceCode(Service service, int index) {
+		Url url = service.getUrl();
+		ServiceGroup serviceGroup = url.getServiceGroup();
+
+		ImmutableList<ObjectBooleanPair<Parameter>> pathParameters = url
+			.getPathParameters()
+			.collectWith(PrimitiveTuples::pair, true);
+		ImmutableList<ObjectBooleanPair<Parameter>> queryParameters = url
+			.getQueryParameters()
+			.collectWith(PrimitiveTuples::pair, false);
+
+		String queryParametersString = queryParameters.isEmpty()
+			? " // ?chunkSize"
+			: queryParameters.collect(ObjectBooleanPair::getOne).makeString(" // ?", "&", "&chunkSize");
+
+		Klass klass = serviceGroup.getKlass();
+		boolean needsSecurityContext = service.isAuthorizeClauseRequired() || klass.isAudited();
+
+		String parameterIndent = "            ";
+		MutableList<String> parameterStrings = pathParameters
+			.newWithAll(queryParameters)
+			.collectWith(this::getParameterSourceCode, parameterIndent)
+			.toList();
+		parameterStrings.add(parameterIndent + "@Nonnull InputStream incomingInstances");
+		parameterStrings.add(
+			parameterIndent
+			+ "@QueryParam(\"chunkSize\") @DefaultValue(StreamingPersistentCreator.DEFAULT_CHUNK_SIZE)"
+			+ " int chunkSize"
+		);
+		if (needsSecurityContext) {
+			parameterStrings.add(parameterIndent + "@Nonnull @Auth Principal principal");
+		}
+		String parametersSourceCode = parameterStrings.makeString(",\n");
+
+		String userPrincipalNameLocalVariable = needsSecurityContext
+			? "        String    userPrincipalName  = principal.getName();\n"
+			: "";
+		String userId = needsSecurityContext ? "Optional.of(userPrincipalName)" : "Optional.empty()";
+
+		String klassName = klass.getName();
+		String finderName = klassName + "Finder";
+
+		String operationsAndPredicates = getOperationsAndPredicates(
+			userPrincipalNameLocalVariable,
+			this.getOperation(finderName, service.getAuthorizeCriteria(), "authorize"),
+			this.getOperation(finderName, service.getValidateCriteria(), "validate"),
+			this.getOperation(finderName, service.getConflictCriteria(), "conflict"),
+			this.checkPredicate(service.getAuthorizeCriteria(), "authorize", "isAuthorized", "ForbiddenException()"),
+			this.checkPredicate(service.getValidateCriteria(), "validate", "isValidated", "BadRequestException()"),
+			this.checkPredicate(
+				service.getConflictCriteria(),
+				"conflict",
+				"hasConflict",
+				"ClientErrorException(Status.CONFLICT)"
+			)
+		);
+
+		// @formatter:off
+		// language=JAVA
+		return ""
+				+ "    @Timed\n"
+				+ "    @ExceptionMetered\n"
+				+ "    @POST\n"
+				+ "    @Path(\"" + url.getUrlString() + "\")" + queryParametersString + "\n"
+				+ "    @Consumes(StreamingPersistentCreator.MEDIA_TYPE)\n"
+				+ "    @Produces(MediaType.APPLICATION_JSON)\n"
+				+ "    public Response method" + index + "Streaming(\n" + parametersSourceCode + ")\n"
+				+ "    {\n"
+				+ "        Klass klass = this.domainModel.getClassByName(\"" + klassName + "\");\n"
+				+ "\n"
+				+ "        if (chunkSize <= 0)\n"
+				+ "        {\n"
+				+ "            throw new BadRequestException(\"Expected a positive chunkSize but got \" + chunkSize);\n"
+				+ "        }\n"
+				+ "\n"
+				+ operationsAndPredicates
+				+ "\n"
+				+ "        // Rejects input that is not an array before the response is committed\n"
+				+ "        JsonParser jsonParser;\n"
+				+ "        try\n"
+				+ "        {\n"
+				+ "            jsonParser = StreamingPersistentCreator.openArray(incomingInstances);\n"
+				+ "        }\n"
+				+ "        catch (IllegalArgumentException e)\n"
+				+ "        {\n"
+				+ "            throw new BadRequestException(e.getMessage(), e);\n"
+				+ "        }\n"
+				+ "\n"
+				+ "        Instant transactionInstant = Instant.now(this.clock);\n"
+				+ "        var creator = new StreamingPersistentCreator(\n"
+				+ "                this.dataStore,\n"
+				+ "                this.validationPlans,\n"
+				+ "                this.codecs,\n"
+				+ "                this.domainModel.getUserClass().orElse(null),\n"
+				+ "                klass,\n"
+				+ "                " + userId + ",\n"
+				+ "                transactionInstant,\n"
+				+ "                chunkSize);\n"
+				+ "\n"
+				+ "        JsonParser finalJsonParser = jsonParser;\n"
+				+ "        StreamingOutput output = outputStream -> creator.createAll(finalJsonParser, outputStream);\n"
+				+ "        return Response.ok(output).build();\n"
+				+ "    }\n";
+		// @formatter:on
+	}
+
 	private static String getResponseCode(
 		Optional<ServiceProjectionDispatch> projectionDispatch,
 		ServiceGroup serviceGroup,
@@ -683,10 +909,11 @@ public class ServiceResourceGenerator {
 			return (
 				""
 				+ getErrorListInitialization()
-				+ "        ObjectNodeTypeCheckingValidator.validate(errors, "
+				+ "        ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, "
 				+ incomingInstanceParameterName
 				+ ", klass);\n"
 				+ "        RequiredPropertiesValidator.validate(\n"
+				+ "                this.validationPlans,\n"
 				+ "                errors,\n"
 				+ "                warnings,\n"
 				+ "                klass,\n"
@@ -731,10 +958,11 @@ public class ServiceResourceGenerator {
 			+ " = (ObjectNode) "
 			+ incomingInstanceParameterName
 			+ ".get(i);\n"
-			+ "            ObjectNodeTypeCheckingValidator.validate(errors, "
+			+ "            ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, "
 			+ singularName
 			+ ", klass);\n"
 			+ "            RequiredPropertiesValidator.validate(\n"
+			+ "                    this.validationPlans,\n"
 			+ "                    errors,\n"
 			+ "                    warnings,\n"
 			+ "                    klass,\n"
@@ -753,26 +981,8 @@ public class ServiceResourceGenerator {
 			+ "        ArrayNode finalIncomingInstances = "
 			+ incomingInstanceParameterName
 			+ ";\n"
-			+ "        MutableList<Object> persistentInstances = this.dataStore.runInTransaction(transaction -> {\n"
-			+ "            MutableList<Object> instances = Lists.mutable.empty();\n"
-			+ "            for (int i = 0; i < finalIncomingInstances.size(); i++)\n"
-			+ "            {\n"
-			+ "                ObjectNode "
-			+ singularName
-			+ " = (ObjectNode) finalIncomingInstances.get(i);\n"
-			+ "\n"
-			+ "                MapIterable<DataTypeProperty, Object> keys = creator.resolveKeysForCreate(klass, "
-			+ singularName
-			+ ");\n"
-			+ "                Object instance = this.dataStore.instantiate(klass, keys);\n"
-			+ "                creator.synchronize(klass, instance, "
-			+ singularName
-			+ ");\n"
-			+ "                this.dataStore.insert(instance);\n"
-			+ "                instances.add(instance);\n"
-			+ "            }\n"
-			+ "            return instances;\n"
-			+ "        });\n"
+			+ "        MutableList<Object> persistentInstances = this.dataStore.runInTransaction(transaction ->\n"
+			+ "                creator.createAll(klass, finalIncomingInstances));\n"
 		);
 	}
 
@@ -1057,8 +1267,9 @@ public class ServiceResourceGenerator {
 				+ "\n"
 				+ "        MutableList<String> errors = Lists.mutable.empty();\n"
 				+ "        MutableList<String> warnings = Lists.mutable.empty();\n"
-				+ "        " + incomingInstanceParameterType + "TypeCheckingValidator.validate(errors, " + incomingInstanceParameterName + ", klass);\n"
+				+ "        " + incomingInstanceParameterType + "TypeCheckingValidator.validate(this.validationPlans, errors, " + incomingInstanceParameterName + ", klass);\n"
 				+ "        RequiredPropertiesValidator.validate(\n"
+				+ "                this.validationPlans,\n"
 				+ "                errors,\n"
 				+ "                warnings,\n"
 				+ "                klass,\n"
@@ -1139,6 +1350,159 @@ public class ServiceResourceGenerator {
 		// @formatter:on
 	}
 
+	/**
+	 * Non-paginated reads of versioned or system-temporal classes honor {@code If-None-Match} and
+	 * {@code If-Modified-Since}. The validator is built from the root objects alone, so a request for an unchanged
+	 * representation is answered before the projection is deep fetched or serialized. That is only correct when the
+	 * validator covers everything in the projection, which {@link #isCoveredByValidator} checks.
+	 */
+	private boolean isConditionalGet(@Nonnull Service service) {
+		if (service.getVerb() != Verb.GET || service.getPagination().isPresent()) {
+			return false;
+		}
+		Klass klass = service.getUrl().getServiceGroup().getKlass();
+		boolean hasValidator = this.getVersionNumberSourceCode(klass, this.getKlassName(klass)).isPresent()
+			|| klass.getSystemFromProperty().isPresent();
+		return hasValidator
+			&& service
+				.getProjectionDispatch()
+				.map(ServiceProjectionDispatch::getProjection)
+				.map((projection) -> this.isCoveredByValidator(klass, projection))
+				.orElse(false);
+	}
+
+	/**
+	 * A change to a root object's own properties bumps its version number or its system from, and a change to its
+	 * version object comes with a new version number. Nothing tracks the other objects that a projection reaches, or
+	 * the rows of superclasses and subclasses, so projections that include them are not conditional.
+	 */
+	private boolean isCoveredByValidator(@Nonnull Klass klass, @Nonnull Projection projection) {
+		if (klass.getSuperClass().isPresent() || klass.getSubClasses().notEmpty()) {
+			return false;
+		}
+		Optional<AssociationEnd> versionProperty = klass.getVersionProperty();
+		return projection
+			.getChildren()
+			.allSatisfy((child) ->
+				child instanceof ProjectionDataTypeProperty
+				|| (child instanceof ProjectionWithReferenceProperty referenceChild
+					&& versionProperty.isPresent()
+					&& referenceChild.getProperty() == versionProperty.get()
+					&& referenceChild.getChildren().allSatisfy(ProjectionDataTypeProperty.class::isInstance))
+			);
+	}
+
+	@Nonnull
+	private Optional<String> getVersionNumberSourceCode(@Nonnull Klass klass, String klassName) {
+		return klass
+			.getVersionProperty()
+			.flatMap((versionProperty) ->
+				versionProperty
+					.getType()
+					.getVersionNumberProperty()
+					.map((versionNumberProperty) ->
+						klassName
+						+ "Finder."
+						+ versionProperty.getName()
+						+ "()."
+						+ versionNumberProperty.getName()
+						+ "()"
+					)
+			);
+	}
+
+	@Nonnull
+	private Optional<String> getLastModifiedSourceCode(@Nonnull Klass klass, String klassName) {
+		if (klass.getVersionProperty().isPresent()) {
+			AssociationEnd versionProperty = klass.getVersionProperty().get();
+			return versionProperty
+				.getType()
+				.getSystemFromProperty()
+				.map((systemFromProperty) ->
+					klassName + "Finder." + versionProperty.getName() + "()." + systemFromProperty.getName() + "()"
+				);
+		}
+		return klass
+			.getSystemFromProperty()
+			.map((systemFromProperty) -> this.getAttributeSourceCode(klass, systemFromProperty));
+	}
+
+	@Nonnull
+	private String getVersionDeepFetchSourceCode(@Nonnull Klass klass, String klassName) {
+		if (this.getVersionNumberSourceCode(klass, klassName).isEmpty()) {
+			return "";
+		}
+		String versionPropertyName = klass.getVersionProperty().get().getName();
+		return "        result.deepFetch(" + klassName + "Finder." + versionPropertyName + "());\n";
+	}
+
+	@Nonnull
+	private String getNotModifiedSourceCode(
+		@Nonnull ServiceMultiplicity serviceMultiplicity,
+		@Nonnull Klass klass,
+		String klassName,
+		@Nonnull Projection projection
+	) {
+		ImmutableList<String> keyValues = klass
+			.getKeyProperties()
+			.collect((keyProperty) -> this.getAttributeSourceCode(klass, keyProperty) + ".valueOf(each)");
+		Optional<String> versionNumberSourceCode = this.getVersionNumberSourceCode(klass, klassName);
+		Optional<String> lastModifiedSourceCode = this.getLastModifiedSourceCode(klass, klassName);
+		ImmutableList<String> validatorValues = versionNumberSourceCode
+			.or(() -> lastModifiedSourceCode)
+			.map((each) -> keyValues.newWith(each + ".valueOf(each)"))
+			.orElse(keyValues);
+
+		// A list's max systemFrom doesn't move when rows are deleted or stop matching, so lists rely on the ETag alone
+		String lastModifiedStatement = lastModifiedSourceCode
+			.filter((each) -> serviceMultiplicity == ServiceMultiplicity.ONE)
+			.map((each) -> "            validator.addLastModified(" + each + ".valueOf(each));\n")
+			.orElse("");
+
+		String emptyCheck = serviceMultiplicity == ServiceMultiplicity.ONE
+			? ""
+				+ "        if (result.isEmpty())\n"
+				+ "        {\n"
+				+ "            throw new ClientErrorException(\"Url valid, data not found.\", Status.GONE);\n"
+				+ "        }\n"
+				+ "\n"
+			: "";
+
+		// @formatter:off
+		return ""
+				+ emptyCheck
+				+ "        KlassEntityTag validator = new KlassEntityTag(\"" + projection.getName() + "\");\n"
+				+ "        for (" + klassName + " each : result)\n"
+				+ "        {\n"
+				+ "            validator.add(" + validatorValues.makeString(", ") + ");\n"
+				+ lastModifiedStatement
+				+ "        }\n"
+				+ "        // Weak, since the validator covers the projected values, not the bytes\n"
+				+ "        EntityTag      entityTag    = new EntityTag(validator.getValue(), true);\n"
+				+ "        java.util.Date lastModified = validator.getLastModified();\n"
+				+ "        Response.ResponseBuilder notModified = lastModified == null\n"
+				+ "                ? request.evaluatePreconditions(entityTag)\n"
+				+ "                : request.evaluatePreconditions(lastModified, entityTag);\n"
+				+ "        if (notModified != null)\n"
+				+ "        {\n"
+				+ "            return notModified.tag(entityTag).build();\n"
+				+ "        }\n";
+		// @formatter:on
+	}
+
+	@Nonnull
+	private String getConditionalReturnStatement(ServiceMultiplicity serviceMultiplicity) {
+		String entity = serviceMultiplicity == ServiceMultiplicity.MANY ? "projected" : "Iterate.getOnly(projected)";
+
+		// @formatter:off
+		return ""
+				+ "        return Response.ok(" + entity + ")\n"
+				+ "                .tag(entityTag)\n"
+				+ "                .lastModified(lastModified)\n"
+				+ "                .build();\n";
+		// @formatter:on
+	}
+
 	@Nonnull
 	private String getReturnStatement(ServiceMultiplicity serviceMultiplicity) {
 		if (serviceMultiplicity == ServiceMultiplicity.MANY) {
@@ -1157,6 +1521,163 @@ public class ServiceResourceGenerator {
 		// @formatter:on
 	}
 
+	@Nonnull
+	private String getExecutePageOperationSourceCode(
+		@Nonnull Service service,
+		@Nonnull ServicePagination pagination,
+		@Nonnull Klass klass,
+		String klassName
+	) {
+		ImmutableList<KeysetColumn> keyset = this.getKeyset(service, klass);
+		String baseOperation = service.getQueryCriteria().isPresent() ? "queryOperation" : klassName + "Finder.all()";
+
+		// @formatter:off
+		return ""
+				+ "        int effectivePageSize = pageSize == null ? " + pagination.getPageSize() + " : pageSize;\n"
+				+ "        if (effectivePageSize < 1 || effectivePageSize > " + pagination.getMaxPageSize() + ")\n"
+				+ "        {\n"
+				+ "            throw new BadRequestException(\"Expected pageSize between 1 and " + pagination.getMaxPageSize() + " but got \" + effectivePageSize);\n"
+				+ "        }\n"
+				+ "\n"
+				+ "        Operation pageOperation = " + baseOperation + ";\n"
+				+ "        if (cursor != null)\n"
+				+ "        {\n"
+				+ "            try\n"
+				+ "            {\n"
+				+ "                KlassResponseCursor decodedCursor = KlassResponseCursor.decode(cursor, " + keyset.size() + ");\n"
+				+ "                pageOperation = pageOperation.and(" + this.getSeekOperationSourceCode(keyset, 0) + ");\n"
+				+ "            }\n"
+				+ "            catch (IllegalArgumentException e)\n"
+				+ "            {\n"
+				+ "                throw new BadRequestException(\"Invalid cursor: \" + cursor, e);\n"
+				+ "            }\n"
+				+ "        }\n"
+				+ "\n"
+				+ "        " + klassName + "List result = " + klassName + "Finder.findMany(pageOperation);\n";
+		// @formatter:on
+	}
+
+	// Rows strictly after the cursor in keyset order: (a > ?) or (a = ? and ((b > ?) or (b = ? and ...)))
+	@Nonnull
+	private String getSeekOperationSourceCode(@Nonnull ImmutableList<KeysetColumn> keyset, int index) {
+		KeysetColumn column = keyset.get(index);
+		String value = "decodedCursor." + getCursorGetterName(column.property().getType()) + "(" + index + ")";
+		String comparison = column.orderByDirection() == OrderByDirection.ASCENDING ? "greaterThan" : "lessThan";
+		String seek = column.attributeSourceCode() + "." + comparison + "(" + value + ")";
+		if (index == keyset.size() - 1) {
+			return seek;
+		}
+
+		String equality = column.attributeSourceCode() + ".eq(" + value + ")";
+		return seek + ".or(" + equality + ".and(" + this.getSeekOperationSourceCode(keyset, index + 1) + "))";
+	}
+
+	@Nonnull
+	private String getKeysetOrderBySourceCode(@Nonnull Service service, @Nonnull Klass klass) {
+		String orderBySourceCode = this.getKeyset(service, klass)
+			.collect((column) ->
+				column.attributeSourceCode()
+				+ (column.orderByDirection() == OrderByDirection.ASCENDING
+					? ".ascendingOrderBy()"
+					: ".descendingOrderBy()")
+			)
+			.reduce((left, right) -> left + ".and(" + right + ")")
+			.get();
+
+		// @formatter:off
+		return ""
+				+ "\n"
+				+ "        result.setOrderBy(" + orderBySourceCode + ");\n"
+				+ "        // One extra row tells whether there is a next page\n"
+				+ "        result.setMaxObjectsToRetrieve(effectivePageSize + 1);\n";
+		// @formatter:on
+	}
+
+	@Nonnull
+	private String getPageReturnStatement(
+		@Nonnull Service service,
+		@Nonnull Klass klass,
+		String klassName,
+		@Nonnull Projection projection
+	) {
+		String cursorValuesSourceCode = this.getKeyset(service, klass)
+			.collect((column) -> "                        " + column.attributeSourceCode() + ".valueOf(lastInstance)")
+			.makeString(",\n");
+
+		// @formatter:off
+		return ""
+				+ "        boolean hasNextPage = result.size() > effectivePageSize;\n"
+				+ "        List<" + klassName + "> page = hasNextPage ? result.subList(0, effectivePageSize) : result;\n"
+				+ "        Optional<String> nextCursor = Optional.empty();\n"
+				+ "        if (hasNextPage)\n"
+				+ "        {\n"
+				+ "            " + klassName + " lastInstance = page.get(effectivePageSize - 1);\n"
+				+ "            nextCursor = Optional.of(KlassResponseCursor.encode(\n"
+				+ cursorValuesSourceCode + "));\n"
+				+ "        }\n"
+				+ "\n"
+				+ "        Projection projection = this.domainModel.getProjectionByName(\"" + projection.getName() + "\");\n"
+				+ "\n"
+				+ "        return new KlassResponseBuilder(\n"
+				+ "                page,\n"
+				+ "                projection,\n"
+				+ "                Multiplicity.ONE_TO_MANY,\n"
+				+ "                Instant.now(this.clock))\n"
+				+ "                .setPagination(effectivePageSize, nextCursor)\n"
+				+ "                .build();\n";
+		// @formatter:on
+	}
+
+	/**
+	 * The declared order by, followed by any key properties it leaves out, so that every row has a unique position.
+	 */
+	@Nonnull
+	private ImmutableList<KeysetColumn> getKeyset(@Nonnull Service service, @Nonnull Klass klass) {
+		MutableList<KeysetColumn> result = Lists.mutable.empty();
+		service.getOrderBy().ifPresent((orderBy) -> {
+			for (OrderByMemberReferencePath orderByMemberReferencePath : orderBy.getOrderByMemberReferencePaths()) {
+				ThisMemberReferencePath thisMemberReferencePath = orderByMemberReferencePath.getThisMemberReferencePath();
+				result.add(new KeysetColumn(
+					thisMemberReferencePath.getProperty(),
+					this.getThisMemberReferencePathSourceCode(thisMemberReferencePath),
+					orderByMemberReferencePath.getOrderByDirectionDeclaration().getOrderByDirection()
+				));
+			}
+		});
+
+		for (DataTypeProperty keyProperty : klass.getKeyProperties()) {
+			if (result.noneSatisfy((column) -> column.property() == keyProperty)) {
+				result.add(new KeysetColumn(
+					keyProperty,
+					this.getAttributeSourceCode(klass, keyProperty),
+					OrderByDirection.ASCENDING
+				));
+			}
+		}
+		return result.toImmutable();
+	}
+
+	@Nonnull
+	private static String getCursorGetterName(@Nonnull DataType dataType) {
+		if (dataType instanceof Enumeration) {
+			return "getString";
+		}
+		if (dataType instanceof PrimitiveType primitiveType) {
+			return switch (primitiveType) {
+				case STRING -> "getString";
+				case INTEGER -> "getInteger";
+				case LONG -> "getLong";
+				case DOUBLE -> "getDouble";
+				case FLOAT -> "getFloat";
+				case INSTANT, TEMPORAL_INSTANT, TEMPORAL_RANGE -> "getTimestamp";
+				case LOCAL_DATE -> "getDate";
+				// Compiler rejects boolean order bys on paginated services in AntlrServicePagination (ERR_PAG_ORD)
+				case BOOLEAN -> throw new AssertionError(primitiveType);
+			};
+		}
+		throw new AssertionError(dataType);
+	}
+
 	private String getParameterSourceCode(@Nonnull ObjectBooleanPair<Parameter> pair, String indent) {
 		Parameter parameter = pair.getOne();
 		boolean isPathParameter = pair.getTwo();
@@ -1303,8 +1824,10 @@ public class ServiceResourceGenerator {
 			throw new AssertionError();
 		}
 
-		Klass klass = thisMemberReferencePath.getKlass();
-		DataTypeProperty property = thisMemberReferencePath.getProperty();
+		return this.getAttributeSourceCode(thisMemberReferencePath.getKlass(), thisMemberReferencePath.getProperty());
+	}
+
+	private String getAttributeSourceCode(@Nonnull Klass klass, @Nonnull DataTypeProperty property) {
 		ImmutableList<Klass> superClassPath = this.getSuperClassPath(klass, property.getOwningClassifier());
 		String superClassPathSourceCode = superClassPath
 			.collect((each) -> "." + UPPER_TO_LOWER_CAMEL.convert(each.getName()) + "SuperClass()")
@@ -1346,4 +1869,10 @@ public class ServiceResourceGenerator {
 		}
 		throw new AssertionError();
 	}
+
+	private record KeysetColumn(
+		@Nonnull DataTypeProperty property,
+		@Nonnull String attributeSourceCode,
+		@Nonnull OrderByDirection orderByDirection
+	) {}
 }
@@ -142,6 +142,24 @@ public class ServiceGroupToSwaggerSpecVisitor implements TopLevelElementVisitor
 			operation.addParameter(this.toSerializableParameter(new QueryParameter(), parameter));
 		}
 
+		service.getPagination().ifPresent((pagination) -> {
+			var pageSizeParameter = new QueryParameter();
+			pageSizeParameter.setName("pageSize");
+			pageSizeParameter.setRequired(false);
+			pageSizeParameter.setType("integer");
+			pageSizeParameter.setFormat("int32");
+			pageSizeParameter.setDefault(pagination.getPageSize());
+			pageSizeParameter.setDescription("At most " + pagination.getMaxPageSize());
+			operation.addParameter(pageSizeParameter);
+
+			var cursorParameter = new QueryParameter();
+			cursorParameter.setName("cursor");
+			cursorParameter.setRequired(false);
+			cursorParameter.setType("string");
+			cursorParameter.setDescription("The nextCursor from the previous page's metadata");
+			operation.addParameter(cursorParameter);
+		});
+
 		if (service.getVerb() == Verb.POST || service.getVerb() == Verb.PUT || service.getVerb() == Verb.PATCH) {
 			var bodyParam = new BodyParameter();
 			bodyParam.setName("body");
@@ -19,66 +19,74 @@ package cool.klass.graphql.reladomo.finder.fetcher;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 import com.codahale.metrics.annotation.ExceptionMetered;
 import com.codahale.metrics.annotation.Metered;
 import com.codahale.metrics.annotation.Timed;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
 import com.gs.fw.common.mithra.finder.Operation;
-import com.gs.fw.common.mithra.finder.orderby.OrderBy;
-import com.gs.fw.finder.DomainList;
 import cool.klass.data.store.reladomo.ReladomoDataStore;
+import cool.klass.graphql.reladomo.keyset.KeysetConnection;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeyset;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeysetPage;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
-import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetcherListener;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
 import io.liftwizard.graphql.exception.LiftwizardGraphQLException;
 import io.liftwizard.reladomo.graphql.operation.GraphQLQueryToOperationConverter;
 import io.liftwizard.reladomo.graphql.operation.LiftwizardGraphQLContextException;
-import io.liftwizard.reladomo.graphql.orderby.GraphQLQueryToOrderByConverter;
+import org.eclipse.collections.api.factory.Lists;
 
-public class ReladomoFinderDataFetcher<T> implements DataFetcher<List<T>> {
+public class ReladomoFinderDataFetcher<T> implements DataFetcher<KeysetConnection<T>> {
 
 	private final DomainModel domainModel;
 	private final ReladomoDataStore dataStore;
+	private final Klass klass;
 	private final AbstractRelatedFinder<T, ?, ?, ?, ?> finder;
+	private final ReladomoTreeGraphqlConverter treeGraphqlConverter;
+	private final ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache;
 
 	public ReladomoFinderDataFetcher(
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
+		String className,
 		AbstractRelatedFinder<T, ?, ?, ?, ?> finder
 	) {
 		this.domainModel = Objects.requireNonNull(domainModel);
 		this.dataStore = Objects.requireNonNull(dataStore);
+		this.klass = this.domainModel.getClassByName(className);
 		this.finder = Objects.requireNonNull(finder);
+		this.treeGraphqlConverter = new ReladomoTreeGraphqlConverter(this.domainModel);
+		this.deepFetchPlanCache = new ReladomoTreeNodeDeepFetchPlanCache(this.dataStore);
 	}
 
 	@Timed
 	@Metered
 	@ExceptionMetered
 	@Override
-	public List<T> get(DataFetchingEnvironment environment) {
+	public KeysetConnection<T> get(DataFetchingEnvironment environment) {
 		Map<String, Object> arguments = environment.getArguments();
 		Object inputOperation = arguments.get("operation");
 		Operation operation = this.getOperation((Map<?, ?>) inputOperation);
-		Object inputOrderBy = arguments.get("orderBy");
-		Optional<OrderBy> orderBys = this.getOrderBys((List<Map<String, ?>>) inputOrderBy);
-		var result = (DomainList<T>) this.finder.findMany(operation);
-		orderBys.ifPresent(result::setOrderBy);
+		ReladomoKeysetPage page = this.fetchPage(operation, arguments);
 
-		Klass klass = this.domainModel.getClassByName("Enumeration");
-		var treeGraphqlConverter = new ReladomoTreeGraphqlConverter(this.domainModel);
-
-		var deepFetcher = new ReladomoTreeNodeDeepFetcherListener(this.dataStore, (DomainList) result, klass);
-		RootReladomoTreeNode rootReladomoTreeNode = treeGraphqlConverter.convert(klass, environment.getSelectionSet());
-
-		deepFetcher.enterRoot(rootReladomoTreeNode);
+		List<SelectedField> nodesFields = environment.getSelectionSet().getFields("nodes");
+		if (!nodesFields.isEmpty()) {
+			RootReladomoTreeNode rootReladomoTreeNode = this.treeGraphqlConverter.convert(
+				this.klass,
+				environment,
+				"nodes"
+			);
+			this.deepFetchPlanCache.deepFetch(page.rows(), this.klass, rootReladomoTreeNode);
+			page.rows().forceResolve();
+		}
 
-		return result;
+		return page.toConnection((List<T>) page.rows());
 	}
 
 	public Operation getOperation(Map<?, ?> inputOperation) {
@@ -90,11 +98,11 @@ public class ReladomoFinderDataFetcher<T> implements DataFetcher<List<T>> {
 		}
 	}
 
-	public Optional<OrderBy> getOrderBys(List<Map<String, ?>> inputOrderBy) {
+	private ReladomoKeysetPage fetchPage(Operation operation, Map<String, Object> arguments) {
 		try {
-			return GraphQLQueryToOrderByConverter.convertOrderByList(this.finder, inputOrderBy);
-		} catch (LiftwizardGraphQLContextException e) {
-			throw new LiftwizardGraphQLException(e.getMessage(), e.getContext(), e);
+			return ReladomoKeyset.fetchPage(this.finder, operation, arguments);
+		} catch (IllegalArgumentException e) {
+			throw new LiftwizardGraphQLException(e.getMessage(), Lists.immutable.empty(), e);
 		}
 	}
 }
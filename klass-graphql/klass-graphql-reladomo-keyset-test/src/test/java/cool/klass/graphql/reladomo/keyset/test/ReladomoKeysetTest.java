@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.graphql.reladomo.keyset.test;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.graphql.reladomo.keyset.ReladomoKeyset;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeysetPage;
+import cool.klass.xample.coverage.PropertiesOptionalFinder;
+import cool.klass.xample.coverage.PropertiesRequired;
+import cool.klass.xample.coverage.PropertiesRequiredFinder;
+import io.liftwizard.junit.extension.liquibase.migrations.LiquibaseTestExtension;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.reladomo.csv.test.extension.CsvTestDataExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoExtensionBuilder;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReladomoKeysetTest {
+
+	@RegisterExtension
+	public final LogMarkerTestExtension logMarkerTestExtension = new LogMarkerTestExtension();
+
+	@RegisterExtension
+	public final LiquibaseTestExtension liquibaseTestExtension = new LiquibaseTestExtension(
+		"cool/klass/graphql/reladomo/keyset/test/migrations.xml"
+	);
+
+	@RegisterExtension
+	public final ReladomoExtensionBuilder reladomoTestExtension =
+		new ReladomoExtensionBuilder().setRuntimeConfigurationPath(
+			"reladomo-runtime-configuration/ReladomoRuntimeConfiguration.xml"
+		);
+
+	// (id, requiredString, requiredInteger): (1, b, 1), (2, a, 2), (3, b, 3), (4, a, 1), (5, c, 2)
+	@RegisterExtension
+	public final CsvTestDataExtension csvTestDataExtension = new CsvTestDataExtension(
+		"test-data/cool.klass.xample.coverage.User.csv",
+		"test-data/cool.klass.xample.coverage.PropertiesRequired.csv"
+	);
+
+	@Test
+	void defaultsToPrimaryKeyOrderAndDefaultPageSize() {
+		ReladomoKeysetPage page = fetchPage(Map.of());
+
+		assertThat(getIds(page)).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(page.hasNextPage()).isFalse();
+		assertThat(page.endCursor()).isNotNull();
+	}
+
+	@Test
+	void mixedDirectionsRoundTripThroughCursors() {
+		List<Map<String, ?>> orderBy = List.of(
+			orderBy("requiredString", "DESCENDING"),
+			orderBy("requiredInteger", "ASCENDING")
+		);
+
+		ReladomoKeysetPage firstPage = fetchPage(Map.of("orderBy", orderBy, "first", 2));
+		assertThat(getIds(firstPage)).containsExactly(5L, 1L);
+		assertThat(firstPage.hasNextPage()).isTrue();
+
+		ReladomoKeysetPage secondPage = fetchPage(
+			Map.of("orderBy", orderBy, "first", 2, "after", firstPage.endCursor())
+		);
+		assertThat(getIds(secondPage)).containsExactly(3L, 4L);
+		assertThat(secondPage.hasNextPage()).isTrue();
+
+		ReladomoKeysetPage lastPage = fetchPage(
+			Map.of("orderBy", orderBy, "first", 2, "after", secondPage.endCursor())
+		);
+		assertThat(getIds(lastPage)).containsExactly(2L);
+		assertThat(lastPage.hasNextPage()).isFalse();
+	}
+
+	@Test
+	void primaryKeyBreaksTies() {
+		List<Map<String, ?>> orderBy = List.of(orderBy("requiredString", "ASCENDING"));
+
+		MutableList<Long> ids = Lists.mutable.empty();
+		String after = null;
+		boolean hasNextPage = true;
+		while (hasNextPage) {
+			ReladomoKeysetPage page = fetchPage(orderBy, 1, after);
+			ids.addAll(getIds(page));
+			after = page.endCursor();
+			hasNextPage = page.hasNextPage();
+		}
+
+		assertThat(ids).containsExactly(2L, 4L, 1L, 3L, 5L);
+	}
+
+	@Test
+	void rejectsOptionalAttribute() {
+		List<Map<String, ?>> orderBy = List.of(orderBy("optionalString", "ASCENDING"));
+
+		assertThatThrownBy(() -> ReladomoKeyset.fromOrderBy(PropertiesOptionalFinder.getFinderInstance(), orderBy))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("optionalString");
+	}
+
+	@Test
+	void rejectsBooleanAttribute() {
+		List<Map<String, ?>> orderBy = List.of(orderBy("requiredBoolean", "ASCENDING"));
+
+		assertThatThrownBy(() -> fetchPage(Map.of("orderBy", orderBy)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("requiredBoolean");
+	}
+
+	@Test
+	void rejectsPageSizeOutOfRange() {
+		assertThatThrownBy(() -> fetchPage(Map.of("first", 0))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> fetchPage(Map.of("first", ReladomoKeyset.MAXIMUM_PAGE_SIZE + 1)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThatThrownBy(() -> fetchPage(Map.of("after", "not a cursor")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void pageSizeDefaultsWhenFirstIsAbsent() {
+		assertThat(ReladomoKeyset.getPageSize(Map.of())).isEqualTo(ReladomoKeyset.DEFAULT_PAGE_SIZE);
+		assertThat(ReladomoKeyset.getPageSize(Map.of("first", 3))).isEqualTo(3);
+	}
+
+	@Nonnull
+	private static ReladomoKeysetPage fetchPage(@Nonnull Map<String, ?> arguments) {
+		return ReladomoKeyset.fetchPage(
+			PropertiesRequiredFinder.getFinderInstance(),
+			PropertiesRequiredFinder.all(),
+			arguments
+		);
+	}
+
+	@Nonnull
+	private static ReladomoKeysetPage fetchPage(
+		@Nonnull List<Map<String, ?>> orderBy,
+		int first,
+		@Nullable String after
+	) {
+		return ReladomoKeyset.fromOrderBy(PropertiesRequiredFinder.getFinderInstance(), orderBy).fetchPage(
+			PropertiesRequiredFinder.all(),
+			first,
+			after
+		);
+	}
+
+	@Nonnull
+	private static Map<String, ?> orderBy(@Nonnull String attributeName, @Nonnull String direction) {
+		return Map.of("attribute", Map.of(attributeName, Map.of()), "direction", direction);
+	}
+
+	@Nonnull
+	private static MutableList<Long> getIds(@Nonnull ReladomoKeysetPage page) {
+		return Lists.mutable
+			.withAll(page.rows())
+			.collect((each) -> ((PropertiesRequired) each).getPropertiesRequiredId());
+	}
+}
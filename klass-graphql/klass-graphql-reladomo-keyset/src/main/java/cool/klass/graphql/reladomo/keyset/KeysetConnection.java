@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.graphql.reladomo.keyset;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The value of a generated {@code _<Class>Connection} GraphQL type. The fields are read through JavaBean getters by the
+ * default property data fetcher.
+ */
+public final class KeysetConnection<T> {
+
+	@Nonnull
+	private final List<T> nodes;
+
+	@Nullable
+	private final String endCursor;
+
+	private final boolean hasNextPage;
+
+	public KeysetConnection(@Nonnull List<T> nodes, @Nullable String endCursor, boolean hasNextPage) {
+		this.nodes = Objects.requireNonNull(nodes);
+		this.endCursor = endCursor;
+		this.hasNextPage = hasNextPage;
+	}
+
+	@Nonnull
+	public List<T> getNodes() {
+		return this.nodes;
+	}
+
+	@Nullable
+	public String getEndCursor() {
+		return this.endCursor;
+	}
+
+	public boolean isHasNextPage() {
+		return this.hasNextPage;
+	}
+}
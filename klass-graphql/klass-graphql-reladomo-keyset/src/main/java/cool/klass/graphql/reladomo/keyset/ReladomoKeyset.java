@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.graphql.reladomo.keyset;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.DateAttribute;
+import com.gs.fw.common.mithra.attribute.DoubleAttribute;
+import com.gs.fw.common.mithra.attribute.FloatAttribute;
+import com.gs.fw.common.mithra.attribute.IntegerAttribute;
+import com.gs.fw.common.mithra.attribute.LongAttribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.attribute.TimestampAttribute;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import cool.klass.serialization.jackson.response.KlassResponseCursor;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * Keyset pagination over one Reladomo finder. The keyset is the requested orderBy attributes followed by any primary
+ * key attributes they leave out, so every row has a unique position. A page is the rows strictly after the position
+ * in the cursor, and one extra row is read to tell whether another page follows.
+ *
+ * <p>Only required, non-boolean attributes of the queried class can be part of the keyset, the same restriction that
+ * the compiler applies to the pagination clause of services.
+ */
+public final class ReladomoKeyset {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+
+	public static final int MAXIMUM_PAGE_SIZE = 1_000;
+
+	@Nonnull
+	private final RelatedFinder<?> finder;
+
+	@Nonnull
+	private final ImmutableList<KeysetAttribute> keysetAttributes;
+
+	@Nonnull
+	private final OrderBy orderBy;
+
+	private ReladomoKeyset(@Nonnull RelatedFinder<?> finder, @Nonnull ImmutableList<KeysetAttribute> keysetAttributes) {
+		this.finder = Objects.requireNonNull(finder);
+		this.keysetAttributes = Objects.requireNonNull(keysetAttributes);
+		this.orderBy = keysetAttributes
+			.collect(KeysetAttribute::getOrderBy)
+			.reduce(OrderBy::and)
+			.orElseThrow(() -> new AssertionError("Expected at least one primary key attribute on " + finder));
+	}
+
+	/**
+	 * Reads the page selected by the {@code orderBy}, {@code first} and {@code after} arguments of a paginated query.
+	 *
+	 * @throws IllegalArgumentException if the arguments do not select a valid page.
+	 */
+	@Nonnull
+	public static ReladomoKeysetPage fetchPage(
+		@Nonnull RelatedFinder<?> finder,
+		@Nonnull Operation operation,
+		@Nonnull Map<String, ?> arguments
+	) {
+		var inputOrderBy = (List<Map<String, ?>>) arguments.get("orderBy");
+		var inputAfter = (String) arguments.get("after");
+		ReladomoKeyset keyset = fromOrderBy(finder, inputOrderBy);
+		return keyset.fetchPage(operation, getPageSize(arguments), inputAfter);
+	}
+
+	/**
+	 * The {@code first} argument of a paginated query, or {@link #DEFAULT_PAGE_SIZE} when it is absent.
+	 */
+	public static int getPageSize(@Nonnull Map<String, ?> arguments) {
+		var inputFirst = (Integer) arguments.get("first");
+		return inputFirst == null ? DEFAULT_PAGE_SIZE : inputFirst;
+	}
+
+	/**
+	 * @param inputOrderBy the GraphQL orderBy argument, a list of {@code {attribute: {name: {}}, direction}} inputs.
+	 * @throws IllegalArgumentException if an orderBy cannot be part of a keyset.
+	 */
+	@Nonnull
+	public static ReladomoKeyset fromOrderBy(
+		@Nonnull RelatedFinder<?> finder,
+		@Nullable List<Map<String, ?>> inputOrderBy
+	) {
+		MutableList<KeysetAttribute> keysetAttributes = Lists.mutable.empty();
+
+		if (inputOrderBy != null) {
+			for (Map<String, ?> eachOrderBy : inputOrderBy) {
+				var inputAttribute = (Map<String, ?>) eachOrderBy.get("attribute");
+				if (inputAttribute == null || inputAttribute.size() != 1) {
+					String detailMessage = "Expected orderBy with exactly one attribute but got: " + eachOrderBy;
+					throw new IllegalArgumentException(detailMessage);
+				}
+
+				String attributeName = inputAttribute.keySet().iterator().next();
+				Attribute<?, ?> attribute = finder.getAttributeByName(attributeName);
+				if (attribute == null) {
+					String detailMessage = String.format(
+						"Paginated queries can only be ordered by attributes of %s, but got '%s'.",
+						finder.getFinderClassName(),
+						attributeName
+					);
+					throw new IllegalArgumentException(detailMessage);
+				}
+
+				boolean ascending = !"DESCENDING".equals(String.valueOf(eachOrderBy.get("direction")));
+				keysetAttributes.add(new KeysetAttribute(validate(attribute), ascending));
+			}
+		}
+
+		for (Attribute<?, ?> keyAttribute : finder.getPrimaryKeyAttributes()) {
+			if (keysetAttributes.noneSatisfy((each) -> each.attribute().equals(keyAttribute))) {
+				keysetAttributes.add(new KeysetAttribute(validate(keyAttribute), true));
+			}
+		}
+
+		return new ReladomoKeyset(finder, keysetAttributes.toImmutable());
+	}
+
+	@Nonnull
+	private static Attribute<?, ?> validate(@Nonnull Attribute<?, ?> attribute) {
+		if (attribute.getMetaData().isNullable()) {
+			throw new IllegalArgumentException(
+				"Paginated queries cannot be ordered by optional attribute " + attribute.getAttributeName()
+			);
+		}
+		if (
+			!(attribute instanceof StringAttribute)
+			&& !(attribute instanceof IntegerAttribute)
+			&& !(attribute instanceof LongAttribute)
+			&& !(attribute instanceof DoubleAttribute)
+			&& !(attribute instanceof FloatAttribute)
+			&& !(attribute instanceof TimestampAttribute)
+			&& !(attribute instanceof DateAttribute)
+		) {
+			throw new IllegalArgumentException(
+				"Paginated queries cannot be ordered by attribute " + attribute.getAttributeName()
+			);
+		}
+		return attribute;
+	}
+
+	/**
+	 * Reads at most {@code first} rows of {@code operation} after {@code after}, in keyset order.
+	 *
+	 * @throws IllegalArgumentException if {@code first} is out of range or {@code after} is malformed.
+	 */
+	@Nonnull
+	public ReladomoKeysetPage fetchPage(@Nonnull Operation operation, int first, @Nullable String after) {
+		if (first < 1 || first > MAXIMUM_PAGE_SIZE) {
+			String detailMessage = String.format(
+				"Expected first between 1 and %d but got %d.",
+				MAXIMUM_PAGE_SIZE,
+				first
+			);
+			throw new IllegalArgumentException(detailMessage);
+		}
+
+		Operation pageOperation = after == null ? operation : operation.and(this.getSeekOperation(after));
+		MithraList<?> rows = this.finder.findMany(pageOperation);
+		rows.setOrderBy(this.orderBy);
+		rows.setMaxObjectsToRetrieve(first + 1);
+
+		boolean hasNextPage = rows.size() > first;
+
+		// An ad-hoc list of just this page, so that deep fetches do not include the extra row
+		var page = (MithraList<Object>) this.finder.constructEmptyList();
+		page.addAll(hasNextPage ? rows.subList(0, first) : rows);
+
+		String endCursor = page.isEmpty() ? null : this.getCursor(page.get(page.size() - 1));
+		return new ReladomoKeysetPage(page, endCursor, hasNextPage);
+	}
+
+	@Nonnull
+	private String getCursor(@Nonnull Object row) {
+		Object[] values = this.keysetAttributes
+			.collect((each) -> ((Attribute<Object, ?>) each.attribute()).valueOf(row))
+			.toArray();
+		return KlassResponseCursor.encode(values);
+	}
+
+	// a0 > v0 OR (a0 = v0 AND (a1 > v1 OR (a1 = v1 AND ...)))
+	@Nonnull
+	private Operation getSeekOperation(@Nonnull String after) {
+		KlassResponseCursor cursor = KlassResponseCursor.decode(after, this.keysetAttributes.size());
+
+		int lastIndex = this.keysetAttributes.size() - 1;
+		Operation result = this.keysetAttributes.get(lastIndex).getAfterOperation(cursor, lastIndex);
+		for (int index = lastIndex - 1; index >= 0; index--) {
+			KeysetAttribute keysetAttribute = this.keysetAttributes.get(index);
+			Operation afterOperation = keysetAttribute.getAfterOperation(cursor, index);
+			Operation equalOperation = keysetAttribute.getEqualOperation(cursor, index);
+			result = afterOperation.or(equalOperation.and(result));
+		}
+		return result;
+	}
+
+	private record KeysetAttribute(@Nonnull Attribute<?, ?> attribute, boolean ascending) {
+		@Nonnull
+		private OrderBy getOrderBy() {
+			return this.ascending ? this.attribute.ascendingOrderBy() : this.attribute.descendingOrderBy();
+		}
+
+		@Nonnull
+		private Operation getEqualOperation(@Nonnull KlassResponseCursor cursor, int index) {
+			if (this.attribute instanceof StringAttribute<?> stringAttribute) {
+				return stringAttribute.eq(cursor.getString(index));
+			}
+			if (this.attribute instanceof IntegerAttribute<?> integerAttribute) {
+				return integerAttribute.eq(cursor.getInteger(index));
+			}
+			if (this.attribute instanceof LongAttribute<?> longAttribute) {
+				return longAttribute.eq(cursor.getLong(index));
+			}
+			if (this.attribute instanceof DoubleAttribute<?> doubleAttribute) {
+				return doubleAttribute.eq(cursor.getDouble(index));
+			}
+			if (this.attribute instanceof FloatAttribute<?> floatAttribute) {
+				return floatAttribute.eq(cursor.getFloat(index));
+			}
+			if (this.attribute instanceof TimestampAttribute<?> timestampAttribute) {
+				return timestampAttribute.eq(cursor.getTimestamp(index));
+			}
+			if (this.attribute instanceof DateAttribute<?> dateAttribute) {
+				return dateAttribute.eq(cursor.getDate(index));
+			}
+			throw new AssertionError(this.attribute);
+		}
+
+		@Nonnull
+		private Operation getAfterOperation(@Nonnull KlassResponseCursor cursor, int index) {
+			if (this.attribute instanceof StringAttribute<?> stringAttribute) {
+				String value = cursor.getString(index);
+				return this.ascending ? stringAttribute.greaterThan(value) : stringAttribute.lessThan(value);
+			}
+			if (this.attribute instanceof IntegerAttribute<?> integerAttribute) {
+				int value = cursor.getInteger(index);
+				return this.ascending ? integerAttribute.greaterThan(value) : integerAttribute.lessThan(value);
+			}
+			if (this.attribute instanceof LongAttribute<?> longAttribute) {
+				long value = cursor.getLong(index);
+				return this.ascending ? longAttribute.greaterThan(value) : longAttribute.lessThan(value);
+			}
+			if (this.attribute instanceof DoubleAttribute<?> doubleAttribute) {
+				double value = cursor.getDouble(index);
+				return this.ascending ? doubleAttribute.greaterThan(value) : doubleAttribute.lessThan(value);
+			}
+			if (this.attribute instanceof FloatAttribute<?> floatAttribute) {
+				float value = cursor.getFloat(index);
+				return this.ascending ? floatAttribute.greaterThan(value) : floatAttribute.lessThan(value);
+			}
+			if (this.attribute instanceof TimestampAttribute<?> timestampAttribute) {
+				Timestamp value = cursor.getTimestamp(index);
+				return this.ascending ? timestampAttribute.greaterThan(value) : timestampAttribute.lessThan(value);
+			}
+			if (this.attribute instanceof DateAttribute<?> dateAttribute) {
+				Date value = cursor.getDate(index);
+				return this.ascending ? dateAttribute.greaterThan(value) : dateAttribute.lessThan(value);
+			}
+			throw new AssertionError(this.attribute);
+		}
+	}
+}
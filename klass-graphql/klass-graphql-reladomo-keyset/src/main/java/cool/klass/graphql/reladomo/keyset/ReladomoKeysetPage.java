@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.graphql.reladomo.keyset;
+
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.gs.fw.common.mithra.MithraList;
+
+/**
+ * One page of rows, as an ad-hoc list that callers deep fetch before reading related objects.
+ */
+public record ReladomoKeysetPage(@Nonnull MithraList<Object> rows, @Nullable String endCursor, boolean hasNextPage) {
+	@Nonnull
+	public <T> KeysetConnection<T> toConnection(@Nonnull List<T> nodes) {
+		return new KeysetConnection<>(nodes, this.endCursor, this.hasNextPage);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.graphql.reladomo.operation.fetcher;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import io.liftwizard.model.reladomo.operation.compiler.ReladomoOperationCompiler;
+
+/**
+ * A bounded cache of compiled Reladomo operations, keyed by finder and operation text. Reladomo operations are immutable,
+ * so one compiled operation is shared by every request that sends the same text. Operations that fail to compile are
+ * not cached.
+ */
+public class ReladomoOperationCache {
+
+	public static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+
+	@Nonnull
+	private final Cache<CacheKey, Operation> cache;
+
+	@Nonnull
+	private final Meter hits;
+
+	@Nonnull
+	private final Meter misses;
+
+	@Nonnull
+	private final Meter evictions;
+
+	public ReladomoOperationCache(@Nonnull MetricRegistry metricRegistry, long maximumSize) {
+		this.hits = metricRegistry.meter(MetricRegistry.name(ReladomoOperationCache.class, "hits"));
+		this.misses = metricRegistry.meter(MetricRegistry.name(ReladomoOperationCache.class, "misses"));
+		this.evictions = metricRegistry.meter(MetricRegistry.name(ReladomoOperationCache.class, "evictions"));
+
+		this.cache = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.<CacheKey, Operation>removalListener((notification) -> {
+				if (notification.getCause() == RemovalCause.SIZE) {
+					this.evictions.mark();
+				}
+			})
+			.build();
+
+		metricRegistry.gauge(
+			MetricRegistry.name(ReladomoOperationCache.class, "size"),
+			() -> (Gauge<Long>) this.cache::size
+		);
+	}
+
+	/**
+	 * @throws RuntimeException from {@link ReladomoOperationCompiler#compile} if the operation does not compile.
+	 */
+	@Nonnull
+	public Operation compile(@Nonnull RelatedFinder<?> relatedFinder, @Nonnull String inputOperation) {
+		var key = new CacheKey(relatedFinder.getFinderClassName(), normalize(inputOperation));
+
+		Operation cachedOperation = this.cache.getIfPresent(key);
+		if (cachedOperation != null) {
+			this.hits.mark();
+			return cachedOperation;
+		}
+
+		try {
+			return this.cache.get(key, () -> {
+				this.misses.mark();
+				var compiler = new ReladomoOperationCompiler();
+				return compiler.compile(relatedFinder, inputOperation);
+			});
+		} catch (UncheckedExecutionException e) {
+			throw (RuntimeException) e.getCause();
+		} catch (ExecutionException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	/**
+	 * Collapses whitespace outside of string literals, so that operations which differ only in formatting share an entry.
+	 */
+	@Nonnull
+	static String normalize(@Nonnull String inputOperation) {
+		var stringBuilder = new StringBuilder(inputOperation.length());
+		char quote = 0;
+		boolean pendingSpace = false;
+		for (int i = 0; i < inputOperation.length(); i++) {
+			char c = inputOperation.charAt(i);
+			if (quote != 0) {
+				stringBuilder.append(c);
+				if (c == '\\' && i + 1 < inputOperation.length()) {
+					stringBuilder.append(inputOperation.charAt(++i));
+				} else if (c == quote) {
+					quote = 0;
+				}
+			} else if (Character.isWhitespace(c)) {
+				pendingSpace = stringBuilder.length() > 0;
+			} else {
+				if (pendingSpace) {
+					stringBuilder.append(' ');
+					pendingSpace = false;
+				}
+				stringBuilder.append(c);
+				if (c == '"' || c == '\'') {
+					quote = c;
+				}
+			}
+		}
+		return stringBuilder.toString();
+	}
+
+	private record CacheKey(@Nonnull String finderClassName, @Nonnull String operation) {
+		private CacheKey {
+			Objects.requireNonNull(finderClassName);
+			Objects.requireNonNull(operation);
+		}
+	}
+}
@@ -25,22 +25,24 @@ import com.codahale.metrics.annotation.Metered;
 import com.codahale.metrics.annotation.Timed;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
-import com.gs.fw.finder.DomainList;
 import cool.klass.data.store.reladomo.ReladomoDataStore;
+import cool.klass.graphql.reladomo.keyset.KeysetConnection;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeyset;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeysetPage;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
-import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetcherListener;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
 import io.liftwizard.graphql.exception.LiftwizardGraphQLException;
-import io.liftwizard.model.reladomo.operation.compiler.ReladomoOperationCompiler;
 import org.eclipse.collections.api.factory.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ReladomoOperationDataFetcher<T> implements DataFetcher<List<T>> {
+public class ReladomoOperationDataFetcher<T> implements DataFetcher<KeysetConnection<T>> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReladomoOperationDataFetcher.class);
 
@@ -48,48 +50,64 @@ public class ReladomoOperationDataFetcher<T> implements DataFetcher<List<T>> {
 	private final ReladomoDataStore dataStore;
 	private final Klass klass;
 	private final RelatedFinder<?> finder;
+	private final ReladomoOperationCache operationCache;
+	private final ReladomoTreeGraphqlConverter treeGraphqlConverter;
+	private final ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache;
 
 	public ReladomoOperationDataFetcher(
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
 		String className,
-		RelatedFinder<?> relatedFinder
+		RelatedFinder<?> relatedFinder,
+		ReladomoOperationCache operationCache
 	) {
 		this.domainModel = Objects.requireNonNull(domainModel);
 		this.dataStore = Objects.requireNonNull(dataStore);
 		this.klass = this.domainModel.getClassByName(className);
 		this.finder = Objects.requireNonNull(relatedFinder);
+		this.operationCache = Objects.requireNonNull(operationCache);
+		this.treeGraphqlConverter = new ReladomoTreeGraphqlConverter(this.domainModel);
+		this.deepFetchPlanCache = new ReladomoTreeNodeDeepFetchPlanCache(this.dataStore);
 	}
 
 	@Timed
 	@Metered
 	@ExceptionMetered
 	@Override
-	public List<T> get(DataFetchingEnvironment environment) {
+	public KeysetConnection<T> get(DataFetchingEnvironment environment) {
 		Map<String, Object> arguments = environment.getArguments();
 		var inputOperation = (String) arguments.get("operation");
 		Operation operation = this.compileOperation(this.finder, inputOperation);
 
 		LOGGER.debug("Executing operation: {}", operation);
 
-		var result = (DomainList<T>) this.finder.findMany(operation);
-		var treeGraphqlConverter = new ReladomoTreeGraphqlConverter(this.domainModel);
+		ReladomoKeysetPage page = this.fetchPage(operation, arguments);
 
-		var deepFetcher = new ReladomoTreeNodeDeepFetcherListener(this.dataStore, (DomainList) result, this.klass);
-		RootReladomoTreeNode rootReladomoTreeNode = treeGraphqlConverter.convert(
-			this.klass,
-			environment.getSelectionSet()
-		);
+		List<SelectedField> nodesFields = environment.getSelectionSet().getFields("nodes");
+		if (!nodesFields.isEmpty()) {
+			RootReladomoTreeNode rootReladomoTreeNode = this.treeGraphqlConverter.convert(
+				this.klass,
+				environment,
+				"nodes"
+			);
+			this.deepFetchPlanCache.deepFetch(page.rows(), this.klass, rootReladomoTreeNode);
+			page.rows().forceResolve();
+		}
 
-		deepFetcher.enterRoot(rootReladomoTreeNode);
+		return page.toConnection((List<T>) page.rows());
+	}
 
-		return result;
+	private ReladomoKeysetPage fetchPage(Operation operation, Map<String, Object> arguments) {
+		try {
+			return ReladomoKeyset.fetchPage(this.finder, operation, arguments);
+		} catch (IllegalArgumentException e) {
+			throw new LiftwizardGraphQLException(e.getMessage(), Lists.immutable.empty(), e);
+		}
 	}
 
 	private Operation compileOperation(RelatedFinder<?> relatedFinder, String inputOperation) {
 		try {
-			var compiler = new ReladomoOperationCompiler();
-			return compiler.compile(relatedFinder, inputOperation);
+			return this.operationCache.compile(relatedFinder, inputOperation);
 		} catch (RuntimeException e) {
 			throw new LiftwizardGraphQLException(e.getMessage(), Lists.immutable.with(inputOperation), e);
 		}
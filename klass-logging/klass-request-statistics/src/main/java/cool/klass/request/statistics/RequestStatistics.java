@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.request.statistics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Counters and phase timings for one unit of work, usually one service request or one GraphQL field. Code that
+ * validates, deep fetches or serializes reports to the statistics that are current on its thread through the static
+ * methods, which do nothing when there are none.
+ *
+ * <p>{@link #start} makes new statistics current on the calling thread, replacing anything left there, and the owner
+ * calls {@link #clearCurrent} in a {@code finally} at the end of the unit of work. Statistics never link to earlier
+ * ones. The counters may be updated from
+ * other threads, for example when Jersey writes the response entity on another thread than the resource method ran on.
+ *
+ * <p>The approximate database retrieve count is the difference of {@code databaseRetrieveCounter} between
+ * {@link #start} and {@link #close}. Reladomo only keeps a process-wide count outside of transactions, so concurrent
+ * requests inflate each other's counts. It is only exact when requests do not overlap, so it is logged with each
+ * request but not aggregated into {@link RequestStatisticsHistograms}.
+ */
+public final class RequestStatistics implements AutoCloseable {
+
+	private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+	private static final RequestPhase[] PHASES = RequestPhase.values();
+
+	@Nonnull
+	private final LongSupplier databaseRetrieveCounter;
+
+	private final long initialDatabaseRetrieveCount;
+
+	private final long startNanos;
+
+	private final AtomicLongArray nanosByPhase = new AtomicLongArray(PHASES.length);
+
+	private final LongAdder rowsMaterialized = new LongAdder();
+
+	// Guarded by this, since close() may run on another thread than the one reading the results
+	private boolean closed;
+
+	private long approximateDatabaseRetrieveCount;
+
+	private long totalNanos;
+
+	private RequestStatistics(@Nonnull LongSupplier databaseRetrieveCounter) {
+		this.databaseRetrieveCounter = Objects.requireNonNull(databaseRetrieveCounter);
+		this.initialDatabaseRetrieveCount = databaseRetrieveCounter.getAsLong();
+		this.startNanos = System.nanoTime();
+	}
+
+	@Nonnull
+	public static RequestStatistics start(@Nonnull LongSupplier databaseRetrieveCounter) {
+		var result = new RequestStatistics(databaseRetrieveCounter);
+		CURRENT.set(result);
+		return result;
+	}
+
+	@Nullable
+	public static RequestStatistics current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Makes existing statistics current on this thread, for work that continues on another thread than {@link #start}.
+	 */
+	public static void setCurrent(@Nonnull RequestStatistics requestStatistics) {
+		CURRENT.set(Objects.requireNonNull(requestStatistics));
+	}
+
+	/**
+	 * Forgets the statistics that are current on this thread, so that pooled threads do not carry them into the next
+	 * unit of work.
+	 */
+	public static void clearCurrent() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Adds the time since {@code startNanos}, a value of {@link System#nanoTime()}, to {@code phase}.
+	 */
+	public static void recordPhase(@Nonnull RequestPhase phase, long startNanos) {
+		RequestStatistics current = CURRENT.get();
+		if (current != null) {
+			current.addNanos(phase, System.nanoTime() - startNanos);
+		}
+	}
+
+	public static void recordRowsMaterialized(int rowCount) {
+		RequestStatistics current = CURRENT.get();
+		if (current != null) {
+			current.rowsMaterialized.add(rowCount);
+		}
+	}
+
+	public void addNanos(@Nonnull RequestPhase phase, long nanos) {
+		this.nanosByPhase.addAndGet(phase.ordinal(), nanos);
+	}
+
+	/**
+	 * Stops the clock and the database retrieve count. Only the first call has any effect. This does not clear the
+	 * current statistics, since it may run on another thread than {@link #start}.
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		this.approximateDatabaseRetrieveCount =
+			this.databaseRetrieveCounter.getAsLong() - this.initialDatabaseRetrieveCount;
+		this.totalNanos = System.nanoTime() - this.startNanos;
+	}
+
+	/**
+	 * The number of database retrieves during the unit of work, including those of any concurrent work.
+	 */
+	public synchronized long getApproximateDatabaseRetrieveCount() {
+		this.assertClosed();
+		return this.approximateDatabaseRetrieveCount;
+	}
+
+	public long getRowsMaterialized() {
+		return this.rowsMaterialized.sum();
+	}
+
+	public long getNanos(@Nonnull RequestPhase phase) {
+		return this.nanosByPhase.get(phase.ordinal());
+	}
+
+	public synchronized long getTotalNanos() {
+		this.assertClosed();
+		return this.totalNanos;
+	}
+
+	private void assertClosed() {
+		if (!this.closed) {
+			throw new IllegalStateException("Expected request statistics to be closed");
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.request.statistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * The histograms for one service or GraphQL field, named {@code <name>.rowsMaterialized} and
+ * {@code <name>.<phase>Nanos}.
+ *
+ * <p>The approximate database retrieve count is left out. It is read from a process-wide counter, so under concurrent
+ * load every request's count includes the others', and a histogram of it would mostly measure the load. It is only
+ * logged with each request.
+ */
+public final class RequestStatisticsHistograms {
+
+	@Nonnull
+	private final Histogram rowsMaterialized;
+
+	@Nonnull
+	private final Map<RequestPhase, Histogram> nanosByPhase = new EnumMap<>(RequestPhase.class);
+
+	public RequestStatisticsHistograms(@Nonnull MetricRegistry metricRegistry, @Nonnull String name) {
+		this.rowsMaterialized = metricRegistry.histogram(MetricRegistry.name(name, "rowsMaterialized"));
+		for (RequestPhase phase : RequestPhase.values()) {
+			String histogramName = MetricRegistry.name(name, phase.getPrettyName() + "Nanos");
+			this.nanosByPhase.put(phase, metricRegistry.histogram(histogramName));
+		}
+	}
+
+	public void update(@Nonnull RequestStatistics requestStatistics) {
+		this.rowsMaterialized.update(requestStatistics.getRowsMaterialized());
+		this.nanosByPhase.forEach((phase, histogram) -> histogram.update(requestStatistics.getNanos(phase)));
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.request.statistics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestStatisticsTest {
+
+	private final AtomicLong databaseRetrieveCounter = new AtomicLong();
+
+	@AfterEach
+	void clearCurrent() {
+		RequestStatistics.clearCurrent();
+	}
+
+	@Test
+	void recordsIntoTheCurrentStatistics() {
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter::get);
+
+		RequestStatistics.recordRowsMaterialized(3);
+		RequestStatistics.recordRowsMaterialized(4);
+		RequestStatistics.recordPhase(RequestPhase.VALIDATION, System.nanoTime());
+		requestStatistics.addNanos(RequestPhase.SERIALIZATION, 25);
+
+		assertThat(RequestStatistics.current()).isSameAs(requestStatistics);
+		assertThat(requestStatistics.getRowsMaterialized()).isEqualTo(7);
+		assertThat(requestStatistics.getNanos(RequestPhase.VALIDATION)).isPositive();
+		assertThat(requestStatistics.getNanos(RequestPhase.SERIALIZATION)).isEqualTo(25);
+		assertThat(requestStatistics.getNanos(RequestPhase.DEEP_FETCH)).isZero();
+	}
+
+	@Test
+	void recordingWithoutCurrentStatisticsDoesNothing() {
+		RequestStatistics.recordRowsMaterialized(3);
+		RequestStatistics.recordPhase(RequestPhase.VALIDATION, System.nanoTime());
+
+		assertThat(RequestStatistics.current()).isNull();
+	}
+
+	@Test
+	void startReplacesStaleStatisticsWithoutLinkingToThem() {
+		RequestStatistics stale = RequestStatistics.start(this.databaseRetrieveCounter::get);
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter::get);
+
+		RequestStatistics.recordRowsMaterialized(1);
+		requestStatistics.close();
+
+		assertThat(RequestStatistics.current()).isSameAs(requestStatistics);
+		assertThat(stale.getRowsMaterialized()).isZero();
+
+		RequestStatistics.clearCurrent();
+		assertThat(RequestStatistics.current()).isNull();
+	}
+
+	@Test
+	void closeDoesNotClearTheCurrentStatistics() {
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter::get);
+
+		requestStatistics.close();
+
+		assertThat(RequestStatistics.current()).isSameAs(requestStatistics);
+	}
+
+	@Test
+	void closeFixesTheDatabaseRetrieveCountAndTotal() {
+		this.databaseRetrieveCounter.set(10);
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter::get);
+		this.databaseRetrieveCounter.set(13);
+
+		assertThatThrownBy(requestStatistics::getApproximateDatabaseRetrieveCount)
+			.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(requestStatistics::getTotalNanos).isInstanceOf(IllegalStateException.class);
+
+		requestStatistics.close();
+		long totalNanos = requestStatistics.getTotalNanos();
+		this.databaseRetrieveCounter.set(20);
+		requestStatistics.close();
+
+		assertThat(requestStatistics.getApproximateDatabaseRetrieveCount()).isEqualTo(3);
+		assertThat(requestStatistics.getTotalNanos()).isEqualTo(totalNanos);
+	}
+
+	@Test
+	void countsUpdatesFromOtherThreads() throws InterruptedException {
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter::get);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 1_000; i++) {
+			executor.execute(() -> {
+				RequestStatistics.setCurrent(requestStatistics);
+				try {
+					RequestStatistics.recordRowsMaterialized(1);
+					requestStatistics.addNanos(RequestPhase.DEEP_FETCH, 2);
+				} finally {
+					RequestStatistics.clearCurrent();
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(requestStatistics.getRowsMaterialized()).isEqualTo(1_000);
+		assertThat(requestStatistics.getNanos(RequestPhase.DEEP_FETCH)).isEqualTo(2_000);
+	}
+
+	@Test
+	void histogramsAreNamedAfterTheServiceAndLeaveOutTheRetrieveCount() {
+		var metricRegistry = new MetricRegistry();
+		var histograms = new RequestStatisticsHistograms(metricRegistry, "klass.service.GET /question");
+
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter::get);
+		RequestStatistics.recordRowsMaterialized(2);
+		requestStatistics.close();
+		histograms.update(requestStatistics);
+
+		assertThat(metricRegistry.getHistograms()).containsOnlyKeys(
+			"klass.service.GET /question.rowsMaterialized",
+			"klass.service.GET /question.validationNanos",
+			"klass.service.GET /question.deepFetchNanos",
+			"klass.service.GET /question.serializationNanos"
+		);
+		assertThat(metricRegistry.histogram("klass.service.GET /question.rowsMaterialized").getSnapshot().getMax())
+			.isEqualTo(2);
+	}
+}
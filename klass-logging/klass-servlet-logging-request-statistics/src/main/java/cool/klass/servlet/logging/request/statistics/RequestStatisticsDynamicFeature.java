@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.servlet.logging.request.statistics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonView;
+import cool.klass.request.statistics.RequestStatisticsHistograms;
+import cool.klass.serialization.jackson.jsonview.KlassJsonView;
+
+/**
+ * Registers a {@link RequestStatisticsFilter} on every resource method, with histograms named
+ * {@code klass.service.<verb> <url>.<projection>}.
+ */
+public class RequestStatisticsDynamicFeature implements DynamicFeature {
+
+	@Nonnull
+	private final MetricRegistry metricRegistry;
+
+	@Nonnull
+	private final LongSupplier databaseRetrieveCounter;
+
+	public RequestStatisticsDynamicFeature(
+		@Nonnull MetricRegistry metricRegistry,
+		@Nonnull LongSupplier databaseRetrieveCounter
+	) {
+		this.metricRegistry = Objects.requireNonNull(metricRegistry);
+		this.databaseRetrieveCounter = Objects.requireNonNull(databaseRetrieveCounter);
+	}
+
+	@Override
+	public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+		Method resourceMethod = resourceInfo.getResourceMethod();
+		Optional<String> verb = getVerb(resourceMethod);
+		if (verb.isEmpty()) {
+			// Sub-resource locators are measured by the methods of the sub-resource
+			return;
+		}
+
+		String serviceUrl = verb.get() + " " + getUrl(resourceInfo.getResourceClass(), resourceMethod);
+		String name = getProjectionName(resourceMethod)
+			.map((projectionName) -> MetricRegistry.name("klass.service", serviceUrl, projectionName))
+			.orElseGet(() -> MetricRegistry.name("klass.service", serviceUrl));
+
+		var histograms = new RequestStatisticsHistograms(this.metricRegistry, name);
+		context.register(new RequestStatisticsFilter(histograms, this.databaseRetrieveCounter));
+	}
+
+	@Nonnull
+	private static Optional<String> getVerb(@Nonnull Method resourceMethod) {
+		for (Annotation annotation : resourceMethod.getAnnotations()) {
+			HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+			if (httpMethod != null) {
+				return Optional.of(httpMethod.value());
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Nonnull
+	private static String getUrl(@Nonnull Class<?> resourceClass, @Nonnull Method resourceMethod) {
+		String classPath = getPath(resourceClass.getAnnotation(Path.class));
+		String methodPath = getPath(resourceMethod.getAnnotation(Path.class));
+		if (methodPath.isEmpty()) {
+			return "/" + classPath;
+		}
+		if (classPath.isEmpty()) {
+			return "/" + methodPath;
+		}
+		return "/" + classPath + "/" + methodPath;
+	}
+
+	@Nonnull
+	private static String getPath(Path path) {
+		if (path == null) {
+			return "";
+		}
+		String value = path.value();
+		int start = value.startsWith("/") ? 1 : 0;
+		int end = value.endsWith("/") && value.length() > start ? value.length() - 1 : value.length();
+		return value.substring(start, end);
+	}
+
+	@Nonnull
+	private static Optional<String> getProjectionName(@Nonnull Method resourceMethod) {
+		JsonView jsonViewAnnotation = resourceMethod.getAnnotation(JsonView.class);
+		if (jsonViewAnnotation == null || jsonViewAnnotation.value().length != 1) {
+			return Optional.empty();
+		}
+
+		Class<?> jsonViewClass = jsonViewAnnotation.value()[0];
+		if (!KlassJsonView.class.isAssignableFrom(jsonViewClass)) {
+			return Optional.empty();
+		}
+
+		try {
+			KlassJsonView klassJsonView = jsonViewClass.asSubclass(KlassJsonView.class).getConstructor().newInstance();
+			return Optional.of(klassJsonView.getProjectionName());
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.servlet.logging.request.statistics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
+import cool.klass.request.statistics.RequestStatisticsHistograms;
+import cool.klass.servlet.logging.structured.klass.response.KlassResponseStructuredLoggingFilter;
+
+/**
+ * Starts {@link RequestStatistics} before the resource method runs, and finishes them once the response entity has
+ * been written, since serialization is where Reladomo lists are usually resolved. The statistics are carried in a
+ * request property, since the entity may be written on another thread than the resource method ran on.
+ * {@link RequestStatisticsServletFilter} clears them from the request thread even if neither of the finishing
+ * callbacks runs.
+ */
+@Provider
+@Priority(Priorities.USER - 10)
+public class RequestStatisticsFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+	private static final String PROPERTY_NAME = "klass.requestStatistics";
+
+	@Nonnull
+	private final RequestStatisticsHistograms histograms;
+
+	@Nonnull
+	private final LongSupplier databaseRetrieveCounter;
+
+	public RequestStatisticsFilter(
+		@Nonnull RequestStatisticsHistograms histograms,
+		@Nonnull LongSupplier databaseRetrieveCounter
+	) {
+		this.histograms = Objects.requireNonNull(histograms);
+		this.databaseRetrieveCounter = Objects.requireNonNull(databaseRetrieveCounter);
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext) {
+		requestContext.setProperty(PROPERTY_NAME, RequestStatistics.start(this.databaseRetrieveCounter));
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+		if (responseContext.hasEntity()) {
+			return;
+		}
+
+		var requestStatistics = (RequestStatistics) requestContext.getProperty(PROPERTY_NAME);
+		if (requestStatistics != null) {
+			this.finish(requestStatistics, requestContext.getProperty("structuredArguments"));
+		}
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+		var requestStatistics = (RequestStatistics) context.getProperty(PROPERTY_NAME);
+		if (requestStatistics == null) {
+			context.proceed();
+			return;
+		}
+
+		// Deep fetches that run while writing are reported on their own, rather than as part of serialization
+		long deepFetchNanos = requestStatistics.getNanos(RequestPhase.DEEP_FETCH);
+		long startNanos = System.nanoTime();
+		RequestStatistics.setCurrent(requestStatistics);
+		try {
+			context.proceed();
+		} finally {
+			long deepFetchNanosWhileWriting = requestStatistics.getNanos(RequestPhase.DEEP_FETCH) - deepFetchNanos;
+			long writeNanos = System.nanoTime() - startNanos;
+			requestStatistics.addNanos(RequestPhase.SERIALIZATION, writeNanos - deepFetchNanosWhileWriting);
+			this.finish(requestStatistics, context.getProperty("structuredArguments"));
+		}
+	}
+
+	private void finish(@Nonnull RequestStatistics requestStatistics, @Nullable Object structuredArguments) {
+		RequestStatistics.clearCurrent();
+		requestStatistics.close();
+		this.histograms.update(requestStatistics);
+
+		if (structuredArguments != null) {
+			var structuredArgumentsMap = (Map<String, Object>) structuredArguments;
+			KlassResponseStructuredLoggingFilter.setRequestStatistics(requestStatistics, structuredArgumentsMap);
+		}
+	}
+}
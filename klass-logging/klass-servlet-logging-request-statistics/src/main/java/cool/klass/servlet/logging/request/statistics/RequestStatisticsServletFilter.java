@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.servlet.logging.request.statistics;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import cool.klass.request.statistics.RequestStatistics;
+
+/**
+ * Clears the current {@link RequestStatistics} once each request leaves the filter chain, even when an unmapped
+ * exception skipped the Jersey response filters, so that pooled threads do not carry them into the next request.
+ */
+public class RequestStatisticsServletFilter implements Filter {
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			RequestStatistics.clearCurrent();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.servlet.logging.request.statistics;
+
+import javax.servlet.ServletException;
+
+import cool.klass.request.statistics.RequestStatistics;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestStatisticsServletFilterTest {
+
+	private final RequestStatisticsServletFilter filter = new RequestStatisticsServletFilter();
+
+	@Test
+	void clearsTheCurrentStatisticsAfterTheRequest() throws Exception {
+		this.filter.doFilter(null, null, (request, response) -> RequestStatistics.start(() -> 0));
+
+		assertThat(RequestStatistics.current()).isNull();
+	}
+
+	@Test
+	void clearsTheCurrentStatisticsWhenTheRequestFails() {
+		assertThatThrownBy(() -> this.filter.doFilter(null, null, (request, response) -> {
+			RequestStatistics.start(() -> 0);
+			throw new ServletException("unmapped");
+		}))
+			.isInstanceOf(ServletException.class)
+			.hasMessage("unmapped");
+
+		assertThat(RequestStatistics.current()).isNull();
+	}
+}
@@ -25,6 +25,8 @@ import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
 import cool.klass.serialization.jackson.response.KlassResponse;
 import cool.klass.serialization.jackson.response.KlassResponseMetadata;
 import cool.klass.serialization.jackson.response.KlassResponsePagination;
@@ -74,7 +76,29 @@ public class KlassResponseStructuredLoggingFilter implements ContainerResponseFi
 
 	private void setPagination(KlassResponsePagination pagination, Map<String, Object> structuredArgumentsMap) {
 		structuredArgumentsMap.put("klass.response.pagination.pageSize", pagination.getPageSize());
-		structuredArgumentsMap.put("klass.response.pagination.numberOfPages", pagination.getNumberOfPages());
-		structuredArgumentsMap.put("klass.response.pagination.pageNumber", pagination.getPageNumber());
+		if (pagination.hasPageNumbers()) {
+			structuredArgumentsMap.put("klass.response.pagination.numberOfPages", pagination.getNumberOfPages());
+			structuredArgumentsMap.put("klass.response.pagination.pageNumber", pagination.getPageNumber());
+		}
+		this.put(structuredArgumentsMap, "klass.response.pagination.nextCursor", pagination.getNextCursor());
+	}
+
+	/**
+	 * Called after the response has been written, since that is when the statistics are complete.
+	 */
+	public static void setRequestStatistics(
+		RequestStatistics requestStatistics,
+		Map<String, Object> structuredArgumentsMap
+	) {
+		structuredArgumentsMap.put(
+			"klass.request.approximateDatabaseRetrieveCount",
+			requestStatistics.getApproximateDatabaseRetrieveCount()
+		);
+		structuredArgumentsMap.put("klass.request.rowsMaterialized", requestStatistics.getRowsMaterialized());
+		for (RequestPhase phase : RequestPhase.values()) {
+			String key = "klass.request." + phase.getPrettyName() + "Nanos";
+			structuredArgumentsMap.put(key, requestStatistics.getNanos(phase));
+		}
+		structuredArgumentsMap.put("klass.request.totalNanos", requestStatistics.getTotalNanos());
 	}
 }
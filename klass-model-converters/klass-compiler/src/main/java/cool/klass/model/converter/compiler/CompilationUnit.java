@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nonnull;
 
@@ -45,6 +46,9 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -230,6 +234,22 @@ public final class CompilationUnit {
 		return new CompilationUnit(ordinal, macroElement, sourceName, sourceCodeText, tokenStream, parserRuleContext);
 	}
 
+	/**
+	 * Lexes and parses every source on the common fork-join pool, using each source's index as its ordinal. Each unit
+	 * gets its own lexer and parser, and the prediction caches they share are thread-safe.
+	 */
+	@Nonnull
+	public static <T> ImmutableList<CompilationUnit> createAllInParallel(
+		@Nonnull ImmutableList<T> sources,
+		@Nonnull ObjectIntToObjectFunction<? super T, CompilationUnit> factory
+	) {
+		List<CompilationUnit> result = IntStream.range(0, sources.size())
+			.parallel()
+			.mapToObj((index) -> factory.valueOf(sources.get(index), index))
+			.toList();
+		return Lists.immutable.withAll(result);
+	}
+
 	@Nonnull
 	private static KlassLexer getKlassLexer(@Nonnull ANTLRErrorListener errorListener, CodePointCharStream charStream) {
 		var lexer = new KlassLexer(charStream);
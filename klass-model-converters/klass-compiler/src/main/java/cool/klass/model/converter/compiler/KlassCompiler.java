@@ -20,10 +20,12 @@ import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
 import cool.klass.model.converter.compiler.annotation.CompilerAnnotationHolder;
 import cool.klass.model.converter.compiler.annotation.RootCompilerAnnotation;
 import cool.klass.model.converter.compiler.phase.AssociationPhase;
@@ -168,9 +170,13 @@ public class KlassCompiler {
 
 		CompilerInputState compilerInputState = this.compilerState.getCompilerInput();
 		ImmutableList<CompilationUnit> compilationUnits = compilerInputState.getCompilationUnits().toImmutable();
-		MapIterable<Token, TokenCategory> tokenCategoriesFromLexer = this.getTokenCategoriesFromLexer(compilationUnits);
-		MapIterable<Token, TokenCategory> tokenCategoriesFromParser = this.getTokenCategoriesFromParser(
-			compilationUnits
+
+		// Token categories are only needed to render compiler annotations, which successful compilations rarely have
+		Supplier<MapIterable<Token, TokenCategory>> tokenCategoriesFromLexer = Suppliers.memoize(() ->
+			this.getTokenCategoriesFromLexer(compilationUnits)
+		);
+		Supplier<MapIterable<Token, TokenCategory>> tokenCategoriesFromParser = Suppliers.memoize(() ->
+			this.getTokenCategoriesFromParser(compilationUnits)
 		);
 
 		CompilerAnnotationHolder compilerAnnotationHolder = this.compilerState.getCompilerAnnotationHolder();
@@ -135,6 +135,7 @@ import cool.klass.model.meta.grammar.KlassParser.ServiceGroupDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceMultiplicityContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceMultiplicityDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceOrderByDeclarationContext;
+import cool.klass.model.meta.grammar.KlassParser.ServicePaginationDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceProjectionDispatchContext;
 import cool.klass.model.meta.grammar.KlassParser.StringLiteralContext;
 import cool.klass.model.meta.grammar.KlassParser.StringOperatorContext;
@@ -844,6 +845,18 @@ public class DelegatingKlassListener implements KlassListener {
 		this.getDelegate().exitServiceOrderByDeclaration(ctx);
 	}
 
+	@Override
+	@OverridingMethodsMustInvokeSuper
+	public void enterServicePaginationDeclaration(ServicePaginationDeclarationContext ctx) {
+		this.getDelegate().enterServicePaginationDeclaration(ctx);
+	}
+
+	@Override
+	@OverridingMethodsMustInvokeSuper
+	public void exitServicePaginationDeclaration(ServicePaginationDeclarationContext ctx) {
+		this.getDelegate().exitServicePaginationDeclaration(ctx);
+	}
+
 	@Override
 	@OverridingMethodsMustInvokeSuper
 	public void enterVerb(VerbContext ctx) {
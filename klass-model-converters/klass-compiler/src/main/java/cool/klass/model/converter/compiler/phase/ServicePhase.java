@@ -26,14 +26,17 @@ import cool.klass.model.converter.compiler.state.AntlrClass;
 import cool.klass.model.converter.compiler.state.projection.AntlrProjection;
 import cool.klass.model.converter.compiler.state.service.AntlrService;
 import cool.klass.model.converter.compiler.state.service.AntlrServiceGroup;
+import cool.klass.model.converter.compiler.state.service.AntlrServicePagination;
 import cool.klass.model.converter.compiler.state.service.AntlrServiceProjectionDispatch;
 import cool.klass.model.converter.compiler.state.service.AntlrVerb;
 import cool.klass.model.converter.compiler.state.service.url.AntlrUrl;
 import cool.klass.model.meta.domain.api.service.Verb;
 import cool.klass.model.meta.grammar.KlassParser.IdentifierContext;
+import cool.klass.model.meta.grammar.KlassParser.IntegerLiteralContext;
 import cool.klass.model.meta.grammar.KlassParser.ProjectionReferenceContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceGroupDeclarationContext;
+import cool.klass.model.meta.grammar.KlassParser.ServicePaginationDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceProjectionDispatchContext;
 import cool.klass.model.meta.grammar.KlassParser.UrlDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.VerbContext;
@@ -140,4 +143,28 @@ public class ServicePhase extends AbstractCompilerPhase {
 
 		this.service.enterServiceProjectionDispatch(projectionDispatch);
 	}
+
+	@Override
+	public void enterServicePaginationDeclaration(@Nonnull ServicePaginationDeclarationContext ctx) {
+		super.enterServicePaginationDeclaration(ctx);
+
+		int pageSize = getIntegerFromLiteral(ctx.pageSize);
+		int maxPageSize = ctx.maxPageSize == null ? pageSize : getIntegerFromLiteral(ctx.maxPageSize);
+
+		var pagination = new AntlrServicePagination(
+			ctx,
+			Optional.of(this.compilerState.getCompilerWalk().getCurrentCompilationUnit()),
+			this.service,
+			pageSize,
+			maxPageSize
+		);
+
+		this.service.enterServicePaginationDeclaration(pagination);
+	}
+
+	private static int getIntegerFromLiteral(@Nonnull IntegerLiteralContext integerLiteralContext) {
+		String integerText = integerLiteralContext.getText();
+		String withoutUnderscores = integerText.replaceAll("_", "");
+		return Integer.decode(withoutUnderscores);
+	}
 }
@@ -363,6 +363,7 @@ public abstract class AntlrClassifier extends AntlrPackageableElement implements
 		this.reportPropertyDeclarationOrder(compilerAnnotationHolder);
 		this.reportDuplicateAssociationEndSignatureNames(compilerAnnotationHolder);
 		this.reportRedundantTemporalModifiers(compilerAnnotationHolder);
+		this.reportMultipleCacheModifiers(compilerAnnotationHolder);
 	}
 
 	private void reportDuplicatePropertyNames(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
@@ -491,6 +492,26 @@ public abstract class AntlrClassifier extends AntlrPackageableElement implements
 		);
 	}
 
+	private void reportMultipleCacheModifiers(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
+		MutableList<AntlrModifier> cacheModifiers = this.declaredModifiers.select(AntlrModifier::isCache);
+		if (cacheModifiers.size() <= 1) {
+			return;
+		}
+
+		String message = String.format(
+			"Class '%s' has multiple cache modifiers %s. Expected at most one of 'fullCache', 'partialCache', 'noCache', or 'offHeapCache'.",
+			this.getName(),
+			cacheModifiers.collect(AntlrModifier::getKeyword)
+		);
+
+		compilerAnnotationHolder.add(
+			"ERR_DUP_CCH",
+			message,
+			this,
+			cacheModifiers.collect(AntlrModifier::getElementContext).toImmutable()
+		);
+	}
+
 	protected void reportCircularInheritance(CompilerAnnotationHolder compilerAnnotationHolder) {
 		throw new UnsupportedOperationException(
 			this.getClass().getSimpleName() + ".reportCircularInheritance() not implemented yet"
@@ -180,6 +180,10 @@ public class AntlrModifier extends AntlrOrdinalElement {
 		return this.isSystemTemporal() || this.isValidTemporal() || this.isBitemporal();
 	}
 
+	public boolean isCache() {
+		return this.is("fullCache") || this.is("partialCache") || this.is("noCache") || this.is("offHeapCache");
+	}
+
 	@Nonnull
 	public ModifierBuilder build() {
 		if (this.elementBuilder != null) {
@@ -38,6 +38,7 @@ import cool.klass.model.meta.domain.api.service.ServiceMultiplicity;
 import cool.klass.model.meta.domain.api.service.Verb;
 import cool.klass.model.meta.domain.order.OrderByImpl.OrderByBuilder;
 import cool.klass.model.meta.domain.service.ServiceImpl.ServiceBuilder;
+import cool.klass.model.meta.domain.service.ServicePaginationImpl.ServicePaginationBuilder;
 import cool.klass.model.meta.domain.service.ServiceProjectionDispatchImpl.ServiceProjectionDispatchBuilder;
 import cool.klass.model.meta.domain.service.url.UrlImpl.UrlBuilder;
 import cool.klass.model.meta.grammar.KlassParser.ServiceCriteriaDeclarationContext;
@@ -95,6 +96,9 @@ public class AntlrService extends AntlrElement implements AntlrOrderByOwner {
 	@Nonnull
 	private Optional<AntlrOrderBy> orderBy = Optional.empty();
 
+	@Nonnull
+	private Optional<AntlrServicePagination> pagination = Optional.empty();
+
 	private ServiceBuilder elementBuilder;
 
 	public AntlrService(
@@ -171,6 +175,18 @@ public class AntlrService extends AntlrElement implements AntlrOrderByOwner {
 		this.serviceProjectionDispatch = Optional.of(projectionDispatch);
 	}
 
+	public void enterServicePaginationDeclaration(@Nonnull AntlrServicePagination pagination) {
+		if (this.pagination.isPresent()) {
+			throw new IllegalStateException();
+		}
+		this.pagination = Optional.of(pagination);
+	}
+
+	@Nonnull
+	public Optional<AntlrServicePagination> getPagination() {
+		return this.pagination;
+	}
+
 	// <editor-fold desc="Report Compiler Errors">
 	public void reportErrors(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
 		this.reportDuplicateKeywords(compilerAnnotationHolder);
@@ -189,6 +205,7 @@ public class AntlrService extends AntlrElement implements AntlrOrderByOwner {
 		}
 
 		this.orderBy.ifPresent((orderBy) -> orderBy.reportErrors(compilerAnnotationHolder));
+		this.pagination.ifPresent((pagination) -> pagination.reportErrors(compilerAnnotationHolder));
 	}
 
 	private void reportUnreferencedUrlParameters(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
@@ -327,6 +344,9 @@ public class AntlrService extends AntlrElement implements AntlrOrderByOwner {
 		Optional<OrderByBuilder> orderByBuilder = this.orderBy.map(AntlrOrderBy::build);
 		this.elementBuilder.setOrderByBuilder(orderByBuilder);
 
+		Optional<ServicePaginationBuilder> paginationBuilder = this.pagination.map(AntlrServicePagination::build);
+		this.elementBuilder.setPaginationBuilder(paginationBuilder);
+
 		return this.elementBuilder;
 	}
 
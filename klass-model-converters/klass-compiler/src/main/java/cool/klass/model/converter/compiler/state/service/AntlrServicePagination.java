@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.converter.compiler.state.service;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.converter.compiler.CompilationUnit;
+import cool.klass.model.converter.compiler.annotation.CompilerAnnotationHolder;
+import cool.klass.model.converter.compiler.state.AntlrElement;
+import cool.klass.model.converter.compiler.state.AntlrPrimitiveType;
+import cool.klass.model.converter.compiler.state.IAntlrElement;
+import cool.klass.model.converter.compiler.state.order.AntlrOrderBy;
+import cool.klass.model.converter.compiler.state.order.AntlrOrderByMemberReferencePath;
+import cool.klass.model.converter.compiler.state.property.AntlrDataTypeProperty;
+import cool.klass.model.converter.compiler.state.value.AntlrThisMemberReferencePath;
+import cool.klass.model.meta.domain.api.service.ServiceMultiplicity;
+import cool.klass.model.meta.domain.api.service.Verb;
+import cool.klass.model.meta.domain.service.ServicePaginationImpl.ServicePaginationBuilder;
+import cool.klass.model.meta.grammar.KlassParser.ServicePaginationDeclarationContext;
+import org.antlr.v4.runtime.Token;
+import org.eclipse.collections.api.tuple.Pair;
+
+public class AntlrServicePagination extends AntlrElement {
+
+	@Nonnull
+	private final AntlrService service;
+
+	private final int pageSize;
+	private final int maxPageSize;
+
+	private ServicePaginationBuilder elementBuilder;
+
+	public AntlrServicePagination(
+		@Nonnull ServicePaginationDeclarationContext elementContext,
+		@Nonnull Optional<CompilationUnit> compilationUnit,
+		@Nonnull AntlrService service,
+		int pageSize,
+		int maxPageSize
+	) {
+		super(elementContext, compilationUnit);
+		this.service = Objects.requireNonNull(service);
+		this.pageSize = pageSize;
+		this.maxPageSize = maxPageSize;
+	}
+
+	@Nonnull
+	@Override
+	public Optional<IAntlrElement> getSurroundingElement() {
+		return Optional.of(this.service);
+	}
+
+	@Override
+	public boolean isContext() {
+		return true;
+	}
+
+	@Override
+	public Pair<Token, Token> getContextBefore() {
+		return this.getEntireContext();
+	}
+
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	public int getMaxPageSize() {
+		return this.maxPageSize;
+	}
+
+	// <editor-fold desc="Report Compiler Errors">
+	public void reportErrors(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
+		this.reportInvalidService(compilerAnnotationHolder);
+		this.reportInvalidPageSize(compilerAnnotationHolder);
+		this.service.getOrderBy().ifPresent((orderBy) -> this.reportInvalidOrderBy(compilerAnnotationHolder, orderBy));
+	}
+
+	private void reportInvalidService(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
+		Verb verb = this.service.getVerb().getVerb();
+		AntlrServiceMultiplicity serviceMultiplicity = this.service.getServiceMultiplicity();
+		if (
+			verb == Verb.GET
+			&& serviceMultiplicity != null
+			&& serviceMultiplicity.getServiceMultiplicity() == ServiceMultiplicity.MANY
+		) {
+			return;
+		}
+
+		String message = String.format(
+			"Pagination is only allowed on GET services with multiplicity many, but found %s on '%s'.",
+			verb.name(),
+			this.service.getUrl().getElementContext().getText()
+		);
+		compilerAnnotationHolder.add("ERR_PAG_SRV", message, this, this.getElementContext());
+	}
+
+	private void reportInvalidPageSize(@Nonnull CompilerAnnotationHolder compilerAnnotationHolder) {
+		if (this.pageSize < 1) {
+			String message = String.format("Expected a positive page size but got %d.", this.pageSize);
+			compilerAnnotationHolder.add("ERR_PAG_SIZ", message, this, this.getElementContext().pageSize);
+		} else if (this.maxPageSize < this.pageSize) {
+			String message = String.format(
+				"Expected a maximum page size of at least %d but got %d.",
+				this.pageSize,
+				this.maxPageSize
+			);
+			compilerAnnotationHolder.add("ERR_PAG_SIZ", message, this, this.getElementContext().maxPageSize);
+		}
+	}
+
+	private void reportInvalidOrderBy(
+		@Nonnull CompilerAnnotationHolder compilerAnnotationHolder,
+		@Nonnull AntlrOrderBy orderBy
+	) {
+		for (AntlrOrderByMemberReferencePath orderByMemberReferencePath : orderBy.getOrderByMemberReferencePaths()) {
+			AntlrThisMemberReferencePath thisMemberReferencePath = orderByMemberReferencePath.getThisMemberReferencePath();
+			AntlrDataTypeProperty<?> property = thisMemberReferencePath.getDataTypeProperty();
+			if (property == AntlrDataTypeProperty.AMBIGUOUS || property == AntlrDataTypeProperty.NOT_FOUND) {
+				continue;
+			}
+
+			// Keyset cursors compare each order-by column directly, so it must be a required, stored, comparable column on this class
+			boolean isSeekable =
+				thisMemberReferencePath.getAssociationEnds().isEmpty()
+				&& !property.isOptional()
+				&& !property.isDerived()
+				&& property.getType() != AntlrPrimitiveType.BOOLEAN;
+			if (isSeekable) {
+				continue;
+			}
+
+			String message = String.format(
+				"Paginated services can only order by required, non-derived, non-boolean properties of '%s', but found '%s'.",
+				this.service.getUrl().getServiceGroup().getKlass().getName(),
+				thisMemberReferencePath.getElementContext().getText()
+			);
+			compilerAnnotationHolder.add(
+				"ERR_PAG_ORD",
+				message,
+				this,
+				thisMemberReferencePath.getElementContext()
+			);
+		}
+	}
+
+	// </editor-fold>
+
+	@Nonnull
+	@Override
+	public ServicePaginationDeclarationContext getElementContext() {
+		return (ServicePaginationDeclarationContext) super.getElementContext();
+	}
+
+	@Nonnull
+	public ServicePaginationBuilder build() {
+		if (this.elementBuilder != null) {
+			throw new IllegalStateException();
+		}
+		this.elementBuilder = new ServicePaginationBuilder(
+			(ServicePaginationDeclarationContext) this.elementContext,
+			this.getMacroElementBuilder(),
+			this.getSourceCodeBuilder(),
+			this.pageSize,
+			this.maxPageSize
+		);
+		return this.elementBuilder;
+	}
+
+	@Override
+	@Nonnull
+	public ServicePaginationBuilder getElementBuilder() {
+		return Objects.requireNonNull(this.elementBuilder);
+	}
+}
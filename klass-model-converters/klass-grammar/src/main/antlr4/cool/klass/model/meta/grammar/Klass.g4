@@ -85,7 +85,7 @@ urlParameterDeclaration: '{' parameterDeclaration '}';
 // service
 serviceDeclaration: verb serviceBlock;
 serviceBlock : '{' serviceBody '}' ;
-serviceBody: serviceMultiplicityDeclaration? serviceCriteriaDeclaration* serviceProjectionDispatch? serviceOrderByDeclaration? ;
+serviceBody: serviceMultiplicityDeclaration? serviceCriteriaDeclaration* serviceProjectionDispatch? serviceOrderByDeclaration? servicePaginationDeclaration? ;
 serviceMultiplicityDeclaration: 'multiplicity' ':' serviceMultiplicity ';'
     | 'multiplicity' ':' serviceMultiplicity {notifyErrorListeners("Missing semi-colon after service multiplicity declaration.");};
 serviceMultiplicity: one='one' | many='many';
@@ -97,6 +97,8 @@ serviceProjectionDispatch: 'projection' ':' projectionReference argumentList? ';
     | 'projection' ':' projectionReference argumentList? {notifyErrorListeners("Missing semi-colon after service projection dispatch.");};
 serviceOrderByDeclaration: orderByDeclaration ';'
     | orderByDeclaration {notifyErrorListeners("Missing semi-colon after service order-by declaration.");};
+servicePaginationDeclaration: 'pagination' ':' pageSize=integerLiteral ('max' maxPageSize=integerLiteral)? ';'
+    | 'pagination' ':' pageSize=integerLiteral ('max' maxPageSize=integerLiteral)? {notifyErrorListeners("Missing semi-colon after service pagination declaration.");};
 verb: 'GET' | 'POST' | 'PUT' | 'PATCH' | 'DELETE';
 
 // member
@@ -154,6 +156,7 @@ primitiveType: 'Boolean' | 'Integer' | 'Long' | 'Double' | 'Float' | 'String' |
 
 // modifiers
 classifierModifier: 'systemTemporal' | 'validTemporal' | 'bitemporal' | 'versioned' | 'audited' | 'transient'
+    | 'fullCache' | 'partialCache' | 'noCache' | 'offHeapCache'
     | identifier {notifyErrorListeners("Unrecognized Classifier modifier: " + _input.LT(-1).getText());};
 dataTypePropertyModifier: 'key' | 'private' | 'userId' | 'id' | 'valid' | 'system' | 'from' | 'to' | 'createdBy' | 'createdOn' | 'lastUpdatedBy' | 'version' | 'derived' | 'final'
     | identifier {notifyErrorListeners("Unrecognized DataTypeProperty modifier: " + _input.LT(-1).getText());};
@@ -225,10 +228,11 @@ keywordValidAsIdentifier
     | 'abstract' | 'extends' | 'implements'
     | 'native'
     | 'relationship'
-    | 'multiplicity' | 'orderBy'
+    | 'multiplicity' | 'orderBy' | 'pagination'
     | 'criteria' | 'authorize' | 'validate' | 'conflict'
     // classifierModifier
     | 'systemTemporal' | 'validTemporal' | 'bitemporal' | 'versioned' | 'audited' | 'transient'
+    | 'fullCache' | 'partialCache' | 'noCache' | 'offHeapCache'
     // dataTypePropertyModifier
     | 'key' | 'private' | 'userId' | 'id' | 'valid' | 'system' | 'from' | 'to' | 'createdBy' | 'createdOn' | 'lastUpdatedBy' | 'version' | 'derived'
     // associationEndModifier
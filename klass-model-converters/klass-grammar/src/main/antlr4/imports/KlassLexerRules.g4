@@ -20,6 +20,7 @@ KEYWORD_NATIVE            : 'native';
 KEYWORD_RELATIONSHIP      : 'relationship';
 KEYWORD_MULTIPLICITY      : 'multiplicity';
 KEYWORD_ORDER_BY          : 'orderBy';
+KEYWORD_PAGINATION        : 'pagination';
 KEYWORD_ASCENDING         : 'ascending';
 KEYWORD_DESCENDING        : 'descending';
 KEYWORD_CRITERIA          : 'criteria';
@@ -51,6 +52,10 @@ MODIFIER_CLASSIFIER_BITEMPORAL            : 'bitemporal';
 MODIFIER_CLASSIFIER_VERSIONED             : 'versioned';
 MODIFIER_CLASSIFIER_AUDITED               : 'audited';
 MODIFIER_CLASSIFIER_TRANSIENT             : 'transient';
+MODIFIER_CLASSIFIER_FULL_CACHE            : 'fullCache';
+MODIFIER_CLASSIFIER_PARTIAL_CACHE         : 'partialCache';
+MODIFIER_CLASSIFIER_NO_CACHE              : 'noCache';
+MODIFIER_CLASSIFIER_OFF_HEAP_CACHE        : 'offHeapCache';
 
 MODIFIER_PROPERTY_KEY             : 'key';
 MODIFIER_PROPERTY_PRIVATE         : 'private';
@@ -18,6 +18,7 @@ package cool.klass.model.converter.compiler.syntax.highlighter.ansi;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
@@ -33,21 +34,41 @@ public final class AnsiTokenColorizer {
 	private final AnsiColorScheme colorScheme;
 
 	@Nonnull
-	private final MapIterable<Token, TokenCategory> tokenCategoriesFromParser;
+	private final Supplier<MapIterable<Token, TokenCategory>> tokenCategoriesFromParser;
 
 	@Nonnull
-	private final MapIterable<Token, TokenCategory> tokenCategoriesFromLexer;
+	private final Supplier<MapIterable<Token, TokenCategory>> tokenCategoriesFromLexer;
 
 	public AnsiTokenColorizer(
 		@Nonnull AnsiColorScheme colorScheme,
 		@Nonnull MapIterable<Token, TokenCategory> tokenCategoriesFromParser,
 		@Nonnull MapIterable<Token, TokenCategory> tokenCategoriesFromLexer
+	) {
+		this(colorScheme, constant(tokenCategoriesFromParser), constant(tokenCategoriesFromLexer));
+	}
+
+	/**
+	 * The suppliers are only called once a token is colorized, so callers can defer categorizing tokens until a
+	 * compiler annotation is rendered. Callers are responsible for memoizing them.
+	 */
+	public AnsiTokenColorizer(
+		@Nonnull AnsiColorScheme colorScheme,
+		@Nonnull Supplier<MapIterable<Token, TokenCategory>> tokenCategoriesFromParser,
+		@Nonnull Supplier<MapIterable<Token, TokenCategory>> tokenCategoriesFromLexer
 	) {
 		this.colorScheme = Objects.requireNonNull(colorScheme);
 		this.tokenCategoriesFromParser = Objects.requireNonNull(tokenCategoriesFromParser);
 		this.tokenCategoriesFromLexer = Objects.requireNonNull(tokenCategoriesFromLexer);
 	}
 
+	@Nonnull
+	private static Supplier<MapIterable<Token, TokenCategory>> constant(
+		@Nonnull MapIterable<Token, TokenCategory> tokenCategories
+	) {
+		Objects.requireNonNull(tokenCategories);
+		return () -> tokenCategories;
+	}
+
 	public void colorizeText(Ansi ansi, Token token) {
 		Optional<TokenCategory> tokenCategory = this.getTokenCategory(token);
 		tokenCategory.ifPresent((justTokenCategory) ->
@@ -57,8 +78,8 @@ public final class AnsiTokenColorizer {
 	}
 
 	private Optional<TokenCategory> getTokenCategory(Token token) {
-		TokenCategory lexerCategory = this.tokenCategoriesFromLexer.get(token);
-		TokenCategory parserCategory = this.tokenCategoriesFromParser.get(token);
+		TokenCategory lexerCategory = this.tokenCategoriesFromLexer.get().get(token);
+		TokenCategory parserCategory = this.tokenCategoriesFromParser.get().get(token);
 		if (lexerCategory != null && parserCategory != null) {
 			throw new AssertionError(token);
 		}
@@ -130,6 +130,10 @@ public final class TokenCategoryToAnsiColor {
 				colorScheme.keywordServiceCriteria(ansi);
 				return;
 			}
+			case KEYWORD_SERVICE_PAGINATION: {
+				colorScheme.keywordServicePagination(ansi);
+				return;
+			}
 			case PRIMITIVE_TYPE: {
 				colorScheme.primitiveType(ansi);
 				return;
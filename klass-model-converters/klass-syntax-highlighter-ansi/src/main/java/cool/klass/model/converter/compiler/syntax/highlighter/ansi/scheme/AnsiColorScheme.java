@@ -105,6 +105,10 @@ public interface AnsiColorScheme {
 		this.keyword(ansi);
 	}
 
+	default void keywordServicePagination(Ansi ansi) {
+		this.keyword(ansi);
+	}
+
 	default void primitiveType(Ansi ansi) {
 		this.keyword(ansi);
 	}
@@ -102,6 +102,7 @@ public class JsonAnsiColorScheme implements AnsiColorScheme {
 		fallbacks.put("keywordMultiplicity", "keyword");
 		fallbacks.put("keywordMultiplicityChoice", "keyword");
 		fallbacks.put("keywordServiceCriteria", "keyword");
+		fallbacks.put("keywordServicePagination", "keyword");
 
 		// Verb specific fallbacks
 		fallbacks.put("verb", "keyword");
@@ -43,6 +43,7 @@ public enum TokenCategory {
 	KEYWORD_MULTIPLICITY(KEYWORD),
 	KEYWORD_MULTIPLICITY_CHOICE(KEYWORD_MULTIPLICITY),
 	KEYWORD_SERVICE_CRITERIA(KEYWORD_MULTIPLICITY),
+	KEYWORD_SERVICE_PAGINATION(KEYWORD),
 
 	PRIMITIVE_TYPE(KEYWORD),
 
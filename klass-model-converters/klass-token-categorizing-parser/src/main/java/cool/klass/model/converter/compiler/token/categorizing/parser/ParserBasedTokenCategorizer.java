@@ -75,6 +75,7 @@ import cool.klass.model.meta.grammar.KlassParser.ServiceCriteriaKeywordContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceGroupDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceMultiplicityContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceMultiplicityDeclarationContext;
+import cool.klass.model.meta.grammar.KlassParser.ServicePaginationDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.ServiceProjectionDispatchContext;
 import cool.klass.model.meta.grammar.KlassParser.ThisMemberReferencePathContext;
 import cool.klass.model.meta.grammar.KlassParser.UrlConstantContext;
@@ -390,6 +391,14 @@ public class ParserBasedTokenCategorizer extends KlassBaseListener {
 		this.put(ctx.getStart(), TokenCategory.KEYWORD_MULTIPLICITY_CHOICE);
 	}
 
+	@Override
+	public void enterServicePaginationDeclaration(ServicePaginationDeclarationContext ctx) {
+		this.put(ctx.KEYWORD_PAGINATION().getSymbol(), TokenCategory.KEYWORD_SERVICE_PAGINATION);
+		if (ctx.VALIDATION_MAX() != null) {
+			this.put(ctx.VALIDATION_MAX().getSymbol(), TokenCategory.KEYWORD);
+		}
+	}
+
 	@Override
 	public void enterServiceCriteriaKeyword(ServiceCriteriaKeywordContext ctx) {
 		this.put(ctx.getStart(), TokenCategory.KEYWORD_SERVICE_CRITERIA);
@@ -132,8 +132,9 @@ public class DomainModelCompilerLoader implements DomainModelLoader {
 
 		LOGGER.debug("Found source files on classpath: {}", klassLocations);
 
-		ImmutableList<CompilationUnit> compilationUnits = klassLocations.collectWithIndex((each, index) ->
-			CompilationUnit.createFromClasspathLocation(index, each)
+		ImmutableList<CompilationUnit> compilationUnits = CompilationUnit.createAllInParallel(
+			klassLocations,
+			(each, index) -> CompilationUnit.createFromClasspathLocation(index, each)
 		);
 
 		if (compilationUnits.isEmpty()) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.meta.loader.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.loader.DomainModelLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads a domain model from a binary snapshot on the classpath, written at build time by the
+ * {@code klass-generator-meta-snapshot-plugin}. This skips scanning the classpath and running the compiler phases.
+ *
+ * <p>The snapshot includes the source code text, tokens, and parse trees, which are rebuilt while loading without
+ * running the parser, so the loaded model has the same source code, tokens, and parse trees as the compiled model.
+ */
+public class DomainModelSnapshotLoader implements DomainModelLoader {
+
+	public static final String DEFAULT_RESOURCE_NAME = "META-INF/klass/domain-model.snapshot";
+
+	/**
+	 * Snapshots written with a different format version cannot be read. Caches of snapshots should include it in their
+	 * keys.
+	 */
+	public static final int SNAPSHOT_FORMAT_VERSION = SnapshotFormat.VERSION;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DomainModelSnapshotLoader.class);
+
+	@Nonnull
+	private final String resourceName;
+
+	@Nonnull
+	private final ClassLoader classLoader;
+
+	public DomainModelSnapshotLoader(@Nonnull String resourceName, @Nonnull ClassLoader classLoader) {
+		this.resourceName = Objects.requireNonNull(resourceName);
+		this.classLoader = Objects.requireNonNull(classLoader);
+	}
+
+	@Override
+	@Nonnull
+	public DomainModelWithSourceCode load() {
+		Instant start = Instant.now();
+
+		URL url = this.classLoader.getResource(this.resourceName);
+		if (url == null) {
+			throw new RuntimeException("Could not find domain model snapshot on the classpath: " + this.resourceName);
+		}
+
+		DomainModelWithSourceCode domainModel = read(url);
+
+		Duration duration = Duration.between(start, Instant.now());
+		LOGGER.info("Domain model snapshot {} loaded in {} ms", url, duration.toMillis());
+
+		return domainModel;
+	}
+
+	@Nonnull
+	public static DomainModelWithSourceCode read(@Nonnull URL url) {
+		ByteBuffer buffer = getBuffer(url);
+		return new DomainModelSnapshotReader(buffer).read();
+	}
+
+	@Nonnull
+	private static ByteBuffer getBuffer(@Nonnull URL url) {
+		try {
+			// Snapshots inside jars cannot be memory-mapped, so they are read onto the heap instead
+			if ("file".equals(url.getProtocol())) {
+				try (FileChannel fileChannel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+					return fileChannel.map(MapMode.READ_ONLY, 0, fileChannel.size());
+				}
+			}
+			try (InputStream inputStream = url.openStream()) {
+				return ByteBuffer.wrap(inputStream.readAllBytes());
+			}
+		} catch (IOException | URISyntaxException e) {
+			throw new RuntimeException("Could not read domain model snapshot " + url, e);
+		}
+	}
+}
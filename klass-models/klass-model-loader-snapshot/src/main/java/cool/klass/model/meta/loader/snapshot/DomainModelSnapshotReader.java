@@ -0,0 +1,1271 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.meta.loader.snapshot;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.model.meta.domain.AbstractClassifier.ClassifierBuilder;
+import cool.klass.model.meta.domain.AbstractElement.ElementBuilder;
+import cool.klass.model.meta.domain.AssociationImpl.AssociationBuilder;
+import cool.klass.model.meta.domain.DomainModelImpl.DomainModelBuilder;
+import cool.klass.model.meta.domain.EnumerationImpl.EnumerationBuilder;
+import cool.klass.model.meta.domain.EnumerationLiteralImpl.EnumerationLiteralBuilder;
+import cool.klass.model.meta.domain.InterfaceImpl.InterfaceBuilder;
+import cool.klass.model.meta.domain.KlassImpl.KlassBuilder;
+import cool.klass.model.meta.domain.SourceCodeImpl.SourceCodeBuilderImpl;
+import cool.klass.model.meta.domain.api.DataType.DataTypeGetter;
+import cool.klass.model.meta.domain.api.Multiplicity;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.TopLevelElement.TopLevelElementBuilder;
+import cool.klass.model.meta.domain.api.Type.TypeGetter;
+import cool.klass.model.meta.domain.api.order.OrderByDirection;
+import cool.klass.model.meta.domain.api.service.ServiceMultiplicity;
+import cool.klass.model.meta.domain.api.service.Verb;
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.domain.criteria.AbstractCriteria.AbstractCriteriaBuilder;
+import cool.klass.model.meta.domain.criteria.AllCriteriaImpl.AllCriteriaBuilder;
+import cool.klass.model.meta.domain.criteria.AndCriteriaImpl.AndCriteriaBuilder;
+import cool.klass.model.meta.domain.criteria.EdgePointCriteriaImpl.EdgePointCriteriaBuilder;
+import cool.klass.model.meta.domain.criteria.OperatorCriteriaImpl.OperatorCriteriaBuilder;
+import cool.klass.model.meta.domain.criteria.OrCriteriaImpl.OrCriteriaBuilder;
+import cool.klass.model.meta.domain.operator.AbstractOperator.AbstractOperatorBuilder;
+import cool.klass.model.meta.domain.operator.EqualityOperatorImpl.EqualityOperatorBuilder;
+import cool.klass.model.meta.domain.operator.InOperatorImpl.InOperatorBuilder;
+import cool.klass.model.meta.domain.operator.InequalityOperatorImpl.InequalityOperatorBuilder;
+import cool.klass.model.meta.domain.operator.StringOperatorImpl.StringOperatorBuilder;
+import cool.klass.model.meta.domain.order.OrderByDirectionDeclarationImpl.OrderByDirectionDeclarationBuilder;
+import cool.klass.model.meta.domain.order.OrderByImpl.OrderByBuilder;
+import cool.klass.model.meta.domain.order.OrderByMemberReferencePathImpl.OrderByMemberReferencePathBuilder;
+import cool.klass.model.meta.domain.parameter.ParameterImpl.ParameterBuilder;
+import cool.klass.model.meta.domain.projection.AbstractProjectionElement.ProjectionChildBuilder;
+import cool.klass.model.meta.domain.projection.AbstractProjectionParent.AbstractProjectionParentBuilder;
+import cool.klass.model.meta.domain.projection.ProjectionDataTypePropertyImpl.ProjectionDataTypePropertyBuilder;
+import cool.klass.model.meta.domain.projection.ProjectionImpl.ProjectionBuilder;
+import cool.klass.model.meta.domain.projection.ProjectionProjectionReferenceImpl.ProjectionProjectionReferenceBuilder;
+import cool.klass.model.meta.domain.projection.ProjectionReferencePropertyImpl.ProjectionReferencePropertyBuilder;
+import cool.klass.model.meta.domain.property.AbstractDataTypeProperty.DataTypePropertyBuilder;
+import cool.klass.model.meta.domain.property.AssociationEndImpl.AssociationEndBuilder;
+import cool.klass.model.meta.domain.property.AssociationEndSignatureImpl.AssociationEndSignatureBuilder;
+import cool.klass.model.meta.domain.property.EnumerationPropertyImpl.EnumerationPropertyBuilder;
+import cool.klass.model.meta.domain.property.ModifierImpl.ModifierBuilder;
+import cool.klass.model.meta.domain.property.PrimitivePropertyImpl.PrimitivePropertyBuilder;
+import cool.klass.model.meta.domain.property.ReferencePropertyImpl.ReferencePropertyBuilder;
+import cool.klass.model.meta.domain.property.validation.MaxLengthPropertyValidationImpl.MaxLengthPropertyValidationBuilder;
+import cool.klass.model.meta.domain.property.validation.MaxPropertyValidationImpl.MaxPropertyValidationBuilder;
+import cool.klass.model.meta.domain.property.validation.MinLengthPropertyValidationImpl.MinLengthPropertyValidationBuilder;
+import cool.klass.model.meta.domain.property.validation.MinPropertyValidationImpl.MinPropertyValidationBuilder;
+import cool.klass.model.meta.domain.service.ServiceGroupImpl.ServiceGroupBuilder;
+import cool.klass.model.meta.domain.service.ServiceImpl.ServiceBuilder;
+import cool.klass.model.meta.domain.service.ServicePaginationImpl.ServicePaginationBuilder;
+import cool.klass.model.meta.domain.service.ServiceProjectionDispatchImpl.ServiceProjectionDispatchBuilder;
+import cool.klass.model.meta.domain.service.url.UrlConstantImpl.UrlConstantBuilder;
+import cool.klass.model.meta.domain.service.url.UrlImpl.UrlBuilder;
+import cool.klass.model.meta.domain.value.AbstractExpressionValue.AbstractExpressionValueBuilder;
+import cool.klass.model.meta.domain.value.AbstractMemberReferencePath.AbstractMemberReferencePathBuilder;
+import cool.klass.model.meta.domain.value.ParameterReferenceImpl.ParameterReferenceBuilder;
+import cool.klass.model.meta.domain.value.ThisMemberReferencePathImpl.ThisMemberReferencePathBuilder;
+import cool.klass.model.meta.domain.value.TypeMemberReferencePathImpl.TypeMemberReferencePathBuilder;
+import cool.klass.model.meta.domain.value.literal.AbstractLiteralValue.AbstractLiteralValueBuilder;
+import cool.klass.model.meta.domain.value.literal.BooleanLiteralValueImpl.BooleanLiteralValueBuilder;
+import cool.klass.model.meta.domain.value.literal.FloatingPointLiteralValueImpl.FloatingPointLiteralValueBuilder;
+import cool.klass.model.meta.domain.value.literal.IntegerLiteralValueImpl.IntegerLiteralValueBuilder;
+import cool.klass.model.meta.domain.value.literal.LiteralListValueImpl.LiteralListValueBuilder;
+import cool.klass.model.meta.domain.value.literal.NullLiteralImpl.NullLiteralBuilder;
+import cool.klass.model.meta.domain.value.literal.StringLiteralValueImpl.StringLiteralValueBuilder;
+import cool.klass.model.meta.domain.value.literal.UserLiteralImpl.UserLiteralBuilder;
+import cool.klass.model.meta.grammar.KlassParser;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_ALL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_AND;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_EDGE_POINT;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_OPERATOR;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_OR;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.DATA_TYPE_PROPERTY_ENUMERATION;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.DATA_TYPE_PROPERTY_PRIMITIVE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.NULL_ID;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_EQUALITY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_IN;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_INEQUALITY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_STRING;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PARSE_TREE_RULE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PARSE_TREE_TOKEN;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PROJECTION_DATA_TYPE_PROPERTY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PROJECTION_PROJECTION_REFERENCE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PROJECTION_REFERENCE_PROPERTY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.SERVICE_CRITERIA_KEYWORDS;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.TYPE_ELEMENT;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.TYPE_PRIMITIVE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.URL_CONSTANT;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.URL_PARAMETER;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_BOOLEAN_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_FLOATING_POINT_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_INTEGER_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_LITERAL_LIST;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_NULL_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_PARAMETER_REFERENCE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_STRING_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_THIS_MEMBER_REFERENCE_PATH;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_TYPE_MEMBER_REFERENCE_PATH;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_USER_LITERAL;
+
+/**
+ * Reads a snapshot written by {@link DomainModelSnapshotWriter}. The tokens and parse tree of each source code are
+ * rebuilt from the snapshot, without running the lexer or the parser. Every element builder is created through its
+ * constructor in the same order as the compiler creates it, with parse tree contexts resolved against the rebuilt
+ * trees. The result is built by {@link DomainModelBuilder}, so it has the same source code, tokens, declarations, and
+ * references as the compiled model.
+ */
+final class DomainModelSnapshotReader {
+
+	@Nonnull
+	private final ByteBuffer buffer;
+
+	private final MutableList<SourceCodeBuilderImpl> sourceCodeBuilders = Lists.mutable.empty();
+	private ImmutableList<SourceCodeBuilderImpl> domainModelSourceCodeBuilders = Lists.immutable.empty();
+	private final MutableList<ElementBuilder<?>> elementBuilders = Lists.mutable.empty();
+
+	private final MutableList<ProjectionProjectionReferenceBuilder> projectionReferenceBuilders =
+		Lists.mutable.empty();
+
+	private final MutableMap<String, Constructor<?>> contextConstructors = Maps.mutable.empty();
+
+	DomainModelSnapshotReader(@Nonnull ByteBuffer buffer) {
+		this.buffer = Objects.requireNonNull(buffer);
+	}
+
+	@Nonnull
+	DomainModelWithSourceCode read() {
+		int magic = this.buffer.getInt();
+		int version = this.buffer.getInt();
+		if (magic != SnapshotFormat.MAGIC || version != SnapshotFormat.VERSION) {
+			String message = String.format(
+				"Expected a domain model snapshot with version %d but got magic 0x%08X and version %d",
+				SnapshotFormat.VERSION,
+				magic,
+				version
+			);
+			throw new IllegalStateException(message);
+		}
+
+		this.readSourceCodes();
+
+		ImmutableList<EnumerationBuilder> enumerationBuilders = this.readList(this::readEnumeration);
+		ImmutableList<InterfaceBuilder> interfaceBuilders = this.readList(this::readInterface);
+		ImmutableList<KlassBuilder> classBuilders = this.readList(this::readKlass);
+		ImmutableList<ClassifierBuilder<?>> classifierBuilders = this.readReferences();
+		ImmutableList<AssociationBuilder> associationBuilders = this.readList(this::readAssociation);
+		interfaceBuilders.each(this::readClassifierReferences);
+		classBuilders.each(this::readKlassReferences);
+
+		ImmutableList<ProjectionBuilder> projectionBuilders = this.readList(this::readProjection);
+		for (ProjectionProjectionReferenceBuilder projectionReferenceBuilder : this.projectionReferenceBuilders) {
+			projectionReferenceBuilder.setReferencedProjectionBuilder(this.readReference());
+		}
+
+		ImmutableList<ServiceGroupBuilder> serviceGroupBuilders = this.readList(this::readServiceGroup);
+		ImmutableList<TopLevelElementBuilder> topLevelElementBuilders = this.readReferences();
+
+		for (SourceCodeBuilderImpl sourceCodeBuilder : this.domainModelSourceCodeBuilders) {
+			sourceCodeBuilder.setMacroElement(this.readOptionalReference());
+		}
+
+		if (this.buffer.hasRemaining()) {
+			String message = "Expected the end of the domain model snapshot but found %d more bytes".formatted(
+				this.buffer.remaining()
+			);
+			throw new IllegalStateException(message);
+		}
+
+		DomainModelBuilder domainModelBuilder = new DomainModelBuilder(
+			this.domainModelSourceCodeBuilders,
+			topLevelElementBuilders,
+			enumerationBuilders,
+			classifierBuilders,
+			interfaceBuilders,
+			classBuilders,
+			associationBuilders,
+			projectionBuilders,
+			serviceGroupBuilders
+		);
+		return domainModelBuilder.build();
+	}
+
+	private void readSourceCodes() {
+		int domainModelSourceCodeCount = this.buffer.getInt();
+		int count = this.buffer.getInt();
+		MutableList<SourceCodeRecord> sourceCodeRecords = Lists.mutable.withInitialCapacity(count);
+		for (int index = 0; index < count; index++) {
+			String sourceName = this.readString();
+			String sourceCodeText = this.readString();
+			CodePointCharStream charStream = CharStreams.fromString(sourceCodeText, sourceName);
+			var tokenSource = new Pair<TokenSource, CharStream>(null, charStream);
+			ImmutableList<Token> tokens = this.readList(() -> this.readToken(tokenSource));
+			ParserRuleContext parserContext = this.readParseTree(null, tokens);
+			int macroSourceCodeId = this.buffer.getInt();
+			Optional<InPlaceRecord> inPlaceRecord = index < domainModelSourceCodeCount
+				? Optional.empty()
+				: Optional.of(this.readInPlaceRecord());
+			sourceCodeRecords.add(new SourceCodeRecord(
+				sourceName,
+				sourceCodeText,
+				tokens,
+				parserContext,
+				macroSourceCodeId,
+				inPlaceRecord
+			));
+		}
+
+		// Macro source codes may come after the source codes they expand
+		var builders = new SourceCodeBuilderImpl[count];
+		for (int index = 0; index < count; index++) {
+			this.sourceCodeBuilders.add(getSourceCodeBuilder(sourceCodeRecords, builders, index));
+		}
+		this.domainModelSourceCodeBuilders = this.sourceCodeBuilders.take(domainModelSourceCodeCount).toImmutable();
+
+		this.graftInPlaceSourceCodes(sourceCodeRecords);
+	}
+
+	@Nonnull
+	private InPlaceRecord readInPlaceRecord() {
+		int sourceCodeId = this.buffer.getInt();
+		int depth = this.buffer.getInt();
+		int[] childIndexes = new int[depth];
+		for (int level = 0; level < depth; level++) {
+			childIndexes[level] = this.buffer.getInt();
+		}
+		return new InPlaceRecord(sourceCodeId, childIndexes, this.buffer.getInt());
+	}
+
+	/**
+	 * Adds the parse tree of each in-place macro to the context it expands, like the compiler does. The contexts of
+	 * elements are written relative to the parse tree of their own source code, so they do not depend on the grafts.
+	 */
+	private void graftInPlaceSourceCodes(@Nonnull MutableList<SourceCodeRecord> sourceCodeRecords) {
+		MutableIntList inPlaceIndexes = IntInterval.zeroTo(sourceCodeRecords.size() - 1)
+			.select((index) -> sourceCodeRecords.get(index).inPlaceRecord().isPresent())
+			.toList();
+
+		// Grafts are appended, so adding them in order of their child index reproduces the compiled parse tree
+		inPlaceIndexes.sortThisBy((index) -> sourceCodeRecords.get(index).inPlaceRecord().get().childIndex());
+		for (int index : inPlaceIndexes.toArray()) {
+			SourceCodeRecord sourceCodeRecord = sourceCodeRecords.get(index);
+			InPlaceRecord inPlaceRecord = sourceCodeRecord.inPlaceRecord().get();
+			ParserRuleContext inPlaceContext = this.sourceCodeBuilders.get(inPlaceRecord.sourceCodeId()).getParserContext();
+			for (int childIndex : inPlaceRecord.childIndexes()) {
+				inPlaceContext = (ParserRuleContext) inPlaceContext.getChild(childIndex);
+			}
+
+			if (inPlaceContext.getChildCount() != inPlaceRecord.childIndex()) {
+				String message = "Expected in-place macro %s at child %d of %s but found %d children".formatted(
+					sourceCodeRecord.sourceName(),
+					inPlaceRecord.childIndex(),
+					inPlaceContext.getText(),
+					inPlaceContext.getChildCount()
+				);
+				throw new IllegalStateException(message);
+			}
+
+			ParserRuleContext parserContext = this.sourceCodeBuilders.get(index).getParserContext();
+			parserContext.setParent(inPlaceContext);
+			inPlaceContext.addChild(parserContext);
+		}
+	}
+
+	@Nonnull
+	private static SourceCodeBuilderImpl getSourceCodeBuilder(
+		@Nonnull MutableList<SourceCodeRecord> sourceCodeRecords,
+		@Nonnull SourceCodeBuilderImpl[] builders,
+		int index
+	) {
+		if (builders[index] == null) {
+			SourceCodeRecord sourceCodeRecord = sourceCodeRecords.get(index);
+			Optional<SourceCodeBuilderImpl> macroSourceCodeBuilder = sourceCodeRecord.macroSourceCodeId() == NULL_ID
+				? Optional.empty()
+				: Optional.of(getSourceCodeBuilder(sourceCodeRecords, builders, sourceCodeRecord.macroSourceCodeId()));
+			builders[index] = newSourceCodeBuilder(sourceCodeRecord, macroSourceCodeBuilder);
+		}
+		return builders[index];
+	}
+
+	@Nonnull
+	private static SourceCodeBuilderImpl newSourceCodeBuilder(
+		@Nonnull SourceCodeRecord sourceCodeRecord,
+		@Nonnull Optional<SourceCodeBuilderImpl> macroSourceCodeBuilder
+	) {
+		var tokenStream = new CommonTokenStream(new ListTokenSource(
+			sourceCodeRecord.tokens().castToList(),
+			sourceCodeRecord.sourceName()
+		));
+		tokenStream.fill();
+
+		return new SourceCodeBuilderImpl(
+			sourceCodeRecord.sourceName(),
+			sourceCodeRecord.sourceCodeText(),
+			tokenStream,
+			sourceCodeRecord.parserContext(),
+			macroSourceCodeBuilder
+		);
+	}
+
+	@Nonnull
+	private Token readToken(@Nonnull Pair<TokenSource, CharStream> tokenSource) {
+		int type = this.buffer.getInt();
+		int channel = this.buffer.getInt();
+		int startIndex = this.buffer.getInt();
+		int stopIndex = this.buffer.getInt();
+		var token = new CommonToken(tokenSource, type, channel, startIndex, stopIndex);
+		token.setLine(this.buffer.getInt());
+		token.setCharPositionInLine(this.buffer.getInt());
+		return token;
+	}
+
+	/**
+	 * Rebuilds a parse tree written by {@link DomainModelSnapshotWriter}, with the same context classes, tokens, and
+	 * labels that the parser would create.
+	 */
+	@Nonnull
+	private ParserRuleContext readParseTree(@Nullable ParserRuleContext parent, @Nonnull ImmutableList<Token> tokens) {
+		String contextClassName = this.readString();
+		int invokingState = this.buffer.getInt();
+		ParserRuleContext context = this.newContext(contextClassName, parent, invokingState);
+		context.start = getToken(tokens, this.buffer.getInt());
+		context.stop = getToken(tokens, this.buffer.getInt());
+
+		int childCount = this.buffer.getInt();
+		for (int index = 0; index < childCount; index++) {
+			byte tag = this.buffer.get();
+			switch (tag) {
+				case PARSE_TREE_RULE -> context.addChild(this.readParseTree(context, tokens));
+				case PARSE_TREE_TOKEN -> context.addChild(new TerminalNodeImpl(getToken(tokens, this.buffer.getInt())));
+				default -> throw unexpectedTag("parse tree", tag);
+			}
+		}
+
+		int labelCount = this.buffer.getInt();
+		for (int index = 0; index < labelCount; index++) {
+			String fieldName = this.readString();
+			int valueIndex = this.buffer.getInt();
+			try {
+				Field field = context.getClass().getField(fieldName);
+				field.set(context, field.getType() == Token.class
+					? getToken(tokens, valueIndex)
+					: context.getChild(valueIndex));
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Could not set label " + fieldName + " of " + contextClassName, e);
+			}
+		}
+
+		return context;
+	}
+
+	@Nullable
+	private static Token getToken(@Nonnull ImmutableList<Token> tokens, int tokenIndex) {
+		return tokenIndex == NULL_ID ? null : tokens.get(tokenIndex);
+	}
+
+	@Nonnull
+	private ParserRuleContext newContext(
+		@Nonnull String contextClassName,
+		@Nullable ParserRuleContext parent,
+		int invokingState
+	) {
+		Constructor<?> constructor = this.contextConstructors.getIfAbsentPutWith(
+			contextClassName,
+			DomainModelSnapshotReader::getContextConstructor,
+			contextClassName
+		);
+		try {
+			// The contexts of labeled alternatives copy a context of their rule, like the parser does
+			if (constructor.getParameterCount() == 1) {
+				String ruleContextClassName = constructor.getParameterTypes()[0].getSimpleName();
+				return (ParserRuleContext) constructor.newInstance(
+					this.newContext(ruleContextClassName, parent, invokingState)
+				);
+			}
+			return (ParserRuleContext) constructor.newInstance(parent, invokingState);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Could not create parse tree context " + contextClassName, e);
+		}
+	}
+
+	@Nonnull
+	private static Constructor<?> getContextConstructor(@Nonnull String contextClassName) {
+		try {
+			Class<?> contextClass = Class.forName(KlassParser.class.getName() + "$" + contextClassName);
+			if (!ParserRuleContext.class.isAssignableFrom(contextClass)) {
+				throw new IllegalStateException("Expected a parse tree context but got " + contextClassName);
+			}
+			try {
+				return contextClass.getConstructor(ParserRuleContext.class, int.class);
+			} catch (NoSuchMethodException e) {
+				return contextClass.getConstructor(contextClass.getSuperclass());
+			}
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Could not find parse tree context " + contextClassName, e);
+		}
+	}
+
+	@Nonnull
+	private EnumerationBuilder readEnumeration() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		EnumerationBuilder enumerationBuilder = this.register(new EnumerationBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readString()
+		));
+		enumerationBuilder.setEnumerationLiteralBuilders(this.readList(() ->
+			this.readEnumerationLiteral(enumerationBuilder)
+		));
+		return enumerationBuilder;
+	}
+
+	@Nonnull
+	private EnumerationLiteralBuilder readEnumerationLiteral(@Nonnull EnumerationBuilder enumerationBuilder) {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		return this.register(new EnumerationLiteralBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readOptionalString(),
+			enumerationBuilder
+		));
+	}
+
+	@Nonnull
+	private InterfaceBuilder readInterface() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		InterfaceBuilder interfaceBuilder = this.register(new InterfaceBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readString()
+		));
+		this.readClassifierProperties(interfaceBuilder);
+		return interfaceBuilder;
+	}
+
+	@Nonnull
+	private KlassBuilder readKlass() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		KlassBuilder klassBuilder = this.register(new KlassBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readString(),
+			this.readBoolean(),
+			this.readBoolean(),
+			this.readBoolean()
+		));
+		this.readClassifierProperties(klassBuilder);
+		return klassBuilder;
+	}
+
+	private void readClassifierProperties(@Nonnull ClassifierBuilder<?> classifierBuilder) {
+		classifierBuilder.setDeclaredModifiers(this.readList(this::readModifier));
+		classifierBuilder.setDeclaredDataTypeProperties(this.readList(() ->
+			this.readDataTypeProperty(classifierBuilder)
+		));
+	}
+
+	@Nonnull
+	private ModifierBuilder readModifier() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		return this.register(new ModifierBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readReference()
+		));
+	}
+
+	@Nonnull
+	private DataTypePropertyBuilder<?, ?, ?> readDataTypeProperty(@Nonnull ClassifierBuilder<?> classifierBuilder) {
+		byte tag = this.buffer.get();
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		DataTypePropertyBuilder<?, ?, ?> dataTypePropertyBuilder = switch (tag) {
+			case DATA_TYPE_PROPERTY_PRIMITIVE -> new PrimitivePropertyBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				ordinal,
+				this.readContext(),
+				PrimitiveType.valueOf(this.readString()),
+				classifierBuilder,
+				this.readBoolean()
+			);
+			case DATA_TYPE_PROPERTY_ENUMERATION -> new EnumerationPropertyBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				ordinal,
+				this.readContext(),
+				this.readReference(),
+				classifierBuilder,
+				this.readBoolean()
+			);
+			default -> throw unexpectedTag("data type property", tag);
+		};
+		this.register(dataTypePropertyBuilder);
+
+		dataTypePropertyBuilder.setModifierBuilders(this.readList(this::readModifier));
+
+		dataTypePropertyBuilder.setMinLengthPropertyValidationBuilder(this.readOptional(() -> {
+			ElementHeader validationHeader = this.readElementHeader();
+			return this.register(new MinLengthPropertyValidationBuilder(
+				validationHeader.context(),
+				validationHeader.macroElement(),
+				validationHeader.sourceCode(),
+				dataTypePropertyBuilder,
+				this.buffer.getInt()
+			));
+		}));
+		dataTypePropertyBuilder.setMaxLengthPropertyValidationBuilder(this.readOptional(() -> {
+			ElementHeader validationHeader = this.readElementHeader();
+			return this.register(new MaxLengthPropertyValidationBuilder(
+				validationHeader.context(),
+				validationHeader.macroElement(),
+				validationHeader.sourceCode(),
+				dataTypePropertyBuilder,
+				this.buffer.getInt()
+			));
+		}));
+		dataTypePropertyBuilder.setMinPropertyValidationBuilder(this.readOptional(() -> {
+			ElementHeader validationHeader = this.readElementHeader();
+			return this.register(new MinPropertyValidationBuilder(
+				validationHeader.context(),
+				validationHeader.macroElement(),
+				validationHeader.sourceCode(),
+				dataTypePropertyBuilder,
+				this.buffer.getInt()
+			));
+		}));
+		dataTypePropertyBuilder.setMaxPropertyValidationBuilder(this.readOptional(() -> {
+			ElementHeader validationHeader = this.readElementHeader();
+			return this.register(new MaxPropertyValidationBuilder(
+				validationHeader.context(),
+				validationHeader.macroElement(),
+				validationHeader.sourceCode(),
+				dataTypePropertyBuilder,
+				this.buffer.getInt()
+			));
+		}));
+		dataTypePropertyBuilder.setPropertyValidationBuilders(this.readReferences());
+
+		return dataTypePropertyBuilder;
+	}
+
+	@Nonnull
+	private AssociationBuilder readAssociation() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		AssociationBuilder associationBuilder = this.register(new AssociationBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readString()
+		));
+		associationBuilder.setAssociationEndBuilders(this.readList(() -> this.readAssociationEnd(associationBuilder)));
+		associationBuilder.setCriteriaBuilder(this.readCriteria());
+		return associationBuilder;
+	}
+
+	@Nonnull
+	private AssociationEndBuilder readAssociationEnd(@Nonnull AssociationBuilder associationBuilder) {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		AssociationEndBuilder associationEndBuilder = this.register(new AssociationEndBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readReference(),
+			this.readReference(),
+			associationBuilder,
+			Multiplicity.valueOf(this.readString())
+		));
+		this.readReferencePropertyDetails(associationEndBuilder);
+		return associationEndBuilder;
+	}
+
+	@Nonnull
+	private AssociationEndSignatureBuilder readAssociationEndSignature(
+		@Nonnull ClassifierBuilder<?> classifierBuilder
+	) {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		AssociationEndSignatureBuilder associationEndSignatureBuilder = this.register(
+			new AssociationEndSignatureBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				ordinal,
+				this.readContext(),
+				this.readReference(),
+				classifierBuilder,
+				Multiplicity.valueOf(this.readString())
+			)
+		);
+		this.readReferencePropertyDetails(associationEndSignatureBuilder);
+		return associationEndSignatureBuilder;
+	}
+
+	private void readReferencePropertyDetails(@Nonnull ReferencePropertyBuilder<?, ?, ?> referencePropertyBuilder) {
+		referencePropertyBuilder.setModifiers(this.readList(this::readModifier));
+		referencePropertyBuilder.setOrderBy(this.readOptional(this::readOrderBy));
+	}
+
+	@Nonnull
+	private OrderByBuilder readOrderBy() {
+		ElementHeader header = this.readElementHeader();
+		OrderByBuilder orderByBuilder = this.register(new OrderByBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			this.readReference()
+		));
+		orderByBuilder.setOrderByMemberReferencePathBuilders(this.readList(() ->
+			this.readOrderByMemberReferencePath(orderByBuilder)
+		));
+		return orderByBuilder;
+	}
+
+	@Nonnull
+	private OrderByMemberReferencePathBuilder readOrderByMemberReferencePath(@Nonnull OrderByBuilder orderByBuilder) {
+		ThisMemberReferencePathBuilder thisMemberReferencePathBuilder = this.readThisMemberReferencePath();
+
+		ElementHeader header = this.readElementHeader();
+		OrderByMemberReferencePathBuilder orderByMemberReferencePathBuilder = this.register(
+			new OrderByMemberReferencePathBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				orderByBuilder,
+				this.buffer.getInt(),
+				thisMemberReferencePathBuilder
+			)
+		);
+
+		ElementHeader directionHeader = this.readElementHeader();
+		orderByMemberReferencePathBuilder.setOrderByDirectionBuilder(this.register(
+			new OrderByDirectionDeclarationBuilder(
+				directionHeader.context(),
+				directionHeader.macroElement(),
+				directionHeader.sourceCode(),
+				OrderByDirection.valueOf(this.readString())
+			)
+		));
+		return orderByMemberReferencePathBuilder;
+	}
+
+	private void readClassifierReferences(@Nonnull InterfaceBuilder interfaceBuilder) {
+		this.readForeignKeys(interfaceBuilder);
+		interfaceBuilder.setDeclaredAssociationEndSignatures(this.readList(() ->
+			this.readAssociationEndSignature(interfaceBuilder)
+		));
+		interfaceBuilder.setDeclaredReferenceProperties(this.readReferences());
+		interfaceBuilder.setDeclaredProperties(this.readReferences());
+		interfaceBuilder.setDeclaredInterfaces(this.readReferences());
+	}
+
+	private void readKlassReferences(@Nonnull KlassBuilder klassBuilder) {
+		klassBuilder.setDeclaredAssociationEnds(this.readReferences());
+		klassBuilder.setDeclaredAssociationEndSignatures(this.readList(() ->
+			this.readAssociationEndSignature(klassBuilder)
+		));
+		klassBuilder.setDeclaredReferenceProperties(this.readReferences());
+		klassBuilder.setDeclaredProperties(this.readReferences());
+		this.readForeignKeys(klassBuilder);
+		klassBuilder.setDeclaredInterfaces(this.readReferences());
+		klassBuilder.setSuperClass(this.readOptionalReference());
+		klassBuilder.setSubClassBuilders(this.readReferences());
+	}
+
+	private void readForeignKeys(@Nonnull ClassifierBuilder<?> classifierBuilder) {
+		classifierBuilder.getDeclaredDataTypeProperties().each((dataTypePropertyBuilder) -> {
+			dataTypePropertyBuilder.setKeyBuildersMatchingThisForeignKey(this.readKeyMap());
+			dataTypePropertyBuilder.setForeignKeyBuildersMatchingThisKey(this.readKeyMap());
+		});
+	}
+
+	@Nonnull
+	private MutableOrderedMap<AssociationEndBuilder, DataTypePropertyBuilder<?, ?, ?>> readKeyMap() {
+		MutableOrderedMap<AssociationEndBuilder, DataTypePropertyBuilder<?, ?, ?>> keys = OrderedMapAdapter.adapt(
+			new LinkedHashMap<>()
+		);
+		int size = this.buffer.getInt();
+		for (int index = 0; index < size; index++) {
+			AssociationEndBuilder associationEndBuilder = this.readReference();
+			DataTypePropertyBuilder<?, ?, ?> dataTypePropertyBuilder = this.readReference();
+			keys.put(associationEndBuilder, dataTypePropertyBuilder);
+		}
+		return keys.asUnmodifiable();
+	}
+
+	@Nonnull
+	private ProjectionBuilder readProjection() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		ProjectionBuilder projectionBuilder = this.register(new ProjectionBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readString(),
+			this.readReference()
+		));
+		projectionBuilder.setChildBuilders(this.readList(() -> this.readProjectionChild(projectionBuilder)));
+		return projectionBuilder;
+	}
+
+	@Nonnull
+	private ProjectionChildBuilder readProjectionChild(@Nonnull AbstractProjectionParentBuilder<?> parentBuilder) {
+		byte tag = this.buffer.get();
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		switch (tag) {
+			case PROJECTION_DATA_TYPE_PROPERTY -> {
+				return this.register(new ProjectionDataTypePropertyBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode(),
+					ordinal,
+					this.readContext(),
+					this.readContext(),
+					this.readString(),
+					parentBuilder,
+					this.readReference(),
+					this.readReference()
+				));
+			}
+			case PROJECTION_REFERENCE_PROPERTY -> {
+				ProjectionReferencePropertyBuilder projectionReferencePropertyBuilder = this.register(
+					new ProjectionReferencePropertyBuilder(
+						header.context(),
+						header.macroElement(),
+						header.sourceCode(),
+						ordinal,
+						this.readContext(),
+						parentBuilder,
+						this.readReference(),
+						this.readReference()
+					)
+				);
+				projectionReferencePropertyBuilder.setChildBuilders(this.readList(() ->
+					this.readProjectionChild(projectionReferencePropertyBuilder)
+				));
+				return projectionReferencePropertyBuilder;
+			}
+			case PROJECTION_PROJECTION_REFERENCE -> {
+				ProjectionProjectionReferenceBuilder projectionProjectionReferenceBuilder = this.register(
+					new ProjectionProjectionReferenceBuilder(
+						header.context(),
+						header.macroElement(),
+						header.sourceCode(),
+						ordinal,
+						this.readContext(),
+						parentBuilder,
+						this.readReference(),
+						this.readReference()
+					)
+				);
+				this.projectionReferenceBuilders.add(projectionProjectionReferenceBuilder);
+				return projectionProjectionReferenceBuilder;
+			}
+			default -> throw unexpectedTag("projection child", tag);
+		}
+	}
+
+	@Nonnull
+	private ServiceGroupBuilder readServiceGroup() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		ServiceGroupBuilder serviceGroupBuilder = this.register(new ServiceGroupBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			this.readString(),
+			this.readReference()
+		));
+		serviceGroupBuilder.setUrlBuilders(this.readList(() -> this.readUrl(serviceGroupBuilder)));
+		return serviceGroupBuilder;
+	}
+
+	@Nonnull
+	private UrlBuilder readUrl(@Nonnull ServiceGroupBuilder serviceGroupBuilder) {
+		ElementHeader header = this.readElementHeader();
+		UrlBuilder urlBuilder = this.register(new UrlBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			serviceGroupBuilder
+		));
+		urlBuilder.setPathSegmentBuilders(this.readList(this::readUrlPathSegment));
+		urlBuilder.setQueryParameterBuilders(this.readList(this::readParameter));
+		urlBuilder.setPathParameterBuilders(this.readReferences());
+		urlBuilder.setParameterBuilders(this.readReferences());
+		urlBuilder.setServiceBuilders(this.readList(() -> this.readService(urlBuilder)));
+		return urlBuilder;
+	}
+
+	@Nonnull
+	private ElementBuilder<?> readUrlPathSegment() {
+		byte tag = this.buffer.get();
+		switch (tag) {
+			case URL_CONSTANT -> {
+				ElementHeader header = this.readElementHeader();
+				return this.register(new UrlConstantBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode(),
+					this.buffer.getInt(),
+					this.readString()
+				));
+			}
+			case URL_PARAMETER -> {
+				return this.readParameter();
+			}
+			default -> throw unexpectedTag("url path segment", tag);
+		}
+	}
+
+	@Nonnull
+	private ParameterBuilder readParameter() {
+		ElementHeader header = this.readElementHeader();
+		int ordinal = this.buffer.getInt();
+		return this.register(new ParameterBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			ordinal,
+			this.readContext(),
+			(DataTypeGetter) this.readTypeGetter(),
+			Multiplicity.valueOf(this.readString())
+		));
+	}
+
+	@Nonnull
+	private ServiceBuilder readService(@Nonnull UrlBuilder urlBuilder) {
+		ElementHeader header = this.readElementHeader();
+		ServiceBuilder serviceBuilder = this.register(new ServiceBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			urlBuilder,
+			Verb.valueOf(this.readString()),
+			ServiceMultiplicity.valueOf(this.readString())
+		));
+
+		for (String criteriaKeyword : SERVICE_CRITERIA_KEYWORDS) {
+			if (this.readBoolean()) {
+				serviceBuilder.addCriteriaBuilder(criteriaKeyword, this.readCriteria());
+			}
+		}
+
+		serviceBuilder.setProjectionDispatchBuilder(this.readOptional(() -> {
+			ElementHeader projectionDispatchHeader = this.readElementHeader();
+			return this.register(new ServiceProjectionDispatchBuilder(
+				projectionDispatchHeader.context(),
+				projectionDispatchHeader.macroElement(),
+				projectionDispatchHeader.sourceCode(),
+				this.readReference()
+			));
+		}));
+
+		serviceBuilder.setOrderByBuilder(this.readOptional(this::readOrderBy));
+
+		serviceBuilder.setPaginationBuilder(this.readOptional(() -> {
+			ElementHeader paginationHeader = this.readElementHeader();
+			return this.register(new ServicePaginationBuilder(
+				paginationHeader.context(),
+				paginationHeader.macroElement(),
+				paginationHeader.sourceCode(),
+				this.buffer.getInt(),
+				this.buffer.getInt()
+			));
+		}));
+
+		return serviceBuilder;
+	}
+
+	@Nonnull
+	private AbstractCriteriaBuilder<?> readCriteria() {
+		byte tag = this.buffer.get();
+		switch (tag) {
+			case CRITERIA_ALL -> {
+				ElementHeader header = this.readElementHeader();
+				return this.register(new AllCriteriaBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode()
+				));
+			}
+			case CRITERIA_AND -> {
+				AbstractCriteriaBuilder<?> left = this.readCriteria();
+				AbstractCriteriaBuilder<?> right = this.readCriteria();
+				ElementHeader header = this.readElementHeader();
+				return this.register(new AndCriteriaBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode(),
+					left,
+					right
+				));
+			}
+			case CRITERIA_OR -> {
+				AbstractCriteriaBuilder<?> left = this.readCriteria();
+				AbstractCriteriaBuilder<?> right = this.readCriteria();
+				ElementHeader header = this.readElementHeader();
+				return this.register(new OrCriteriaBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode(),
+					left,
+					right
+				));
+			}
+			case CRITERIA_EDGE_POINT -> {
+				var memberExpressionValue = (AbstractMemberReferencePathBuilder<?>) this.readExpressionValue();
+				ElementHeader header = this.readElementHeader();
+				return this.register(new EdgePointCriteriaBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode(),
+					memberExpressionValue
+				));
+			}
+			case CRITERIA_OPERATOR -> {
+				AbstractOperatorBuilder<?> operator = this.readOperator();
+				AbstractExpressionValueBuilder<?> sourceValue = this.readExpressionValue();
+				AbstractExpressionValueBuilder<?> targetValue = this.readExpressionValue();
+				ElementHeader header = this.readElementHeader();
+				return this.register(new OperatorCriteriaBuilder(
+					header.context(),
+					header.macroElement(),
+					header.sourceCode(),
+					operator,
+					sourceValue,
+					targetValue
+				));
+			}
+			default -> throw unexpectedTag("criteria", tag);
+		}
+	}
+
+	@Nonnull
+	private AbstractOperatorBuilder<?> readOperator() {
+		byte tag = this.buffer.get();
+		ElementHeader header = this.readElementHeader();
+		AbstractOperatorBuilder<?> operatorBuilder = switch (tag) {
+			case OPERATOR_EQUALITY -> new EqualityOperatorBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readString()
+			);
+			case OPERATOR_INEQUALITY -> new InequalityOperatorBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readString()
+			);
+			case OPERATOR_IN -> new InOperatorBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readString()
+			);
+			case OPERATOR_STRING -> new StringOperatorBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readString()
+			);
+			default -> throw unexpectedTag("operator", tag);
+		};
+		return this.register(operatorBuilder);
+	}
+
+	@Nonnull
+	private AbstractExpressionValueBuilder<?> readExpressionValue() {
+		byte tag = this.buffer.get();
+		if (tag == VALUE_THIS_MEMBER_REFERENCE_PATH) {
+			return this.readThisMemberReferencePath();
+		}
+
+		ElementHeader header = this.readElementHeader();
+		AbstractExpressionValueBuilder<?> expressionValueBuilder = switch (tag) {
+			case VALUE_TYPE_MEMBER_REFERENCE_PATH -> new TypeMemberReferencePathBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readReference(),
+				this.readReferences(),
+				this.readReference()
+			);
+			case VALUE_PARAMETER_REFERENCE -> new ParameterReferenceBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readReference()
+			);
+			case VALUE_STRING_LITERAL -> new StringLiteralValueBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readString()
+			);
+			case VALUE_INTEGER_LITERAL -> new IntegerLiteralValueBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.buffer.getLong()
+			);
+			case VALUE_FLOATING_POINT_LITERAL -> new FloatingPointLiteralValueBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.buffer.getDouble()
+			);
+			case VALUE_BOOLEAN_LITERAL -> new BooleanLiteralValueBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readBoolean()
+			);
+			case VALUE_NULL_LITERAL -> new NullLiteralBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode()
+			);
+			case VALUE_USER_LITERAL -> new UserLiteralBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readReference()
+			);
+			case VALUE_LITERAL_LIST -> new LiteralListValueBuilder(
+				header.context(),
+				header.macroElement(),
+				header.sourceCode(),
+				this.readTypeGetter()
+			);
+			default -> throw unexpectedTag("expression value", tag);
+		};
+		this.register(expressionValueBuilder);
+
+		if (expressionValueBuilder instanceof LiteralListValueBuilder literalListValueBuilder) {
+			ImmutableList<AbstractLiteralValueBuilder<?>> literalValueBuilders = this.readList(() ->
+				(AbstractLiteralValueBuilder<?>) this.readExpressionValue()
+			);
+			literalListValueBuilder.setLiteralValueBuilders(literalValueBuilders);
+		}
+
+		return expressionValueBuilder;
+	}
+
+	@Nonnull
+	private ThisMemberReferencePathBuilder readThisMemberReferencePath() {
+		ElementHeader header = this.readElementHeader();
+		return this.register(new ThisMemberReferencePathBuilder(
+			header.context(),
+			header.macroElement(),
+			header.sourceCode(),
+			this.readReference(),
+			this.readReferences(),
+			this.readReference()
+		));
+	}
+
+	@Nonnull
+	private TypeGetter readTypeGetter() {
+		byte tag = this.buffer.get();
+		return switch (tag) {
+			case TYPE_PRIMITIVE -> PrimitiveType.valueOf(this.readString());
+			case TYPE_ELEMENT -> this.readReference();
+			default -> throw unexpectedTag("type", tag);
+		};
+	}
+
+	/**
+	 * Reads the arguments that every builder takes. The caller must register the builder it creates before reading
+	 * any other element, so that ids match the order in which {@link DomainModelSnapshotWriter} assigned them.
+	 */
+	@Nonnull
+	private ElementHeader readElementHeader() {
+		ParserRuleContext elementContext = this.readContext();
+		Optional<ElementBuilder<?>> macroElement = this.readOptionalReference();
+		SourceCodeBuilderImpl sourceCode = this.sourceCodeBuilders.get(this.buffer.getInt());
+		return new ElementHeader(elementContext, macroElement, sourceCode);
+	}
+
+	@Nonnull
+	private <T extends ElementBuilder<?>> T register(@Nonnull T elementBuilder) {
+		this.elementBuilders.add(elementBuilder);
+		return elementBuilder;
+	}
+
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	private <T extends ParserRuleContext> T readContext() {
+		ParserRuleContext context = this.sourceCodeBuilders.get(this.buffer.getInt()).getParserContext();
+		int depth = this.buffer.getInt();
+		for (int level = 0; level < depth; level++) {
+			context = (ParserRuleContext) context.getChild(this.buffer.getInt());
+		}
+		return (T) context;
+	}
+
+	@Nonnull
+	private <T> ImmutableList<T> readList(@Nonnull Supplier<T> elementReader) {
+		int size = this.buffer.getInt();
+		MutableList<T> result = Lists.mutable.withInitialCapacity(size);
+		for (int index = 0; index < size; index++) {
+			result.add(elementReader.get());
+		}
+		return result.toImmutable();
+	}
+
+	@Nonnull
+	private <T> Optional<T> readOptional(@Nonnull Supplier<T> elementReader) {
+		return this.readBoolean() ? Optional.of(elementReader.get()) : Optional.empty();
+	}
+
+	@Nonnull
+	private <T> ImmutableList<T> readReferences() {
+		return this.readList(this::readReference);
+	}
+
+	@Nonnull
+	private <T> Optional<T> readOptionalReference() {
+		int id = this.buffer.getInt();
+		return id == NULL_ID ? Optional.empty() : Optional.of(this.getElementBuilder(id));
+	}
+
+	@Nonnull
+	private <T> T readReference() {
+		return this.getElementBuilder(this.buffer.getInt());
+	}
+
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	private <T> T getElementBuilder(int id) {
+		if (id < 0 || id >= this.elementBuilders.size()) {
+			String message = "Expected a reference to one of the %d elements read so far but got %d".formatted(
+				this.elementBuilders.size(),
+				id
+			);
+			throw new IllegalStateException(message);
+		}
+		return (T) this.elementBuilders.get(id);
+	}
+
+	@Nonnull
+	private Optional<String> readOptionalString() {
+		return this.readOptional(this::readString);
+	}
+
+	@Nonnull
+	private String readString() {
+		var bytes = new byte[this.buffer.getInt()];
+		this.buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private boolean readBoolean() {
+		return this.buffer.get() != 0;
+	}
+
+	@Nonnull
+	private static IllegalStateException unexpectedTag(@Nonnull String kind, byte tag) {
+		return new IllegalStateException("Unexpected " + kind + " tag in domain model snapshot: " + tag);
+	}
+
+	private record SourceCodeRecord(
+		@Nonnull String sourceName,
+		@Nonnull String sourceCodeText,
+		@Nonnull ImmutableList<Token> tokens,
+		@Nonnull ParserRuleContext parserContext,
+		int macroSourceCodeId,
+		@Nonnull Optional<InPlaceRecord> inPlaceRecord
+	) {}
+
+	private record InPlaceRecord(int sourceCodeId, @Nonnull int[] childIndexes, int childIndex) {}
+
+	private record ElementHeader(
+		@Nonnull ParserRuleContext elementContext,
+		@Nonnull Optional<ElementBuilder<?>> macroElement,
+		@Nonnull SourceCodeBuilderImpl sourceCode
+	) {
+		@Nonnull
+		@SuppressWarnings("unchecked")
+		<T extends ParserRuleContext> T context() {
+			return (T) this.elementContext;
+		}
+	}
+}
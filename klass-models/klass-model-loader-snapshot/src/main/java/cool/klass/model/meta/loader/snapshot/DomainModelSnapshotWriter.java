@@ -0,0 +1,854 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.meta.loader.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.model.meta.domain.AbstractClassifier;
+import cool.klass.model.meta.domain.AbstractElement;
+import cool.klass.model.meta.domain.AbstractNamedElement;
+import cool.klass.model.meta.domain.AbstractOrdinalElement;
+import cool.klass.model.meta.domain.AssociationImpl;
+import cool.klass.model.meta.domain.EnumerationImpl;
+import cool.klass.model.meta.domain.InterfaceImpl;
+import cool.klass.model.meta.domain.KlassImpl;
+import cool.klass.model.meta.domain.SourceCodeImpl;
+import cool.klass.model.meta.domain.api.Element;
+import cool.klass.model.meta.domain.api.EnumerationLiteral;
+import cool.klass.model.meta.domain.api.Interface;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.Type;
+import cool.klass.model.meta.domain.api.criteria.Criteria;
+import cool.klass.model.meta.domain.api.modifier.Modifier;
+import cool.klass.model.meta.domain.api.order.OrderBy;
+import cool.klass.model.meta.domain.api.order.OrderByMemberReferencePath;
+import cool.klass.model.meta.domain.api.parameter.Parameter;
+import cool.klass.model.meta.domain.api.projection.ProjectionChild;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.AssociationEndSignature;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.property.ReferenceProperty;
+import cool.klass.model.meta.domain.api.property.validation.PropertyValidation;
+import cool.klass.model.meta.domain.api.service.Service;
+import cool.klass.model.meta.domain.api.service.ServiceGroup;
+import cool.klass.model.meta.domain.api.service.url.Url;
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.domain.api.source.SourceCode;
+import cool.klass.model.meta.domain.api.value.ExpressionValue;
+import cool.klass.model.meta.domain.api.value.literal.LiteralValue;
+import cool.klass.model.meta.domain.criteria.AbstractBinaryCriteria;
+import cool.klass.model.meta.domain.criteria.AllCriteriaImpl;
+import cool.klass.model.meta.domain.criteria.AndCriteriaImpl;
+import cool.klass.model.meta.domain.criteria.EdgePointCriteriaImpl;
+import cool.klass.model.meta.domain.criteria.OperatorCriteriaImpl;
+import cool.klass.model.meta.domain.criteria.OrCriteriaImpl;
+import cool.klass.model.meta.domain.operator.AbstractOperator;
+import cool.klass.model.meta.domain.operator.EqualityOperatorImpl;
+import cool.klass.model.meta.domain.operator.InOperatorImpl;
+import cool.klass.model.meta.domain.operator.InequalityOperatorImpl;
+import cool.klass.model.meta.domain.operator.StringOperatorImpl;
+import cool.klass.model.meta.domain.order.OrderByImpl;
+import cool.klass.model.meta.domain.order.OrderByMemberReferencePathImpl;
+import cool.klass.model.meta.domain.parameter.ParameterImpl;
+import cool.klass.model.meta.domain.projection.ProjectionDataTypePropertyImpl;
+import cool.klass.model.meta.domain.projection.ProjectionImpl;
+import cool.klass.model.meta.domain.projection.ProjectionProjectionReferenceImpl;
+import cool.klass.model.meta.domain.projection.ProjectionReferencePropertyImpl;
+import cool.klass.model.meta.domain.property.AbstractDataTypeProperty;
+import cool.klass.model.meta.domain.property.EnumerationPropertyImpl;
+import cool.klass.model.meta.domain.property.PrimitivePropertyImpl;
+import cool.klass.model.meta.domain.property.validation.AbstractNumericPropertyValidation;
+import cool.klass.model.meta.domain.service.ServiceImpl;
+import cool.klass.model.meta.domain.service.url.UrlConstantImpl;
+import cool.klass.model.meta.domain.value.AbstractMemberReferencePath;
+import cool.klass.model.meta.domain.value.ParameterReferenceImpl;
+import cool.klass.model.meta.domain.value.ThisMemberReferencePathImpl;
+import cool.klass.model.meta.domain.value.TypeMemberReferencePathImpl;
+import cool.klass.model.meta.domain.value.literal.BooleanLiteralValueImpl;
+import cool.klass.model.meta.domain.value.literal.FloatingPointLiteralValueImpl;
+import cool.klass.model.meta.domain.value.literal.IntegerLiteralValueImpl;
+import cool.klass.model.meta.domain.value.literal.LiteralListValueImpl;
+import cool.klass.model.meta.domain.value.literal.NullLiteralImpl;
+import cool.klass.model.meta.domain.value.literal.StringLiteralValueImpl;
+import cool.klass.model.meta.domain.value.literal.UserLiteralImpl;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.OrderedMap;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_ALL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_AND;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_EDGE_POINT;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_OPERATOR;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.CRITERIA_OR;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.DATA_TYPE_PROPERTY_ENUMERATION;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.DATA_TYPE_PROPERTY_PRIMITIVE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.NULL_ID;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_EQUALITY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_IN;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_INEQUALITY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.OPERATOR_STRING;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PARSE_TREE_RULE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PARSE_TREE_TOKEN;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PROJECTION_DATA_TYPE_PROPERTY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PROJECTION_PROJECTION_REFERENCE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.PROJECTION_REFERENCE_PROPERTY;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.TYPE_ELEMENT;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.TYPE_PRIMITIVE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.URL_CONSTANT;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.URL_PARAMETER;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_BOOLEAN_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_FLOATING_POINT_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_INTEGER_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_LITERAL_LIST;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_NULL_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_PARAMETER_REFERENCE;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_STRING_LITERAL;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_THIS_MEMBER_REFERENCE_PATH;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_TYPE_MEMBER_REFERENCE_PATH;
+import static cool.klass.model.meta.loader.snapshot.SnapshotFormat.VALUE_USER_LITERAL;
+
+/**
+ * Writes a compiled {@link DomainModelWithSourceCode} in the format read by {@link DomainModelSnapshotReader}.
+ *
+ * <p>Elements are written in the same order that {@code AntlrDomainModel.build()} creates their builders, so that every
+ * element is written after the elements it refers to. The one exception is the projection that each projection
+ * reference refers to, which is written after all projections, like the compiler's second projection pass.
+ *
+ * <p>In-place compiler macros are parsed into their own source codes and grafted into the parse tree they expand, but
+ * they are not part of {@link DomainModelWithSourceCode#getSourceCodes()}. They are only found while writing the
+ * elements they contain, so the elements are buffered and written after every source code.
+ */
+public final class DomainModelSnapshotWriter {
+
+	private final ByteArrayOutputStream elementBytes = new ByteArrayOutputStream();
+
+	@Nonnull
+	private DataOutputStream outputStream = new DataOutputStream(this.elementBytes);
+
+	private final MutableList<SourceCode> sourceCodes = Lists.mutable.empty();
+	private final Map<SourceCode, Integer> sourceCodeIds = new IdentityHashMap<>();
+	private final Map<ParserRuleContext, Integer> sourceCodeIdsByParserContext = new IdentityHashMap<>();
+	private final Map<Element, Integer> elementIds = new IdentityHashMap<>();
+
+	private final MutableList<ProjectionProjectionReferenceImpl> projectionReferences = Lists.mutable.empty();
+
+	public static void write(@Nonnull DomainModelWithSourceCode domainModel, @Nonnull Path path) throws IOException {
+		Files.createDirectories(path.getParent());
+		try (var outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			new DomainModelSnapshotWriter().write(domainModel, outputStream);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private void write(@Nonnull DomainModelWithSourceCode domainModel, @Nonnull DataOutputStream fileOutputStream) {
+		domainModel.getSourceCodes().each(this::getSourceCodeId);
+
+		this.writeList(domainModel.getEnumerations(), (each) -> this.writeEnumeration((EnumerationImpl) each));
+		this.writeList(domainModel.getInterfaces(), (each) -> this.writeInterface((InterfaceImpl) each));
+		this.writeList(domainModel.getClasses(), (each) -> this.writeKlass((KlassImpl) each));
+		this.writeReferences(domainModel.getClassifiers());
+		this.writeList(domainModel.getAssociations(), (each) -> this.writeAssociation((AssociationImpl) each));
+		domainModel.getInterfaces().each(this::writeClassifierReferences);
+		domainModel.getClasses().each(this::writeKlassReferences);
+
+		this.writeList(domainModel.getProjections(), (each) -> this.writeProjection((ProjectionImpl) each));
+		for (ProjectionProjectionReferenceImpl projectionReference : this.projectionReferences) {
+			this.writeReference(projectionReference.getProjection());
+		}
+
+		this.writeList(domainModel.getServiceGroups(), this::writeServiceGroup);
+		this.writeReferences(domainModel.getTopLevelElements());
+
+		// The compiler only sets the macro element of the domain model's source codes
+		for (SourceCode sourceCode : domainModel.getSourceCodes()) {
+			this.writeOptionalReference(((SourceCodeImpl) sourceCode).getMacroElement());
+		}
+
+		this.outputStream = fileOutputStream;
+		this.writeInt(SnapshotFormat.MAGIC);
+		this.writeInt(SnapshotFormat.VERSION);
+		this.writeSourceCodes(domainModel.getSourceCodes().size());
+		try {
+			this.elementBytes.writeTo(fileOutputStream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeSourceCodes(int domainModelSourceCodeCount) {
+		// Indexed, since each macro source code may find one more. All are found first, so their grafts can be skipped
+		for (int index = 0; index < this.sourceCodes.size(); index++) {
+			this.sourceCodes.get(index).getMacroSourceCode().ifPresent(this::getSourceCodeId);
+		}
+
+		this.writeInt(domainModelSourceCodeCount);
+		this.writeInt(this.sourceCodes.size());
+		for (int index = 0; index < this.sourceCodes.size(); index++) {
+			SourceCode sourceCode = this.sourceCodes.get(index);
+			this.writeString(sourceCode.getSourceName());
+			this.writeString(sourceCode.getSourceCodeText());
+			List<Token> tokens = sourceCode.getTokenStream().getTokens();
+			this.writeList(ListAdapter.adapt(tokens), this::writeToken);
+			this.writeParseTree(sourceCode.getParserContext(), tokens);
+			this.writeInt(sourceCode.getMacroSourceCode().map(this::getSourceCodeId).orElse(NULL_ID));
+			if (index >= domainModelSourceCodeCount) {
+				this.writeInPlaceContext(sourceCode.getParserContext());
+			}
+		}
+	}
+
+	// The text is not written, since the reader gets it from the source code text like the lexer's tokens do
+	private void writeToken(@Nonnull Token token) {
+		CharStream inputStream = token.getInputStream();
+		String text = token.getStartIndex() < inputStream.size() && token.getStopIndex() < inputStream.size()
+			? inputStream.getText(Interval.of(token.getStartIndex(), token.getStopIndex()))
+			: "<EOF>";
+		if (!text.equals(token.getText())) {
+			throw new IllegalStateException("Expected the text of %s to match its source code".formatted(token));
+		}
+
+		this.writeInt(token.getType());
+		this.writeInt(token.getChannel());
+		this.writeInt(token.getStartIndex());
+		this.writeInt(token.getStopIndex());
+		this.writeInt(token.getLine());
+		this.writeInt(token.getCharPositionInLine());
+	}
+
+	/**
+	 * Writes a parse tree in pre-order, so that the reader can rebuild it without running the parser. The parse trees
+	 * of in-place macros are skipped, since the reader grafts them again.
+	 */
+	private void writeParseTree(@Nonnull ParserRuleContext context, @Nonnull List<Token> tokens) {
+		this.writeString(context.getClass().getSimpleName());
+		this.writeInt(context.invokingState);
+		this.writeInt(getTokenIndex(context.getStart(), tokens));
+		this.writeInt(getTokenIndex(context.getStop(), tokens));
+
+		MutableList<ParseTree> children = Lists.mutable.empty();
+		for (int index = 0; index < context.getChildCount(); index++) {
+			ParseTree child = context.getChild(index);
+			if (!this.sourceCodeIdsByParserContext.containsKey(child)) {
+				children.add(child);
+			}
+		}
+		this.writeList(children, (child) -> {
+			if (child instanceof ParserRuleContext childContext) {
+				this.writeByte(PARSE_TREE_RULE);
+				this.writeParseTree(childContext, tokens);
+			} else if (child instanceof TerminalNode terminalNode && !(child instanceof ErrorNode)) {
+				this.writeByte(PARSE_TREE_TOKEN);
+				this.writeInt(getTokenIndex(terminalNode.getSymbol(), tokens));
+			} else {
+				throw new IllegalStateException("Unexpected parse tree node: " + child.getText());
+			}
+		});
+
+		this.writeLabels(context, tokens);
+	}
+
+	// Labels like left=criteriaExpression are fields that the parser assigns, rather than children
+	private void writeLabels(@Nonnull ParserRuleContext context, @Nonnull List<Token> tokens) {
+		MutableList<Field> labelFields = Lists.mutable.empty();
+		for (Field field : context.getClass().getFields()) {
+			boolean isLabel = !java.lang.reflect.Modifier.isStatic(field.getModifiers())
+				&& field.getDeclaringClass() != ParserRuleContext.class
+				&& (field.getType() == Token.class || ParserRuleContext.class.isAssignableFrom(field.getType()));
+			if (isLabel && getFieldValue(field, context) != null) {
+				labelFields.add(field);
+			}
+		}
+
+		this.writeList(labelFields, (field) -> {
+			this.writeString(field.getName());
+			Object value = getFieldValue(field, context);
+			this.writeInt(value instanceof Token token
+				? getTokenIndex(token, tokens)
+				: getChildIndex(context, (ParseTree) value));
+		});
+	}
+
+	@Nullable
+	private static Object getFieldValue(@Nonnull Field field, @Nonnull Object object) {
+		try {
+			return field.get(object);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Could not read " + field, e);
+		}
+	}
+
+	private static int getTokenIndex(@Nullable Token token, @Nonnull List<Token> tokens) {
+		if (token == null) {
+			return NULL_ID;
+		}
+		int tokenIndex = token.getTokenIndex();
+		if (tokenIndex < 0 || tokenIndex >= tokens.size() || tokens.get(tokenIndex) != token) {
+			throw new IllegalStateException("Expected %s in the token stream of its source code".formatted(token));
+		}
+		return tokenIndex;
+	}
+
+	/**
+	 * Writes the context that an in-place macro's parse tree was grafted into, and its index among that context's
+	 * children.
+	 */
+	private void writeInPlaceContext(@Nonnull ParserRuleContext parserContext) {
+		ParserRuleContext inPlaceContext = parserContext.getParent();
+		if (inPlaceContext == null) {
+			throw new IllegalStateException("Expected an in-place macro but got: " + parserContext.getText());
+		}
+		this.writeContext(inPlaceContext);
+		this.writeInt(getChildIndex(inPlaceContext, parserContext));
+	}
+
+	private void writeEnumeration(@Nonnull EnumerationImpl enumeration) {
+		this.writeNamedElement(enumeration);
+		this.writeString(enumeration.getPackageName());
+		this.writeList(enumeration.getEnumerationLiterals(), this::writeEnumerationLiteral);
+	}
+
+	private void writeEnumerationLiteral(@Nonnull EnumerationLiteral enumerationLiteral) {
+		this.writeNamedElement(enumerationLiteral);
+		this.writeOptionalString(enumerationLiteral.getDeclaredPrettyName());
+	}
+
+	private void writeInterface(@Nonnull InterfaceImpl iface) {
+		this.writeNamedElement(iface);
+		this.writeString(iface.getPackageName());
+		this.writeClassifierProperties(iface);
+	}
+
+	private void writeKlass(@Nonnull KlassImpl klass) {
+		this.writeNamedElement(klass);
+		this.writeString(klass.getPackageName());
+		this.writeBoolean(klass.isAbstract());
+		this.writeBoolean(klass.isUser());
+		this.writeBoolean(klass.isTransient());
+		this.writeClassifierProperties(klass);
+	}
+
+	private void writeClassifierProperties(@Nonnull AbstractClassifier classifier) {
+		this.writeList(classifier.getDeclaredModifiers(), this::writeModifier);
+		this.writeList(classifier.getDeclaredDataTypeProperties(), (each) ->
+			this.writeDataTypeProperty((AbstractDataTypeProperty<?>) each)
+		);
+	}
+
+	private void writeModifier(@Nonnull Modifier modifier) {
+		this.writeOrdinalElement(modifier);
+		this.writeReference(modifier.getModifierOwner());
+	}
+
+	private void writeDataTypeProperty(@Nonnull AbstractDataTypeProperty<?> dataTypeProperty) {
+		if (dataTypeProperty instanceof PrimitivePropertyImpl primitiveProperty) {
+			this.writeByte(DATA_TYPE_PROPERTY_PRIMITIVE);
+			this.writeNamedElement(primitiveProperty);
+			this.writeString(primitiveProperty.getType().name());
+		} else if (dataTypeProperty instanceof EnumerationPropertyImpl enumerationProperty) {
+			this.writeByte(DATA_TYPE_PROPERTY_ENUMERATION);
+			this.writeNamedElement(enumerationProperty);
+			this.writeReference(enumerationProperty.getType());
+		} else {
+			throw new AssertionError(dataTypeProperty.getClass().getSimpleName());
+		}
+		this.writeBoolean(dataTypeProperty.isOptional());
+
+		this.writeList(dataTypeProperty.getModifiers(), this::writeModifier);
+
+		this.writeOptionalValidation(dataTypeProperty.getMinLengthPropertyValidation());
+		this.writeOptionalValidation(dataTypeProperty.getMaxLengthPropertyValidation());
+		this.writeOptionalValidation(dataTypeProperty.getMinPropertyValidation());
+		this.writeOptionalValidation(dataTypeProperty.getMaxPropertyValidation());
+		this.writeReferences(dataTypeProperty.getPropertyValidations());
+	}
+
+	private void writeOptionalValidation(@Nonnull Optional<? extends PropertyValidation> propertyValidation) {
+		this.writeBoolean(propertyValidation.isPresent());
+		propertyValidation.ifPresent((each) -> {
+			this.writeElement(each);
+			this.writeInt(((AbstractNumericPropertyValidation) each).getNumber());
+		});
+	}
+
+	private void writeAssociation(@Nonnull AssociationImpl association) {
+		this.writeNamedElement(association);
+		this.writeString(association.getPackageName());
+		this.writeList(association.getAssociationEnds(), this::writeAssociationEnd);
+		this.writeCriteria(association.getCriteria());
+	}
+
+	private void writeAssociationEnd(@Nonnull AssociationEnd associationEnd) {
+		this.writeNamedElement(associationEnd);
+		this.writeReference(associationEnd.getType());
+		this.writeReference(associationEnd.getOwningClassifier());
+		this.writeString(associationEnd.getMultiplicity().name());
+		this.writeReferencePropertyDetails(associationEnd);
+	}
+
+	private void writeAssociationEndSignature(@Nonnull AssociationEndSignature associationEndSignature) {
+		this.writeNamedElement(associationEndSignature);
+		this.writeReference(associationEndSignature.getType());
+		this.writeString(associationEndSignature.getMultiplicity().name());
+		this.writeReferencePropertyDetails(associationEndSignature);
+	}
+
+	private void writeReferencePropertyDetails(@Nonnull ReferenceProperty referenceProperty) {
+		this.writeList(referenceProperty.getModifiers(), this::writeModifier);
+		this.writeOptionalOrderBy(referenceProperty.getOrderBy());
+	}
+
+	private void writeOptionalOrderBy(@Nonnull Optional<OrderBy> orderBy) {
+		this.writeBoolean(orderBy.isPresent());
+		orderBy.ifPresent((each) -> this.writeOrderBy((OrderByImpl) each));
+	}
+
+	private void writeOrderBy(@Nonnull OrderByImpl orderBy) {
+		this.writeElement(orderBy);
+		this.writeReference(orderBy.getThisContext());
+		this.writeList(orderBy.getOrderByMemberReferencePaths(), this::writeOrderByMemberReferencePath);
+	}
+
+	private void writeOrderByMemberReferencePath(@Nonnull OrderByMemberReferencePath orderByMemberReferencePath) {
+		var orderByMemberReferencePathImpl = (OrderByMemberReferencePathImpl) orderByMemberReferencePath;
+		this.writeMemberReferencePath(orderByMemberReferencePathImpl.getThisMemberReferencePath());
+		this.writeElement(orderByMemberReferencePathImpl);
+		this.writeInt(orderByMemberReferencePathImpl.getOrdinal());
+		this.writeElement(orderByMemberReferencePathImpl.getOrderByDirectionDeclaration());
+		this.writeString(orderByMemberReferencePathImpl.getOrderByDirectionDeclaration().getOrderByDirection().name());
+	}
+
+	private void writeClassifierReferences(@Nonnull Interface iface) {
+		var classifier = (AbstractClassifier) iface;
+		classifier.getDeclaredDataTypeProperties().each(this::writeForeignKeys);
+		this.writeList(classifier.getDeclaredAssociationEndSignatures(), this::writeAssociationEndSignature);
+		this.writeReferences(classifier.getDeclaredReferenceProperties());
+		this.writeReferences(classifier.getDeclaredProperties());
+		this.writeReferences(classifier.getInterfaces());
+	}
+
+	private void writeKlassReferences(@Nonnull Klass klass) {
+		var klassImpl = (KlassImpl) klass;
+		this.writeReferences(klassImpl.getDeclaredAssociationEnds());
+		this.writeList(klassImpl.getDeclaredAssociationEndSignatures(), this::writeAssociationEndSignature);
+		this.writeReferences(klassImpl.getDeclaredReferenceProperties());
+		this.writeReferences(klassImpl.getDeclaredProperties());
+		klassImpl.getDeclaredDataTypeProperties().each(this::writeForeignKeys);
+		this.writeReferences(klassImpl.getInterfaces());
+		this.writeOptionalReference(klassImpl.getSuperClass());
+		this.writeReferences(klassImpl.getSubClasses());
+	}
+
+	private void writeForeignKeys(@Nonnull DataTypeProperty dataTypeProperty) {
+		this.writeKeyMap(dataTypeProperty.getKeysMatchingThisForeignKey());
+		this.writeKeyMap(dataTypeProperty.getForeignKeysMatchingThisKey());
+	}
+
+	private void writeKeyMap(@Nonnull OrderedMap<AssociationEnd, DataTypeProperty> keys) {
+		this.writeInt(keys.size());
+		keys.forEachKeyValue((associationEnd, dataTypeProperty) -> {
+			this.writeReference(associationEnd);
+			this.writeReference(dataTypeProperty);
+		});
+	}
+
+	private void writeProjection(@Nonnull ProjectionImpl projection) {
+		this.writeNamedElement(projection);
+		this.writeString(projection.getPackageName());
+		this.writeReference(projection.getClassifier());
+		this.writeList(projection.getChildren(), this::writeProjectionChild);
+	}
+
+	private void writeProjectionChild(@Nonnull ProjectionChild projectionChild) {
+		if (projectionChild instanceof ProjectionDataTypePropertyImpl projectionDataTypeProperty) {
+			this.writeByte(PROJECTION_DATA_TYPE_PROPERTY);
+			this.writeNamedElement(projectionDataTypeProperty);
+			this.writeContext(projectionDataTypeProperty.getHeaderContext());
+			this.writeString(projectionDataTypeProperty.getHeaderText());
+			this.writeReference(projectionDataTypeProperty.getDeclaredClassifier());
+			this.writeReference(projectionDataTypeProperty.getProperty());
+		} else if (projectionChild instanceof ProjectionReferencePropertyImpl projectionReferenceProperty) {
+			this.writeByte(PROJECTION_REFERENCE_PROPERTY);
+			this.writeNamedElement(projectionReferenceProperty);
+			this.writeReference(projectionReferenceProperty.getDeclaredClassifier());
+			this.writeReference(projectionReferenceProperty.getProperty());
+			this.writeList(projectionReferenceProperty.getChildren(), this::writeProjectionChild);
+		} else if (projectionChild instanceof ProjectionProjectionReferenceImpl projectionProjectionReference) {
+			this.writeByte(PROJECTION_PROJECTION_REFERENCE);
+			this.writeNamedElement(projectionProjectionReference);
+			this.writeReference(projectionProjectionReference.getDeclaredClassifier());
+			this.writeReference(projectionProjectionReference.getProperty());
+			this.projectionReferences.add(projectionProjectionReference);
+		} else {
+			throw new AssertionError(projectionChild.getClass().getSimpleName());
+		}
+	}
+
+	private void writeServiceGroup(@Nonnull ServiceGroup serviceGroup) {
+		this.writeNamedElement(serviceGroup);
+		this.writeString(serviceGroup.getPackageName());
+		this.writeReference(serviceGroup.getKlass());
+		this.writeList(serviceGroup.getUrls(), this::writeUrl);
+	}
+
+	private void writeUrl(@Nonnull Url url) {
+		this.writeElement(url);
+		this.writeList(url.getUrlPathSegments(), this::writeUrlPathSegment);
+		this.writeList(url.getQueryParameters(), this::writeParameter);
+		this.writeReferences(url.getPathParameters());
+		this.writeReferences(url.getParameters());
+		this.writeList(url.getServices(), this::writeService);
+	}
+
+	private void writeUrlPathSegment(@Nonnull Element urlPathSegment) {
+		if (urlPathSegment instanceof UrlConstantImpl urlConstant) {
+			this.writeByte(URL_CONSTANT);
+			this.writeOrdinalElement(urlConstant);
+			this.writeString(urlConstant.getName());
+		} else if (urlPathSegment instanceof ParameterImpl parameter) {
+			this.writeByte(URL_PARAMETER);
+			this.writeParameter(parameter);
+		} else {
+			throw new AssertionError(urlPathSegment.getClass().getSimpleName());
+		}
+	}
+
+	private void writeParameter(@Nonnull Parameter parameter) {
+		this.writeNamedElement(parameter);
+		this.writeType(parameter.getType());
+		this.writeString(parameter.getMultiplicity().name());
+	}
+
+	private void writeService(@Nonnull Service service) {
+		var serviceImpl = (ServiceImpl) service;
+		this.writeElement(serviceImpl);
+		this.writeString(serviceImpl.getVerb().name());
+		this.writeString(serviceImpl.getServiceMultiplicity().name());
+
+		this.writeOptionalCriteria(serviceImpl.getQueryCriteria());
+		this.writeOptionalCriteria(serviceImpl.getAuthorizeCriteria());
+		this.writeOptionalCriteria(serviceImpl.getValidateCriteria());
+		this.writeOptionalCriteria(serviceImpl.getConflictCriteria());
+
+		this.writeBoolean(serviceImpl.getProjectionDispatch().isPresent());
+		serviceImpl.getProjectionDispatch().ifPresent((projectionDispatch) -> {
+			this.writeElement(projectionDispatch);
+			this.writeReference(projectionDispatch.getProjection());
+		});
+
+		this.writeOptionalOrderBy(serviceImpl.getOrderBy());
+
+		this.writeBoolean(serviceImpl.getPagination().isPresent());
+		serviceImpl.getPagination().ifPresent((pagination) -> {
+			this.writeElement(pagination);
+			this.writeInt(pagination.getPageSize());
+			this.writeInt(pagination.getMaxPageSize());
+		});
+	}
+
+	private void writeOptionalCriteria(@Nonnull Optional<Criteria> criteria) {
+		this.writeBoolean(criteria.isPresent());
+		criteria.ifPresent(this::writeCriteria);
+	}
+
+	private void writeCriteria(@Nonnull Criteria criteria) {
+		if (criteria instanceof AllCriteriaImpl) {
+			this.writeByte(CRITERIA_ALL);
+		} else if (criteria instanceof AndCriteriaImpl andCriteria) {
+			this.writeByte(CRITERIA_AND);
+			this.writeBinaryCriteria(andCriteria);
+		} else if (criteria instanceof OrCriteriaImpl orCriteria) {
+			this.writeByte(CRITERIA_OR);
+			this.writeBinaryCriteria(orCriteria);
+		} else if (criteria instanceof EdgePointCriteriaImpl edgePointCriteria) {
+			this.writeByte(CRITERIA_EDGE_POINT);
+			this.writeExpressionValue(edgePointCriteria.getMemberExpressionValue());
+		} else if (criteria instanceof OperatorCriteriaImpl operatorCriteria) {
+			this.writeByte(CRITERIA_OPERATOR);
+			this.writeOperator((AbstractOperator) operatorCriteria.getOperator());
+			this.writeExpressionValue(operatorCriteria.getSourceValue());
+			this.writeExpressionValue(operatorCriteria.getTargetValue());
+		} else {
+			throw new AssertionError(criteria.getClass().getSimpleName());
+		}
+		// Like the compiler, the operands are built before the criteria that contains them
+		this.writeElement(criteria);
+	}
+
+	private void writeBinaryCriteria(@Nonnull AbstractBinaryCriteria binaryCriteria) {
+		this.writeCriteria(binaryCriteria.getLeft());
+		this.writeCriteria(binaryCriteria.getRight());
+	}
+
+	private void writeOperator(@Nonnull AbstractOperator operator) {
+		if (operator instanceof EqualityOperatorImpl) {
+			this.writeByte(OPERATOR_EQUALITY);
+		} else if (operator instanceof InequalityOperatorImpl) {
+			this.writeByte(OPERATOR_INEQUALITY);
+		} else if (operator instanceof InOperatorImpl) {
+			this.writeByte(OPERATOR_IN);
+		} else if (operator instanceof StringOperatorImpl) {
+			this.writeByte(OPERATOR_STRING);
+		} else {
+			throw new AssertionError(operator.getClass().getSimpleName());
+		}
+		this.writeElement(operator);
+		this.writeString(operator.getOperatorText());
+	}
+
+	private void writeExpressionValue(@Nonnull ExpressionValue expressionValue) {
+		if (expressionValue instanceof ThisMemberReferencePathImpl thisMemberReferencePath) {
+			this.writeByte(VALUE_THIS_MEMBER_REFERENCE_PATH);
+			this.writeMemberReferencePath(thisMemberReferencePath);
+		} else if (expressionValue instanceof TypeMemberReferencePathImpl typeMemberReferencePath) {
+			this.writeByte(VALUE_TYPE_MEMBER_REFERENCE_PATH);
+			this.writeMemberReferencePath(typeMemberReferencePath);
+		} else if (expressionValue instanceof ParameterReferenceImpl parameterReference) {
+			this.writeByte(VALUE_PARAMETER_REFERENCE);
+			this.writeElement(parameterReference);
+			this.writeReference(parameterReference.getParameter());
+		} else if (expressionValue instanceof StringLiteralValueImpl stringLiteralValue) {
+			this.writeByte(VALUE_STRING_LITERAL);
+			this.writeElement(stringLiteralValue);
+			this.writeString(stringLiteralValue.getValue());
+		} else if (expressionValue instanceof IntegerLiteralValueImpl integerLiteralValue) {
+			this.writeByte(VALUE_INTEGER_LITERAL);
+			this.writeElement(integerLiteralValue);
+			this.writeLong(integerLiteralValue.getValue());
+		} else if (expressionValue instanceof FloatingPointLiteralValueImpl floatingPointLiteralValue) {
+			this.writeByte(VALUE_FLOATING_POINT_LITERAL);
+			this.writeElement(floatingPointLiteralValue);
+			this.writeDouble(floatingPointLiteralValue.getValue());
+		} else if (expressionValue instanceof BooleanLiteralValueImpl booleanLiteralValue) {
+			this.writeByte(VALUE_BOOLEAN_LITERAL);
+			this.writeElement(booleanLiteralValue);
+			this.writeBoolean(booleanLiteralValue.getValue());
+		} else if (expressionValue instanceof NullLiteralImpl nullLiteral) {
+			this.writeByte(VALUE_NULL_LITERAL);
+			this.writeElement(nullLiteral);
+		} else if (expressionValue instanceof UserLiteralImpl userLiteral) {
+			this.writeByte(VALUE_USER_LITERAL);
+			this.writeElement(userLiteral);
+			this.writeReference(userLiteral.getUserClass());
+		} else if (expressionValue instanceof LiteralListValueImpl literalListValue) {
+			this.writeByte(VALUE_LITERAL_LIST);
+			this.writeElement(literalListValue);
+			this.writeType(literalListValue.getType());
+			this.writeList(literalListValue.getLiteralValues(), this::writeLiteralValue);
+		} else {
+			throw new AssertionError(expressionValue.getClass().getSimpleName());
+		}
+	}
+
+	private void writeLiteralValue(@Nonnull LiteralValue literalValue) {
+		this.writeExpressionValue(literalValue);
+	}
+
+	private void writeMemberReferencePath(@Nonnull AbstractMemberReferencePath memberReferencePath) {
+		this.writeElement(memberReferencePath);
+		this.writeReference(memberReferencePath.getKlass());
+		this.writeReferences(memberReferencePath.getAssociationEnds());
+		this.writeReference(memberReferencePath.getProperty());
+	}
+
+	private void writeType(@Nonnull Type type) {
+		if (type instanceof PrimitiveType primitiveType) {
+			this.writeByte(TYPE_PRIMITIVE);
+			this.writeString(primitiveType.name());
+		} else {
+			this.writeByte(TYPE_ELEMENT);
+			this.writeReference((Element) type);
+		}
+	}
+
+	private void writeNamedElement(@Nonnull Element element) {
+		this.writeOrdinalElement(element);
+		this.writeContext(((AbstractNamedElement) element).getNameContext());
+	}
+
+	private void writeOrdinalElement(@Nonnull Element element) {
+		this.writeElement(element);
+		this.writeInt(((AbstractOrdinalElement) element).getOrdinal());
+	}
+
+	/**
+	 * Writes the arguments that every builder takes, and assigns the element the next id. The reader assigns ids in
+	 * the order it creates builders, so this must be called at the point where the reader creates the builder.
+	 */
+	private void writeElement(@Nonnull Element element) {
+		var abstractElement = (AbstractElement) element;
+		if (this.elementIds.putIfAbsent(element, this.elementIds.size()) != null) {
+			throw new IllegalStateException("Element written twice: " + element);
+		}
+		// Looked up first, so that the contexts in an in-place macro are written relative to its own parse tree
+		int sourceCodeId = this.getSourceCodeId(abstractElement.getSourceCodeObject());
+		this.writeContext(abstractElement.getElementContext());
+		this.writeOptionalReference(abstractElement.getMacroElement());
+		this.writeInt(sourceCodeId);
+	}
+
+	private void writeContext(@Nonnull ParserRuleContext context) {
+		MutableIntList childIndexes = IntLists.mutable.empty();
+		ParserRuleContext current = context;
+		// Stops at the root of an in-place macro's parse tree, rather than the tree it was grafted into
+		while (!this.sourceCodeIdsByParserContext.containsKey(current)) {
+			ParserRuleContext parent = current.getParent();
+			if (parent == null) {
+				throw new IllegalStateException("Could not find the source code containing: " + context.getText());
+			}
+			childIndexes.add(getChildIndex(parent, current));
+			current = parent;
+		}
+
+		int sourceCodeId = this.sourceCodeIdsByParserContext.get(current);
+
+		this.writeInt(sourceCodeId);
+		this.writeInt(childIndexes.size());
+		childIndexes.reverseThis().forEach(this::writeInt);
+	}
+
+	private static int getChildIndex(@Nonnull ParserRuleContext parent, @Nonnull ParseTree child) {
+		for (int index = 0; index < parent.getChildCount(); index++) {
+			if (parent.getChild(index) == child) {
+				return index;
+			}
+		}
+		throw new IllegalStateException("Could not find " + child.getText() + " in its parent " + parent.getText());
+	}
+
+	private int getSourceCodeId(@Nonnull SourceCode sourceCode) {
+		Integer sourceCodeId = this.sourceCodeIds.get(sourceCode);
+		if (sourceCodeId != null) {
+			return sourceCodeId;
+		}
+
+		int newSourceCodeId = this.sourceCodes.size();
+		this.sourceCodes.add(sourceCode);
+		this.sourceCodeIds.put(sourceCode, newSourceCodeId);
+		this.sourceCodeIdsByParserContext.put(sourceCode.getParserContext(), newSourceCodeId);
+		return newSourceCodeId;
+	}
+
+	private <T> void writeList(@Nonnull RichIterable<T> elements, @Nonnull Consumer<? super T> elementWriter) {
+		this.writeInt(elements.size());
+		elements.forEach(elementWriter);
+	}
+
+	private void writeReferences(@Nonnull RichIterable<? extends Element> elements) {
+		this.writeList(elements, this::writeReference);
+	}
+
+	private void writeOptionalReference(@Nonnull Optional<? extends Element> element) {
+		this.writeInt(element.map(this::getElementId).orElse(NULL_ID));
+	}
+
+	private void writeReference(@Nonnull Element element) {
+		this.writeInt(this.getElementId(element));
+	}
+
+	private int getElementId(@Nonnull Element element) {
+		Integer elementId = this.elementIds.get(element);
+		if (elementId == null) {
+			throw new IllegalStateException("Element referenced before it was written: " + element);
+		}
+		return elementId;
+	}
+
+	private void writeOptionalString(@Nonnull Optional<String> value) {
+		this.writeBoolean(value.isPresent());
+		value.ifPresent(this::writeString);
+	}
+
+	private void writeString(@Nonnull String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		this.writeInt(bytes.length);
+		try {
+			this.outputStream.write(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeByte(byte value) {
+		try {
+			this.outputStream.writeByte(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeBoolean(boolean value) {
+		try {
+			this.outputStream.writeBoolean(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeInt(int value) {
+		try {
+			this.outputStream.writeInt(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeLong(long value) {
+		try {
+			this.outputStream.writeLong(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeDouble(double value) {
+		try {
+			this.outputStream.writeDouble(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
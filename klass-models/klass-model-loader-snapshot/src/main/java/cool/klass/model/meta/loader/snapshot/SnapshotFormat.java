@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.meta.loader.snapshot;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * Constants shared by {@link DomainModelSnapshotWriter} and {@link DomainModelSnapshotReader}.
+ *
+ * <p>A snapshot is a header with the magic number and format version, followed by the source codes and then the
+ * elements, in the order that the compiler creates their builders. Each source code is written as its name, its text,
+ * its tokens, and its parse tree, so that reading it doesn't run the lexer or the parser. The source codes of in-place
+ * macros come after the domain model's source codes, each with the context it was grafted into. Each element is
+ * written as the arguments to its builder. Parse tree contexts are written as the source code they belong to and the
+ * path of child indexes from the root of its parse tree.
+ * References to source codes and elements are written as indexes in the order they were written, with
+ * {@link #NULL_ID} for none.
+ */
+final class SnapshotFormat {
+
+	static final int MAGIC = 0x4B4C5353;
+	static final int VERSION = 4;
+
+	static final int NULL_ID = -1;
+
+	static final byte TYPE_PRIMITIVE = 0;
+	static final byte TYPE_ELEMENT = 1;
+
+	static final byte DATA_TYPE_PROPERTY_PRIMITIVE = 0;
+	static final byte DATA_TYPE_PROPERTY_ENUMERATION = 1;
+
+	static final byte CRITERIA_ALL = 0;
+	static final byte CRITERIA_AND = 1;
+	static final byte CRITERIA_OR = 2;
+	static final byte CRITERIA_EDGE_POINT = 3;
+	static final byte CRITERIA_OPERATOR = 4;
+
+	static final byte OPERATOR_EQUALITY = 0;
+	static final byte OPERATOR_INEQUALITY = 1;
+	static final byte OPERATOR_IN = 2;
+	static final byte OPERATOR_STRING = 3;
+
+	static final byte VALUE_THIS_MEMBER_REFERENCE_PATH = 0;
+	static final byte VALUE_TYPE_MEMBER_REFERENCE_PATH = 1;
+	static final byte VALUE_PARAMETER_REFERENCE = 2;
+	static final byte VALUE_STRING_LITERAL = 3;
+	static final byte VALUE_INTEGER_LITERAL = 4;
+	static final byte VALUE_FLOATING_POINT_LITERAL = 5;
+	static final byte VALUE_BOOLEAN_LITERAL = 6;
+	static final byte VALUE_NULL_LITERAL = 7;
+	static final byte VALUE_USER_LITERAL = 8;
+	static final byte VALUE_LITERAL_LIST = 9;
+
+	static final byte PROJECTION_DATA_TYPE_PROPERTY = 0;
+	static final byte PROJECTION_REFERENCE_PROPERTY = 1;
+	static final byte PROJECTION_PROJECTION_REFERENCE = 2;
+
+	static final byte PARSE_TREE_RULE = 0;
+	static final byte PARSE_TREE_TOKEN = 1;
+
+	static final byte URL_CONSTANT = 0;
+	static final byte URL_PARAMETER = 1;
+
+	// Service criteria, in the order they are written
+	static final ImmutableList<String> SERVICE_CRITERIA_KEYWORDS = Lists.immutable.with(
+		"criteria",
+		"authorize",
+		"validate",
+		"conflict"
+	);
+
+	private SnapshotFormat() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+}
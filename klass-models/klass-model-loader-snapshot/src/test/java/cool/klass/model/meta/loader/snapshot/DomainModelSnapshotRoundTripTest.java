@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.meta.loader.snapshot;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.converter.compiler.CompilationResult;
+import cool.klass.model.converter.compiler.CompilationUnit;
+import cool.klass.model.converter.compiler.KlassCompiler;
+import cool.klass.model.converter.compiler.annotation.AbstractCompilerAnnotation;
+import cool.klass.model.converter.compiler.annotation.RootCompilerAnnotation;
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
+import cool.klass.model.meta.domain.api.Association;
+import cool.klass.model.meta.domain.api.Classifier;
+import cool.klass.model.meta.domain.api.Element;
+import cool.klass.model.meta.domain.api.Enumeration;
+import cool.klass.model.meta.domain.api.EnumerationLiteral;
+import cool.klass.model.meta.domain.api.Interface;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.NamedElement;
+import cool.klass.model.meta.domain.api.criteria.BinaryCriteria;
+import cool.klass.model.meta.domain.api.criteria.Criteria;
+import cool.klass.model.meta.domain.api.criteria.EdgePointCriteria;
+import cool.klass.model.meta.domain.api.criteria.OperatorCriteria;
+import cool.klass.model.meta.domain.api.modifier.Modifier;
+import cool.klass.model.meta.domain.api.order.OrderBy;
+import cool.klass.model.meta.domain.api.order.OrderByMemberReferencePath;
+import cool.klass.model.meta.domain.api.parameter.Parameter;
+import cool.klass.model.meta.domain.api.projection.Projection;
+import cool.klass.model.meta.domain.api.projection.ProjectionChild;
+import cool.klass.model.meta.domain.api.projection.ProjectionDataTypeProperty;
+import cool.klass.model.meta.domain.api.projection.ProjectionElement;
+import cool.klass.model.meta.domain.api.projection.ProjectionProjectionReference;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.property.ReferenceProperty;
+import cool.klass.model.meta.domain.api.service.Service;
+import cool.klass.model.meta.domain.api.service.ServiceGroup;
+import cool.klass.model.meta.domain.api.service.ServicePagination;
+import cool.klass.model.meta.domain.api.service.url.Url;
+import cool.klass.model.meta.domain.api.source.DomainModelWithSourceCode;
+import cool.klass.model.meta.domain.api.source.ElementWithSourceCode;
+import cool.klass.model.meta.domain.api.source.SourceCode;
+import cool.klass.model.meta.domain.api.value.ExpressionValue;
+import cool.klass.model.meta.domain.api.value.MemberReferencePath;
+import cool.klass.model.meta.domain.api.value.ParameterReference;
+import cool.klass.model.meta.domain.api.value.literal.LiteralListValue;
+import cool.klass.model.meta.domain.api.value.literal.StringLiteralValue;
+import cool.klass.model.meta.grammar.KlassParser;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.junit.extension.match.FileSlurper;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compiles a model, writes it as a snapshot, reads it back, and compares the two models element by element.
+ *
+ * <p>The model is a local fixture rather than one of the example domain models, since the example models are compiled
+ * by plugins that depend on this module.
+ */
+@ExtendWith(LogMarkerTestExtension.class)
+class DomainModelSnapshotRoundTripTest {
+
+	private static final String SOURCE_NAME = "DomainModelSnapshotRoundTripTest.klass";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void roundTrip() throws IOException {
+		DomainModelWithSourceCode compiledModel = this.compile();
+		DomainModelWithSourceCode readModel = this.writeAndRead(compiledModel);
+
+		MutableList<String> expected = new ModelDescriber().describe(compiledModel);
+		MutableList<String> actual = new ModelDescriber().describe(readModel);
+		assertThat(actual).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void sourceCodeTokensAndContexts() throws IOException {
+		DomainModelWithSourceCode compiledModel = this.compile();
+		DomainModelWithSourceCode readModel = this.writeAndRead(compiledModel);
+
+		ImmutableList<SourceCode> compiledSourceCodes = compiledModel.getSourceCodes();
+		ImmutableList<SourceCode> readSourceCodes = readModel.getSourceCodes();
+		assertThat(readSourceCodes).hasSameSizeAs(compiledSourceCodes);
+		assertThat(readSourceCodes.size()).isGreaterThan(1);
+
+		for (int i = 0; i < compiledSourceCodes.size(); i++) {
+			List<Token> compiledTokens = compiledSourceCodes.get(i).getTokenStream().getTokens();
+			List<Token> readTokens = readSourceCodes.get(i).getTokenStream().getTokens();
+			assertThat(readTokens).hasSameSizeAs(compiledTokens);
+
+			for (int tokenIndex = 0; tokenIndex < compiledTokens.size(); tokenIndex++) {
+				Token compiledToken = compiledTokens.get(tokenIndex);
+				Token readToken = readTokens.get(tokenIndex);
+				assertThat(readToken.getText()).isEqualTo(compiledToken.getText());
+				assertThat(readToken.getType()).isEqualTo(compiledToken.getType());
+
+				assertThat(readModel.getTokenCategory(readToken))
+					.as(compiledToken.toString())
+					.isEqualTo(compiledModel.getTokenCategory(compiledToken));
+				assertThat(readModel.getElementByDeclaration(readToken).map(ModelDescriber::locate))
+					.as(compiledToken.toString())
+					.isEqualTo(compiledModel.getElementByDeclaration(compiledToken).map(ModelDescriber::locate));
+				assertThat(readModel.getElementByReference(readToken).map(ModelDescriber::locate))
+					.as(compiledToken.toString())
+					.isEqualTo(compiledModel.getElementByReference(compiledToken).map(ModelDescriber::locate));
+			}
+
+			assertSameParseTree(
+				compiledSourceCodes.get(i).getParserContext(),
+				readSourceCodes.get(i).getParserContext()
+			);
+		}
+
+		// Every element's context is part of the parse tree of its own source code, including in-place macros
+		for (Classifier classifier : readModel.getClassifiers()) {
+			assertInOwnSourceCode((ElementWithSourceCode) classifier);
+			classifier.getDeclaredDataTypeProperties().each((each) -> assertInOwnSourceCode((ElementWithSourceCode) each));
+		}
+	}
+
+	// The reader rebuilds parse trees without the parser, so this compares the context classes, tokens, and labels
+	private static void assertSameParseTree(@Nonnull ParseTree compiled, @Nonnull ParseTree read) {
+		assertThat(read.getClass()).isEqualTo(compiled.getClass());
+		assertThat(read.getChildCount()).as(compiled.getText()).isEqualTo(compiled.getChildCount());
+		if (compiled instanceof TerminalNode compiledTerminalNode) {
+			assertThat(((TerminalNode) read).getSymbol().getTokenIndex())
+				.isEqualTo(compiledTerminalNode.getSymbol().getTokenIndex());
+			return;
+		}
+
+		for (Field field : compiled.getClass().getFields()) {
+			Object compiledValue = getFieldValue(field, compiled);
+			Object readValue = getFieldValue(field, read);
+			if (compiledValue == null) {
+				assertThat(readValue).as(field.getName()).isNull();
+			} else if (compiledValue instanceof Token compiledToken) {
+				assertThat(((Token) readValue).getTokenIndex())
+					.as(field.getName())
+					.isEqualTo(compiledToken.getTokenIndex());
+			} else if (compiledValue instanceof ParserRuleContext compiledContext) {
+				assertThat(readValue).as(field.getName()).isInstanceOf(compiledContext.getClass());
+				assertThat(((ParserRuleContext) readValue).getText()).isEqualTo(compiledContext.getText());
+			} else if (compiledValue instanceof Integer) {
+				assertThat(readValue).as(field.getName()).isEqualTo(compiledValue);
+			}
+		}
+
+		for (int index = 0; index < compiled.getChildCount(); index++) {
+			assertSameParseTree(compiled.getChild(index), read.getChild(index));
+		}
+	}
+
+	private static Object getFieldValue(@Nonnull Field field, @Nonnull Object object) {
+		try {
+			return field.get(object);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void assertInOwnSourceCode(@Nonnull ElementWithSourceCode element) {
+		SourceCode sourceCode = element.getSourceCodeObject();
+		ParserRuleContext context = element.getElementContext();
+		assertThat(sourceCode.getTokenStream().get(context.getStart().getTokenIndex())).isSameAs(context.getStart());
+
+		ParserRuleContext ancestor = context;
+		while (ancestor != null && ancestor != sourceCode.getParserContext()) {
+			ancestor = ancestor.getParent();
+		}
+		assertThat(ancestor).as(element.toString()).isSameAs(sourceCode.getParserContext());
+	}
+
+	@Nonnull
+	private DomainModelWithSourceCode compile() {
+		String sourceCodeText = FileSlurper.slurp(SOURCE_NAME, this.getClass());
+		CompilationUnit compilationUnit = CompilationUnit.createFromText(
+			0,
+			Optional.empty(),
+			SOURCE_NAME,
+			sourceCodeText
+		);
+		var compiler = new KlassCompiler(compilationUnit, ColorSchemeProvider.getByName("dark"));
+		CompilationResult compilationResult = compiler.compile();
+		ImmutableList<RootCompilerAnnotation> compilerErrors = compilationResult
+			.compilerAnnotations()
+			.select(AbstractCompilerAnnotation::isError);
+		assertThat(compilerErrors).as(compilerErrors.makeString("\n")).isEmpty();
+		return compilationResult.domainModelWithSourceCode().get();
+	}
+
+	@Nonnull
+	private DomainModelWithSourceCode writeAndRead(@Nonnull DomainModelWithSourceCode domainModel) throws IOException {
+		Path snapshotPath = this.tempDir.resolve("domain-model.snapshot");
+		DomainModelSnapshotWriter.write(domainModel, snapshotPath);
+		return DomainModelSnapshotLoader.read(snapshotPath.toUri().toURL());
+	}
+
+	private static final class ModelDescriber {
+
+		private final MutableList<String> lines = Lists.mutable.empty();
+
+		@Nonnull
+		public MutableList<String> describe(@Nonnull DomainModelWithSourceCode domainModel) {
+			for (SourceCode sourceCode : domainModel.getSourceCodes()) {
+				String macroSourceName = sourceCode.getMacroSourceCode().map(SourceCode::getSourceName).orElse("none");
+				this.line(0, "source", sourceCode.getSourceName(), "macro=" + macroSourceName);
+				this.line(1, sourceCode.getSourceCodeText());
+			}
+
+			domainModel.getTopLevelElements().forEach((each) -> this.line(0, "topLevelElement", locate(each)));
+			domainModel.getEnumerations().forEach(this::describeEnumeration);
+			domainModel.getClassifiers().forEach(this::describeClassifier);
+			domainModel.getAssociations().forEach(this::describeAssociation);
+			domainModel.getProjections().forEach(this::describeProjection);
+			domainModel.getServiceGroups().forEach(this::describeServiceGroup);
+			return this.lines;
+		}
+
+		private void describeEnumeration(@Nonnull Enumeration enumeration) {
+			this.line(0, describe(enumeration));
+			for (EnumerationLiteral literal : enumeration.getEnumerationLiterals()) {
+				this.line(1, describe(literal), literal.getPrettyName(), literal.getDeclaredPrettyName().toString());
+			}
+		}
+
+		private void describeClassifier(@Nonnull Classifier classifier) {
+			this.line(
+				0,
+				describe(classifier),
+				"abstract=" + classifier.isAbstract(),
+				"interfaces=" + classifier.getInterfaces().collect(Interface::getName)
+			);
+			if (classifier instanceof Klass klass) {
+				this.line(
+					1,
+					"superClass=" + klass.getSuperClass().map(Klass::getName),
+					"user=" + klass.isUser(),
+					"transient=" + klass.isTransient(),
+					"versioned=" + klass.isVersioned(),
+					"audited=" + klass.isAudited()
+				);
+			}
+			classifier.getDeclaredModifiers().forEach((each) -> this.describeModifier(1, each));
+
+			for (DataTypeProperty property : classifier.getDeclaredDataTypeProperties()) {
+				this.line(1, describe(property), property.toString(), "key=" + property.isKey());
+				property.getModifiers().forEach((each) -> this.describeModifier(2, each));
+				property.getMinLengthPropertyValidation().ifPresent((each) -> this.line(2, describe(each)));
+				property.getMaxLengthPropertyValidation().ifPresent((each) -> this.line(2, describe(each)));
+				property.getMinPropertyValidation().ifPresent((each) -> this.line(2, describe(each)));
+				property.getMaxPropertyValidation().ifPresent((each) -> this.line(2, describe(each)));
+				var foreignKeys = property.getKeysMatchingThisForeignKey().keysView().collect(ModelDescriber::locate);
+				this.line(2, "foreignKeys=" + foreignKeys);
+			}
+
+			for (ReferenceProperty property : classifier.getDeclaredReferenceProperties()) {
+				this.describeReferenceProperty(1, property);
+			}
+		}
+
+		private void describeReferenceProperty(int depth, @Nonnull ReferenceProperty property) {
+			this.line(
+				depth,
+				describe(property),
+				property.getType().getName(),
+				property.getMultiplicity().getPrettyName(),
+				"owned=" + property.isOwned()
+			);
+			property.getModifiers().forEach((each) -> this.describeModifier(depth + 1, each));
+			property.getOrderBy().ifPresent((each) -> this.describeOrderBy(depth + 1, each));
+		}
+
+		private void describeModifier(int depth, @Nonnull Modifier modifier) {
+			this.line(depth, describe(modifier), modifier.getKeyword(), "ordinal=" + modifier.getOrdinal());
+		}
+
+		private void describeAssociation(@Nonnull Association association) {
+			this.line(0, describe(association));
+			this.describeCriteria(1, association.getCriteria());
+			association.getAssociationEnds().forEach((each) -> this.describeReferenceProperty(1, each));
+		}
+
+		private void describeProjection(@Nonnull Projection projection) {
+			this.line(0, describe(projection), projection.getClassifier().getName());
+			this.describeProjectionChildren(1, projection);
+		}
+
+		private void describeProjectionChildren(int depth, @Nonnull ProjectionElement projectionElement) {
+			for (ProjectionChild child : projectionElement.getChildren()) {
+				if (child instanceof ProjectionDataTypeProperty dataTypeProperty) {
+					this.line(depth, describe(child), locate(child.getProperty()), dataTypeProperty.getHeaderText());
+				} else if (child instanceof ProjectionProjectionReference projectionReference) {
+					String projection = locate(projectionReference.getProjection());
+					this.line(depth, describe(child), locate(child.getProperty()), projection);
+				} else {
+					this.line(depth, describe(child), locate(child.getProperty()));
+					this.describeProjectionChildren(depth + 1, child);
+				}
+			}
+		}
+
+		private void describeServiceGroup(@Nonnull ServiceGroup serviceGroup) {
+			this.line(0, describe(serviceGroup), serviceGroup.getKlass().getName());
+			for (Url url : serviceGroup.getUrls()) {
+				this.line(1, describe(url), url.getUrlString());
+				url.getUrlPathSegments().forEach((each) -> this.line(2, describe(each)));
+				url.getQueryParameters().forEach((each) -> this.describeParameter(2, each));
+				url.getServices().forEach((each) -> this.describeService(2, each));
+			}
+		}
+
+		private void describeParameter(int depth, @Nonnull Parameter parameter) {
+			String multiplicity = parameter.getMultiplicity().getPrettyName();
+			this.line(depth, describe(parameter), parameter.getType().getName(), multiplicity);
+		}
+
+		private void describeService(int depth, @Nonnull Service service) {
+			String multiplicity = service.getServiceMultiplicity().toString();
+			this.line(depth, describe(service), service.getVerb().toString(), multiplicity);
+			service.getQueryCriteria().ifPresent((each) -> this.describeCriteria(depth + 1, each));
+			service.getAuthorizeCriteria().ifPresent((each) -> this.describeCriteria(depth + 1, each));
+			service.getValidateCriteria().ifPresent((each) -> this.describeCriteria(depth + 1, each));
+			service.getConflictCriteria().ifPresent((each) -> this.describeCriteria(depth + 1, each));
+			service
+				.getProjectionDispatch()
+				.ifPresent((each) -> this.line(depth + 1, describe(each), locate(each.getProjection())));
+			service.getOrderBy().ifPresent((each) -> this.describeOrderBy(depth + 1, each));
+			service.getPagination().ifPresent((each) -> this.describePagination(depth + 1, each));
+		}
+
+		private void describePagination(int depth, @Nonnull ServicePagination pagination) {
+			this.line(depth, describe(pagination), pagination.getPageSize() + " max " + pagination.getMaxPageSize());
+		}
+
+		private void describeOrderBy(int depth, @Nonnull OrderBy orderBy) {
+			this.line(depth, describe(orderBy));
+			for (OrderByMemberReferencePath memberReferencePath : orderBy.getOrderByMemberReferencePaths()) {
+				this.line(depth + 1, describe(memberReferencePath));
+				this.describeValue(depth + 2, memberReferencePath.getThisMemberReferencePath());
+				this.line(
+					depth + 2,
+					describe(memberReferencePath.getOrderByDirectionDeclaration()),
+					memberReferencePath.getOrderByDirectionDeclaration().getOrderByDirection().toString()
+				);
+			}
+		}
+
+		private void describeCriteria(int depth, @Nonnull Criteria criteria) {
+			this.line(depth, describe(criteria));
+			if (criteria instanceof BinaryCriteria binaryCriteria) {
+				this.describeCriteria(depth + 1, binaryCriteria.getLeft());
+				this.describeCriteria(depth + 1, binaryCriteria.getRight());
+			} else if (criteria instanceof OperatorCriteria operatorCriteria) {
+				this.line(depth + 1, describe(operatorCriteria.getOperator()));
+				this.describeValue(depth + 1, operatorCriteria.getSourceValue());
+				this.describeValue(depth + 1, operatorCriteria.getTargetValue());
+			} else if (criteria instanceof EdgePointCriteria edgePointCriteria) {
+				this.describeValue(depth + 1, edgePointCriteria.getMemberExpressionValue());
+			}
+		}
+
+		private void describeValue(int depth, @Nonnull ExpressionValue expressionValue) {
+			if (expressionValue instanceof MemberReferencePath memberReferencePath) {
+				this.line(
+					depth,
+					describe(expressionValue),
+					memberReferencePath.getAssociationEnds().collect(ModelDescriber::locate).toString(),
+					locate(memberReferencePath.getProperty())
+				);
+			} else if (expressionValue instanceof ParameterReference parameterReference) {
+				this.line(depth, describe(expressionValue), locate(parameterReference.getParameter()));
+			} else if (expressionValue instanceof LiteralListValue literalListValue) {
+				this.line(depth, describe(expressionValue), literalListValue.getType().getName());
+				literalListValue.getLiteralValues().forEach((each) -> this.describeValue(depth + 1, each));
+			} else if (expressionValue instanceof StringLiteralValue stringLiteralValue) {
+				this.line(depth, describe(expressionValue), stringLiteralValue.getValue());
+			} else {
+				this.line(depth, describe(expressionValue));
+			}
+		}
+
+		private void line(int depth, @Nonnull String... parts) {
+			this.lines.add("\t".repeat(depth) + String.join(" ", parts));
+		}
+
+		@Nonnull
+		private static String describe(@Nonnull Element element) {
+			String macroElement = element.getMacroElement().map(ModelDescriber::locate).orElse("none");
+			return locate(element) + " macro=" + macroElement;
+		}
+
+		@Nonnull
+		private static String locate(@Nonnull Element element) {
+			var elementWithSourceCode = (ElementWithSourceCode) element;
+			ParserRuleContext context = elementWithSourceCode.getElementContext();
+			String name = element instanceof NamedElement namedElement ? namedElement.getName() : "";
+			return String.format(
+				"%s(%s) %s:%s%s",
+				element.getClass().getSimpleName(),
+				name,
+				elementWithSourceCode.getSourceCodeObject().getSourceName(),
+				KlassParser.ruleNames[context.getRuleIndex()],
+				context.getSourceInterval()
+			);
+		}
+	}
+}
@@ -16,6 +16,10 @@
 
 package cool.klass.model.meta.domain.api;
 
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
 import org.eclipse.collections.api.list.ImmutableList;
 
 public interface Enumeration extends DataType, TopLevelElement {
@@ -30,4 +34,9 @@ public interface Enumeration extends DataType, TopLevelElement {
 	}
 
 	ImmutableList<EnumerationLiteral> getEnumerationLiterals();
+
+	@Nonnull
+	default Optional<EnumerationLiteral> findEnumerationLiteralByPrettyName(String prettyName) {
+		return this.getEnumerationLiterals().detectOptional((each) -> each.getPrettyName().equals(prettyName));
+	}
 }
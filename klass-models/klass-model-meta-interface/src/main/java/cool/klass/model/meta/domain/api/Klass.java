@@ -183,6 +183,11 @@ public interface Klass extends Classifier {
 
 	boolean isTransient();
 
+	@Nonnull
+	default Optional<Modifier> getCacheModifier() {
+		return this.getModifiers().detectOptional(Modifier::isCache);
+	}
+
 	default boolean isVersioned() {
 		return this.getVersionProperty().isPresent();
 	}
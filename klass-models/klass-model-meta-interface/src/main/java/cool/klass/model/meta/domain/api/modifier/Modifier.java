@@ -93,4 +93,24 @@ public interface Modifier extends OrdinalElement {
 	default boolean isUserId() {
 		return this.is("userId");
 	}
+
+	default boolean isFullCache() {
+		return this.is("fullCache");
+	}
+
+	default boolean isPartialCache() {
+		return this.is("partialCache");
+	}
+
+	default boolean isNoCache() {
+		return this.is("noCache");
+	}
+
+	default boolean isOffHeapCache() {
+		return this.is("offHeapCache");
+	}
+
+	default boolean isCache() {
+		return this.isFullCache() || this.isPartialCache() || this.isNoCache() || this.isOffHeapCache();
+	}
 }
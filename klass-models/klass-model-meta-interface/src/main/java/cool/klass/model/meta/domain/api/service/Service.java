@@ -53,6 +53,9 @@ public interface Service extends Element {
 	@Nonnull
 	Optional<OrderBy> getOrderBy();
 
+	@Nonnull
+	Optional<ServicePagination> getPagination();
+
 	default int getNumParameters() {
 		int numUrlParameters = this.getUrl().getParameters().size();
 		int numVersionParameters = this.isVersionClauseRequired() ? 1 : 0;
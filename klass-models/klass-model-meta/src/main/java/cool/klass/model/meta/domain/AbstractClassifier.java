@@ -162,6 +162,10 @@ public abstract class AbstractClassifier extends AbstractPackageableElement impl
 		return this.referenceProperties;
 	}
 
+	public ImmutableList<AssociationEndSignature> getDeclaredAssociationEndSignatures() {
+		return this.declaredAssociationEndSignatures;
+	}
+
 	protected void setDeclaredAssociationEndSignatures(
 		ImmutableList<AssociationEndSignature> declaredAssociationEndSignatures
 	) {
@@ -327,6 +331,11 @@ public abstract class AbstractClassifier extends AbstractPackageableElement impl
 			super(elementContext, macroElement, sourceCode, ordinal, nameContext, packageName);
 		}
 
+		@Nonnull
+		public ImmutableList<DataTypePropertyBuilder<?, ?, ?>> getDeclaredDataTypeProperties() {
+			return Objects.requireNonNull(this.declaredDataTypeProperties);
+		}
+
 		public void setDeclaredDataTypeProperties(
 			@Nonnull ImmutableList<DataTypePropertyBuilder<?, ?, ?>> declaredDataTypeProperties
 		) {
@@ -30,10 +30,12 @@ import cool.klass.model.meta.domain.api.source.SourceCode.SourceCodeBuilder;
 import cool.klass.model.meta.grammar.KlassParser.EnumerationDeclarationContext;
 import cool.klass.model.meta.grammar.KlassParser.IdentifierContext;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
 
 public final class EnumerationImpl extends AbstractPackageableElement implements EnumerationWithSourceCode {
 
 	private ImmutableList<EnumerationLiteral> enumerationLiterals;
+	private ImmutableMap<String, EnumerationLiteral> enumerationLiteralsByPrettyName;
 
 	private EnumerationImpl(
 		@Nonnull EnumerationDeclarationContext elementContext,
@@ -57,8 +59,17 @@ public final class EnumerationImpl extends AbstractPackageableElement implements
 		return this.enumerationLiterals;
 	}
 
+	@Nonnull
+	@Override
+	public Optional<EnumerationLiteral> findEnumerationLiteralByPrettyName(String prettyName) {
+		return Optional.ofNullable(this.enumerationLiteralsByPrettyName.get(prettyName));
+	}
+
 	private void setEnumerationLiterals(@Nonnull ImmutableList<EnumerationLiteral> enumerationLiterals) {
 		this.enumerationLiterals = enumerationLiterals;
+		this.enumerationLiteralsByPrettyName = enumerationLiterals
+			.groupByUniqueKey(EnumerationLiteral::getPrettyName)
+			.toImmutable();
 	}
 
 	public static final class EnumerationBuilder
@@ -115,6 +115,11 @@ public final class SourceCodeImpl implements SourceCode {
 		return this.macroSourceCode.map(Function.identity());
 	}
 
+	@Nonnull
+	public Optional<Element> getMacroElement() {
+		return Objects.requireNonNull(this.macroElement);
+	}
+
 	@Override
 	public String toString() {
 		return this.sourceName;
@@ -175,6 +180,11 @@ public final class SourceCodeImpl implements SourceCode {
 			return this.sourceCode;
 		}
 
+		@Nonnull
+		public ParserRuleContext getParserContext() {
+			return this.parserContext;
+		}
+
 		public Optional<ElementBuilder<?>> getMacroElement() {
 			return Objects.requireNonNull(this.macroElement);
 		}
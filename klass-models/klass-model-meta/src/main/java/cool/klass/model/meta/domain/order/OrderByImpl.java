@@ -51,6 +51,11 @@ public final class OrderByImpl extends AbstractElement implements OrderBy {
 		this.thisContext = Objects.requireNonNull(thisContext);
 	}
 
+	@Nonnull
+	public AbstractClassifier getThisContext() {
+		return this.thisContext;
+	}
+
 	@Override
 	public ImmutableList<OrderByMemberReferencePath> getOrderByMemberReferencePaths() {
 		return this.orderByMemberReferencePaths;
@@ -66,6 +66,10 @@ public final class OrderByMemberReferencePathImpl extends AbstractElement implem
 		return (OrderByMemberReferencePathContext) super.getElementContext();
 	}
 
+	public int getOrdinal() {
+		return this.ordinal;
+	}
+
 	@Override
 	@Nonnull
 	public ThisMemberReferencePathImpl getThisMemberReferencePath() {
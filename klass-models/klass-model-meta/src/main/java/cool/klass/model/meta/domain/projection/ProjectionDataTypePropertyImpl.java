@@ -89,6 +89,11 @@ public final class ProjectionDataTypePropertyImpl
 		return Optional.of(this.parent);
 	}
 
+	@Nonnull
+	public ParserRuleContext getHeaderContext() {
+		return this.headerContext;
+	}
+
 	@Override
 	@Nonnull
 	public String getHeaderText() {
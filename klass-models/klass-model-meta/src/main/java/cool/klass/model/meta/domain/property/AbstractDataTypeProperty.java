@@ -153,6 +153,10 @@ public abstract class AbstractDataTypeProperty<T extends DataType>
 		this.maxPropertyValidation = Objects.requireNonNull(maxPropertyValidations);
 	}
 
+	public ImmutableList<PropertyValidation> getPropertyValidations() {
+		return this.propertyValidations;
+	}
+
 	private void setPropertyValidations(ImmutableList<PropertyValidation> propertyValidations) {
 		if (this.propertyValidations != null) {
 			throw new IllegalStateException();
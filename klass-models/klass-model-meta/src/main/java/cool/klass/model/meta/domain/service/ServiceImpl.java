@@ -28,12 +28,14 @@ import cool.klass.model.meta.domain.api.criteria.Criteria;
 import cool.klass.model.meta.domain.api.order.OrderBy;
 import cool.klass.model.meta.domain.api.service.Service;
 import cool.klass.model.meta.domain.api.service.ServiceMultiplicity;
+import cool.klass.model.meta.domain.api.service.ServicePagination;
 import cool.klass.model.meta.domain.api.service.ServiceProjectionDispatch;
 import cool.klass.model.meta.domain.api.service.Verb;
 import cool.klass.model.meta.domain.api.source.SourceCode;
 import cool.klass.model.meta.domain.api.source.SourceCode.SourceCodeBuilder;
 import cool.klass.model.meta.domain.criteria.AbstractCriteria.AbstractCriteriaBuilder;
 import cool.klass.model.meta.domain.order.OrderByImpl.OrderByBuilder;
+import cool.klass.model.meta.domain.service.ServicePaginationImpl.ServicePaginationBuilder;
 import cool.klass.model.meta.domain.service.ServiceProjectionDispatchImpl.ServiceProjectionDispatchBuilder;
 import cool.klass.model.meta.domain.service.url.UrlImpl;
 import cool.klass.model.meta.domain.service.url.UrlImpl.UrlBuilder;
@@ -60,6 +62,8 @@ public final class ServiceImpl extends AbstractElement implements Service {
 	@Nonnull
 	private Optional<OrderBy> orderBy = Optional.empty();
 
+	private Optional<ServicePagination> pagination;
+
 	private ServiceImpl(
 		@Nonnull ServiceDeclarationContext elementContext,
 		@Nonnull Optional<Element> macroElement,
@@ -172,6 +176,19 @@ public final class ServiceImpl extends AbstractElement implements Service {
 		this.orderBy = Objects.requireNonNull(orderBy);
 	}
 
+	@Override
+	@Nonnull
+	public Optional<ServicePagination> getPagination() {
+		return Objects.requireNonNull(this.pagination);
+	}
+
+	private void setPagination(@Nonnull Optional<ServicePagination> pagination) {
+		if (this.pagination != null) {
+			throw new IllegalStateException();
+		}
+		this.pagination = Objects.requireNonNull(pagination);
+	}
+
 	@Override
 	public int getNumParameters() {
 		int numUrlParameters = this.url.getParameters().size();
@@ -209,6 +226,9 @@ public final class ServiceImpl extends AbstractElement implements Service {
 		@Nonnull
 		private Optional<OrderByBuilder> orderByBuilder = Optional.empty();
 
+		@Nonnull
+		private Optional<ServicePaginationBuilder> paginationBuilder = Optional.empty();
+
 		private Optional<AbstractCriteriaBuilder<?>> criteria = Optional.empty();
 		private Optional<AbstractCriteriaBuilder<?>> authorize = Optional.empty();
 		private Optional<AbstractCriteriaBuilder<?>> validate = Optional.empty();
@@ -280,6 +300,10 @@ public final class ServiceImpl extends AbstractElement implements Service {
 			this.orderByBuilder = Objects.requireNonNull(orderByBuilder);
 		}
 
+		public void setPaginationBuilder(@Nonnull Optional<ServicePaginationBuilder> paginationBuilder) {
+			this.paginationBuilder = Objects.requireNonNull(paginationBuilder);
+		}
+
 		@Nonnull
 		@Override
 		protected ServiceImpl buildUnsafe() {
@@ -297,6 +321,9 @@ public final class ServiceImpl extends AbstractElement implements Service {
 			);
 			service.setProjectionDispatch(projectionDispatch);
 
+			Optional<ServicePagination> pagination = this.paginationBuilder.map(ElementBuilder::build);
+			service.setPagination(pagination);
+
 			Optional<Criteria> queryCriteria = this.criteria.map(AbstractCriteriaBuilder::build);
 			Optional<Criteria> authorizeCriteria = this.authorize.map(AbstractCriteriaBuilder::build);
 			Optional<Criteria> validateCriteria = this.validate.map(AbstractCriteriaBuilder::build);
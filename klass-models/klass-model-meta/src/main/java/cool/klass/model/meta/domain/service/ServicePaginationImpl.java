@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.model.meta.domain.service;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.model.meta.domain.AbstractElement;
+import cool.klass.model.meta.domain.api.Element;
+import cool.klass.model.meta.domain.api.service.ServicePagination;
+import cool.klass.model.meta.domain.api.source.SourceCode;
+import cool.klass.model.meta.domain.api.source.SourceCode.SourceCodeBuilder;
+import cool.klass.model.meta.grammar.KlassParser.ServicePaginationDeclarationContext;
+
+public final class ServicePaginationImpl extends AbstractElement implements ServicePagination {
+
+	private final int pageSize;
+	private final int maxPageSize;
+
+	private ServicePaginationImpl(
+		@Nonnull ServicePaginationDeclarationContext elementContext,
+		@Nonnull Optional<Element> macroElement,
+		@Nullable SourceCode sourceCode,
+		int pageSize,
+		int maxPageSize
+	) {
+		super(elementContext, macroElement, sourceCode);
+		this.pageSize = pageSize;
+		this.maxPageSize = maxPageSize;
+	}
+
+	@Nonnull
+	@Override
+	public ServicePaginationDeclarationContext getElementContext() {
+		return (ServicePaginationDeclarationContext) super.getElementContext();
+	}
+
+	@Override
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	@Override
+	public int getMaxPageSize() {
+		return this.maxPageSize;
+	}
+
+	public static final class ServicePaginationBuilder extends ElementBuilder<ServicePaginationImpl> {
+
+		private final int pageSize;
+		private final int maxPageSize;
+
+		public ServicePaginationBuilder(
+			@Nonnull ServicePaginationDeclarationContext elementContext,
+			@Nonnull Optional<ElementBuilder<?>> macroElement,
+			@Nullable SourceCodeBuilder sourceCode,
+			int pageSize,
+			int maxPageSize
+		) {
+			super(elementContext, macroElement, sourceCode);
+			this.pageSize = pageSize;
+			this.maxPageSize = maxPageSize;
+		}
+
+		@Override
+		@Nonnull
+		protected ServicePaginationImpl buildUnsafe() {
+			return new ServicePaginationImpl(
+				(ServicePaginationDeclarationContext) this.elementContext,
+				this.macroElement.map(ElementBuilder::getElement),
+				this.sourceCode.build(),
+				this.pageSize,
+				this.maxPageSize
+			);
+		}
+	}
+}
@@ -17,10 +17,17 @@
 package cool.klass.model.reladomo.tree.converter.graphql;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import javax.annotation.Nullable;
 
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Converter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import cool.klass.model.meta.domain.api.Classifier;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
@@ -32,6 +39,8 @@ import cool.klass.model.reladomo.tree.ReladomoTreeNode;
 import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.SubClassReladomoTreeNode;
 import cool.klass.model.reladomo.tree.SuperClassReladomoTreeNode;
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.SelectedField;
 import org.eclipse.collections.api.bag.MutableBag;
@@ -46,13 +55,75 @@ public final class ReladomoTreeGraphqlConverter {
 		CaseFormat.LOWER_CAMEL
 	);
 
+	public static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+
 	private final DomainModel domainModel;
 
+	// Keyed by the query's AST fields rather than the normalized selection set, which would have to be walked on every
+	// call. The AST is shared across requests by the preparsed document cache, and the variables cover @skip, @include,
+	// and argument values, so together they determine the selection, including aliases and arguments.
+	private final Cache<ConversionKey, RootReladomoTreeNode> treesByKey;
+
 	public ReladomoTreeGraphqlConverter(DomainModel domainModel) {
+		this(domainModel, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	public ReladomoTreeGraphqlConverter(DomainModel domainModel, long maximumSize) {
 		this.domainModel = Objects.requireNonNull(domainModel);
+		this.treesByKey = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+	}
+
+	/**
+	 * Returns a tree for the fetched field's selection set. The tree is shared with other calls for the same class,
+	 * query field, and variables. Callers must only walk it.
+	 */
+	public RootReladomoTreeNode convert(Klass klass, DataFetchingEnvironment environment) {
+		return this.convert(klass, environment, null);
+	}
+
+	/**
+	 * Like {@link #convert(Klass, DataFetchingEnvironment)}, but for the selection set of the fetched field's child
+	 * named {@code childFieldName}, like a connection's {@code nodes}. The child field must be selected.
+	 */
+	public RootReladomoTreeNode convert(
+		Klass klass,
+		DataFetchingEnvironment environment,
+		@Nullable String childFieldName
+	) {
+		var key = new ConversionKey(
+			klass,
+			environment.getMergedField().getFields(),
+			childFieldName,
+			environment.getVariables()
+		);
+		try {
+			return this.treesByKey.get(key, () ->
+				this.convertUncached(klass, getSelectionSet(environment, childFieldName))
+			);
+		} catch (UncheckedExecutionException e) {
+			throw (RuntimeException) e.getCause();
+		} catch (ExecutionException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static DataFetchingFieldSelectionSet getSelectionSet(
+		DataFetchingEnvironment environment,
+		@Nullable String childFieldName
+	) {
+		DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
+		if (childFieldName == null) {
+			return selectionSet;
+		}
+
+		List<SelectedField> childFields = selectionSet.getFields(childFieldName);
+		if (childFields.isEmpty()) {
+			throw new IllegalArgumentException("Expected field '" + childFieldName + "' to be selected");
+		}
+		return childFields.get(0).getSelectionSet();
 	}
 
-	public RootReladomoTreeNode convert(Klass klass, DataFetchingFieldSelectionSet selectionSet) {
+	private RootReladomoTreeNode convertUncached(Klass klass, DataFetchingFieldSelectionSet selectionSet) {
 		var result = new RootReladomoTreeNode("root", klass);
 
 		for (SelectedField selectedField : selectionSet.getImmediateFields()) {
@@ -176,4 +247,12 @@ public final class ReladomoTreeGraphqlConverter {
 
 		return start == end ? eachReladomoNode : null;
 	}
+
+	// graphql.language.Field does not override equals(), so the fields are compared by identity
+	private record ConversionKey(
+		Klass klass,
+		List<Field> fields,
+		@Nullable String childFieldName,
+		Map<String, Object> variables
+	) {}
 }
@@ -24,11 +24,12 @@ import cool.klass.data.store.reladomo.ReladomoDataStore;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
-import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetcherListener;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
 import cool.klass.reladomo.tree.serializer.ReladomoTreeObjectToDTOSerializerListener;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
 import org.eclipse.collections.api.list.MutableList;
 
 public class AllDataFetcher implements DataFetcher<Object> {
@@ -36,37 +37,42 @@ public class AllDataFetcher implements DataFetcher<Object> {
 	private final Klass klass;
 	private final ReladomoDataStore dataStore;
 	private final ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter;
+	private final ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache;
+	private final GraphQLBatchLoader batchLoader;
 
 	public AllDataFetcher(
 		Klass klass,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
 	) {
 		this.klass = Objects.requireNonNull(klass);
 		this.dataStore = Objects.requireNonNull(dataStore);
 		this.reladomoTreeGraphqlConverter = Objects.requireNonNull(reladomoTreeGraphqlConverter);
+		this.deepFetchPlanCache = Objects.requireNonNull(deepFetchPlanCache);
+		this.batchLoader = Objects.requireNonNull(batchLoader);
 	}
 
 	@Override
 	public Object get(DataFetchingEnvironment environment) throws Exception {
 		List<Object> data = this.dataStore.findAll(this.klass);
 
-		DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
-		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(this.klass, selectionSet);
+		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(this.klass, environment);
 
-		var deepFetcherListener = new ReladomoTreeNodeDeepFetcherListener(
-			this.dataStore,
-			(DomainList) data,
-			this.klass
-		);
-		rootReladomoTreeNode.walk(deepFetcherListener);
+		long deepFetchStartNanos = System.nanoTime();
+		this.deepFetchPlanCache.deepFetch((DomainList) data, this.klass, rootReladomoTreeNode);
+		this.batchLoader.load(data, rootReladomoTreeNode);
+		RequestStatistics.recordPhase(RequestPhase.DEEP_FETCH, deepFetchStartNanos);
 
+		long serializationStartNanos = System.nanoTime();
 		var serializerVisitor = new ReladomoTreeObjectToDTOSerializerListener(
 			this.dataStore,
 			(DomainList) data,
 			this.klass
 		);
 		rootReladomoTreeNode.toManyAwareWalk(serializerVisitor);
+		RequestStatistics.recordPhase(RequestPhase.SERIALIZATION, serializationStartNanos);
 
 		MutableList<Object> result = serializerVisitor.getResult();
 		return result;
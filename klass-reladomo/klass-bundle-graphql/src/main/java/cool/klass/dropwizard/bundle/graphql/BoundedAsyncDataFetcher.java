@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.Nonnull;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import org.slf4j.MDC;
+
+/**
+ * Runs a top-level Query field on {@code executor} instead of the servlet thread. Each call holds one of the shared
+ * {@code permits} while it runs, so queries wait on the executor rather than on the connection pool. The caller's MDC
+ * is copied to the executor's thread for the duration of the call.
+ */
+public class BoundedAsyncDataFetcher<T> implements DataFetcher<CompletableFuture<T>> {
+
+	@Nonnull
+	private final DataFetcher<T> delegate;
+
+	@Nonnull
+	private final Executor executor;
+
+	@Nonnull
+	private final Semaphore permits;
+
+	public BoundedAsyncDataFetcher(
+		@Nonnull DataFetcher<T> delegate,
+		@Nonnull Executor executor,
+		@Nonnull Semaphore permits
+	) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.executor = Objects.requireNonNull(executor);
+		this.permits = Objects.requireNonNull(permits);
+	}
+
+	@Override
+	public CompletableFuture<T> get(DataFetchingEnvironment environment) {
+		Map<String, String> contextMap = MDC.getCopyOfContextMap();
+		return CompletableFuture.supplyAsync(() -> this.fetch(environment, contextMap), this.executor);
+	}
+
+	private T fetch(DataFetchingEnvironment environment, Map<String, String> contextMap) {
+		Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+		setContextMap(contextMap);
+		try {
+			return this.fetchWithPermit(environment);
+		} finally {
+			setContextMap(previousContextMap);
+		}
+	}
+
+	private T fetchWithPermit(DataFetchingEnvironment environment) {
+		try {
+			this.permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+
+		try {
+			return this.delegate.get(environment);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		} finally {
+			this.permits.release();
+		}
+	}
+
+	private static void setContextMap(Map<String, String> contextMap) {
+		if (contextMap == null) {
+			MDC.clear();
+		} else {
+			MDC.setContextMap(contextMap);
+		}
+	}
+}
@@ -16,46 +16,44 @@
 
 package cool.klass.dropwizard.bundle.graphql;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
-import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
-import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import cool.klass.data.store.reladomo.ReladomoDataStore;
 import cool.klass.model.meta.domain.api.Klass;
-import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
-import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetcherListener;
-import cool.klass.reladomo.tree.serializer.ReladomoTreeObjectToDTOSerializerListener;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
 import io.liftwizard.graphql.exception.LiftwizardGraphQLException;
 import io.liftwizard.reladomo.graphql.operation.GraphQLQueryToOperationConverter;
 import io.liftwizard.reladomo.graphql.operation.LiftwizardGraphQLContextException;
-import io.liftwizard.reladomo.graphql.orderby.GraphQLQueryToOrderByConverter;
 
 public class ByFinderDataFetcher implements DataFetcher<Object> {
 
-	private final Klass klass;
 	private final ReladomoDataStore dataStore;
-	private final ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter;
+	private final GraphQLConnectionLoader connectionLoader;
 
 	private final RelatedFinder<?> finder;
 
 	public ByFinderDataFetcher(
 		Klass klass,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
 	) {
-		this.klass = Objects.requireNonNull(klass);
 		this.dataStore = Objects.requireNonNull(dataStore);
-		this.reladomoTreeGraphqlConverter = Objects.requireNonNull(reladomoTreeGraphqlConverter);
+		this.connectionLoader = new GraphQLConnectionLoader(
+			klass,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
 
 		this.finder = this.dataStore.getRelatedFinder(klass);
 	}
@@ -65,21 +63,7 @@ public class ByFinderDataFetcher implements DataFetcher<Object> {
 		Map<String, Object> arguments = environment.getArguments();
 		Object inputOperation = arguments.get("operation");
 		Operation operation = this.getOperation((Map<?, ?>) inputOperation);
-		Object inputOrderBy = arguments.get("orderBy");
-		Optional<OrderBy> orderBys = this.getOrderBys((List<Map<String, ?>>) inputOrderBy);
-		MithraList<?> result = this.finder.findMany(operation);
-		orderBys.ifPresent(result::setOrderBy);
-
-		DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
-		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(this.klass, selectionSet);
-
-		var deepFetcherListener = new ReladomoTreeNodeDeepFetcherListener(this.dataStore, result, this.klass);
-		rootReladomoTreeNode.walk(deepFetcherListener);
-
-		var serializerVisitor = new ReladomoTreeObjectToDTOSerializerListener(this.dataStore, result, this.klass);
-		rootReladomoTreeNode.toManyAwareWalk(serializerVisitor);
-
-		return serializerVisitor.getResult();
+		return this.connectionLoader.load(this.finder, operation, environment);
 	}
 
 	public Operation getOperation(Map<?, ?> inputOperation) {
@@ -90,12 +74,4 @@ public class ByFinderDataFetcher implements DataFetcher<Object> {
 			throw new LiftwizardGraphQLException(e.getMessage(), e.getContext(), e);
 		}
 	}
-
-	public Optional<OrderBy> getOrderBys(List<Map<String, ?>> inputOrderBy) {
-		try {
-			return GraphQLQueryToOrderByConverter.convertOrderByList(this.finder, inputOrderBy);
-		} catch (LiftwizardGraphQLContextException e) {
-			throw new LiftwizardGraphQLException(e.getMessage(), e.getContext(), e);
-		}
-	}
 }
@@ -25,11 +25,12 @@ import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
 import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
-import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetcherListener;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
 import cool.klass.reladomo.tree.serializer.ReladomoTreeObjectToDTOSerializerListener;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 
@@ -38,15 +39,21 @@ public class ByKeyDataFetcher implements DataFetcher<Object> {
 	private final Klass klass;
 	private final ReladomoDataStore dataStore;
 	private final ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter;
+	private final ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache;
+	private final GraphQLBatchLoader batchLoader;
 
 	public ByKeyDataFetcher(
 		Klass klass,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
 	) {
 		this.klass = Objects.requireNonNull(klass);
 		this.dataStore = Objects.requireNonNull(dataStore);
 		this.reladomoTreeGraphqlConverter = Objects.requireNonNull(reladomoTreeGraphqlConverter);
+		this.deepFetchPlanCache = Objects.requireNonNull(deepFetchPlanCache);
+		this.batchLoader = Objects.requireNonNull(batchLoader);
 	}
 
 	@Override
@@ -57,22 +64,21 @@ public class ByKeyDataFetcher implements DataFetcher<Object> {
 
 		List<Object> result = this.dataStore.findByKeyReturningList(this.klass, keys);
 
-		DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
-		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(this.klass, selectionSet);
+		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(this.klass, environment);
 
-		var deepFetcherListener = new ReladomoTreeNodeDeepFetcherListener(
-			this.dataStore,
-			(DomainList) result,
-			this.klass
-		);
-		rootReladomoTreeNode.walk(deepFetcherListener);
+		long deepFetchStartNanos = System.nanoTime();
+		this.deepFetchPlanCache.deepFetch((DomainList) result, this.klass, rootReladomoTreeNode);
+		this.batchLoader.load(result, rootReladomoTreeNode);
+		RequestStatistics.recordPhase(RequestPhase.DEEP_FETCH, deepFetchStartNanos);
 
+		long serializationStartNanos = System.nanoTime();
 		var serializerVisitor = new ReladomoTreeObjectToDTOSerializerListener(
 			this.dataStore,
 			(DomainList) result,
 			this.klass
 		);
 		rootReladomoTreeNode.toManyAwareWalk(serializerVisitor);
+		RequestStatistics.recordPhase(RequestPhase.SERIALIZATION, serializationStartNanos);
 
 		MutableList<Object> resultList = serializerVisitor.getResult();
 		if (resultList.isEmpty()) {
@@ -19,38 +19,43 @@ package cool.klass.dropwizard.bundle.graphql;
 import java.util.Map;
 import java.util.Objects;
 
-import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
 import cool.klass.data.store.reladomo.ReladomoDataStore;
+import cool.klass.graphql.reladomo.operation.fetcher.ReladomoOperationCache;
 import cool.klass.model.meta.domain.api.Klass;
-import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
-import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetcherListener;
-import cool.klass.reladomo.tree.serializer.ReladomoTreeObjectToDTOSerializerListener;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
 import io.liftwizard.graphql.exception.LiftwizardGraphQLException;
-import io.liftwizard.model.reladomo.operation.compiler.ReladomoOperationCompiler;
 import org.eclipse.collections.api.factory.Lists;
 
 public class ByOperationDataFetcher implements DataFetcher<Object> {
 
-	private final Klass klass;
 	private final ReladomoDataStore dataStore;
-	private final ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter;
+	private final GraphQLConnectionLoader connectionLoader;
+	private final ReladomoOperationCache operationCache;
 
 	private final RelatedFinder<?> finder;
 
 	public ByOperationDataFetcher(
 		Klass klass,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
+		ReladomoOperationCache operationCache
 	) {
-		this.klass = Objects.requireNonNull(klass);
 		this.dataStore = Objects.requireNonNull(dataStore);
-		this.reladomoTreeGraphqlConverter = Objects.requireNonNull(reladomoTreeGraphqlConverter);
+		this.connectionLoader = new GraphQLConnectionLoader(
+			klass,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
+		this.operationCache = Objects.requireNonNull(operationCache);
 
 		this.finder = this.dataStore.getRelatedFinder(klass);
 	}
@@ -60,24 +65,12 @@ public class ByOperationDataFetcher implements DataFetcher<Object> {
 		Map<String, Object> arguments = environment.getArguments();
 		var inputOperation = (String) arguments.get("operation");
 		Operation operation = this.compileOperation(this.finder, inputOperation);
-		MithraList<?> result = this.finder.findMany(operation);
-
-		DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
-		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(this.klass, selectionSet);
-
-		var deepFetcherListener = new ReladomoTreeNodeDeepFetcherListener(this.dataStore, result, this.klass);
-		rootReladomoTreeNode.walk(deepFetcherListener);
-
-		var serializerVisitor = new ReladomoTreeObjectToDTOSerializerListener(this.dataStore, result, this.klass);
-		rootReladomoTreeNode.toManyAwareWalk(serializerVisitor);
-
-		return serializerVisitor.getResult();
+		return this.connectionLoader.load(this.finder, operation, environment);
 	}
 
 	private Operation compileOperation(RelatedFinder<?> relatedFinder, String inputOperation) {
 		try {
-			var compiler = new ReladomoOperationCompiler();
-			return compiler.compile(relatedFinder, inputOperation);
+			return this.operationCache.compile(relatedFinder, inputOperation);
 		} catch (RuntimeException e) {
 			throw new LiftwizardGraphQLException(e.getMessage(), Lists.immutable.with(inputOperation), e);
 		}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.finder.Navigation;
+import cool.klass.data.store.reladomo.ReladomoDataStore;
+import cool.klass.data.store.reladomo.ReladomoKlassAccessors;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.ReferenceProperty;
+import cool.klass.model.reladomo.tree.ReferencePropertyReladomoTreeNode;
+import cool.klass.model.reladomo.tree.ReladomoTreeNode;
+import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
+import cool.klass.model.reladomo.tree.SubClassReladomoTreeNode;
+import cool.klass.model.reladomo.tree.SuperClassReladomoTreeNode;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * Resolves the relationships that the DTO serializer would otherwise navigate one object at a time.
+ *
+ * <p>The deep fetch plan only covers navigations that appear in the selection set. To pick the DTO class for each
+ * object of a polymorphic type, the serializer also probes every subclass relationship, including subclasses that no
+ * fragment selected. This walks the tree one level at a time, gathers the sibling objects at each level across all of
+ * their parents, and resolves each remaining subclass relationship with a single deep fetch.
+ */
+public class GraphQLBatchLoader {
+
+	private final ReladomoDataStore dataStore;
+
+	// Counts the subclass navigations that were batched, not database retrieves. Reladomo may answer some from its
+	// cache, and may split others into several queries.
+	private final Meter batchedNavigations;
+	private final Histogram batchedNavigationsPerFetch;
+
+	public GraphQLBatchLoader(@Nonnull ReladomoDataStore dataStore, @Nonnull MetricRegistry metricRegistry) {
+		this.dataStore = Objects.requireNonNull(dataStore);
+		this.batchedNavigations = metricRegistry.meter(
+			MetricRegistry.name(GraphQLBatchLoader.class, "batchedNavigations")
+		);
+		this.batchedNavigationsPerFetch = metricRegistry.histogram(
+			MetricRegistry.name(GraphQLBatchLoader.class, "batchedNavigationsPerFetch")
+		);
+	}
+
+	/**
+	 * Must be called after the deep fetch plan has been applied to {@code persistentInstances}.
+	 */
+	public void load(@Nonnull List<?> persistentInstances, @Nonnull RootReladomoTreeNode rootReladomoTreeNode) {
+		var klass = (Klass) rootReladomoTreeNode.getOwningClassifier();
+		MutableList<MithraObject> instances = Lists.mutable.withAll((List<MithraObject>) persistentInstances);
+
+		int result = this.loadSubClasses(instances, klass, rootReladomoTreeNode);
+		result += this.loadChildren(instances, klass, rootReladomoTreeNode);
+
+		this.batchedNavigations.mark(result);
+		this.batchedNavigationsPerFetch.update(result);
+	}
+
+	private int loadChildren(
+		@Nonnull ListIterable<MithraObject> instances,
+		@Nonnull Klass klass,
+		@Nonnull ReladomoTreeNode node
+	) {
+		if (instances.isEmpty()) {
+			return 0;
+		}
+
+		int result = 0;
+		for (ReladomoTreeNode child : node.getChildren()) {
+			if (child instanceof ReferencePropertyReladomoTreeNode referencePropertyNode) {
+				ReferenceProperty referenceProperty = referencePropertyNode.getReferenceProperty();
+				var type = (Klass) referenceProperty.getType();
+				MutableList<MithraObject> related = this.getRelated(instances, referenceProperty);
+				result += this.loadSubClasses(related, type, child);
+				result += this.loadChildren(related, type, child);
+			} else if (child instanceof SuperClassReladomoTreeNode superClassNode) {
+				MutableList<MithraObject> superClassInstances = instances.collect(
+					(each) -> (MithraObject) this.dataStore.getSuperClass(each, klass),
+					Lists.mutable.empty()
+				);
+				result += this.loadChildren(superClassInstances, superClassNode.getType(), child);
+			} else if (child instanceof SubClassReladomoTreeNode subClassNode) {
+				MutableList<MithraObject> subClassInstances = this.getSubClassInstances(
+					instances,
+					klass,
+					subClassNode.getType()
+				);
+				result += this.loadChildren(subClassInstances, subClassNode.getType(), child);
+			}
+		}
+		return result;
+	}
+
+	@Nonnull
+	private MutableList<MithraObject> getRelated(
+		@Nonnull ListIterable<MithraObject> instances,
+		@Nonnull ReferenceProperty referenceProperty
+	) {
+		// Already resolved by the deep fetch plan
+		MutableList<MithraObject> result = Lists.mutable.empty();
+		for (MithraObject each : instances) {
+			Object related = this.dataStore.get(each, referenceProperty);
+			if (related instanceof List<?> list) {
+				result.addAll((List<MithraObject>) list);
+			} else if (related != null) {
+				result.add((MithraObject) related);
+			}
+		}
+		return result;
+	}
+
+	private int loadSubClasses(
+		@Nonnull ListIterable<MithraObject> instances,
+		@Nonnull Klass klass,
+		@Nullable ReladomoTreeNode node
+	) {
+		if (instances.isEmpty() || klass.getSubClasses().isEmpty()) {
+			return 0;
+		}
+
+		ReladomoKlassAccessors accessors = this.dataStore.getKlassAccessors(klass);
+		MutableList<Navigation<?>> navigations = Lists.mutable.empty();
+		for (Klass subClass : klass.getSubClasses()) {
+			if (getSubClassNode(node, subClass) == null) {
+				navigations.add((Navigation<?>) accessors.getSubClassRelationshipFinder(subClass));
+			}
+		}
+
+		if (navigations.notEmpty()) {
+			var batch = (MithraList<MithraObject>) this.dataStore.getRelatedFinder(klass).constructEmptyList();
+			batch.addAll(instances.toList());
+			for (Navigation<?> navigation : navigations) {
+				batch.deepFetch((Navigation) navigation);
+			}
+			batch.forceResolve();
+		}
+
+		int result = navigations.size();
+		for (Klass subClass : klass.getSubClasses()) {
+			MutableList<MithraObject> subClassInstances = this.getSubClassInstances(instances, klass, subClass);
+			result += this.loadSubClasses(subClassInstances, subClass, getSubClassNode(node, subClass));
+		}
+		return result;
+	}
+
+	@Nonnull
+	private MutableList<MithraObject> getSubClassInstances(
+		@Nonnull ListIterable<MithraObject> instances,
+		@Nonnull Klass klass,
+		@Nonnull Klass subClass
+	) {
+		MutableList<MithraObject> result = Lists.mutable.empty();
+		for (MithraObject each : instances) {
+			MithraObject subClassInstance = this.dataStore.getSubClassPersistentInstance(klass, subClass, each);
+			if (subClassInstance != null) {
+				result.add(subClassInstance);
+			}
+		}
+		return result;
+	}
+
+	@Nullable
+	private static ReladomoTreeNode getSubClassNode(@Nullable ReladomoTreeNode node, @Nonnull Klass subClass) {
+		if (node == null) {
+			return null;
+		}
+		return node
+			.getChildren()
+			.detect((child) -> child instanceof SubClassReladomoTreeNode && child.getType() == subClass);
+	}
+}
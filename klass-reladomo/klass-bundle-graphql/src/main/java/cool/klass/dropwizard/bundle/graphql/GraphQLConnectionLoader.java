@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import cool.klass.data.store.reladomo.ReladomoDataStore;
+import cool.klass.graphql.reladomo.keyset.KeysetConnection;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeyset;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeysetPage;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
+import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
+import cool.klass.reladomo.tree.serializer.ReladomoTreeObjectToDTOSerializerListener;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
+import io.liftwizard.graphql.exception.LiftwizardGraphQLException;
+import org.eclipse.collections.api.factory.Lists;
+
+/**
+ * Reads one keyset page for the {@code first} and {@code after} arguments of a paginated query, and converts the rows
+ * for the {@code nodes} selection of the connection.
+ */
+public class GraphQLConnectionLoader {
+
+	private final Klass klass;
+	private final ReladomoDataStore dataStore;
+	private final ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter;
+	private final ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache;
+	private final GraphQLBatchLoader batchLoader;
+
+	public GraphQLConnectionLoader(
+		Klass klass,
+		ReladomoDataStore dataStore,
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
+	) {
+		this.klass = Objects.requireNonNull(klass);
+		this.dataStore = Objects.requireNonNull(dataStore);
+		this.reladomoTreeGraphqlConverter = Objects.requireNonNull(reladomoTreeGraphqlConverter);
+		this.deepFetchPlanCache = Objects.requireNonNull(deepFetchPlanCache);
+		this.batchLoader = Objects.requireNonNull(batchLoader);
+	}
+
+	@Nonnull
+	public KeysetConnection<Object> load(
+		@Nonnull RelatedFinder<?> finder,
+		@Nonnull Operation operation,
+		@Nonnull DataFetchingEnvironment environment
+	) {
+		ReladomoKeysetPage page = this.fetchPage(finder, operation, environment.getArguments());
+
+		List<SelectedField> nodesFields = environment.getSelectionSet().getFields("nodes");
+		if (nodesFields.isEmpty()) {
+			return page.toConnection(Lists.mutable.empty());
+		}
+
+		RootReladomoTreeNode rootReladomoTreeNode = this.reladomoTreeGraphqlConverter.convert(
+			this.klass,
+			environment,
+			"nodes"
+		);
+
+		long deepFetchStartNanos = System.nanoTime();
+		this.deepFetchPlanCache.deepFetch(page.rows(), this.klass, rootReladomoTreeNode);
+		this.batchLoader.load(page.rows(), rootReladomoTreeNode);
+		RequestStatistics.recordPhase(RequestPhase.DEEP_FETCH, deepFetchStartNanos);
+
+		long serializationStartNanos = System.nanoTime();
+		var serializerVisitor = new ReladomoTreeObjectToDTOSerializerListener(this.dataStore, page.rows(), this.klass);
+		rootReladomoTreeNode.toManyAwareWalk(serializerVisitor);
+		RequestStatistics.recordPhase(RequestPhase.SERIALIZATION, serializationStartNanos);
+
+		return page.toConnection(serializerVisitor.getResult());
+	}
+
+	@Nonnull
+	private ReladomoKeysetPage fetchPage(
+		@Nonnull RelatedFinder<?> finder,
+		@Nonnull Operation operation,
+		@Nonnull Map<String, Object> arguments
+	) {
+		try {
+			return ReladomoKeyset.fetchPage(finder, operation, arguments);
+		} catch (IllegalArgumentException e) {
+			throw new LiftwizardGraphQLException(e.getMessage(), Lists.immutable.empty(), e);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+/**
+ * How {@link KlassGraphQLBundle} executes queries. By default, the servlet is synchronous and data fetchers run on the
+ * Jetty thread that accepted the request. In async mode, the servlet uses the Servlet 3 async API, and the top-level
+ * Query fields run on a dedicated executor, with at most {@code maxConcurrentFetches} of them reading from the
+ * database at once.
+ */
+public class GraphQLExecutionFactory {
+
+	private boolean async;
+
+	private @NotNull ExecutorType executorType = ExecutorType.PLATFORM;
+
+	private @Min(1) int maxThreads = 32;
+
+	private @Nullable @Min(1) Integer maxConcurrentFetches;
+
+	private @NotNull Duration asyncTimeout = Duration.seconds(30);
+
+	@JsonProperty
+	public boolean isAsync() {
+		return this.async;
+	}
+
+	@JsonProperty
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	@Nonnull
+	@JsonProperty("executor")
+	public ExecutorType getExecutorType() {
+		return this.executorType;
+	}
+
+	@JsonProperty("executor")
+	public void setExecutorType(@Nonnull ExecutorType executorType) {
+		this.executorType = Objects.requireNonNull(executorType);
+	}
+
+	/**
+	 * The size of the platform thread pool. Ignored for virtual threads.
+	 */
+	@JsonProperty
+	public int getMaxThreads() {
+		return this.maxThreads;
+	}
+
+	@JsonProperty
+	public void setMaxThreads(int maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Defaults to the total size of the configured connection pools.
+	 */
+	@Nullable
+	@JsonProperty
+	public Integer getMaxConcurrentFetches() {
+		return this.maxConcurrentFetches;
+	}
+
+	@JsonProperty
+	public void setMaxConcurrentFetches(@Nullable Integer maxConcurrentFetches) {
+		this.maxConcurrentFetches = maxConcurrentFetches;
+	}
+
+	@Nonnull
+	@JsonProperty
+	public Duration getAsyncTimeout() {
+		return this.asyncTimeout;
+	}
+
+	@JsonProperty
+	public void setAsyncTimeout(@Nonnull Duration asyncTimeout) {
+		this.asyncTimeout = Objects.requireNonNull(asyncTimeout);
+	}
+
+	public enum ExecutorType {
+		PLATFORM,
+		VIRTUAL,
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Automatic persisted queries, served by {@link PersistedQueryDocumentProvider}. Disabled by default.
+ */
+public class GraphQLPersistedQueryFactory {
+
+	private boolean enabled;
+
+	private @Min(1) long maximumSize = 10_000;
+
+	private @NotNull List<String> seedFiles = List.of();
+
+	@JsonProperty
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@JsonProperty
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * The number of queries kept by hash. The least recently used are evicted, and clients register them again.
+	 */
+	@JsonProperty
+	public long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	@JsonProperty
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Classpath resources holding one GraphQL document each, registered at startup so that clients sending their hashes
+	 * never need to register them.
+	 */
+	@Nonnull
+	@JsonProperty
+	public List<String> getSeedFiles() {
+		return this.seedFiles;
+	}
+
+	@JsonProperty
+	public void setSeedFiles(@Nonnull List<String> seedFiles) {
+		this.seedFiles = Objects.requireNonNull(seedFiles);
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.collections.api.factory.Maps;
+
+/**
+ * Budgets and row estimates for {@link KlassFieldComplexityCalculator}. Queries deeper than {@code maxDepth} are
+ * rejected. Queries are only rejected for their cost when {@code maxCost} is set, but their estimated rows are always
+ * reported.
+ */
+public class GraphQLQueryCostFactory {
+
+	/**
+	 * The largest {@code maxCost}. Field costs are capped just above the budget, and a low cap keeps graphql-java's int
+	 * sums of sibling fields from overflowing.
+	 */
+	public static final int MAX_COST_LIMIT = 1_000_000;
+
+	private @Min(1) int maxDepth = 15;
+
+	private @Nullable @Min(1) @Max(MAX_COST_LIMIT) Integer maxCost;
+
+	private @Min(1) int defaultRowEstimate = 1_000;
+
+	private @Min(1) int toManyRowEstimate = 10;
+
+	private @Min(1) int temporalCostFactor = 2;
+
+	private @NotNull Map<String, Integer> rowEstimates = Maps.mutable.empty();
+
+	@JsonProperty
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	@JsonProperty
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	@Nullable
+	@JsonProperty
+	public Integer getMaxCost() {
+		return this.maxCost;
+	}
+
+	@JsonProperty
+	public void setMaxCost(@Nullable Integer maxCost) {
+		this.maxCost = maxCost;
+	}
+
+	/**
+	 * The rows in a class with no entry in {@code rowEstimates}, which is what an {@code all*} query reads.
+	 */
+	@JsonProperty
+	public int getDefaultRowEstimate() {
+		return this.defaultRowEstimate;
+	}
+
+	@JsonProperty
+	public void setDefaultRowEstimate(int defaultRowEstimate) {
+		this.defaultRowEstimate = defaultRowEstimate;
+	}
+
+	/**
+	 * The rows behind one to-many association end, for each object on the owning side.
+	 */
+	@JsonProperty
+	public int getToManyRowEstimate() {
+		return this.toManyRowEstimate;
+	}
+
+	@JsonProperty
+	public void setToManyRowEstimate(int toManyRowEstimate) {
+		this.toManyRowEstimate = toManyRowEstimate;
+	}
+
+	/**
+	 * Multiplies the cost of each row of a temporal class, whose queries also filter on the milestoning ranges.
+	 */
+	@JsonProperty
+	public int getTemporalCostFactor() {
+		return this.temporalCostFactor;
+	}
+
+	@JsonProperty
+	public void setTemporalCostFactor(int temporalCostFactor) {
+		this.temporalCostFactor = temporalCostFactor;
+	}
+
+	/**
+	 * Rows per class, keyed by class name.
+	 */
+	@Nonnull
+	@JsonProperty
+	public Map<String, Integer> getRowEstimates() {
+		return this.rowEstimates;
+	}
+
+	@JsonProperty
+	public void setRowEstimates(@Nonnull Map<String, Integer> rowEstimates) {
+		this.rowEstimates = Objects.requireNonNull(rowEstimates);
+	}
+
+	public int getRowEstimate(@Nonnull String className) {
+		return this.rowEstimates.getOrDefault(className, this.defaultRowEstimate);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.MetricRegistry;
+import cool.klass.graphql.reladomo.keyset.ReladomoKeyset;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Estimates the rows that a query materializes, using the multiplicities of the domain model instead of treating every
+ * field alike. An object-valued field costs its estimated rows times one plus the cost of its children, and scalar
+ * fields cost nothing, so the complexity of a query is the number of rows it is expected to read. Each field's cost is
+ * capped one above {@code maxCost}, or above {@link GraphQLQueryCostFactory#MAX_COST_LIMIT} without a budget.
+ *
+ * <p>The estimate of each top-level Query field is also recorded in a histogram named
+ * {@code klass.graphql.Query.<field>.estimatedRows}, next to the {@code rowsMaterialized} histogram of the same field.
+ */
+public class KlassFieldComplexityCalculator implements FieldComplexityCalculator {
+
+	@Nonnull
+	private final DomainModel domainModel;
+
+	@Nonnull
+	private final GraphQLQueryCostFactory costFactory;
+
+	@Nonnull
+	private final MetricRegistry metricRegistry;
+
+	private final int maxFieldCost;
+
+	public KlassFieldComplexityCalculator(
+		@Nonnull DomainModel domainModel,
+		@Nonnull GraphQLQueryCostFactory costFactory,
+		@Nonnull MetricRegistry metricRegistry
+	) {
+		this.domainModel = Objects.requireNonNull(domainModel);
+		this.costFactory = Objects.requireNonNull(costFactory);
+		this.metricRegistry = Objects.requireNonNull(metricRegistry);
+
+		// Every cost above the budget is rejected alike, so capping there keeps the int sums of siblings small
+		Integer maxCost = costFactory.getMaxCost();
+		this.maxFieldCost = (maxCost == null ? GraphQLQueryCostFactory.MAX_COST_LIMIT : maxCost) + 1;
+	}
+
+	@Override
+	public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+		GraphQLType fieldType = environment.getFieldDefinition().getType();
+		var namedType = (GraphQLNamedType) GraphQLTypeUtil.unwrapAll(fieldType);
+		if (GraphQLTypeUtil.isLeaf(namedType)) {
+			return 0;
+		}
+
+		String parentTypeName = ((GraphQLNamedType) environment.getParentType()).getName();
+		String fieldName = environment.getField().getName();
+
+		// A negative sum means that the capped costs of very many siblings still overflowed
+		long children = childComplexity < 0 ? this.maxFieldCost : childComplexity;
+
+		long cost;
+		if (isConnection(namedType.getName())) {
+			// The connection itself is not a row, its nodes are
+			cost = ReladomoKeyset.getPageSize(environment.getArguments()) * children;
+		} else {
+			long rows = this.getEstimatedRows(parentTypeName, fieldName, fieldType, namedType.getName());
+			cost = rows * (1L + children);
+		}
+
+		int result = (int) Math.min(this.maxFieldCost, cost);
+		if (parentTypeName.equals("Query")) {
+			this.metricRegistry.histogram(MetricRegistry.name("klass.graphql.Query", fieldName, "estimatedRows"))
+				.update(result);
+		}
+		return result;
+	}
+
+	private long getEstimatedRows(
+		@Nonnull String parentTypeName,
+		@Nonnull String fieldName,
+		@Nonnull GraphQLType fieldType,
+		@Nonnull String typeName
+	) {
+		if (isConnection(parentTypeName)) {
+			return 1;
+		}
+
+		Optional<Klass> klass = this.domainModel.findClassByName(typeName);
+		long temporalCostFactor = klass.map(Klass::isTemporal).orElse(false)
+			? this.costFactory.getTemporalCostFactor()
+			: 1;
+
+		if (!this.isToMany(parentTypeName, fieldName, fieldType)) {
+			return temporalCostFactor;
+		}
+
+		int rowEstimate = this.costFactory.getRowEstimate(typeName);
+		if (parentTypeName.equals("Query")) {
+			return rowEstimate * temporalCostFactor;
+		}
+		return Math.min(this.costFactory.getToManyRowEstimate(), rowEstimate) * temporalCostFactor;
+	}
+
+	private boolean isToMany(
+		@Nonnull String parentTypeName,
+		@Nonnull String fieldName,
+		@Nonnull GraphQLType fieldType
+	) {
+		Optional<AssociationEnd> associationEnd = this.domainModel
+			.findClassByName(parentTypeName)
+			.flatMap((parentClass) -> parentClass.findAssociationEndByName(fieldName));
+		if (associationEnd.isPresent()) {
+			return associationEnd.get().getMultiplicity().isToMany();
+		}
+		return GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(fieldType));
+	}
+
+	private static boolean isConnection(@Nonnull String typeName) {
+		return typeName.startsWith("_") && typeName.endsWith("Connection");
+	}
+}
@@ -18,23 +18,35 @@ package cool.klass.dropwizard.bundle.graphql;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.servlet.ServletRegistration.Dynamic;
 
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
+import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.smoketurner.dropwizard.graphql.CachingPreparsedDocumentProvider;
 import com.smoketurner.dropwizard.graphql.GraphQLBundle;
 import com.smoketurner.dropwizard.graphql.GraphQLFactory;
 import cool.klass.data.store.reladomo.ReladomoDataStore;
 import cool.klass.dropwizard.configuration.data.store.DataStoreFactoryProvider;
 import cool.klass.dropwizard.configuration.domain.model.loader.DomainModelFactoryProvider;
+import cool.klass.graphql.reladomo.operation.fetcher.ReladomoOperationCache;
 import cool.klass.model.meta.domain.api.Classifier;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.reladomo.tree.converter.graphql.ReladomoTreeGraphqlConverter;
+import cool.klass.reladomo.tree.deep.fetcher.ReladomoTreeNodeDeepFetchPlanCache;
+import cool.klass.request.statistics.RequestStatisticsHistograms;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.kickstart.execution.GraphQLObjectMapper;
@@ -42,19 +54,24 @@ import graphql.kickstart.execution.GraphQLQueryInvoker;
 import graphql.kickstart.servlet.GraphQLConfiguration;
 import graphql.kickstart.servlet.GraphQLHttpServlet;
 import graphql.scalars.java.JavaPrimitives;
+import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.TypeRuntimeWiring;
 import io.dropwizard.Configuration;
 import io.dropwizard.assets.AssetsBundle;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import io.liftwizard.dropwizard.configuration.datasource.NamedDataSourceProvider;
 import io.liftwizard.dropwizard.configuration.graphql.GraphQLFactoryProvider;
 import io.liftwizard.graphql.instrumentation.logging.LiftwizardGraphQLLoggingInstrumentation;
 import io.liftwizard.graphql.instrumentation.metrics.LiftwizardGraphQLMetricsInstrumentation;
 import io.liftwizard.graphql.scalar.temporal.GraphQLLocalDateScalar;
 import io.liftwizard.graphql.scalar.temporal.GraphQLTemporalScalar;
 import org.atteo.evo.inflector.English;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.slf4j.MDC;
@@ -64,7 +81,16 @@ import org.slf4j.MDC.MDCCloseable;
  * The bundle registers the GraphIQL UI at /graphiql and the GraphQL Playground UI at /graphql-playground, by delegating to AssetsBundle. This overrides the behavior of the smoketurner bundle {@link GraphQLBundle}, which registers just one UI (graphiql in older versions, and graphql-playground in newer versions) and registers the UI at the root.
  *
  * <p>
- * The bundle also registers two instrumentations for logging and metrics.
+ * The bundle also registers two instrumentations for logging and metrics, and instrumentations that reject queries over
+ * the depth and cost budgets of {@link GraphQLQueryCostFactory}.
+ *
+ * <p>
+ * With {@link GraphQLPersistedQueryFactory#isEnabled()}, clients may send automatic persisted queries, see
+ * {@link PersistedQueryDocumentProvider}.
+ *
+ * <p>
+ * With {@link GraphQLExecutionFactory#isAsync()}, the servlet is registered as async and the top-level Query fields run
+ * on a bounded executor, so that slow queries do not hold Jetty worker threads.
  *
  * @see <a href="https://liftwizard.io/docs/graphql/bundle#liftwizardgraphqlbundle">https://liftwizard.io/docs/graphql/bundle#liftwizardgraphqlbundle</a>
  */
@@ -75,6 +101,9 @@ public class KlassGraphQLBundle<
 
 	private MetricRegistry metricRegistry;
 	private Environment environment;
+	private GraphQLExecutionFactory executionFactory;
+	private ExecutorService dataFetcherExecutor;
+	private Semaphore fetchPermits;
 
 	@Override
 	public void initialize(@Nonnull Bootstrap<?> bootstrap) {
@@ -94,12 +123,13 @@ public class KlassGraphQLBundle<
 	@Override
 	public void run(T configuration, Environment environment) throws Exception {
 		this.environment = environment;
+		this.initializeExecution(configuration);
 
 		GraphQLFactory factory = this.getGraphQLFactory(configuration);
 
-		PreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(
-			factory.getQueryCache(),
-			environment.metrics()
+		PreparsedDocumentProvider provider = this.getPreparsedDocumentProvider(
+			configuration,
+			new CachingPreparsedDocumentProvider(factory.getQueryCache(), environment.metrics())
 		);
 
 		GraphQLSchema schema = factory.build();
@@ -116,12 +146,13 @@ public class KlassGraphQLBundle<
 		GraphQLConfiguration config = GraphQLConfiguration.with(schema)
 			.with(queryInvoker)
 			.with(graphQLObjectMapper)
+			.asyncTimeout(this.executionFactory.getAsyncTimeout().toMilliseconds())
 			.build();
 
 		GraphQLHttpServlet servlet = new ConfiguredGraphQLHttpServlet(config);
 
 		Dynamic servletRegistration = environment.servlets().addServlet("graphql", servlet);
-		servletRegistration.setAsyncSupported(false);
+		servletRegistration.setAsyncSupported(this.executionFactory.isAsync());
 		servletRegistration.addMapping("/graphql", "/schema.json");
 	}
 
@@ -135,14 +166,15 @@ public class KlassGraphQLBundle<
 		// TODO: Move the Clock to Configuration
 		Clock clock = Clock.systemUTC();
 
+		ObjectMapper objectMapper = this.environment.getObjectMapper();
+		DomainModel domainModel = configuration.getDomainModelFactory().createDomainModel(objectMapper);
+
 		var metricsInstrumentation = new LiftwizardGraphQLMetricsInstrumentation(this.metricRegistry, clock);
 		var loggingInstrumentation = new LiftwizardGraphQLLoggingInstrumentation();
 
-		List<Instrumentation> instrumentations = List.of(metricsInstrumentation, loggingInstrumentation);
+		List<Instrumentation> instrumentations = Lists.mutable.with(metricsInstrumentation, loggingInstrumentation);
+		instrumentations.addAll(this.getCostInstrumentations(configuration, domainModel));
 		factory.setInstrumentations(instrumentations);
-
-		ObjectMapper objectMapper = this.environment.getObjectMapper();
-		DomainModel domainModel = configuration.getDomainModelFactory().createDomainModel(objectMapper);
 		var dataStore = (ReladomoDataStore) configuration.getDataStoreFactory().createDataStore(domainModel);
 
 		RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring();
@@ -153,10 +185,18 @@ public class KlassGraphQLBundle<
 			.scalar(JavaPrimitives.GraphQLLong)
 			.scalar(GraphQLLocalDateScalar.INSTANCE);
 
+		var operationCache = new ReladomoOperationCache(
+			this.metricRegistry,
+			ReladomoOperationCache.DEFAULT_MAXIMUM_SIZE
+		);
+
 		TypeRuntimeWiring.Builder queryTypeBuilder = this.getQueryTypeBuilder(
 			domainModel,
 			dataStore,
-			new ReladomoTreeGraphqlConverter(domainModel)
+			new ReladomoTreeGraphqlConverter(domainModel),
+			new ReladomoTreeNodeDeepFetchPlanCache(dataStore),
+			new GraphQLBatchLoader(dataStore, this.metricRegistry),
+			operationCache
 		);
 		builder.type(queryTypeBuilder);
 
@@ -167,19 +207,145 @@ public class KlassGraphQLBundle<
 		return factory;
 	}
 
+	@Nonnull
+	private PreparsedDocumentProvider getPreparsedDocumentProvider(
+		@Nonnull T configuration,
+		@Nonnull PreparsedDocumentProvider documentCache
+	) {
+		GraphQLPersistedQueryFactory persistedQueryFactory =
+			configuration instanceof GraphQLPersistedQueryFactoryProvider provider
+				? provider.getGraphQLPersistedQueryFactory()
+				: new GraphQLPersistedQueryFactory();
+		if (!persistedQueryFactory.isEnabled()) {
+			return documentCache;
+		}
+
+		var persistedQueryDocumentProvider = new PersistedQueryDocumentProvider(
+			documentCache,
+			this.metricRegistry,
+			persistedQueryFactory.getMaximumSize()
+		);
+		persistedQueryFactory.getSeedFiles().forEach(persistedQueryDocumentProvider::registerResource);
+		return persistedQueryDocumentProvider;
+	}
+
+	private void initializeExecution(@Nonnull T configuration) {
+		this.executionFactory = configuration instanceof GraphQLExecutionFactoryProvider provider
+			? provider.getGraphQLExecutionFactory()
+			: new GraphQLExecutionFactory();
+		if (!this.executionFactory.isAsync()) {
+			return;
+		}
+
+		this.dataFetcherExecutor = this.createDataFetcherExecutor();
+		this.fetchPermits = new Semaphore(getMaxConcurrentFetches(this.executionFactory, configuration), true);
+	}
+
+	@Nonnull
+	private ExecutorService createDataFetcherExecutor() {
+		String nameFormat = "graphql-data-fetcher-%d";
+		if (this.executionFactory.getExecutorType() == GraphQLExecutionFactory.ExecutorType.PLATFORM) {
+			int maxThreads = this.executionFactory.getMaxThreads();
+			return this.environment.lifecycle()
+				.executorService(nameFormat)
+				.minThreads(maxThreads)
+				.maxThreads(maxThreads)
+				.build();
+		}
+
+		var threadFactory = Thread.ofVirtual().name("graphql-data-fetcher-", 0).factory();
+		ExecutorService executorService = Executors.newThreadPerTaskExecutor(threadFactory);
+		this.environment.lifecycle()
+			.manage(new ExecutorServiceManager(executorService, Duration.seconds(5), nameFormat));
+		return executorService;
+	}
+
+	static int getMaxConcurrentFetches(
+		@Nonnull GraphQLExecutionFactory executionFactory,
+		@Nonnull Configuration configuration
+	) {
+		Integer maxConcurrentFetches = executionFactory.getMaxConcurrentFetches();
+		if (maxConcurrentFetches != null) {
+			return maxConcurrentFetches;
+		}
+
+		// Each fetch holds at most one connection at a time
+		if (configuration instanceof NamedDataSourceProvider provider) {
+			int poolSize = provider
+				.getNamedDataSourcesFactory()
+				.getNamedDataSourceFactories()
+				.stream()
+				.mapToInt((each) -> each.getMaxSize())
+				.sum();
+			if (poolSize > 0) {
+				return poolSize;
+			}
+		}
+		return executionFactory.getMaxThreads();
+	}
+
+	@Nonnull
+	private List<Instrumentation> getCostInstrumentations(@Nonnull T configuration, @Nonnull DomainModel domainModel) {
+		GraphQLQueryCostFactory costFactory = configuration instanceof GraphQLQueryCostFactoryProvider provider
+			? provider.getGraphQLQueryCostFactory()
+			: new GraphQLQueryCostFactory();
+
+		var calculator = new KlassFieldComplexityCalculator(domainModel, costFactory, this.metricRegistry);
+		// Without a budget, the complexity is still computed so that the estimates are reported
+		Integer maxCost = costFactory.getMaxCost();
+		var complexityInstrumentation = new MaxQueryComplexityInstrumentation(
+			maxCost == null ? Integer.MAX_VALUE : maxCost,
+			calculator
+		);
+
+		return List.of(new MaxQueryDepthInstrumentation(costFactory.getMaxDepth()), complexityInstrumentation);
+	}
+
 	@Nonnull
 	private TypeRuntimeWiring.Builder getQueryTypeBuilder(
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
+		ReladomoOperationCache operationCache
 	) {
 		var queryTypeBuilder = new TypeRuntimeWiring.Builder();
 		queryTypeBuilder.typeName("Query");
 
-		this.handleQueryAll(queryTypeBuilder, domainModel, dataStore, reladomoTreeGraphqlConverter);
-		this.handleQueryByKey(queryTypeBuilder, domainModel, dataStore, reladomoTreeGraphqlConverter);
-		this.handleQueryByOperation(queryTypeBuilder, domainModel, dataStore, reladomoTreeGraphqlConverter);
-		this.handleQueryByFinder(queryTypeBuilder, domainModel, dataStore, reladomoTreeGraphqlConverter);
+		this.handleQueryAll(
+			queryTypeBuilder,
+			domainModel,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
+		this.handleQueryByKey(
+			queryTypeBuilder,
+			domainModel,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
+		this.handleQueryByOperation(
+			queryTypeBuilder,
+			domainModel,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader,
+			operationCache
+		);
+		this.handleQueryByFinder(
+			queryTypeBuilder,
+			domainModel,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
 
 		return queryTypeBuilder;
 	}
@@ -188,12 +354,21 @@ public class KlassGraphQLBundle<
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
 	) {
 		domainModel
 			.getClasses()
 			.each((eachKlass) ->
-				this.handleQueryAll(queryTypeBuilder, dataStore, reladomoTreeGraphqlConverter, eachKlass)
+				this.handleQueryAll(
+					queryTypeBuilder,
+					dataStore,
+					reladomoTreeGraphqlConverter,
+					deepFetchPlanCache,
+					batchLoader,
+					eachKlass
+				)
 			);
 	}
 
@@ -201,11 +376,19 @@ public class KlassGraphQLBundle<
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		ReladomoDataStore dataStore,
 		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
 		Klass klass
 	) {
 		String propertyName = this.getPropertyName(klass);
-		var allDataFetcher = new AllDataFetcher(klass, dataStore, reladomoTreeGraphqlConverter);
-		queryTypeBuilder.dataFetcher(propertyName, allDataFetcher);
+		var allDataFetcher = new AllDataFetcher(
+			klass,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
+		queryTypeBuilder.dataFetcher(propertyName, this.wrapQueryDataFetcher(propertyName, allDataFetcher));
 	}
 
 	private String getPropertyName(Classifier classifier) {
@@ -235,12 +418,21 @@ public class KlassGraphQLBundle<
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
 	) {
 		domainModel
 			.getClasses()
 			.each((eachKlass) ->
-				this.handleQueryByKey(queryTypeBuilder, dataStore, reladomoTreeGraphqlConverter, eachKlass)
+				this.handleQueryByKey(
+					queryTypeBuilder,
+					dataStore,
+					reladomoTreeGraphqlConverter,
+					deepFetchPlanCache,
+					batchLoader,
+					eachKlass
+				)
 			);
 	}
 
@@ -248,24 +440,43 @@ public class KlassGraphQLBundle<
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		ReladomoDataStore dataStore,
 		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
 		Klass klass
 	) {
 		String propertyName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, klass.getName());
 
-		var byKeyDataFetcher = new ByKeyDataFetcher(klass, dataStore, reladomoTreeGraphqlConverter);
-		queryTypeBuilder.dataFetcher(propertyName, byKeyDataFetcher);
+		var byKeyDataFetcher = new ByKeyDataFetcher(
+			klass,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
+		queryTypeBuilder.dataFetcher(propertyName, this.wrapQueryDataFetcher(propertyName, byKeyDataFetcher));
 	}
 
 	private void handleQueryByOperation(
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
+		ReladomoOperationCache operationCache
 	) {
 		domainModel
 			.getClasses()
 			.each((eachKlass) ->
-				this.handleQueryByOperation(queryTypeBuilder, dataStore, reladomoTreeGraphqlConverter, eachKlass)
+				this.handleQueryByOperation(
+					queryTypeBuilder,
+					dataStore,
+					reladomoTreeGraphqlConverter,
+					deepFetchPlanCache,
+					batchLoader,
+					operationCache,
+					eachKlass
+				)
 			);
 	}
 
@@ -273,24 +484,43 @@ public class KlassGraphQLBundle<
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		ReladomoDataStore dataStore,
 		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
+		ReladomoOperationCache operationCache,
 		Klass klass
 	) {
 		String propertyName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, klass.getName()) + "ByOperation";
 
-		var byOperationDataFetcher = new ByOperationDataFetcher(klass, dataStore, reladomoTreeGraphqlConverter);
-		queryTypeBuilder.dataFetcher(propertyName, byOperationDataFetcher);
+		var byOperationDataFetcher = new ByOperationDataFetcher(
+			klass,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader,
+			operationCache
+		);
+		queryTypeBuilder.dataFetcher(propertyName, this.wrapQueryDataFetcher(propertyName, byOperationDataFetcher));
 	}
 
 	private void handleQueryByFinder(
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		DomainModel domainModel,
 		ReladomoDataStore dataStore,
-		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter
+		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader
 	) {
 		domainModel
 			.getClasses()
 			.each((eachKlass) ->
-				this.handleQueryByFinder(queryTypeBuilder, dataStore, reladomoTreeGraphqlConverter, eachKlass)
+				this.handleQueryByFinder(
+					queryTypeBuilder,
+					dataStore,
+					reladomoTreeGraphqlConverter,
+					deepFetchPlanCache,
+					batchLoader,
+					eachKlass
+				)
 			);
 	}
 
@@ -298,12 +528,52 @@ public class KlassGraphQLBundle<
 		TypeRuntimeWiring.Builder queryTypeBuilder,
 		ReladomoDataStore dataStore,
 		ReladomoTreeGraphqlConverter reladomoTreeGraphqlConverter,
+		ReladomoTreeNodeDeepFetchPlanCache deepFetchPlanCache,
+		GraphQLBatchLoader batchLoader,
 		Klass klass
 	) {
 		String propertyName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, klass.getName()) + "ByFinder";
 
-		var byFinderDataFetcher = new ByFinderDataFetcher(klass, dataStore, reladomoTreeGraphqlConverter);
-		queryTypeBuilder.dataFetcher(propertyName, byFinderDataFetcher);
+		var byFinderDataFetcher = new ByFinderDataFetcher(
+			klass,
+			dataStore,
+			reladomoTreeGraphqlConverter,
+			deepFetchPlanCache,
+			batchLoader
+		);
+		queryTypeBuilder.dataFetcher(propertyName, this.wrapQueryDataFetcher(propertyName, byFinderDataFetcher));
+	}
+
+	@Nonnull
+	private <T> DataFetcher<?> wrapQueryDataFetcher(String fieldName, DataFetcher<T> dataFetcher) {
+		return wrapQueryDataFetcher(
+			fieldName,
+			dataFetcher,
+			this.metricRegistry,
+			this.dataFetcherExecutor,
+			this.fetchPermits
+		);
+	}
+
+	@Nonnull
+	static <T> DataFetcher<?> wrapQueryDataFetcher(
+		@Nonnull String fieldName,
+		@Nonnull DataFetcher<T> dataFetcher,
+		@Nonnull MetricRegistry metricRegistry,
+		@Nullable Executor executor,
+		@Nullable Semaphore permits
+	) {
+		String name = MetricRegistry.name("klass.graphql.Query", fieldName);
+		var statisticsDataFetcher = new RequestStatisticsDataFetcher<>(
+			dataFetcher,
+			new RequestStatisticsHistograms(metricRegistry, name),
+			() -> MithraManagerProvider.getMithraManager().getDatabaseRetrieveCount()
+		);
+		if (executor == null) {
+			return statisticsDataFetcher;
+		}
+		// The statistics are thread-local, so they are gathered on the executor's thread
+		return new BoundedAsyncDataFetcher<>(statisticsDataFetcher, executor, Objects.requireNonNull(permits));
 	}
 
 	private TypeRuntimeWiring.Builder getTypeResolver(Klass klass) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+/**
+ * Implements the automatic persisted query protocol in front of {@code delegate}. A request whose
+ * {@code extensions.persistedQuery.sha256Hash} is set may leave out the query text, which is then looked up by hash.
+ * Unknown hashes get a {@code PersistedQueryNotFound} error, and the client retries with both the hash and the text,
+ * which registers the text under that hash.
+ *
+ * <p>Queries resolved by hash are still parsed and validated through {@code delegate}, so its document cache applies.
+ *
+ * <p>graphql-java's {@code ApolloPersistedQuerySupport} implements the same protocol, but parses queries without a hash
+ * itself instead of passing them to {@code delegate}, which bypasses the document cache. Its
+ * {@code InMemoryPersistedQueryCache} is also unbounded, while this cache evicts the least recently used queries. The
+ * errors match Apollo Server's, including the {@code PERSISTED_QUERY_NOT_FOUND} code that clients check.
+ */
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+	private static final GraphQLError PERSISTED_QUERY_NOT_FOUND = GraphqlErrorBuilder.newError()
+		.message("PersistedQueryNotFound")
+		.errorType(ErrorType.ValidationError)
+		.extensions(Map.of("code", "PERSISTED_QUERY_NOT_FOUND"))
+		.build();
+
+	private static final GraphQLError PERSISTED_QUERY_HASH_MISMATCH = GraphqlErrorBuilder.newError()
+		.message("provided sha does not match query")
+		.errorType(ErrorType.ValidationError)
+		.build();
+
+	@Nonnull
+	private final PreparsedDocumentProvider delegate;
+
+	@Nonnull
+	private final Cache<String, String> queriesByHash;
+
+	@Nonnull
+	private final Meter hits;
+
+	@Nonnull
+	private final Meter misses;
+
+	@Nonnull
+	private final Meter registrations;
+
+	public PersistedQueryDocumentProvider(
+		@Nonnull PreparsedDocumentProvider delegate,
+		@Nonnull MetricRegistry metricRegistry,
+		long maximumSize
+	) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.hits = metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, "hits"));
+		this.misses = metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, "misses"));
+		this.registrations = metricRegistry.meter(
+			MetricRegistry.name(PersistedQueryDocumentProvider.class, "registrations")
+		);
+
+		this.queriesByHash = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+
+		metricRegistry.gauge(
+			MetricRegistry.name(PersistedQueryDocumentProvider.class, "size"),
+			() -> (Gauge<Long>) this.queriesByHash::size
+		);
+	}
+
+	public void registerResource(@Nonnull String resourceName) {
+		try {
+			String query = Resources.toString(Resources.getResource(resourceName), StandardCharsets.UTF_8);
+			this.queriesByHash.put(getHash(query), query);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read persisted query " + resourceName, e);
+		}
+	}
+
+	@Override
+	public PreparsedDocumentEntry getDocument(
+		ExecutionInput executionInput,
+		Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+	) {
+		String hash = getPersistedQueryHash(executionInput);
+		if (hash == null) {
+			return this.delegate.getDocument(executionInput, parseAndValidateFunction);
+		}
+
+		String query = executionInput.getQuery();
+		if (isAbsent(query)) {
+			String persistedQuery = this.queriesByHash.getIfPresent(hash);
+			if (persistedQuery == null) {
+				this.misses.mark();
+				return new PreparsedDocumentEntry(PERSISTED_QUERY_NOT_FOUND);
+			}
+
+			this.hits.mark();
+			ExecutionInput resolvedInput = executionInput.transform((builder) -> builder.query(persistedQuery));
+			return this.delegate.getDocument(resolvedInput, parseAndValidateFunction);
+		}
+
+		if (!hash.equals(getHash(query))) {
+			return new PreparsedDocumentEntry(PERSISTED_QUERY_HASH_MISMATCH);
+		}
+
+		this.queriesByHash.put(hash, query);
+		this.registrations.mark();
+		return this.delegate.getDocument(executionInput, parseAndValidateFunction);
+	}
+
+	@Nullable
+	private static String getPersistedQueryHash(@Nonnull ExecutionInput executionInput) {
+		Map<String, Object> extensions = executionInput.getExtensions();
+		if (extensions == null || !(extensions.get("persistedQuery") instanceof Map<?, ?> persistedQuery)) {
+			return null;
+		}
+		return persistedQuery.get("sha256Hash") instanceof String hash ? hash : null;
+	}
+
+	private static boolean isAbsent(@Nullable String query) {
+		return query == null || query.isBlank() || query.equals(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+	}
+
+	@Nonnull
+	private static String getHash(@Nonnull String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+}
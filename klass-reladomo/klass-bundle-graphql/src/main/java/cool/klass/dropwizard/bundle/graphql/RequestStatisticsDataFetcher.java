@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.request.statistics.RequestStatistics;
+import cool.klass.request.statistics.RequestStatisticsHistograms;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Measures one top-level Query field, which fetches, deep fetches and converts its whole subtree in one call.
+ */
+public class RequestStatisticsDataFetcher<T> implements DataFetcher<T> {
+
+	@Nonnull
+	private final DataFetcher<T> delegate;
+
+	@Nonnull
+	private final RequestStatisticsHistograms histograms;
+
+	@Nonnull
+	private final LongSupplier databaseRetrieveCounter;
+
+	public RequestStatisticsDataFetcher(
+		@Nonnull DataFetcher<T> delegate,
+		@Nonnull RequestStatisticsHistograms histograms,
+		@Nonnull LongSupplier databaseRetrieveCounter
+	) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.histograms = Objects.requireNonNull(histograms);
+		this.databaseRetrieveCounter = Objects.requireNonNull(databaseRetrieveCounter);
+	}
+
+	@Override
+	public T get(DataFetchingEnvironment environment) throws Exception {
+		RequestStatistics requestStatistics = RequestStatistics.start(this.databaseRetrieveCounter);
+		try {
+			return this.delegate.get(environment);
+		} finally {
+			RequestStatistics.clearCurrent();
+			requestStatistics.close();
+			this.histograms.update(requestStatistics);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedAsyncDataFetcherTest {
+
+	private final DataFetchingEnvironment environment =
+		DataFetchingEnvironmentImpl.newDataFetchingEnvironment().build();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final Semaphore permits = new Semaphore(1);
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+		MDC.clear();
+	}
+
+	@Test
+	void runsOnExecutor() throws Exception {
+		var dataFetcher = new BoundedAsyncDataFetcher<>((env) -> Thread.currentThread(), this.executor, this.permits);
+
+		Thread thread = dataFetcher.get(this.environment).get(5, TimeUnit.SECONDS);
+
+		assertThat(thread).isNotSameAs(Thread.currentThread());
+		assertThat(this.permits.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void releasesPermitWhenDelegateThrows() {
+		var exception = new IllegalStateException("failed");
+		var dataFetcher = new BoundedAsyncDataFetcher<>(
+			(env) -> {
+				throw exception;
+			},
+			this.executor,
+			this.permits
+		);
+
+		CompletableFuture<Object> future = dataFetcher.get(this.environment);
+
+		assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCause(exception);
+		assertThat(this.permits.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void releasesPermitWhenDelegateThrowsCheckedException() {
+		var exception = new IOException("failed");
+		var dataFetcher = new BoundedAsyncDataFetcher<>(
+			(env) -> {
+				throw exception;
+			},
+			this.executor,
+			this.permits
+		);
+
+		CompletableFuture<Object> future = dataFetcher.get(this.environment);
+
+		assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCause(exception);
+		assertThat(this.permits.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void waitsForPermit() throws Exception {
+		this.permits.acquire();
+		var dataFetcher = new BoundedAsyncDataFetcher<>((env) -> "result", this.executor, this.permits);
+
+		CompletableFuture<String> future = dataFetcher.get(this.environment);
+
+		assertThatThrownBy(() -> future.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+		this.permits.release();
+		assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+		assertThat(this.permits.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void copiesMdcToExecutorThread() throws Exception {
+		MDC.put("klass.test", "value");
+		var dataFetcher = new BoundedAsyncDataFetcher<>((env) -> MDC.get("klass.test"), this.executor, this.permits);
+
+		assertThat(dataFetcher.get(this.environment).get(5, TimeUnit.SECONDS)).isEqualTo("value");
+
+		// The executor's thread does not keep the request's MDC
+		MDC.clear();
+		assertThat(dataFetcher.get(this.environment).get(5, TimeUnit.SECONDS)).isNull();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cool.klass.dropwizard.configuration.domain.model.loader.compiler.DomainModelCompilerFactory;
+import cool.klass.model.meta.domain.api.DomainModel;
+import graphql.Scalars;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.language.Field;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLTypeReference;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KlassFieldComplexityCalculatorTest {
+
+	private static final DomainModel DOMAIN_MODEL = getDomainModel();
+
+	private final GraphQLQueryCostFactory costFactory = new GraphQLQueryCostFactory();
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@Test
+	void scalarFieldsCostNothing() {
+		int cost = this.calculate("PropertiesRequired", "requiredString", Scalars.GraphQLString, Map.of(), 0);
+
+		assertThat(cost).isEqualTo(0);
+	}
+
+	@Test
+	void toManyAssociationEndCostsToManyRowEstimate() {
+		GraphQLOutputType targets = GraphQLNonNull.nonNull(GraphQLList.list(type("OwnedNaturalOneToManyTarget")));
+
+		int cost = this.calculate("OwnedNaturalOneToManySource", "targets", targets, Map.of(), 3);
+
+		assertThat(cost).isEqualTo(10 * (1 + 3));
+	}
+
+	@Test
+	void toOneAssociationEndCostsOneRow() {
+		GraphQLOutputType source = GraphQLNonNull.nonNull(type("OwnedNaturalOneToManySource"));
+
+		int cost = this.calculate("OwnedNaturalOneToManyTarget", "source", source, Map.of(), 3);
+
+		assertThat(cost).isEqualTo(1 + 3);
+	}
+
+	@Test
+	void temporalClassesCostTemporalCostFactor() {
+		int toOneCost = this.calculate("Query", "propertiesRequired", type("PropertiesRequired"), Map.of(), 1);
+		assertThat(toOneCost).isEqualTo(2 * (1 + 1));
+
+		GraphQLOutputType all = GraphQLList.list(type("PropertiesRequired"));
+		int allCost = this.calculate("Query", "allPropertiesRequired", all, Map.of(), 1);
+		assertThat(allCost).isEqualTo(1_000 * 2 * (1 + 1));
+
+		this.costFactory.setRowEstimates(Map.of("PropertiesRequired", 50));
+		int estimatedCost = this.calculate("Query", "allPropertiesRequired", all, Map.of(), 1);
+		assertThat(estimatedCost).isEqualTo(50 * 2 * (1 + 1));
+	}
+
+	@Test
+	void connectionsCostTheirPageSize() {
+		GraphQLOutputType connection = type("_PropertiesRequiredConnection");
+
+		int firstCost = this.calculate("Query", "propertiesRequiredConnection", connection, Map.of("first", 5), 3);
+		assertThat(firstCost).isEqualTo(5 * 3);
+
+		int defaultCost = this.calculate("Query", "propertiesRequiredConnection", connection, Map.of(), 3);
+		assertThat(defaultCost).isEqualTo(20 * 3);
+
+		GraphQLOutputType nodes = GraphQLList.list(type("PropertiesRequired"));
+		int nodesCost = this.calculate("_PropertiesRequiredConnection", "nodes", nodes, Map.of(), 2);
+		assertThat(nodesCost).isEqualTo(1 + 2);
+	}
+
+	@Test
+	void costsAreCappedAboveTheBudget() {
+		this.costFactory.setMaxCost(100);
+		GraphQLOutputType all = GraphQLList.list(type("PropertiesRequired"));
+
+		int cost = this.calculate("Query", "allPropertiesRequired", all, Map.of(), Integer.MAX_VALUE);
+		assertThat(cost).isEqualTo(101);
+
+		// The sum of many capped siblings can still wrap around
+		int wrappedCost = this.calculate("Query", "allPropertiesRequired", all, Map.of(), Integer.MIN_VALUE);
+		assertThat(wrappedCost).isEqualTo(101);
+	}
+
+	@Test
+	void costsAreCappedAboveTheCostLimitWithoutBudget() {
+		GraphQLOutputType all = GraphQLList.list(type("PropertiesRequired"));
+
+		int cost = this.calculate("Query", "allPropertiesRequired", all, Map.of(), Integer.MAX_VALUE);
+
+		assertThat(cost).isEqualTo(GraphQLQueryCostFactory.MAX_COST_LIMIT + 1);
+		assertThat((long) cost * 2).isLessThan(Integer.MAX_VALUE);
+	}
+
+	@Test
+	void topLevelEstimatesAreRecorded() {
+		GraphQLOutputType all = GraphQLList.list(type("PropertiesRequired"));
+
+		this.calculate("Query", "allPropertiesRequired", all, Map.of(), 0);
+
+		String name = "klass.graphql.Query.allPropertiesRequired.estimatedRows";
+		assertThat(this.metricRegistry.histogram(name).getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.histogram(name).getSnapshot().getMax()).isEqualTo(2_000);
+	}
+
+	@Test
+	void depthIsLimitedByDefault() {
+		assertThat(this.costFactory.getMaxDepth()).isEqualTo(15);
+	}
+
+	private int calculate(
+		@Nonnull String parentTypeName,
+		@Nonnull String fieldName,
+		@Nonnull GraphQLOutputType fieldType,
+		@Nonnull Map<String, Object> arguments,
+		int childComplexity
+	) {
+		GraphQLFieldDefinition fieldDefinition = GraphQLFieldDefinition.newFieldDefinition()
+			.name(fieldName)
+			.type(fieldType)
+			.build();
+		GraphQLObjectType parentType = GraphQLObjectType.newObject()
+			.name(parentTypeName)
+			.field(fieldDefinition)
+			.build();
+		var environment = new FieldComplexityEnvironment(
+			new Field(fieldName),
+			fieldDefinition,
+			parentType,
+			arguments,
+			null
+		);
+
+		var calculator = new KlassFieldComplexityCalculator(DOMAIN_MODEL, this.costFactory, this.metricRegistry);
+		return calculator.calculate(environment, childComplexity);
+	}
+
+	@Nonnull
+	private static GraphQLOutputType type(@Nonnull String name) {
+		return GraphQLTypeReference.typeRef(name);
+	}
+
+	@Nonnull
+	private static DomainModel getDomainModel() {
+		var domainModelCompilerFactory = new DomainModelCompilerFactory();
+		domainModelCompilerFactory.setSourcePackages(List.of("cool.klass.xample.coverage"));
+		domainModelCompilerFactory.setColorScheme("dark");
+		return domainModelCompilerFactory.createDomainModel(new ObjectMapper());
+	}
+}
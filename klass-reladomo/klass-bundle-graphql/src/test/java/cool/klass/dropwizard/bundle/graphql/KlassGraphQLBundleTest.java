@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.MetricRegistry;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import io.dropwizard.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KlassGraphQLBundleTest {
+
+	private final DataFetchingEnvironment environment =
+		DataFetchingEnvironmentImpl.newDataFetchingEnvironment().build();
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void queryFieldsRunOnTheCallingThreadWithoutExecutor() throws Exception {
+		DataFetcher<?> dataFetcher = KlassGraphQLBundle.wrapQueryDataFetcher(
+			"allPropertiesRequired",
+			(env) -> Thread.currentThread(),
+			this.metricRegistry,
+			null,
+			null
+		);
+
+		assertThat(dataFetcher).isInstanceOf(RequestStatisticsDataFetcher.class);
+		assertThat(dataFetcher.get(this.environment)).isSameAs(Thread.currentThread());
+		assertThat(this.metricRegistry.getHistograms()).containsKey(
+			"klass.graphql.Query.allPropertiesRequired.rowsMaterialized"
+		);
+	}
+
+	@Test
+	void queryFieldsRunOnTheExecutorWhenAsync() throws Exception {
+		var permits = new Semaphore(1);
+		DataFetcher<?> dataFetcher = KlassGraphQLBundle.wrapQueryDataFetcher(
+			"allPropertiesRequired",
+			(env) -> Thread.currentThread(),
+			this.metricRegistry,
+			this.executor,
+			permits
+		);
+
+		assertThat(dataFetcher).isInstanceOf(BoundedAsyncDataFetcher.class);
+		var future = (CompletableFuture<?>) dataFetcher.get(this.environment);
+		assertThat(future.get(5, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+		assertThat(permits.availablePermits()).isEqualTo(1);
+		String histogramName = "klass.graphql.Query.allPropertiesRequired.rowsMaterialized";
+		assertThat(this.metricRegistry.histogram(histogramName).getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void maxConcurrentFetchesIsConfigurable() {
+		var executionFactory = new GraphQLExecutionFactory();
+		executionFactory.setMaxConcurrentFetches(7);
+
+		assertThat(KlassGraphQLBundle.getMaxConcurrentFetches(executionFactory, new Configuration())).isEqualTo(7);
+	}
+
+	@Test
+	void maxConcurrentFetchesDefaultsToMaxThreadsWithoutDataSources() {
+		var executionFactory = new GraphQLExecutionFactory();
+		executionFactory.setMaxThreads(5);
+
+		assertThat(KlassGraphQLBundle.getMaxConcurrentFetches(executionFactory, new Configuration())).isEqualTo(5);
+	}
+}
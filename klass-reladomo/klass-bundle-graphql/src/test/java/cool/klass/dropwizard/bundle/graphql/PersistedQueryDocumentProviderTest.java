@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.graphql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.hash.Hashing;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistedQueryDocumentProviderTest {
+
+	private static final String QUERY = "{ allQuestion { id } }";
+	private static final String HASH = Hashing.sha256().hashString(QUERY, StandardCharsets.UTF_8).toString();
+
+	private static final Function<ExecutionInput, PreparsedDocumentEntry> PARSE_AND_VALIDATE = (input) ->
+		new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+
+	private final MutableList<String> delegatedQueries = Lists.mutable.empty();
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final PersistedQueryDocumentProvider provider = new PersistedQueryDocumentProvider(
+		new RecordingDocumentProvider(),
+		this.metricRegistry,
+		10
+	);
+
+	@Test
+	void queriesWithoutHashGoToDelegate() {
+		var executionInput = ExecutionInput.newExecutionInput().query(QUERY).build();
+
+		PreparsedDocumentEntry entry = this.provider.getDocument(executionInput, PARSE_AND_VALIDATE);
+
+		assertThat(entry.hasErrors()).isFalse();
+		assertThat(this.delegatedQueries).containsExactly(QUERY);
+		assertThat(this.getCount("registrations")).isEqualTo(0);
+	}
+
+	@Test
+	void unknownHashIsNotFound() {
+		PreparsedDocumentEntry entry = this.provider.getDocument(getHashOnlyInput(HASH), PARSE_AND_VALIDATE);
+
+		assertThat(entry.getErrors()).extracting(GraphQLError::getMessage).containsExactly("PersistedQueryNotFound");
+		assertThat(entry.getErrors().get(0).getExtensions()).containsEntry("code", "PERSISTED_QUERY_NOT_FOUND");
+		assertThat(this.delegatedQueries).isEmpty();
+		assertThat(this.getCount("misses")).isEqualTo(1);
+	}
+
+	@Test
+	void registeredQueryIsFoundByHash() {
+		PreparsedDocumentEntry registration = this.provider.getDocument(getInput(QUERY, HASH), PARSE_AND_VALIDATE);
+		assertThat(registration.hasErrors()).isFalse();
+		assertThat(this.getCount("registrations")).isEqualTo(1);
+
+		PreparsedDocumentEntry entry = this.provider.getDocument(getHashOnlyInput(HASH), PARSE_AND_VALIDATE);
+
+		assertThat(entry.hasErrors()).isFalse();
+		assertThat(entry.getDocument()).isNotNull();
+		assertThat(this.delegatedQueries).containsExactly(QUERY, QUERY);
+		assertThat(this.getCount("hits")).isEqualTo(1);
+	}
+
+	@Test
+	void mismatchedHashIsRejectedAndNotRegistered() {
+		String otherHash = Hashing.sha256().hashString("{ other }", StandardCharsets.UTF_8).toString();
+
+		PreparsedDocumentEntry entry = this.provider.getDocument(getInput(QUERY, otherHash), PARSE_AND_VALIDATE);
+
+		assertThat(entry.getErrors()).extracting(GraphQLError::getMessage)
+			.containsExactly("provided sha does not match query");
+		assertThat(this.delegatedQueries).isEmpty();
+		assertThat(this.getCount("registrations")).isEqualTo(0);
+
+		PreparsedDocumentEntry lookup = this.provider.getDocument(getHashOnlyInput(otherHash), PARSE_AND_VALIDATE);
+		assertThat(lookup.getErrors()).extracting(GraphQLError::getMessage).containsExactly("PersistedQueryNotFound");
+	}
+
+	@Test
+	void disabledByDefault() {
+		assertThat(new GraphQLPersistedQueryFactory().isEnabled()).isFalse();
+	}
+
+	private long getCount(@Nonnull String meterName) {
+		return this.metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, meterName))
+			.getCount();
+	}
+
+	@Nonnull
+	private static ExecutionInput getHashOnlyInput(@Nonnull String hash) {
+		return getInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash);
+	}
+
+	@Nonnull
+	private static ExecutionInput getInput(@Nonnull String query, @Nonnull String hash) {
+		Map<String, Object> persistedQuery = Map.of("version", 1, "sha256Hash", hash);
+		return ExecutionInput.newExecutionInput()
+			.query(query)
+			.extensions(Map.of("persistedQuery", persistedQuery))
+			.build();
+	}
+
+	private final class RecordingDocumentProvider implements PreparsedDocumentProvider {
+		@Override
+		public PreparsedDocumentEntry getDocument(
+			ExecutionInput executionInput,
+			Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+		) {
+			PersistedQueryDocumentProviderTest.this.delegatedQueries.add(executionInput.getQuery());
+			return parseAndValidateFunction.apply(executionInput);
+		}
+	}
+}
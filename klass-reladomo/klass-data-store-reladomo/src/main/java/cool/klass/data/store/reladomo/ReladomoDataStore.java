@@ -24,18 +24,16 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import com.google.common.base.CaseFormat;
-import com.google.common.base.Converter;
 import com.gs.fw.common.mithra.MithraDatedTransactionalObject;
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraManagerProvider;
@@ -53,6 +51,7 @@ import cool.klass.data.store.DataStore;
 import cool.klass.data.store.Transaction;
 import cool.klass.data.store.TransactionalCommand;
 import cool.klass.model.meta.domain.api.Classifier;
+import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Enumeration;
 import cool.klass.model.meta.domain.api.EnumerationLiteral;
 import cool.klass.model.meta.domain.api.Klass;
@@ -61,17 +60,18 @@ import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
 import cool.klass.model.meta.domain.api.property.EnumerationProperty;
 import cool.klass.model.meta.domain.api.property.PrimitiveProperty;
-import cool.klass.model.meta.domain.api.property.Property;
 import cool.klass.model.meta.domain.api.property.ReferenceProperty;
 import cool.klass.model.meta.domain.api.visitor.AssertObjectMatchesDataTypePropertyVisitor;
 import cool.klass.reladomo.utc.infinity.timestamp.UtcInfinityTimestamp;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
-import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.OrderedMap;
-import org.eclipse.collections.api.tuple.Pair;
-import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
-import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.MapAdapter;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -84,27 +84,36 @@ public class ReladomoDataStore implements DataStore {
 	private static final Marker MARKER = MarkerFactory.getMarker("reladomo transaction stats");
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReladomoDataStore.class);
 
-	private static final Converter<String, String> LOWER_TO_UPPER_CAMEL = CaseFormat.LOWER_CAMEL.converterTo(
-		CaseFormat.UPPER_CAMEL
-	);
-
-	private static final Converter<String, String> UPPER_TO_LOWER_CAMEL = CaseFormat.UPPER_CAMEL.converterTo(
-		CaseFormat.LOWER_CAMEL
-	);
+	// Keeps the generated sql under the bind variable limits of common databases
+	private static final int FIND_ALL_BY_KEYS_CHUNK_SIZE = 500;
 
 	private final Supplier<UUID> uuidSupplier;
 	private final int retryCount;
 
-	private final MutableOrderedMap<Classifier, AbstractRelatedFinder> memoizedRelatedFinders = OrderedMapAdapter.adapt(
-		new LinkedHashMap<>()
-	);
-	private final MutableOrderedMap<Pair<Class<?>, PrimitiveProperty>, Method> memoizedGenerateAndSetIdMethods =
-		OrderedMapAdapter.adapt(new LinkedHashMap<>());
-	private final MutableOrderedMap<Property, Method> memoizedGetters = OrderedMapAdapter.adapt(new LinkedHashMap<>());
+	// Populated eagerly from the domain model, and lazily for interfaces and transient classes
+	private final ConcurrentMutableMap<Classifier, AbstractRelatedFinder> relatedFinders = ConcurrentHashMap.newMap();
+	private final ConcurrentMutableMap<Klass, ReladomoKlassAccessors> klassAccessors = ConcurrentHashMap.newMap();
+	private final ImmutableMap<String, Klass> klassesByFullyQualifiedName;
+	private final ClassValue<ReladomoKlassAccessors> klassAccessorsByJavaClass = new ClassValue<>() {
+		@Override
+		protected ReladomoKlassAccessors computeValue(Class<?> javaClass) {
+			return ReladomoDataStore.this.lookupKlassAccessors(javaClass);
+		}
+	};
 
-	public ReladomoDataStore(@Nonnull Supplier<UUID> uuidSupplier, int retryCount) {
+	public ReladomoDataStore(@Nonnull DomainModel domainModel, @Nonnull Supplier<UUID> uuidSupplier, int retryCount) {
 		this.uuidSupplier = Objects.requireNonNull(uuidSupplier);
 		this.retryCount = retryCount;
+		this.klassesByFullyQualifiedName = domainModel
+			.getClasses()
+			.groupByUniqueKey(Klass::getFullyQualifiedName)
+			.toImmutable();
+
+		domainModel
+			.getClasses()
+			.asLazy()
+			.reject(Klass::isTransient)
+			.forEach(this::getKlassAccessors);
 	}
 
 	@Override
@@ -175,6 +184,28 @@ public class ReladomoDataStore implements DataStore {
 		return (List<Object>) finder.findMany(operation);
 	}
 
+	@Override
+	public List<Object> findAllByKeys(
+		@Nonnull Klass klass,
+		@Nonnull List<? extends MapIterable<DataTypeProperty, Object>> keys
+	) {
+		RelatedFinder<?> finder = this.getRelatedFinder(klass);
+		List<Object> result = new ArrayList<>(keys.size());
+		for (int start = 0; start < keys.size(); start += FIND_ALL_BY_KEYS_CHUNK_SIZE) {
+			List<? extends MapIterable<DataTypeProperty, Object>> chunk = keys.subList(
+				start,
+				Math.min(start + FIND_ALL_BY_KEYS_CHUNK_SIZE, keys.size())
+			);
+			// Reladomo combines the equalities on a single key attribute into one in-clause
+			Operation operation = ListIterate
+				.collect(chunk, (eachKeys) -> this.getFindByKeyOperation(klass, eachKeys))
+				.reduce(Operation::or)
+				.get();
+			result.addAll(finder.findMany(operation));
+		}
+		return result;
+	}
+
 	@Nonnull
 	private Operation getFindByKeyOperation(@Nonnull Klass klass, @Nonnull MapIterable<DataTypeProperty, Object> keys) {
 		keys.forEachKeyValue((keyProperty, keyValue) -> {
@@ -198,7 +229,7 @@ public class ReladomoDataStore implements DataStore {
 			throw new IllegalArgumentException(error);
 		}
 
-		RelatedFinder<?> finder = this.getRelatedFinder(klass);
+		ReladomoKlassAccessors accessors = this.getKlassAccessors(klass);
 		ImmutableList<Operation> operations = keyProperties.collect((keyProperty) -> {
 			Object key = keys.get(keyProperty);
 			if (!keys.containsKey(keyProperty)) {
@@ -209,7 +240,7 @@ public class ReladomoDataStore implements DataStore {
 				String detailMessage = "Expected non-null key for property: " + keyProperty;
 				throw new AssertionError(detailMessage);
 			}
-			return this.getOperation(finder, keyProperty, key);
+			return this.getOperation(accessors, keyProperty, key);
 		});
 
 		Operation operation = operations.reduce(Operation::and).get();
@@ -217,13 +248,13 @@ public class ReladomoDataStore implements DataStore {
 	}
 
 	private Operation getOperation(
-		@Nonnull RelatedFinder<?> finder,
+		@Nonnull ReladomoKlassAccessors accessors,
 		@Nonnull DataTypeProperty keyProperty,
 		Object key
 	) {
 		this.assertObjectMatchesType(keyProperty, key);
 
-		Attribute attribute = finder.getAttributeByName(keyProperty.getName());
+		Attribute attribute = accessors.getAttribute(keyProperty);
 		var visitor = new OperationVisitor(attribute, key);
 		keyProperty.visit(visitor);
 		return visitor.getResult();
@@ -245,19 +276,7 @@ public class ReladomoDataStore implements DataStore {
 
 	@Nonnull
 	private Object instantiateNewInstance(@Nonnull Klass klass) {
-		try {
-			Class<?> aClass = Class.forName(klass.getFullyQualifiedName());
-			Class<?>[] parameterTypes = klass.isSystemTemporal()
-				? new Class<?>[] { Timestamp.class }
-				: new Class<?>[] {};
-			Constructor<?> constructor = aClass.getConstructor(parameterTypes);
-			Object[] constructorArgs = klass.isSystemTemporal()
-				? new Object[] { UtcInfinityTimestamp.getDefaultInfinity() }
-				: new Object[] {};
-			return constructor.newInstance(constructorArgs);
-		} catch (ReflectiveOperationException e) {
-			throw new RuntimeException(e);
-		}
+		return this.getKlassAccessors(klass).newInstance();
 	}
 
 	@Nonnull
@@ -308,15 +327,7 @@ public class ReladomoDataStore implements DataStore {
 		var idProperty = (PrimitiveProperty) idProperties.getOnly();
 
 		if (idProperty.getType().isNumeric()) {
-			try {
-				Method generateAndSetIdMethod = this.getGenerateAndSetIdMethod(
-					persistentInstance.getClass(),
-					idProperty
-				);
-				generateAndSetIdMethod.invoke(persistentInstance);
-			} catch (ReflectiveOperationException e) {
-				throw new RuntimeException(e);
-			}
+			this.getPersistentInstanceAccessors(persistentInstance).generateAndSetId(persistentInstance);
 		} else if (idProperty.getType() == PrimitiveType.STRING) {
 			Objects.requireNonNull(this.uuidSupplier);
 			UUID uuid = this.uuidSupplier.get();
@@ -327,32 +338,14 @@ public class ReladomoDataStore implements DataStore {
 		}
 	}
 
-	@Nonnull
-	private Method getGenerateAndSetIdMethod(Class<?> klass, PrimitiveProperty idProperty)
-		throws NoSuchMethodException {
-		Pair<Class<?>, PrimitiveProperty> key = Tuples.pair(klass, idProperty);
-		if (this.memoizedGenerateAndSetIdMethods.containsKey(key)) {
-			return this.memoizedGenerateAndSetIdMethods.get(key);
-		}
-		String methodName = "generateAndSet" + LOWER_TO_UPPER_CAMEL.convert(idProperty.getName());
-		Method generateAndSetIdMethod = klass.getMethod(methodName);
-		this.memoizedGenerateAndSetIdMethods.put(key, generateAndSetIdMethod);
-		return generateAndSetIdMethod;
-	}
-
 	@Nullable
 	@Override
 	public Object getDataTypeProperty(@Nonnull Object persistentInstance, @Nonnull DataTypeProperty dataTypeProperty) {
 		Objects.requireNonNull(persistentInstance);
 
-		if (!(persistentInstance instanceof MithraObject)) {
-			String detailMessage = "Expected MithraObject but got " + persistentInstance.getClass().getCanonicalName();
-			throw new AssertionError(detailMessage);
-		}
-
-		// TODO: Code generate accessors to avoid reflection
+		ReladomoKlassAccessors accessors = this.getPersistentInstanceAccessors(persistentInstance);
 		if (dataTypeProperty.isDerived()) {
-			return this.getPropertyReflectively(persistentInstance, dataTypeProperty);
+			return accessors.getDerivedValue(persistentInstance, dataTypeProperty);
 		}
 
 		Classifier owningClassifier = dataTypeProperty.getOwningClassifier();
@@ -367,15 +360,7 @@ public class ReladomoDataStore implements DataStore {
 			throw new AssertionError(detailMessage);
 		}
 
-		RelatedFinder<?> finder = this.getRelatedFinder((MithraObject) persistentInstance);
-		String attributeName = dataTypeProperty.getName();
-		Attribute attribute = finder.getAttributeByName(attributeName);
-		if (attribute == null) {
-			String detailMessage =
-				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find attribute: "
-				+ attributeName;
-			throw new AssertionError(detailMessage);
-		}
+		Attribute attribute = accessors.getAttribute(dataTypeProperty);
 
 		if (attribute.isAttributeNull(persistentInstance)) {
 			if (dataTypeProperty.isOptional()) {
@@ -420,13 +405,13 @@ public class ReladomoDataStore implements DataStore {
 			var prettyName = (String) result;
 			Enumeration enumeration = enumerationProperty.getType();
 
-			Optional<EnumerationLiteral> enumerationLiteral = enumeration
-				.getEnumerationLiterals()
-				.detectOptional((each) -> each.getPrettyName().equals(prettyName));
-
-			return enumerationLiteral.orElseThrow(() ->
-				new AssertionError("No enumeration literal found for " + prettyName + " in " + enumeration.getName())
-			);
+			return enumeration
+				.findEnumerationLiteralByPrettyName(prettyName)
+				.orElseThrow(() ->
+					new AssertionError(
+						"No enumeration literal found for " + prettyName + " in " + enumeration.getName()
+					)
+				);
 		}
 
 		return result;
@@ -437,18 +422,12 @@ public class ReladomoDataStore implements DataStore {
 		@Nonnull Object persistentInstance,
 		@Nonnull DataTypeProperty dataTypeProperty
 	) {
+		ReladomoKlassAccessors accessors = this.getPersistentInstanceAccessors(persistentInstance);
 		if (dataTypeProperty.isDerived()) {
-			return this.getPropertyReflectively(persistentInstance, dataTypeProperty);
+			return accessors.getDerivedValue(persistentInstance, dataTypeProperty);
 		}
 
-		RelatedFinder<?> finder = this.getRelatedFinder((MithraObject) persistentInstance);
-		Attribute attribute = finder.getAttributeByName(dataTypeProperty.getName());
-		if (attribute == null) {
-			String detailMessage =
-				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find: "
-				+ dataTypeProperty;
-			throw new AssertionError(detailMessage);
-		}
+		Attribute attribute = accessors.getAttribute(dataTypeProperty);
 
 		if (attribute.isAttributeNull(persistentInstance)) {
 			return null;
@@ -479,46 +458,14 @@ public class ReladomoDataStore implements DataStore {
 			var prettyName = (String) result;
 			Enumeration enumeration = enumerationProperty.getType();
 
-			Optional<EnumerationLiteral> enumerationLiteral = enumeration
-				.getEnumerationLiterals()
-				.detectOptional((each) -> each.getPrettyName().equals(prettyName));
-
-			return enumerationLiteral.orElseThrow(() -> new AssertionError(prettyName));
+			return enumeration
+				.findEnumerationLiteralByPrettyName(prettyName)
+				.orElseThrow(() -> new AssertionError(prettyName));
 		}
 
 		return result;
 	}
 
-	private Object getPropertyReflectively(@Nonnull Object persistentInstance, @Nonnull Property property) {
-		try {
-			Method method = this.getMethod(property);
-			return method.invoke(persistentInstance);
-		} catch (ReflectiveOperationException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
-	@Nonnull
-	private Method getMethod(@Nonnull Property property) throws ClassNotFoundException, NoSuchMethodException {
-		if (this.memoizedGetters.containsKey(property)) {
-			return this.memoizedGetters.get(property);
-		}
-		Classifier owningClassifier = property.getOwningClassifier();
-		String fullyQualifiedName = owningClassifier.getFullyQualifiedName();
-		Class<?> aClass = Class.forName(fullyQualifiedName);
-		String methodName = this.getMethodName(property);
-		Method method = aClass.getMethod(methodName);
-		this.memoizedGetters.put(property, method);
-		return method;
-	}
-
-	@Nonnull
-	private String getMethodName(Property property) {
-		String prefix = property.getType() == PrimitiveType.BOOLEAN ? "is" : "get";
-		String suffix = LOWER_TO_UPPER_CAMEL.convert(property.getName());
-		return prefix + suffix;
-	}
-
 	@Override
 	public boolean setDataTypeProperty(
 		@Nonnull Object persistentInstance,
@@ -535,8 +482,7 @@ public class ReladomoDataStore implements DataStore {
 			return false;
 		}
 
-		RelatedFinder<?> finder = this.getRelatedFinder((MithraObject) persistentInstance);
-		Attribute attribute = finder.getAttributeByName(dataTypeProperty.getName());
+		Attribute attribute = this.getPersistentInstanceAccessors(persistentInstance).getAttribute(dataTypeProperty);
 
 		if (newValue == null) {
 			if (dataTypeProperty.isRequired()) {
@@ -579,17 +525,8 @@ public class ReladomoDataStore implements DataStore {
 	}
 
 	public Object get(Object persistentSourceInstance, @Nonnull ReferenceProperty referenceProperty) {
-		RelatedFinder<?> finder = this.getRelatedFinder(referenceProperty.getOwningClassifier());
-		String referencePropertyName = referenceProperty.getName();
-		var relationshipFinder = (AbstractRelatedFinder) finder.getRelationshipFinderByName(referencePropertyName);
-
-		if (relationshipFinder == null) {
-			String detailMessage =
-				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find relationship for property "
-				+ referenceProperty;
-			throw new AssertionError(detailMessage);
-		}
-
+		ReladomoKlassAccessors accessors = this.getPersistentInstanceAccessors(persistentSourceInstance);
+		AbstractRelatedFinder relationshipFinder = accessors.getRelationshipFinder(referenceProperty.getName());
 		return relationshipFinder.valueOf(persistentSourceInstance);
 	}
 
@@ -655,6 +592,42 @@ public class ReladomoDataStore implements DataStore {
 		((MithraTransactionalObject) persistentInstance).insert();
 	}
 
+	@Override
+	public void insertAll(@Nonnull List<Object> persistentInstances) {
+		if (persistentInstances.size() == 1) {
+			this.insert(persistentInstances.get(0));
+			return;
+		}
+
+		// One list per concrete class, in the order each class is first seen
+		MutableMap<Class<?>, MithraList<Object>> listsByClass = MapAdapter.adapt(new LinkedHashMap<>());
+		for (Object persistentInstance : persistentInstances) {
+			if (!(persistentInstance instanceof MithraTransactionalObject)) {
+				String detailMessage =
+					"Expected MithraTransactionalObject but got " + persistentInstance.getClass().getCanonicalName();
+				throw new AssertionError(detailMessage);
+			}
+
+			MithraList<Object> mithraList = listsByClass.getIfAbsentPutWith(
+				persistentInstance.getClass(),
+				this::constructEmptyList,
+				persistentInstance
+			);
+			mithraList.add(persistentInstance);
+		}
+
+		for (MithraList<Object> mithraList : listsByClass.values()) {
+			((TransactionalDomainList<?>) mithraList).insertAll();
+		}
+	}
+
+	@Nonnull
+	private MithraList<Object> constructEmptyList(@Nonnull Object persistentInstance) {
+		return (MithraList<Object>) this.getPersistentInstanceAccessors(persistentInstance)
+			.getFinder()
+			.constructEmptyList();
+	}
+
 	@Override
 	public void deleteOrTerminate(@Nonnull Object persistentInstance) {
 		if (persistentInstance instanceof MithraDatedTransactionalObject transactionalObject) {
@@ -743,38 +716,14 @@ public class ReladomoDataStore implements DataStore {
 	}
 
 	public MithraObject getSubClassPersistentInstance(Klass klass, Klass subClass, MithraObject persistentInstance) {
-		RelatedFinder<?> finder = this.getRelatedFinder(klass);
-
-		String relationshipName = UPPER_TO_LOWER_CAMEL.convert(subClass.getName()) + "SubClass";
-
-		var relationshipFinder = (AbstractRelatedFinder) finder.getRelationshipFinderByName(relationshipName);
-
-		if (relationshipFinder == null) {
-			String detailMessage =
-				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find relationship for property "
-				+ relationshipName;
-			throw new AssertionError(detailMessage);
-		}
-
+		AbstractRelatedFinder relationshipFinder = this.getKlassAccessors(klass).getSubClassRelationshipFinder(subClass);
 		Object result = relationshipFinder.valueOf(persistentInstance);
 		return (MithraObject) result;
 	}
 
 	@Override
 	public Object getSuperClass(Object persistentInstance, Klass klass) {
-		RelatedFinder<?> finder = this.getRelatedFinder(klass);
-
-		String relationshipName = UPPER_TO_LOWER_CAMEL.convert(klass.getSuperClass().get().getName()) + "SuperClass";
-
-		var relationshipFinder = (AbstractRelatedFinder) finder.getRelationshipFinderByName(relationshipName);
-
-		if (relationshipFinder == null) {
-			String detailMessage =
-				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find relationship for property "
-				+ relationshipName;
-			throw new AssertionError(detailMessage);
-		}
-
+		AbstractRelatedFinder relationshipFinder = this.getKlassAccessors(klass).getSuperClassRelationshipFinder();
 		Object result = relationshipFinder.valueOf(persistentInstance);
 		Objects.requireNonNull(result, () ->
 			"Expected result to not be null for superClass: %s, persistentInstance: %s".formatted(
@@ -791,19 +740,9 @@ public class ReladomoDataStore implements DataStore {
 			throw new AssertionError("Expected " + subClass + " to be a strict subtype of " + superClass);
 		}
 
-		RelatedFinder<?> finder = this.getRelatedFinder(superClass);
-
-		String relationshipName = UPPER_TO_LOWER_CAMEL.convert(subClass.getName()) + "SubClass";
-
-		var relationshipFinder = (AbstractRelatedFinder) finder.getRelationshipFinderByName(relationshipName);
-
-		if (relationshipFinder == null) {
-			String detailMessage =
-				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find relationship for property "
-				+ relationshipName;
-			throw new AssertionError(detailMessage);
-		}
-
+		AbstractRelatedFinder relationshipFinder = this.getKlassAccessors(superClass).getSubClassRelationshipFinder(
+			subClass
+		);
 		Object result = relationshipFinder.valueOf(persistentInstance);
 		/*
         Objects.requireNonNull(
@@ -816,23 +755,49 @@ public class ReladomoDataStore implements DataStore {
 		return result;
 	}
 
-	private RelatedFinder<?> getRelatedFinder(@Nonnull MithraObject mithraObject) {
-		return mithraObject.zGetPortal().getFinder();
+	@Nonnull
+	public ReladomoKlassAccessors getKlassAccessors(@Nonnull Klass klass) {
+		return this.klassAccessors.getIfAbsentPutWith(klass, this::compileKlassAccessors, klass);
 	}
 
 	@Nonnull
-	public AbstractRelatedFinder getRelatedFinder(@Nonnull Classifier classifier) {
-		if (this.memoizedRelatedFinders.containsKey(classifier)) {
-			return this.memoizedRelatedFinders.get(classifier);
+	public ReladomoKlassAccessors getPersistentInstanceAccessors(@Nonnull Object persistentInstance) {
+		if (!(persistentInstance instanceof MithraObject)) {
+			String detailMessage = "Expected MithraObject but got " + persistentInstance.getClass().getCanonicalName();
+			throw new AssertionError(detailMessage);
 		}
+		return this.klassAccessorsByJavaClass.get(persistentInstance.getClass());
+	}
 
+	@Nonnull
+	private ReladomoKlassAccessors lookupKlassAccessors(@Nonnull Class<?> javaClass) {
+		Klass klass = this.klassesByFullyQualifiedName.get(javaClass.getName());
+		if (klass == null) {
+			String detailMessage =
+				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find class: "
+				+ javaClass.getName();
+			throw new AssertionError(detailMessage);
+		}
+		return this.getKlassAccessors(klass);
+	}
+
+	@Nonnull
+	private ReladomoKlassAccessors compileKlassAccessors(@Nonnull Klass klass) {
+		return ReladomoKlassAccessors.compile(klass, this.getRelatedFinder(klass));
+	}
+
+	@Nonnull
+	public AbstractRelatedFinder getRelatedFinder(@Nonnull Classifier classifier) {
+		return this.relatedFinders.getIfAbsentPutWith(classifier, ReladomoDataStore::lookupRelatedFinder, classifier);
+	}
+
+	@Nonnull
+	private static AbstractRelatedFinder lookupRelatedFinder(@Nonnull Classifier classifier) {
 		try {
 			String finderName = classifier.getFullyQualifiedName() + "Finder";
 			Class<?> finderClass = Class.forName(finderName);
 			Method getFinderMethod = finderClass.getMethod("getFinderInstance");
-			var result = (AbstractRelatedFinder) getFinderMethod.invoke(null);
-			this.memoizedRelatedFinders.put(classifier, result);
-			return result;
+			return (AbstractRelatedFinder) getFinderMethod.invoke(null);
 		} catch (@Nonnull ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
 			throw new RuntimeException(e);
 		}
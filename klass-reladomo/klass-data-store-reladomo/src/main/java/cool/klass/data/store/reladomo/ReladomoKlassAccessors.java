@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.data.store.reladomo;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.sql.Timestamp;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.base.CaseFormat;
+import com.google.common.base.Converter;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.NamedElement;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.property.PrimitiveProperty;
+import cool.klass.model.meta.domain.api.property.Property;
+import cool.klass.reladomo.utc.infinity.timestamp.UtcInfinityTimestamp;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+
+/**
+ * The generated Reladomo code for one {@link Klass}, resolved once up front. Finders, attributes, relationship
+ * finders and generated methods are looked up by name here so that the read and write paths in
+ * {@link ReladomoDataStore} don't need reflection or memo maps. Instances are immutable and safe to share across
+ * request threads.
+ */
+public final class ReladomoKlassAccessors {
+
+	private static final Converter<String, String> LOWER_TO_UPPER_CAMEL = CaseFormat.LOWER_CAMEL.converterTo(
+		CaseFormat.UPPER_CAMEL
+	);
+
+	private static final Converter<String, String> UPPER_TO_LOWER_CAMEL = CaseFormat.UPPER_CAMEL.converterTo(
+		CaseFormat.LOWER_CAMEL
+	);
+
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+
+	@Nonnull
+	private final Klass klass;
+
+	@Nonnull
+	private final Class<?> javaClass;
+
+	@Nonnull
+	private final AbstractRelatedFinder finder;
+
+	@Nonnull
+	private final Supplier<Object> constructor;
+
+	@Nullable
+	private final Consumer<Object> generateAndSetId;
+
+	// Keyed by name rather than by property, because properties declared on interfaces are different instances than the properties inherited by the class
+	@Nonnull
+	private final ImmutableMap<String, Attribute> attributesByPropertyName;
+
+	@Nonnull
+	private final ImmutableMap<String, Function<Object, Object>> derivedGettersByPropertyName;
+
+	@Nonnull
+	private final ImmutableMap<String, AbstractRelatedFinder> relationshipFindersByName;
+
+	private ReladomoKlassAccessors(
+		@Nonnull Klass klass,
+		@Nonnull Class<?> javaClass,
+		@Nonnull AbstractRelatedFinder finder,
+		@Nonnull Supplier<Object> constructor,
+		@Nullable Consumer<Object> generateAndSetId,
+		@Nonnull ImmutableMap<String, Attribute> attributesByPropertyName,
+		@Nonnull ImmutableMap<String, Function<Object, Object>> derivedGettersByPropertyName,
+		@Nonnull ImmutableMap<String, AbstractRelatedFinder> relationshipFindersByName
+	) {
+		this.klass = Objects.requireNonNull(klass);
+		this.javaClass = Objects.requireNonNull(javaClass);
+		this.finder = Objects.requireNonNull(finder);
+		this.constructor = Objects.requireNonNull(constructor);
+		this.generateAndSetId = generateAndSetId;
+		this.attributesByPropertyName = Objects.requireNonNull(attributesByPropertyName);
+		this.derivedGettersByPropertyName = Objects.requireNonNull(derivedGettersByPropertyName);
+		this.relationshipFindersByName = Objects.requireNonNull(relationshipFindersByName);
+	}
+
+	@Nonnull
+	public static ReladomoKlassAccessors compile(@Nonnull Klass klass, @Nonnull AbstractRelatedFinder finder) {
+		try {
+			Class<?> javaClass = Class.forName(klass.getFullyQualifiedName());
+
+			MutableMap<String, Attribute> attributes = Maps.mutable.empty();
+			MutableMap<String, Function<Object, Object>> derivedGetters = Maps.mutable.empty();
+			for (DataTypeProperty dataTypeProperty : klass.getDataTypeProperties()) {
+				String propertyName = dataTypeProperty.getName();
+				if (dataTypeProperty.isDerived()) {
+					derivedGetters.put(propertyName, compileGetter(javaClass, dataTypeProperty));
+					continue;
+				}
+
+				// Properties inherited from a superclass live on the superclass's table, so there may be no attribute here
+				Attribute attribute = finder.getAttributeByName(propertyName);
+				if (attribute != null) {
+					attributes.put(propertyName, attribute);
+				}
+			}
+
+			MutableList<String> relationshipNames = klass.getReferenceProperties().collect(NamedElement::getName).toList();
+			klass
+				.getSubClasses()
+				.collect(ReladomoKlassAccessors::getSubClassRelationshipName, relationshipNames);
+			klass
+				.getSuperClass()
+				.map(ReladomoKlassAccessors::getSuperClassRelationshipName)
+				.ifPresent(relationshipNames::add);
+
+			MutableMap<String, AbstractRelatedFinder> relationshipFinders = Maps.mutable.empty();
+			for (String relationshipName : relationshipNames) {
+				var relationshipFinder = (AbstractRelatedFinder) finder.getRelationshipFinderByName(relationshipName);
+				if (relationshipFinder != null) {
+					relationshipFinders.put(relationshipName, relationshipFinder);
+				}
+			}
+
+			return new ReladomoKlassAccessors(
+				klass,
+				javaClass,
+				finder,
+				compileConstructor(klass, javaClass),
+				compileGenerateAndSetId(klass, javaClass),
+				attributes.toImmutable(),
+				derivedGetters.toImmutable(),
+				relationshipFinders.toImmutable()
+			);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Nonnull
+	public Klass getKlass() {
+		return this.klass;
+	}
+
+	@Nonnull
+	public Class<?> getJavaClass() {
+		return this.javaClass;
+	}
+
+	@Nonnull
+	public AbstractRelatedFinder getFinder() {
+		return this.finder;
+	}
+
+	@Nonnull
+	public Object newInstance() {
+		return this.constructor.get();
+	}
+
+	public boolean hasGenerateAndSetId() {
+		return this.generateAndSetId != null;
+	}
+
+	public void generateAndSetId(@Nonnull Object persistentInstance) {
+		if (this.generateAndSetId == null) {
+			throw new AssertionError("Expected a numeric ID property on " + this.klass);
+		}
+		this.generateAndSetId.accept(persistentInstance);
+	}
+
+	@Nonnull
+	public Attribute getAttribute(@Nonnull DataTypeProperty dataTypeProperty) {
+		Attribute attribute = this.attributesByPropertyName.get(dataTypeProperty.getName());
+		if (attribute == null) {
+			String detailMessage =
+				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find attribute: "
+				+ dataTypeProperty.getName();
+			throw new AssertionError(detailMessage);
+		}
+		return attribute;
+	}
+
+	public Object getDerivedValue(@Nonnull Object persistentInstance, @Nonnull DataTypeProperty dataTypeProperty) {
+		Function<Object, Object> getter = this.derivedGettersByPropertyName.get(dataTypeProperty.getName());
+		if (getter == null) {
+			String detailMessage =
+				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find getter for: "
+				+ dataTypeProperty;
+			throw new AssertionError(detailMessage);
+		}
+		return getter.apply(persistentInstance);
+	}
+
+	@Nonnull
+	public AbstractRelatedFinder getRelationshipFinder(@Nonnull String relationshipName) {
+		AbstractRelatedFinder relationshipFinder = this.relationshipFindersByName.get(relationshipName);
+		if (relationshipFinder == null) {
+			String detailMessage =
+				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find relationship for property "
+				+ relationshipName;
+			throw new AssertionError(detailMessage);
+		}
+		return relationshipFinder;
+	}
+
+	@Nonnull
+	public AbstractRelatedFinder getSubClassRelationshipFinder(@Nonnull Klass subClass) {
+		return this.getRelationshipFinder(getSubClassRelationshipName(subClass));
+	}
+
+	@Nonnull
+	public AbstractRelatedFinder getSuperClassRelationshipFinder() {
+		Klass superClass = this.klass.getSuperClass().orElseThrow(() ->
+			new AssertionError("Expected a superclass for " + this.klass)
+		);
+		return this.getRelationshipFinder(getSuperClassRelationshipName(superClass));
+	}
+
+	@Nonnull
+	private static String getSubClassRelationshipName(@Nonnull Klass subClass) {
+		return UPPER_TO_LOWER_CAMEL.convert(subClass.getName()) + "SubClass";
+	}
+
+	@Nonnull
+	private static String getSuperClassRelationshipName(@Nonnull Klass superClass) {
+		return UPPER_TO_LOWER_CAMEL.convert(superClass.getName()) + "SuperClass";
+	}
+
+	@Nonnull
+	private static Function<Object, Object> compileGetter(@Nonnull Class<?> javaClass, @Nonnull Property property)
+		throws ReflectiveOperationException {
+		String prefix = property.getType() == PrimitiveType.BOOLEAN ? "is" : "get";
+		String methodName = prefix + LOWER_TO_UPPER_CAMEL.convert(property.getName());
+		MethodHandle getter = LOOKUP.unreflect(javaClass.getMethod(methodName));
+		return metafactory(
+			Function.class,
+			"apply",
+			MethodType.methodType(Object.class, Object.class),
+			getter,
+			getter.type().wrap()
+		);
+	}
+
+	@Nonnull
+	private static Supplier<Object> compileConstructor(@Nonnull Klass klass, @Nonnull Class<?> javaClass)
+		throws ReflectiveOperationException {
+		if (klass.isSystemTemporal()) {
+			MethodHandle constructor = LOOKUP.unreflectConstructor(javaClass.getConstructor(Timestamp.class));
+			Function<Timestamp, Object> function = metafactory(
+				Function.class,
+				"apply",
+				MethodType.methodType(Object.class, Object.class),
+				constructor,
+				constructor.type()
+			);
+			return () -> function.apply(UtcInfinityTimestamp.getDefaultInfinity());
+		}
+
+		MethodHandle constructor = LOOKUP.unreflectConstructor(javaClass.getConstructor());
+		return metafactory(
+			Supplier.class,
+			"get",
+			MethodType.methodType(Object.class),
+			constructor,
+			constructor.type()
+		);
+	}
+
+	@Nullable
+	private static Consumer<Object> compileGenerateAndSetId(@Nonnull Klass klass, @Nonnull Class<?> javaClass)
+		throws ReflectiveOperationException {
+		ImmutableList<DataTypeProperty> idProperties = klass.getDataTypeProperties().select(DataTypeProperty::isID);
+		if (idProperties.isEmpty()) {
+			return null;
+		}
+
+		var idProperty = (PrimitiveProperty) idProperties.getOnly();
+		if (!idProperty.getType().isNumeric()) {
+			return null;
+		}
+
+		String methodName = "generateAndSet" + LOWER_TO_UPPER_CAMEL.convert(idProperty.getName());
+		MethodHandle generateAndSetId = LOOKUP.unreflect(javaClass.getMethod(methodName));
+		return metafactory(
+			Consumer.class,
+			"accept",
+			MethodType.methodType(void.class, Object.class),
+			generateAndSetId,
+			MethodType.methodType(void.class, javaClass)
+		);
+	}
+
+	@Nonnull
+	private static <T> T metafactory(
+		@Nonnull Class<?> functionalInterface,
+		@Nonnull String methodName,
+		@Nonnull MethodType erasedMethodType,
+		@Nonnull MethodHandle implementation,
+		@Nonnull MethodType instantiatedMethodType
+	) {
+		try {
+			CallSite callSite = LambdaMetafactory.metafactory(
+				LOOKUP,
+				methodName,
+				MethodType.methodType(functionalInterface),
+				erasedMethodType,
+				implementation,
+				instantiatedMethodType
+			);
+			return (T) callSite.getTarget().invoke();
+		} catch (Throwable e) {
+			throw new RuntimeException("Could not compile accessor for " + implementation, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName() + "[" + this.klass.getFullyQualifiedName() + "]";
+	}
+}
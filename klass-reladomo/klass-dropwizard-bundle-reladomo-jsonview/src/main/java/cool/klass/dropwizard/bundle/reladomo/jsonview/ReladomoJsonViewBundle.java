@@ -18,16 +18,18 @@ package cool.klass.dropwizard.bundle.reladomo.jsonview;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.google.auto.service.AutoService;
+import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraObject;
 import cool.klass.data.store.DataStore;
+import cool.klass.dropwizard.configuration.data.store.DataStoreFactory;
 import cool.klass.dropwizard.configuration.data.store.DataStoreFactoryProvider;
 import cool.klass.dropwizard.configuration.domain.model.loader.DomainModelFactoryProvider;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewSerializer;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewStreamingListSerializer;
 import io.dropwizard.setup.Environment;
 import io.liftwizard.dropwizard.bundle.prioritized.PrioritizedBundle;
 import org.slf4j.Logger;
@@ -59,12 +61,23 @@ public class ReladomoJsonViewBundle implements PrioritizedBundle {
 
 		ObjectMapper objectMapper = environment.getObjectMapper();
 		DomainModel domainModel = domainModelFactoryProvider.getDomainModelFactory().createDomainModel(objectMapper);
-		DataStore dataStore = dataStoreFactoryProvider.getDataStoreFactory().createDataStore(domainModel);
+		DataStoreFactory dataStoreFactory = dataStoreFactoryProvider.getDataStoreFactory();
+		DataStore dataStore = dataStoreFactory.createDataStore(domainModel);
 
-		JsonSerializer<MithraObject> serializer = new ReladomoJsonViewSerializer(domainModel, dataStore);
+		var serializer = new ReladomoJsonViewSerializer(domainModel, dataStore);
+		serializer.warmUp();
 
 		var module = new SimpleModule();
 		module.addSerializer(MithraObject.class, serializer);
+
+		int streamingChunkSize = dataStoreFactory.getStreamingChunkSize();
+		if (streamingChunkSize > 0) {
+			LOGGER.info("Streaming to-many responses in chunks of {}.", streamingChunkSize);
+			module.addSerializer(
+				MithraList.class,
+				new ReladomoJsonViewStreamingListSerializer(serializer, streamingChunkSize)
+			);
+		}
 		objectMapper.registerModule(module);
 
 		LOGGER.info("Completing {}.", this.getClass().getSimpleName());
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.dropwizard.bundle.reladomo.request.statistics;
+
+import java.util.EnumSet;
+
+import javax.annotation.Nonnull;
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterRegistration;
+
+import com.google.auto.service.AutoService;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import cool.klass.servlet.logging.request.statistics.RequestStatisticsDynamicFeature;
+import cool.klass.servlet.logging.request.statistics.RequestStatisticsServletFilter;
+import io.dropwizard.setup.Environment;
+import io.liftwizard.dropwizard.bundle.prioritized.PrioritizedBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@AutoService(PrioritizedBundle.class)
+public class ReladomoRequestStatisticsBundle implements PrioritizedBundle {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReladomoRequestStatisticsBundle.class);
+
+	@Override
+	public void runWithMdc(@Nonnull Object configuration, @Nonnull Environment environment) {
+		LOGGER.info("Running {}.", this.getClass().getSimpleName());
+
+		var dynamicFeature = new RequestStatisticsDynamicFeature(
+			environment.metrics(),
+			() -> MithraManagerProvider.getMithraManager().getDatabaseRetrieveCount()
+		);
+		environment.jersey().register(dynamicFeature);
+
+		FilterRegistration.Dynamic registration = environment
+			.servlets()
+			.addFilter(RequestStatisticsServletFilter.class.getSimpleName(), new RequestStatisticsServletFilter());
+		registration.setAsyncSupported(true);
+		registration.addMappingForUrlPatterns(
+			EnumSet.of(DispatcherType.REQUEST),
+			true,
+			environment.jersey().getUrlPattern()
+		);
+
+		LOGGER.info("Completing {}.", this.getClass().getSimpleName());
+	}
+}
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import cool.klass.data.store.reladomo.ReladomoDataStore;
 import cool.klass.deserializer.json.OperationMode;
+import cool.klass.deserializer.json.ValidationPlans;
 import cool.klass.dropwizard.configuration.domain.model.loader.compiler.DomainModelCompilerFactory;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
@@ -46,6 +47,9 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 public abstract class AbstractValidatorTest {
 
+	// Shared so that every test, and the data store built before the domainModel field, see one compiled model
+	private static final DomainModelCompilerFactory DOMAIN_MODEL_COMPILER_FACTORY = getDomainModelCompilerFactory();
+
 	@RegisterExtension
 	protected final FileMatchExtension fileMatchExtension = new FileMatchExtension(this.getClass());
 
@@ -65,6 +69,7 @@ public abstract class AbstractValidatorTest {
 	protected final ReladomoDataStore reladomoDataStore = this.getReladomoDataStore();
 	protected final ObjectMapper objectMapper = AbstractValidatorTest.getObjectMapper();
 	protected final DomainModel domainModel = AbstractValidatorTest.getDomainModel(this.objectMapper);
+	protected final ValidationPlans validationPlans = new ValidationPlans(this.domainModel);
 
 	protected void validate(String testName) throws JsonProcessingException {
 		this.validate(testName, null);
@@ -107,14 +112,19 @@ public abstract class AbstractValidatorTest {
 	private ReladomoDataStore getReladomoDataStore() {
 		String seed = IncomingCreateDataModelValidator.class.getSimpleName();
 		var uuidSupplier = new SeedUUIDSupplier(seed);
-		return new ReladomoDataStore(uuidSupplier, 1);
+		DomainModel domainModel = AbstractValidatorTest.getDomainModel(AbstractValidatorTest.getObjectMapper());
+		return new ReladomoDataStore(domainModel, uuidSupplier, 1);
 	}
 
 	private static DomainModel getDomainModel(ObjectMapper objectMapper) {
+		return DOMAIN_MODEL_COMPILER_FACTORY.createDomainModel(objectMapper);
+	}
+
+	private static DomainModelCompilerFactory getDomainModelCompilerFactory() {
 		var domainModelCompilerFactory = new DomainModelCompilerFactory();
 		domainModelCompilerFactory.setSourcePackages(List.of("cool.klass.xample.coverage"));
 		domainModelCompilerFactory.setColorScheme("dark");
-		return domainModelCompilerFactory.createDomainModel(objectMapper);
+		return domainModelCompilerFactory;
 	}
 
 	protected ImmutableMap<DataTypeProperty, Object> getPropertyDataFromUrl() {
@@ -55,9 +55,10 @@ public abstract class AbstractCreateValidatorTest extends AbstractValidatorTest
 		ImmutableMap<DataTypeProperty, Object> propertyDataFromUrl = this.getPropertyDataFromUrl();
 		propertyDataFromUrl.forEachKey((property) -> assertThat(property.getOwningClassifier()).isSameAs(klass));
 
-		ObjectNodeTypeCheckingValidator.validate(this.actualErrors, incomingInstance, klass);
+		ObjectNodeTypeCheckingValidator.validate(this.validationPlans, this.actualErrors, incomingInstance, klass);
 
 		RequiredPropertiesValidator.validate(
+			this.validationPlans,
 			this.actualErrors,
 			this.actualWarnings,
 			klass,
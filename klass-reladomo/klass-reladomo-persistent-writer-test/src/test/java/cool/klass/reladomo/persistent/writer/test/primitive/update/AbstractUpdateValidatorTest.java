@@ -32,9 +32,10 @@ public abstract class AbstractUpdateValidatorTest extends AbstractValidatorTest
 
 	@Override
 	protected final void validate(@Nonnull ObjectNode incomingInstance, Object persistentInstance) {
-		ObjectNodeTypeCheckingValidator.validate(this.actualErrors, incomingInstance, this.getKlass());
+		ObjectNodeTypeCheckingValidator.validate(this.validationPlans, this.actualErrors, incomingInstance, this.getKlass());
 
 		RequiredPropertiesValidator.validate(
+			this.validationPlans,
 			this.actualErrors,
 			this.actualWarnings,
 			this.getKlass(),
@@ -113,6 +113,11 @@ public class IncomingCreateDataModelValidator {
 		@Nonnull MutableList<String> errors,
 		@Nonnull MutableList<String> warnings
 	) {
+		// Earlier validators reject json with the wrong types, which the key extraction relies on
+		if (errors.isEmpty()) {
+			mutationContext.getIdentityMap().prefetch(dataStore, klass, objectNode);
+		}
+
 		var validator = new IncomingCreateDataModelValidator(
 			dataStore,
 			userKlass,
@@ -353,7 +358,9 @@ public class IncomingCreateDataModelValidator {
 
 		DataTypeProperty userIdProperty = this.userKlass.getKeyProperties().getOnly();
 		ImmutableMap<DataTypeProperty, Object> userKeys = Maps.immutable.with(userIdProperty, userId.get());
-		Object userPersistentInstance = this.dataStore.findByKey(this.userKlass, userKeys);
+		Object userPersistentInstance = this.mutationContext
+			.getIdentityMap()
+			.findByKey(this.dataStore, this.userKlass, userKeys);
 
 		if (userPersistentInstance == null) {
 			String error = String.format(
@@ -502,7 +509,7 @@ public class IncomingCreateDataModelValidator {
         }
         */
 
-		return this.dataStore.findByKey(associationEnd.getType(), keys);
+		return this.mutationContext.getIdentityMap().findByKey(this.dataStore, associationEnd.getType(), keys);
 	}
 
 	private void handleToManyOutsideProjection(
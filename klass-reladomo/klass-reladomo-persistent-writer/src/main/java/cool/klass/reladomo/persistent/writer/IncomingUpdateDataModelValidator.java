@@ -36,6 +36,8 @@ import cool.klass.model.meta.domain.api.Multiplicity;
 import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
 import cool.klass.model.meta.domain.api.property.PropertyVisitor;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Stacks;
@@ -126,6 +128,7 @@ public class IncomingUpdateDataModelValidator {
 		@Nonnull MutableList<String> errors,
 		@Nonnull MutableList<String> warnings
 	) {
+		long startNanos = System.nanoTime();
 		var validator = new IncomingUpdateDataModelValidator(
 			dataStore,
 			userKlass,
@@ -141,6 +144,7 @@ public class IncomingUpdateDataModelValidator {
 			true
 		);
 		validator.validate();
+		RequestStatistics.recordPhase(RequestPhase.VALIDATION, startNanos);
 	}
 
 	public void validate() {
@@ -322,7 +326,9 @@ public class IncomingUpdateDataModelValidator {
 
 		DataTypeProperty userIdProperty = this.userKlass.getKeyProperties().getOnly();
 		ImmutableMap<DataTypeProperty, Object> userKeys = Maps.immutable.with(userIdProperty, userId.get());
-		Object userPersistentInstance = this.dataStore.findByKey(this.userKlass, userKeys);
+		Object userPersistentInstance = this.mutationContext
+			.getIdentityMap()
+			.findByKey(this.dataStore, this.userKlass, userKeys);
 
 		if (userPersistentInstance == null) {
 			String error = String.format(
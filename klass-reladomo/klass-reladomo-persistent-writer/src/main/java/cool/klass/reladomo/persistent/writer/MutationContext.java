@@ -30,6 +30,7 @@ public class MutationContext {
 	private final Optional<String> userId;
 	private final Instant transactionTime;
 	private final ImmutableMap<DataTypeProperty, Object> propertyDataFromUrl;
+	private final PersistentInstanceIdentityMap identityMap = new PersistentInstanceIdentityMap();
 
 	public MutationContext(
 		@Nonnull Optional<String> userId,
@@ -52,4 +53,8 @@ public class MutationContext {
 	public ImmutableMap<DataTypeProperty, Object> getPropertyDataFromUrl() {
 		return this.propertyDataFromUrl;
 	}
+
+	public PersistentInstanceIdentityMap getIdentityMap() {
+		return this.identityMap;
+	}
 }
@@ -20,10 +20,13 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import cool.klass.data.store.DataStore;
 import cool.klass.deserializer.json.OperationMode;
@@ -31,7 +34,9 @@ import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
 import cool.klass.model.meta.domain.api.property.PrimitiveProperty;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
@@ -39,6 +44,10 @@ import org.eclipse.collections.impl.map.mutable.MapAdapter;
 
 public class PersistentCreator extends PersistentSynchronizer {
 
+	// Shared with the creators for owned children while createAll() is running, null otherwise
+	@Nullable
+	private MutableList<Object> pendingInserts;
+
 	public PersistentCreator(@Nonnull MutationContext mutationContext, @Nonnull DataStore dataStore) {
 		this(mutationContext, dataStore, false);
 	}
@@ -47,8 +56,91 @@ public class PersistentCreator extends PersistentSynchronizer {
 		@Nonnull MutationContext mutationContext,
 		@Nonnull DataStore dataStore,
 		boolean inTransaction
+	) {
+		this(mutationContext, dataStore, inTransaction, null);
+	}
+
+	private PersistentCreator(
+		@Nonnull MutationContext mutationContext,
+		@Nonnull DataStore dataStore,
+		boolean inTransaction,
+		@Nullable MutableList<Object> pendingInserts
 	) {
 		super(mutationContext, dataStore, inTransaction);
+		this.pendingInserts = pendingInserts;
+	}
+
+	/**
+	 * Instantiates and synchronizes one root instance per element of {@code incomingInstances}, and then inserts the
+	 * roots and all their owned children with {@link DataStore#insertAll}, rather than one insert per object. Must be
+	 * called inside a transaction.
+	 *
+	 * <p>Each root is added to the identity map before the next element is synchronized, so that an element can refer
+	 * to a root that an earlier element created, like it could when every instance was inserted immediately. Other
+	 * lookups by key flush the queue first, but only when it holds an instance of the class being looked up.
+	 */
+	@Nonnull
+	public MutableList<Object> createAll(@Nonnull Klass klass, @Nonnull ArrayNode incomingInstances) {
+		return this.createAll(klass, incomingInstances, (incomingInstance) -> true);
+	}
+
+	/**
+	 * Like {@link #createAll(Klass, ArrayNode)}, but skips the elements that {@code shouldCreate} rejects. Each element
+	 * is tested just before it would be created, so the test can look up the elements created before it. The result
+	 * has one entry per element, which is null for skipped elements.
+	 */
+	@Nonnull
+	public MutableList<Object> createAll(
+		@Nonnull Klass klass,
+		@Nonnull ArrayNode incomingInstances,
+		@Nonnull Predicate<ObjectNode> shouldCreate
+	) {
+		if (this.pendingInserts != null) {
+			throw new IllegalStateException("Expected createAll() not to be called recursively");
+		}
+
+		// Resolves the references of every incoming instance up front, rather than per instance in synchronize()
+		this.mutationContext.getIdentityMap().prefetch(this.dataStore, klass, incomingInstances);
+
+		// Generated ids are only assigned on insert, so those roots can't be found by key until then
+		boolean canFindQueuedRoots = klass.getKeyProperties().noneSatisfy(DataTypeProperty::isID);
+
+		MutableList<Object> result = Lists.mutable.withInitialCapacity(incomingInstances.size());
+		this.pendingInserts = Lists.mutable.empty();
+		try {
+			for (JsonNode incomingInstance : incomingInstances) {
+				var incomingObjectNode = (ObjectNode) incomingInstance;
+				if (!shouldCreate.test(incomingObjectNode)) {
+					result.add(null);
+					continue;
+				}
+
+				MapIterable<DataTypeProperty, Object> keys = this.resolveKeysForCreate(klass, incomingObjectNode);
+				Object persistentInstance = this.dataStore.instantiate(klass, keys);
+				this.synchronize(klass, persistentInstance, incomingObjectNode);
+				this.pendingInserts.add(persistentInstance);
+				if (canFindQueuedRoots) {
+					this.mutationContext.getIdentityMap().put(this.dataStore, klass, persistentInstance);
+				}
+				result.add(persistentInstance);
+			}
+			this.flushPendingInserts();
+		} finally {
+			this.pendingInserts = null;
+		}
+		return result;
+	}
+
+	/**
+	 * Instantiates, synchronizes, and inserts one root instance. Must be called inside a transaction.
+	 */
+	@Nonnull
+	public Object create(@Nonnull Klass klass, @Nonnull ObjectNode incomingInstance) {
+		MapIterable<DataTypeProperty, Object> keys = this.resolveKeysForCreate(klass, incomingInstance);
+		Object persistentInstance = this.dataStore.instantiate(klass, keys);
+		this.synchronize(klass, persistentInstance, incomingInstance);
+		this.insertNewInstance(persistentInstance);
+		return persistentInstance;
 	}
 
 	public MapIterable<DataTypeProperty, Object> resolveKeysForCreate(
@@ -273,14 +365,66 @@ public class PersistentCreator extends PersistentSynchronizer {
 
 		// TODO: This is the backwards order from how I used to do it
 		this.dataStore.setToOne(persistentInstance, associationEnd, versionInstance);
-		this.dataStore.insert(versionInstance);
+		this.insertNewInstance(versionInstance);
+	}
+
+	@Override
+	protected Object findExistingChildPersistentInstance(
+		@Nonnull Object persistentParentInstance,
+		@Nonnull JsonNode incomingChildInstance,
+		@Nonnull AssociationEnd associationEnd
+	) {
+		Klass childKlass = associationEnd.getType();
+		if (
+			this.pendingInserts != null
+			&& this.pendingInserts.anySatisfy((each) -> this.dataStore.isInstanceOf(each, childKlass))
+		) {
+			MapIterable<DataTypeProperty, Object> keys = this.getKeysFromJsonNode(
+				incomingChildInstance,
+				associationEnd,
+				persistentParentInstance
+			);
+			Object queuedInstance = this.mutationContext.getIdentityMap().getIfCached(childKlass, keys);
+			if (queuedInstance != null) {
+				return queuedInstance;
+			}
+			this.flushPendingInserts();
+		}
+		return super.findExistingChildPersistentInstance(
+			persistentParentInstance,
+			incomingChildInstance,
+			associationEnd
+		);
+	}
+
+	// Clears rather than replaces the list, since the creators for owned children share it
+	private void flushPendingInserts() {
+		if (this.pendingInserts == null || this.pendingInserts.isEmpty()) {
+			return;
+		}
+		this.dataStore.insertAll(this.pendingInserts);
+		this.pendingInserts.clear();
+	}
+
+	@Override
+	protected void insertNewInstance(@Nonnull Object persistentInstance) {
+		if (this.pendingInserts == null) {
+			super.insertNewInstance(persistentInstance);
+		} else {
+			this.pendingInserts.add(persistentInstance);
+		}
 	}
 
 	@Nonnull
 	@Override
 	protected PersistentSynchronizer determineNextMode(OperationMode nextMode) {
 		if (nextMode == OperationMode.CREATE) {
-			return new PersistentCreator(this.mutationContext, this.dataStore, this.inTransaction);
+			return new PersistentCreator(
+				this.mutationContext,
+				this.dataStore,
+				this.inTransaction,
+				this.pendingInserts
+			);
 		}
 
 		throw new AssertionError(nextMode);
@@ -37,5 +37,6 @@ public class PersistentDeleter {
 
 	public void deleteOrTerminate(Klass klass, @Nonnull Object persistentInstance) {
 		this.dataStore.deleteOrTerminate(persistentInstance);
+		this.mutationContext.getIdentityMap().evict(this.dataStore, klass, persistentInstance);
 	}
 }
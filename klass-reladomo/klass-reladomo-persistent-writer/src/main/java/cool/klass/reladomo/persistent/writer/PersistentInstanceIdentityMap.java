@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import cool.klass.data.store.DataStore;
+import cool.klass.deserializer.json.JsonDataTypeValueVisitor;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.MapAdapter;
+
+/**
+ * Caches the existing persistent instances that one request refers to by key, so that the incoming data model
+ * validators and the {@link PersistentSynchronizer}s share lookups instead of calling {@link DataStore#findByKey} once
+ * per reference. {@link #prefetch} walks the incoming json before validation or synchronization, and resolves all the
+ * referenced keys of each class with a single {@link DataStore#findAllByKeys} call.
+ *
+ * <p>Only instances that were found are cached. A key that is not in the map falls back to {@link DataStore#findByKey},
+ * so an instance inserted later in the same request is never hidden by an earlier miss. {@link PersistentDeleter}
+ * evicts the instances it deletes or terminates, so they are not found afterward either.
+ *
+ * <p>Integral key values are converted to the declared type of their property, since the incoming json, the url
+ * parameters, and the persistent instances don't always agree on {@link Integer} versus {@link Long}.
+ */
+public class PersistentInstanceIdentityMap {
+
+	private final MutableMap<Klass, MutableMap<MapIterable<DataTypeProperty, Object>, Object>> instancesByKlass =
+		Maps.mutable.empty();
+
+	public void prefetch(@Nonnull DataStore dataStore, @Nonnull Klass klass, @Nonnull JsonNode incomingJson) {
+		MutableMap<Klass, MutableSet<MapIterable<DataTypeProperty, Object>>> keysByKlass = Maps.mutable.empty();
+		if (incomingJson.isArray()) {
+			for (JsonNode incomingInstance : incomingJson) {
+				this.collectKeys(klass, incomingInstance, Optional.empty(), keysByKlass);
+			}
+		} else {
+			this.collectKeys(klass, incomingJson, Optional.empty(), keysByKlass);
+		}
+
+		keysByKlass.forEachKeyValue((referencedKlass, keys) -> {
+			if (keys.isEmpty()) {
+				return;
+			}
+			List<Object> persistentInstances = dataStore.findAllByKeys(referencedKlass, keys.toList());
+			for (Object persistentInstance : persistentInstances) {
+				this.put(dataStore, referencedKlass, persistentInstance);
+			}
+		});
+	}
+
+	@Nullable
+	public Object findByKey(
+		@Nonnull DataStore dataStore,
+		@Nonnull Klass klass,
+		@Nonnull MapIterable<DataTypeProperty, Object> keys
+	) {
+		MapIterable<DataTypeProperty, Object> normalizedKeys = normalizeKeys(keys);
+		MutableMap<MapIterable<DataTypeProperty, Object>, Object> instancesByKeys = this.getInstancesByKeys(klass);
+		Object cachedInstance = instancesByKeys.get(normalizedKeys);
+		if (cachedInstance != null) {
+			return cachedInstance;
+		}
+
+		Object persistentInstance = dataStore.findByKey(klass, normalizedKeys);
+		if (persistentInstance != null) {
+			instancesByKeys.put(normalizedKeys, persistentInstance);
+		}
+		return persistentInstance;
+	}
+
+	// Doesn't fall back to the data store
+	@Nullable
+	Object getIfCached(@Nonnull Klass klass, @Nonnull MapIterable<DataTypeProperty, Object> keys) {
+		return this.getInstancesByKeys(klass).get(normalizeKeys(keys));
+	}
+
+	public void evict(@Nonnull DataStore dataStore, @Nonnull Klass klass, @Nonnull Object persistentInstance) {
+		MapIterable<DataTypeProperty, Object> keys = getKeysFromPersistentInstance(
+			dataStore,
+			klass,
+			persistentInstance
+		);
+		MutableMap<MapIterable<DataTypeProperty, Object>, Object> instancesByKeys = this.getInstancesByKeys(klass);
+		if (instancesByKeys.get(keys) == persistentInstance) {
+			instancesByKeys.remove(keys);
+		}
+	}
+
+	void put(@Nonnull DataStore dataStore, @Nonnull Klass klass, @Nonnull Object persistentInstance) {
+		MapIterable<DataTypeProperty, Object> keys = getKeysFromPersistentInstance(
+			dataStore,
+			klass,
+			persistentInstance
+		);
+		this.getInstancesByKeys(klass).put(keys, persistentInstance);
+	}
+
+	@Nonnull
+	private static MapIterable<DataTypeProperty, Object> getKeysFromPersistentInstance(
+		@Nonnull DataStore dataStore,
+		@Nonnull Klass klass,
+		@Nonnull Object persistentInstance
+	) {
+		MutableMap<DataTypeProperty, Object> keys = MapAdapter.adapt(new LinkedHashMap<>());
+		for (DataTypeProperty keyProperty : klass.getKeyProperties()) {
+			keys.put(keyProperty, dataStore.getDataTypeProperty(persistentInstance, keyProperty));
+		}
+		return normalizeKeys(keys);
+	}
+
+	@Nonnull
+	private static MapIterable<DataTypeProperty, Object> normalizeKeys(
+		@Nonnull MapIterable<DataTypeProperty, Object> keys
+	) {
+		MutableMap<DataTypeProperty, Object> result = MapAdapter.adapt(new LinkedHashMap<>());
+		keys.forEachKeyValue((keyProperty, key) -> result.put(keyProperty, normalizeKey(keyProperty, key)));
+		return result.toImmutable();
+	}
+
+	@Nullable
+	private static Object normalizeKey(@Nonnull DataTypeProperty keyProperty, @Nullable Object key) {
+		if (!(key instanceof Number number)) {
+			return key;
+		}
+		if (keyProperty.getType() == PrimitiveType.INTEGER) {
+			return number.intValue();
+		}
+		if (keyProperty.getType() == PrimitiveType.LONG) {
+			return number.longValue();
+		}
+		return key;
+	}
+
+	@Nonnull
+	private MutableMap<MapIterable<DataTypeProperty, Object>, Object> getInstancesByKeys(@Nonnull Klass klass) {
+		return this.instancesByKlass.getIfAbsentPut(klass, Maps.mutable::empty);
+	}
+
+	private void collectKeys(
+		@Nonnull Klass klass,
+		@Nonnull JsonNode incomingJson,
+		@Nonnull Optional<AssociationEnd> pathHere,
+		@Nonnull MutableMap<Klass, MutableSet<MapIterable<DataTypeProperty, Object>>> keysByKlass
+	) {
+		if (!(incomingJson instanceof ObjectNode objectNode)) {
+			return;
+		}
+
+		for (AssociationEnd associationEnd : klass.getAssociationEnds()) {
+			if (pathHere.equals(Optional.of(associationEnd.getOpposite()))) {
+				continue;
+			}
+
+			JsonNode childJsonNode = objectNode.path(associationEnd.getName());
+			if (childJsonNode.isMissingNode() || childJsonNode.isNull()) {
+				continue;
+			}
+
+			Klass childKlass = associationEnd.getType();
+			if (associationEnd.isOwned()) {
+				Optional<AssociationEnd> childPath = Optional.of(associationEnd);
+				if (associationEnd.getMultiplicity().isToOne()) {
+					this.collectKeys(childKlass, childJsonNode, childPath, keysByKlass);
+				} else {
+					for (JsonNode childInstance : childJsonNode) {
+						this.collectKeys(childKlass, childInstance, childPath, keysByKlass);
+					}
+				}
+			} else if (this.isReferenceByKey(associationEnd) && childJsonNode instanceof ObjectNode childObjectNode) {
+				MapIterable<DataTypeProperty, Object> keys = getKeys(childKlass, childObjectNode);
+				if (keys != null && !this.getInstancesByKeys(childKlass).containsKey(keys)) {
+					keysByKlass.getIfAbsentPut(childKlass, Sets.mutable::empty).add(keys);
+				}
+			}
+		}
+	}
+
+	private boolean isReferenceByKey(@Nonnull AssociationEnd associationEnd) {
+		return associationEnd.getMultiplicity().isToOne()
+			&& associationEnd.hasRealKeys()
+			&& !associationEnd.isVersion()
+			&& !associationEnd.isCreatedBy()
+			&& !associationEnd.isLastUpdatedBy();
+	}
+
+	// Keys that are also foreign keys depend on the parent, so those lookups are left to findByKey
+	@Nullable
+	private static MapIterable<DataTypeProperty, Object> getKeys(@Nonnull Klass klass, @Nonnull ObjectNode objectNode) {
+		MutableMap<DataTypeProperty, Object> result = MapAdapter.adapt(new LinkedHashMap<>());
+		for (DataTypeProperty keyProperty : klass.getKeyProperties()) {
+			if (keyProperty.isForeignKey()) {
+				return null;
+			}
+			Object key = JsonDataTypeValueVisitor.extractDataTypePropertyFromJson(keyProperty, objectNode);
+			if (key == null) {
+				return null;
+			}
+			result.put(keyProperty, key);
+		}
+		return normalizeKeys(result);
+	}
+}
@@ -93,6 +93,9 @@ public abstract class PersistentSynchronizer {
 				long transactionTimeMillis = transactionTime.toEpochMilli();
 				transaction.setSystemTime(transactionTimeMillis);
 
+				// Read in the same transaction as the writes that depend on the references
+				this.mutationContext.getIdentityMap().prefetch(this.dataStore, klass, incomingJson);
+
 				this.inTransaction = true;
 				try {
 					boolean result = this.synchronizeInTransaction(
@@ -354,7 +357,7 @@ public abstract class PersistentSynchronizer {
 			associationEnd,
 			persistentParentInstance
 		);
-		return this.dataStore.findByKey(associationEnd.getType(), keys);
+		return this.mutationContext.getIdentityMap().findByKey(this.dataStore, associationEnd.getType(), keys);
 	}
 
 	private void insert(
@@ -378,7 +381,11 @@ public abstract class PersistentSynchronizer {
 		}
 		// TODO: This is the backwards order from how I used to do it
 		this.dataStore.setToOne(persistentParentInstance, associationEnd, newInstance);
-		this.dataStore.insert(newInstance);
+		this.insertNewInstance(newInstance);
+	}
+
+	protected void insertNewInstance(@Nonnull Object persistentInstance) {
+		this.dataStore.insert(persistentInstance);
 	}
 
 	private void deleteOrTerminate(Klass klass, @Nonnull Object persistentInstance) {
@@ -453,7 +460,7 @@ public abstract class PersistentSynchronizer {
 					(ObjectNode) incomingChildInstance
 				);
 
-				this.dataStore.insert(newInstance);
+				this.insertNewInstance(newInstance);
 				mutationOccurred = true;
 			} else {
 				PersistentSynchronizer synchronizer = this.determineNextMode(OperationMode.REPLACE);
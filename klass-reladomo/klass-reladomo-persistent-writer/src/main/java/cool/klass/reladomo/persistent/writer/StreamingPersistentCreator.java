@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import cool.klass.data.store.DataStore;
+import cool.klass.deserializer.json.OperationMode;
+import cool.klass.deserializer.json.RequiredPropertiesValidator;
+import cool.klass.deserializer.json.ValidationPlans;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingValidator;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the elements of a json array one chunk at a time, without binding the whole array to an {@link ArrayNode}.
+ * Each element is read with a {@link JsonParser}, checked by the same validators as the other create services, and
+ * buffered until {@code chunkSize} elements are pending, valid or not. Each chunk is validated against the data store
+ * and its valid elements are created with {@link PersistentCreator#createAll}, in one transaction per chunk, so a
+ * failed chunk rolls back only its own elements. The elements of a failed chunk are then retried one transaction each,
+ * so that only the elements that fail on their own are reported as failed.
+ *
+ * <p>The output is a json array with one result per incoming element, in the same order, written as each chunk
+ * completes. Each result has the element's {@code index} and a {@code status} of {@code created}, {@code invalid}, or
+ * {@code failed}. Created elements include their {@code keys}, and the others include their {@code errors}. The
+ * causes of failures are logged rather than written, since they can describe the database.
+ */
+public class StreamingPersistentCreator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StreamingPersistentCreator.class);
+
+	public static final String MEDIA_TYPE = "application/vnd.klass.stream+json";
+
+	// A String, so that generated resources can use it in @DefaultValue
+	public static final String DEFAULT_CHUNK_SIZE = "500";
+
+	private static final String FAILURE_ERROR = "Could not create the instance. The cause was logged by the server.";
+
+	// Only reads and writes trees, so it doesn't need the application's configuration
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@Nonnull
+	private final DataStore dataStore;
+
+	@Nonnull
+	private final ValidationPlans validationPlans;
+
+	@Nonnull
+	private final DataTypeJsonCodecs codecs;
+
+	@Nullable
+	private final Klass userKlass;
+
+	@Nonnull
+	private final Klass klass;
+
+	@Nonnull
+	private final Optional<String> userId;
+
+	@Nonnull
+	private final Instant transactionTime;
+
+	private final int chunkSize;
+
+	private final MutableList<PendingElement> pendingElements = Lists.mutable.empty();
+
+	public StreamingPersistentCreator(
+		@Nonnull DataStore dataStore,
+		@Nonnull ValidationPlans validationPlans,
+		@Nonnull DataTypeJsonCodecs codecs,
+		@Nullable Klass userKlass,
+		@Nonnull Klass klass,
+		@Nonnull Optional<String> userId,
+		@Nonnull Instant transactionTime,
+		int chunkSize
+	) {
+		this.dataStore = Objects.requireNonNull(dataStore);
+		this.validationPlans = Objects.requireNonNull(validationPlans);
+		this.codecs = Objects.requireNonNull(codecs);
+		this.userKlass = userKlass;
+		this.klass = Objects.requireNonNull(klass);
+		this.userId = Objects.requireNonNull(userId);
+		this.transactionTime = Objects.requireNonNull(transactionTime);
+		this.chunkSize = chunkSize;
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Expected a positive chunk size but got " + chunkSize);
+		}
+	}
+
+	/**
+	 * Reads up to the start of the json array, so that callers can reject other input before they commit to a
+	 * response.
+	 *
+	 * @throws IllegalArgumentException if the input does not start with a json array
+	 */
+	@Nonnull
+	public static JsonParser openArray(@Nonnull InputStream inputStream) {
+		try {
+			JsonParser jsonParser = OBJECT_MAPPER.createParser(inputStream);
+			String error;
+			try {
+				JsonToken firstToken = jsonParser.nextToken();
+				if (firstToken == JsonToken.START_ARRAY) {
+					return jsonParser;
+				}
+				error = "Expected a json array but got " + firstToken;
+			} catch (JsonProcessingException e) {
+				error = "Expected a json array but got malformed json at " + format(e);
+			}
+			jsonParser.close();
+			throw new IllegalArgumentException(error);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Creates the elements of an array opened by {@link #openArray}, and closes the parser.
+	 */
+	public void createAll(@Nonnull JsonParser jsonParser, @Nonnull OutputStream outputStream) throws IOException {
+		try (
+			jsonParser;
+			JsonGenerator jsonGenerator = OBJECT_MAPPER.createGenerator(outputStream, JsonEncoding.UTF8)
+		) {
+			jsonGenerator.writeStartArray();
+			this.createAll(jsonParser, jsonGenerator);
+			jsonGenerator.writeEndArray();
+		} finally {
+			this.pendingElements.clear();
+		}
+	}
+
+	private void createAll(@Nonnull JsonParser jsonParser, @Nonnull JsonGenerator jsonGenerator) throws IOException {
+		for (int index = 0; ; index++) {
+			JsonNode incomingInstance;
+			try {
+				JsonToken token = jsonParser.nextToken();
+				if (token == JsonToken.END_ARRAY) {
+					break;
+				}
+				if (token == null) {
+					this.abort(jsonGenerator, index, "Expected the json array to end after " + index + " elements");
+					return;
+				}
+				incomingInstance = jsonParser.readValueAsTree();
+			} catch (JsonProcessingException e) {
+				this.abort(jsonGenerator, index, "Expected a json value but got malformed json at " + format(e));
+				return;
+			}
+
+			this.pendingElements.add(this.validate(index, incomingInstance));
+			if (this.pendingElements.size() == this.chunkSize) {
+				this.flush(jsonGenerator);
+			}
+		}
+
+		this.flush(jsonGenerator);
+	}
+
+	// The valid elements that were buffered from a malformed array are not created
+	private void abort(@Nonnull JsonGenerator jsonGenerator, int index, @Nonnull String error) throws IOException {
+		ImmutableList<String> notCreated = Lists.immutable.with(
+			"Not created, because the json array is malformed at index " + index
+		);
+		for (PendingElement pendingElement : this.pendingElements) {
+			if (pendingElement.isValid()) {
+				writeResult(jsonGenerator, pendingElement.index(), "failed", notCreated);
+			} else {
+				writeResult(jsonGenerator, pendingElement.index(), "invalid", pendingElement.errors());
+			}
+		}
+		this.pendingElements.clear();
+		writeResult(jsonGenerator, index, "invalid", Lists.immutable.with(error));
+	}
+
+	@Nonnull
+	private static String format(@Nonnull JsonProcessingException e) {
+		JsonLocation location = e.getLocation();
+		if (location == null) {
+			return "an unknown location";
+		}
+		return "line " + location.getLineNr() + ", column " + location.getColumnNr();
+	}
+
+	@Nonnull
+	private PendingElement validate(int index, @Nonnull JsonNode incomingInstance) {
+		MutableList<String> errors = Lists.mutable.empty();
+		MutableList<String> warnings = Lists.mutable.empty();
+		ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, this.klass);
+		if (errors.isEmpty()) {
+			RequiredPropertiesValidator.validate(
+				this.validationPlans,
+				errors,
+				warnings,
+				this.klass,
+				(ObjectNode) incomingInstance,
+				OperationMode.CREATE
+			);
+		}
+
+		if (errors.notEmpty()) {
+			return new PendingElement(index, null, errors.toImmutable());
+		}
+		return new PendingElement(index, (ObjectNode) incomingInstance, Lists.immutable.empty());
+	}
+
+	private void flush(@Nonnull JsonGenerator jsonGenerator) throws IOException {
+		if (this.pendingElements.isEmpty()) {
+			return;
+		}
+
+		ImmutableList<PendingElement> chunk = this.pendingElements.toImmutable();
+		this.pendingElements.clear();
+
+		ImmutableList<ElementResult> results;
+		try {
+			results = this.dataStore.runInTransaction((transaction) -> this.createChunk(chunk));
+		} catch (RuntimeException e) {
+			LOGGER.warn(
+				"Could not create the chunk starting at index {}. Retrying its elements one at a time.",
+				chunk.getFirst().index(),
+				e
+			);
+			results = chunk.collect(this::createElementInOwnTransaction);
+		}
+
+		for (ElementResult result : results) {
+			this.writeResult(jsonGenerator, result);
+		}
+		jsonGenerator.flush();
+	}
+
+	@Nonnull
+	private ImmutableList<ElementResult> createChunk(@Nonnull ImmutableList<PendingElement> chunk) {
+		// A fresh context per chunk, so the identity map only holds the references of one chunk
+		MutationContext mutationContext = this.newMutationContext();
+		ImmutableList<PendingElement> validElements = chunk.select(PendingElement::isValid);
+		ArrayNode validInstances = JsonNodeFactory.instance.arrayNode();
+		validElements.forEach((each) -> validInstances.add(each.incomingInstance()));
+
+		// Called in order, just before each element is created
+		Iterator<PendingElement> elementsToValidate = validElements.iterator();
+		MutableMap<Integer, ImmutableList<String>> errorsByIndex = Maps.mutable.empty();
+		Predicate<ObjectNode> shouldCreate = (incomingInstance) -> {
+			PendingElement pendingElement = elementsToValidate.next();
+			ImmutableList<String> errors = this.validateInTransaction(pendingElement, mutationContext);
+			if (errors.isEmpty()) {
+				return true;
+			}
+			errorsByIndex.put(pendingElement.index(), errors);
+			return false;
+		};
+
+		var creator = new PersistentCreator(mutationContext, this.dataStore);
+		Iterator<Object> createdInstances = creator.createAll(this.klass, validInstances, shouldCreate).iterator();
+		return chunk.collect((each) -> {
+			if (!each.isValid()) {
+				return ElementResult.invalid(each.index(), each.errors());
+			}
+			Object persistentInstance = createdInstances.next();
+			if (persistentInstance == null) {
+				return ElementResult.invalid(each.index(), errorsByIndex.get(each.index()));
+			}
+			return new ElementResult(each.index(), "created", persistentInstance, Lists.immutable.empty());
+		});
+	}
+
+	@Nonnull
+	private ElementResult createElementInOwnTransaction(@Nonnull PendingElement pendingElement) {
+		if (!pendingElement.isValid()) {
+			return ElementResult.invalid(pendingElement.index(), pendingElement.errors());
+		}
+
+		try {
+			return this.dataStore.runInTransaction((transaction) -> {
+				MutationContext mutationContext = this.newMutationContext();
+				ImmutableList<String> errors = this.validateInTransaction(pendingElement, mutationContext);
+				if (errors.notEmpty()) {
+					return ElementResult.invalid(pendingElement.index(), errors);
+				}
+
+				var creator = new PersistentCreator(mutationContext, this.dataStore);
+				Object persistentInstance = creator.create(this.klass, pendingElement.incomingInstance());
+				return new ElementResult(
+					pendingElement.index(),
+					"created",
+					persistentInstance,
+					Lists.immutable.empty()
+				);
+			});
+		} catch (RuntimeException e) {
+			LOGGER.warn("Could not create the element at index {}.", pendingElement.index(), e);
+			return ElementResult.failed(pendingElement.index());
+		}
+	}
+
+	// Validated against the data store in the transaction, after the earlier elements of the chunk are created
+	@Nonnull
+	private ImmutableList<String> validateInTransaction(
+		@Nonnull PendingElement pendingElement,
+		@Nonnull MutationContext mutationContext
+	) {
+		if (!pendingElement.isValid()) {
+			return pendingElement.errors();
+		}
+
+		MutableList<String> errors = Lists.mutable.empty();
+		MutableList<String> warnings = Lists.mutable.empty();
+		IncomingCreateDataModelValidator.validate(
+			this.dataStore,
+			this.userKlass,
+			this.klass,
+			mutationContext,
+			pendingElement.incomingInstance(),
+			errors,
+			warnings
+		);
+		return errors.toImmutable();
+	}
+
+	@Nonnull
+	private MutationContext newMutationContext() {
+		return new MutationContext(this.userId, this.transactionTime, Maps.immutable.empty());
+	}
+
+	private void writeResult(@Nonnull JsonGenerator jsonGenerator, @Nonnull ElementResult result) throws IOException {
+		if (result.persistentInstance() == null) {
+			writeResult(jsonGenerator, result.index(), result.status(), result.errors());
+			return;
+		}
+
+		jsonGenerator.writeStartObject();
+		jsonGenerator.writeNumberField("index", result.index());
+		jsonGenerator.writeStringField("status", "created");
+		jsonGenerator.writeObjectFieldStart("keys");
+		for (DataTypeProperty keyProperty : this.klass.getKeyProperties()) {
+			Object keyValue = this.dataStore.getDataTypeProperty(result.persistentInstance(), keyProperty);
+			jsonGenerator.writeFieldName(keyProperty.getName());
+			if (keyValue == null) {
+				jsonGenerator.writeNull();
+			} else {
+				this.codecs.getCodec(keyProperty.getType()).write(jsonGenerator, keyValue);
+			}
+		}
+		jsonGenerator.writeEndObject();
+		jsonGenerator.writeEndObject();
+	}
+
+	private static void writeResult(
+		@Nonnull JsonGenerator jsonGenerator,
+		int index,
+		@Nonnull String status,
+		@Nonnull ImmutableList<String> errors
+	) throws IOException {
+		jsonGenerator.writeStartObject();
+		jsonGenerator.writeNumberField("index", index);
+		jsonGenerator.writeStringField("status", status);
+		jsonGenerator.writeArrayFieldStart("errors");
+		for (String error : errors) {
+			jsonGenerator.writeString(error);
+		}
+		jsonGenerator.writeEndArray();
+		jsonGenerator.writeEndObject();
+	}
+
+	private record PendingElement(
+		int index,
+		@Nullable ObjectNode incomingInstance,
+		@Nonnull ImmutableList<String> errors
+	) {
+		private boolean isValid() {
+			return this.incomingInstance != null;
+		}
+	}
+
+	// Created elements have a persistent instance, and the others have errors
+	private record ElementResult(
+		int index,
+		@Nonnull String status,
+		@Nullable Object persistentInstance,
+		@Nonnull ImmutableList<String> errors
+	) {
+		@Nonnull
+		private static ElementResult invalid(int index, @Nonnull ImmutableList<String> errors) {
+			return new ElementResult(index, "invalid", null, errors);
+		}
+
+		@Nonnull
+		private static ElementResult failed(int index) {
+			return new ElementResult(index, "failed", null, Lists.immutable.with(FAILURE_ERROR));
+		}
+	}
+}
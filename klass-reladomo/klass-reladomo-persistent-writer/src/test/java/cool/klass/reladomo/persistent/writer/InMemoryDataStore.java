@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.data.store.DataStore;
+import cool.klass.data.store.TransactionalCommand;
+import cool.klass.model.meta.domain.api.Classifier;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.property.ReferenceProperty;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+
+/**
+ * A {@link DataStore} that keeps instances in memory, for testing the persistent writers without Reladomo. Like
+ * Reladomo, lookups by key only find instances that were inserted, and setting a to-one reference also sets the
+ * foreign keys that it depends on. Every call is recorded in {@link #getEvents()}.
+ */
+class InMemoryDataStore implements DataStore {
+
+	private final MutableList<InMemoryInstance> instances = Lists.mutable.empty();
+	private final MutableList<String> events = Lists.mutable.empty();
+	private final MutableList<InMemoryInstance> insertedInTransaction = Lists.mutable.empty();
+	private final MutableSet<String> failingInserts = Sets.mutable.empty();
+
+	private long nextId = 1;
+	private boolean inTransaction;
+
+	@Nonnull
+	MutableList<String> getEvents() {
+		return this.events;
+	}
+
+	// Inserting the instance with this string form throws, like a constraint violation would
+	void failInsertOf(@Nonnull String instance) {
+		this.failingInserts.add(instance);
+	}
+
+	@Nonnull
+	MutableList<InMemoryInstance> getInsertedInstances(@Nonnull Klass klass) {
+		return this.instances.select((each) -> each.klass == klass && each.inserted && !each.deleted);
+	}
+
+	@Override
+	public <Result> Result runInTransaction(@Nonnull TransactionalCommand<Result> transactionalCommand) {
+		if (this.inTransaction) {
+			return transactionalCommand.run((time) -> {});
+		}
+
+		this.events.add("begin");
+		this.inTransaction = true;
+		try {
+			Result result = transactionalCommand.run((time) -> {});
+			this.events.add("commit");
+			return result;
+		} catch (RuntimeException e) {
+			this.insertedInTransaction.forEach((each) -> each.inserted = false);
+			this.events.add("rollback");
+			throw e;
+		} finally {
+			this.insertedInTransaction.clear();
+			this.inTransaction = false;
+		}
+	}
+
+	@Override
+	public void runInTransaction(@Nonnull Runnable runnable) {
+		this.runInTransaction((transaction) -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	@Override
+	public List<Object> findAll(@Nonnull Klass klass) {
+		return Lists.mutable.withAll(this.getInsertedInstances(klass));
+	}
+
+	@Nullable
+	@Override
+	public Object findByKey(@Nonnull Klass klass, @Nonnull MapIterable<DataTypeProperty, Object> keys) {
+		this.events.add("findByKey " + klass.getName() + " " + keys.valuesView().makeString());
+		return this.getInsertedInstances(klass).detect((each) -> each.hasKeys(keys));
+	}
+
+	@Override
+	public List<Object> findByKeyReturningList(
+		@Nonnull Klass klass,
+		@Nonnull MapIterable<DataTypeProperty, Object> keys
+	) {
+		return Lists.mutable.withAll(this.getInsertedInstances(klass).select((each) -> each.hasKeys(keys)));
+	}
+
+	@Override
+	public List<Object> findAllByKeys(
+		@Nonnull Klass klass,
+		@Nonnull List<? extends MapIterable<DataTypeProperty, Object>> keys
+	) {
+		this.events.add("findAllByKeys " + klass.getName() + (this.inTransaction ? " in transaction" : ""));
+		MutableList<InMemoryInstance> result = this.getInsertedInstances(klass)
+			.select((each) -> keys.stream().anyMatch(each::hasKeys));
+		return Lists.mutable.withAll(result);
+	}
+
+	@Nullable
+	@Override
+	public Object getToOne(@Nonnull Object persistentSourceInstance, @Nonnull ReferenceProperty referenceProperty) {
+		InMemoryInstance target = ((InMemoryInstance) persistentSourceInstance).references.get(referenceProperty);
+		return target == null || target.deleted ? null : target;
+	}
+
+	@Nonnull
+	@Override
+	public List<Object> getToMany(
+		@Nonnull Object persistentSourceInstance,
+		@Nonnull ReferenceProperty referenceProperty
+	) {
+		var associationEnd = (AssociationEnd) referenceProperty;
+		return Lists.mutable.withAll(
+			this.instances.select((each) ->
+				!each.deleted && each.references.get(associationEnd.getOpposite()) == persistentSourceInstance
+			)
+		);
+	}
+
+	@Nullable
+	@Override
+	public Object getDataTypeProperty(@Nonnull Object persistentInstance, @Nonnull DataTypeProperty dataTypeProperty) {
+		return ((InMemoryInstance) persistentInstance).values.get(dataTypeProperty);
+	}
+
+	@Override
+	public boolean setDataTypeProperty(
+		@Nonnull Object persistentInstance,
+		@Nonnull DataTypeProperty dataTypeProperty,
+		@Nullable Object newValue
+	) {
+		Object oldValue = ((InMemoryInstance) persistentInstance).values.put(dataTypeProperty, newValue);
+		return !Objects.equals(oldValue, newValue);
+	}
+
+	@Nonnull
+	@Override
+	public Object instantiate(@Nonnull Klass klass, @Nonnull MapIterable<DataTypeProperty, Object> keys) {
+		var instance = new InMemoryInstance(klass);
+		keys.forEachKeyValue(instance.values::put);
+		for (DataTypeProperty keyProperty : klass.getKeyProperties()) {
+			if (keyProperty.isID()) {
+				long id = this.nextId++;
+				Object idValue = keyProperty.getType() == PrimitiveType.INTEGER ? (Object) (int) id : id;
+				instance.values.put(keyProperty, idValue);
+			}
+		}
+		this.instances.add(instance);
+		return instance;
+	}
+
+	@Override
+	public void insert(@Nonnull Object persistentInstance) {
+		var instance = (InMemoryInstance) persistentInstance;
+		this.events.add("insert " + instance);
+		this.markInserted(instance);
+	}
+
+	@Override
+	public void insertAll(@Nonnull List<Object> persistentInstances) {
+		this.events.add("insertAll " + Lists.mutable.withAll(persistentInstances).makeString(", "));
+		for (Object persistentInstance : persistentInstances) {
+			this.markInserted((InMemoryInstance) persistentInstance);
+		}
+	}
+
+	private void markInserted(@Nonnull InMemoryInstance instance) {
+		if (this.failingInserts.contains(instance.toString())) {
+			throw new IllegalStateException("Unique constraint violated in table CATEGORY by " + instance);
+		}
+		instance.inserted = true;
+		this.insertedInTransaction.add(instance);
+	}
+
+	@Override
+	public boolean setToOne(
+		@Nonnull Object persistentSourceInstance,
+		@Nonnull AssociationEnd associationEnd,
+		@Nullable Object persistentTargetInstance
+	) {
+		var source = (InMemoryInstance) persistentSourceInstance;
+		var target = (InMemoryInstance) persistentTargetInstance;
+		InMemoryInstance oldTarget = source.references.put(associationEnd, target);
+		if (target != null) {
+			target.references.put(associationEnd.getOpposite(), source);
+			copyForeignKeys(source, associationEnd, target);
+			copyForeignKeys(target, associationEnd.getOpposite(), source);
+		}
+		return oldTarget != target;
+	}
+
+	// Sets the foreign keys of the source that refer to the keys of the target through the association end
+	private static void copyForeignKeys(
+		@Nonnull InMemoryInstance source,
+		@Nonnull AssociationEnd associationEnd,
+		@Nonnull InMemoryInstance target
+	) {
+		for (DataTypeProperty foreignKey : source.klass.getDataTypeProperties()) {
+			DataTypeProperty keyProperty = foreignKey.getKeysMatchingThisForeignKey().get(associationEnd);
+			if (keyProperty != null) {
+				source.values.put(foreignKey, target.values.get(keyProperty));
+			}
+		}
+	}
+
+	@Override
+	public void deleteOrTerminate(@Nonnull Object persistentInstance) {
+		var instance = (InMemoryInstance) persistentInstance;
+		this.events.add("delete " + instance);
+		instance.deleted = true;
+	}
+
+	@Override
+	public void purgeAll(@Nonnull Klass klass) {
+		this.instances.removeIf((each) -> each.klass == klass);
+	}
+
+	@Override
+	public boolean isInstanceOf(@Nonnull Object persistentInstance, @Nonnull Classifier classifier) {
+		return ((InMemoryInstance) persistentInstance).klass.isSubTypeOf(classifier);
+	}
+
+	@Override
+	public Klass getMostSpecificSubclass(@Nonnull Object persistentInstance, @Nonnull Klass klass) {
+		return ((InMemoryInstance) persistentInstance).klass;
+	}
+
+	@Override
+	public Object getSuperClass(@Nonnull Object persistentInstance, @Nonnull Klass klass) {
+		throw new UnsupportedOperationException("Inheritance is not supported by " + this.getClass().getSimpleName());
+	}
+
+	@Override
+	public Object getSubClass(@Nonnull Object persistentInstance, @Nonnull Klass superClass, @Nonnull Klass subClass) {
+		throw new UnsupportedOperationException("Inheritance is not supported by " + this.getClass().getSimpleName());
+	}
+
+	static final class InMemoryInstance {
+
+		@Nonnull
+		private final Klass klass;
+
+		private final MutableMap<DataTypeProperty, Object> values = Maps.mutable.empty();
+		private final MutableMap<ReferenceProperty, InMemoryInstance> references = Maps.mutable.empty();
+
+		private boolean inserted;
+		private boolean deleted;
+
+		private InMemoryInstance(@Nonnull Klass klass) {
+			this.klass = Objects.requireNonNull(klass);
+		}
+
+		@Nullable
+		Object get(@Nonnull String propertyName) {
+			return this.values.get(this.klass.getDataTypePropertyByName(propertyName));
+		}
+
+		boolean isInserted() {
+			return this.inserted;
+		}
+
+		private boolean hasKeys(@Nonnull MapIterable<DataTypeProperty, Object> keys) {
+			return keys
+				.keyValuesView()
+				.allSatisfy((each) -> Objects.equals(this.values.get(each.getOne()), each.getTwo()));
+		}
+
+		@Override
+		public String toString() {
+			return this.klass.getName()
+				+ this.klass.getKeyProperties().collect(this.values::get).makeString("(", ", ", ")");
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.reladomo.persistent.writer.InMemoryDataStore.InMemoryInstance;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LogMarkerTestExtension.class)
+class PersistentCreatorTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final InMemoryDataStore dataStore = new InMemoryDataStore();
+
+	private Klass category;
+
+	@BeforeEach
+	void setUp() {
+		DomainModel domainModel = TestDomainModels.compile(this.getClass());
+		this.category = domainModel.getClassByName("Category");
+	}
+
+	@Test
+	void createAllInsertsInOneBatch() throws JsonProcessingException {
+		MutableList<Object> result = this.createAll(
+			"""
+			[
+				{ "name": "a", "title": "A" },
+				{ "name": "b", "title": "B" },
+				{ "name": "c", "title": "C" }
+			]
+			"""
+		);
+
+		assertThat(result).hasSize(3).allMatch((each) -> ((InMemoryInstance) each).isInserted());
+		assertThat(this.getInsertAllEvents()).containsExactly("insertAll Category(a), Category(b), Category(c)");
+	}
+
+	@Test
+	void createAllFindsInstanceCreatedByEarlierElement() throws JsonProcessingException {
+		MutableList<Object> result = this.createAll(
+			"""
+			[
+				{ "name": "a", "title": "A" },
+				{ "name": "b", "title": "B", "parent": { "name": "a" } },
+				{ "name": "c", "title": "C", "parent": { "name": "b" } },
+				{ "name": "d", "title": "D" }
+			]
+			"""
+		);
+
+		AssociationEnd parent = this.category.getAssociationEndByName("parent");
+		assertThat(this.dataStore.getToOne(result.get(1), parent)).isSameAs(result.get(0));
+		assertThat(this.dataStore.getToOne(result.get(2), parent)).isSameAs(result.get(1));
+		assertThat(((InMemoryInstance) result.get(2)).get("parentName")).isEqualTo("b");
+		assertThat(result).allMatch((each) -> ((InMemoryInstance) each).isInserted());
+
+		// The earlier roots are found in the identity map, so nothing is flushed early
+		assertThat(this.getInsertAllEvents()).containsExactly(
+			"insertAll Category(a), Category(b), Category(c), Category(d)"
+		);
+	}
+
+	@Test
+	void synchronizePrefetchesInsideTransaction() throws JsonProcessingException {
+		Object existingInstance = this.createAll("[{ \"name\": \"a\", \"title\": \"A\" }]").getOnly();
+		this.dataStore.getEvents().clear();
+
+		var incomingJson = (ObjectNode) OBJECT_MAPPER.readTree(
+			"""
+			{ "name": "b", "title": "B", "parent": { "name": "a" } }
+			"""
+		);
+		DataTypeProperty name = this.category.getDataTypePropertyByName("name");
+		Object persistentInstance = this.dataStore.instantiate(this.category, Maps.immutable.with(name, "b"));
+		var creator = new PersistentCreator(newMutationContext(), this.dataStore);
+		creator.synchronize(this.category, persistentInstance, incomingJson);
+
+		AssociationEnd parent = this.category.getAssociationEndByName("parent");
+		assertThat(this.dataStore.getToOne(persistentInstance, parent)).isSameAs(existingInstance);
+		// The lookup of the parent is answered by the prefetch
+		assertThat(this.dataStore.getEvents()).containsExactly(
+			"begin",
+			"findAllByKeys Category in transaction",
+			"commit"
+		);
+	}
+
+	private MutableList<Object> createAll(String json) throws JsonProcessingException {
+		var incomingInstances = (ArrayNode) OBJECT_MAPPER.readTree(json);
+		var creator = new PersistentCreator(newMutationContext(), this.dataStore);
+		return this.dataStore.runInTransaction((transaction) -> creator.createAll(this.category, incomingInstances));
+	}
+
+	private static MutationContext newMutationContext() {
+		return new MutationContext(Optional.empty(), Instant.EPOCH, Maps.immutable.empty());
+	}
+
+	private MutableList<String> getInsertAllEvents() {
+		return this.dataStore.getEvents().select((each) -> each.startsWith("insertAll "));
+	}
+}
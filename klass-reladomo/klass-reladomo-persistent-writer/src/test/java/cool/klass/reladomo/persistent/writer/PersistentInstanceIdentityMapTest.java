@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import org.eclipse.collections.api.factory.Maps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LogMarkerTestExtension.class)
+class PersistentInstanceIdentityMapTest {
+
+	private final InMemoryDataStore dataStore = new InMemoryDataStore();
+	private final MutationContext mutationContext = new MutationContext(
+		Optional.empty(),
+		Instant.EPOCH,
+		Maps.immutable.empty()
+	);
+	private final PersistentInstanceIdentityMap identityMap = this.mutationContext.getIdentityMap();
+
+	private Klass item;
+	private DataTypeProperty number;
+	private Object existingInstance;
+
+	@BeforeEach
+	void setUp() {
+		DomainModel domainModel = TestDomainModels.compile(this.getClass());
+		this.item = domainModel.getClassByName("Item");
+		this.number = this.item.getDataTypePropertyByName("number");
+		this.existingInstance = this.dataStore.instantiate(this.item, Maps.immutable.with(this.number, 1L));
+		this.dataStore.insert(this.existingInstance);
+		this.dataStore.getEvents().clear();
+	}
+
+	@Test
+	void findByKeyCachesHits() {
+		assertThat(this.identityMap.findByKey(this.dataStore, this.item, Maps.immutable.with(this.number, 1L)))
+			.isSameAs(this.existingInstance);
+		assertThat(this.identityMap.findByKey(this.dataStore, this.item, Maps.immutable.with(this.number, 1L)))
+			.isSameAs(this.existingInstance);
+
+		assertThat(this.dataStore.getEvents()).containsExactly("findByKey Item 1");
+	}
+
+	@Test
+	void findByKeyConvertsKeysToTheDeclaredType() {
+		// An Integer from json or a url parameter for a Long key property
+		assertThat(this.identityMap.findByKey(this.dataStore, this.item, Maps.immutable.with(this.number, 1)))
+			.isSameAs(this.existingInstance);
+		assertThat(this.identityMap.findByKey(this.dataStore, this.item, Maps.immutable.with(this.number, 1L)))
+			.isSameAs(this.existingInstance);
+
+		assertThat(this.dataStore.getEvents()).containsExactly("findByKey Item 1");
+	}
+
+	@Test
+	void deleteEvicts() {
+		assertThat(this.identityMap.findByKey(this.dataStore, this.item, Maps.immutable.with(this.number, 1L)))
+			.isSameAs(this.existingInstance);
+
+		new PersistentDeleter(this.mutationContext, this.dataStore).deleteOrTerminate(this.item, this.existingInstance);
+
+		assertThat(this.identityMap.findByKey(this.dataStore, this.item, Maps.immutable.with(this.number, 1L)))
+			.isNull();
+	}
+}
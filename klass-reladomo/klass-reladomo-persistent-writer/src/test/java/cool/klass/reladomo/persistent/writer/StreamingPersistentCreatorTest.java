@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cool.klass.deserializer.json.ValidationPlans;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(LogMarkerTestExtension.class)
+class StreamingPersistentCreatorTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final InMemoryDataStore dataStore = new InMemoryDataStore();
+
+	private DomainModel domainModel;
+	private ValidationPlans validationPlans;
+	private DataTypeJsonCodecs codecs;
+
+	@BeforeEach
+	void setUp() {
+		this.domainModel = TestDomainModels.compile(this.getClass());
+		this.validationPlans = new ValidationPlans(this.domainModel);
+		this.codecs = new DataTypeJsonCodecs(this.domainModel);
+	}
+
+	@Test
+	void createsEachChunkInItsOwnTransaction() throws IOException {
+		JsonNode result = this.createAll(
+			"Category",
+			2,
+			"""
+			[
+				{ "name": "a", "title": "A" },
+				{ "name": "b", "title": "B", "parent": { "name": "a" } },
+				{ "name": "c", "title": "C", "parent": { "name": "b" } }
+			]
+			"""
+		);
+
+		assertThat(result).isEqualTo(
+			readTree(
+				"""
+				[
+					{ "index": 0, "status": "created", "keys": { "name": "a" } },
+					{ "index": 1, "status": "created", "keys": { "name": "b" } },
+					{ "index": 2, "status": "created", "keys": { "name": "c" } }
+				]
+				"""
+			)
+		);
+		assertThat(this.getTransactionEvents()).containsExactly("begin", "commit", "begin", "commit");
+		assertThat(this.dataStore.getEvents().select((each) -> each.startsWith("insertAll "))).containsExactly(
+			"insertAll Category(a), Category(b)",
+			"insertAll Category(c)"
+		);
+	}
+
+	@Test
+	void reportsInvalidElementsAndCreatesTheRest() throws IOException {
+		JsonNode result = this.createAll(
+			"Category",
+			10,
+			"""
+			[
+				{ "name": "a", "title": "A" },
+				{ "name": "b" },
+				{ "name": "c", "title": "C", "parent": { "name": "missing" } },
+				{ "name": "d", "title": "D" }
+			]
+			"""
+		);
+
+		assertThat(result.findValuesAsText("status")).containsExactly("created", "invalid", "invalid", "created");
+		assertThat(result.get(1).get("errors").get(0).asText()).contains("title");
+		// Checked against the data store by IncomingCreateDataModelValidator
+		assertThat(result.get(2).get("errors").get(0).asText()).contains(
+			"Could not find existing persistent instance"
+		);
+		assertThat(this.dataStore.getInsertedInstances(this.getKlass("Category")))
+			.extracting(Object::toString)
+			.containsExactly("Category(a)", "Category(d)");
+	}
+
+	@Test
+	void retriesFailedChunkOneElementAtATime() throws IOException {
+		this.dataStore.failInsertOf("Category(b)");
+
+		JsonNode result = this.createAll(
+			"Category",
+			10,
+			"""
+			[
+				{ "name": "a", "title": "A" },
+				{ "name": "b", "title": "B" },
+				{ "name": "c", "title": "C" }
+			]
+			"""
+		);
+
+		assertThat(result.findValuesAsText("status")).containsExactly("created", "failed", "created");
+		// The cause is logged, rather than sent to the client
+		assertThat(result.get(1).get("errors").toString()).doesNotContain("CATEGORY");
+		assertThat(this.dataStore.getInsertedInstances(this.getKlass("Category")))
+			.extracting(Object::toString)
+			.containsExactly("Category(a)", "Category(c)");
+		assertThat(this.getTransactionEvents()).containsExactly(
+			"begin",
+			"rollback",
+			"begin",
+			"commit",
+			"begin",
+			"rollback",
+			"begin",
+			"commit"
+		);
+	}
+
+	@Test
+	void writesEnumerationKeysAsPrettyNames() throws IOException {
+		JsonNode result = this.createAll(
+			"Swatch",
+			10,
+			"""
+			[{ "color": "Dark blue", "title": "Sea" }]
+			"""
+		);
+
+		assertThat(result).isEqualTo(
+			readTree(
+				"""
+				[{ "index": 0, "status": "created", "keys": { "color": "Dark blue" } }]
+				"""
+			)
+		);
+	}
+
+	@Test
+	void reportsTruncatedArrayWithoutCreatingBufferedElements() throws IOException {
+		JsonNode result = this.createAll(
+			"Category",
+			10,
+			"""
+			[
+				{ "name": "a", "title": "A" },
+				{ "name": "b" },
+			"""
+		);
+
+		assertThat(result.findValuesAsText("status")).containsExactly("failed", "invalid", "invalid");
+		assertThat(result.get(2).get("index").asInt()).isEqualTo(2);
+		assertThat(this.dataStore.getInsertedInstances(this.getKlass("Category"))).isEmpty();
+	}
+
+	@Test
+	void openArrayRejectsOtherInput() {
+		assertThatThrownBy(() -> openArray("{ \"name\": \"a\" }"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Expected a json array but got START_OBJECT");
+		assertThatThrownBy(() -> openArray("nope"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageStartingWith("Expected a json array but got malformed json at line 1");
+		assertThatThrownBy(() -> openArray(""))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Expected a json array but got null");
+	}
+
+	private JsonNode createAll(String klassName, int chunkSize, String json) throws IOException {
+		var creator = new StreamingPersistentCreator(
+			this.dataStore,
+			this.validationPlans,
+			this.codecs,
+			null,
+			this.getKlass(klassName),
+			Optional.empty(),
+			Instant.EPOCH,
+			chunkSize
+		);
+		var outputStream = new ByteArrayOutputStream();
+		creator.createAll(openArray(json), outputStream);
+		return OBJECT_MAPPER.readTree(outputStream.toByteArray());
+	}
+
+	private static JsonParser openArray(String json) {
+		return StreamingPersistentCreator.openArray(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static JsonNode readTree(String json) throws IOException {
+		return OBJECT_MAPPER.readTree(json);
+	}
+
+	private Klass getKlass(String klassName) {
+		return this.domainModel.getClassByName(klassName);
+	}
+
+	private Iterable<String> getTransactionEvents() {
+		return this.dataStore
+			.getEvents()
+			.select((each) -> each.equals("begin") || each.equals("commit") || each.equals("rollback"));
+	}
+}
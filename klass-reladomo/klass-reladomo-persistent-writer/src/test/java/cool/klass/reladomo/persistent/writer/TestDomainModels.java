@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.persistent.writer;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.converter.compiler.CompilationResult;
+import cool.klass.model.converter.compiler.CompilationUnit;
+import cool.klass.model.converter.compiler.KlassCompiler;
+import cool.klass.model.converter.compiler.annotation.AbstractCompilerAnnotation;
+import cool.klass.model.converter.compiler.annotation.RootCompilerAnnotation;
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
+import cool.klass.model.meta.domain.api.DomainModel;
+import io.liftwizard.junit.extension.match.FileSlurper;
+import org.eclipse.collections.api.list.ImmutableList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compiles the model named after a test class, like {@code PersistentCreatorTest.klass}, from the test's package.
+ */
+final class TestDomainModels {
+
+	private TestDomainModels() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	@Nonnull
+	static DomainModel compile(@Nonnull Class<?> testClass) {
+		String sourceName = testClass.getSimpleName() + ".klass";
+		String sourceCodeText = FileSlurper.slurp(sourceName, testClass);
+		CompilationUnit compilationUnit = CompilationUnit.createFromText(
+			0,
+			Optional.empty(),
+			sourceName,
+			sourceCodeText
+		);
+		var compiler = new KlassCompiler(compilationUnit, ColorSchemeProvider.getByName("dark"));
+		CompilationResult compilationResult = compiler.compile();
+		ImmutableList<RootCompilerAnnotation> compilerErrors = compilationResult
+			.compilerAnnotations()
+			.select(AbstractCompilerAnnotation::isError);
+		assertThat(compilerErrors).as(compilerErrors.makeString("\n")).isEmpty();
+		return compilationResult.domainModelWithSourceCode().get();
+	}
+}
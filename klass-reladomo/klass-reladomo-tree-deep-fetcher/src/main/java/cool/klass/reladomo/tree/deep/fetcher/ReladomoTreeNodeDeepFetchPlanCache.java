@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.reladomo.tree.deep.fetcher;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.gs.fw.finder.DomainList;
+import com.gs.fw.finder.Navigation;
+import cool.klass.data.store.reladomo.ReladomoDataStore;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * Resolves the deep fetch {@link Navigation}s of a tree once, and replays them onto every list fetched with the same
+ * tree. Trees are held by identity and weakly, so this relies on the tree converter returning shared trees, and
+ * entries disappear when the converter evicts them.
+ */
+public class ReladomoTreeNodeDeepFetchPlanCache {
+
+	private final ReladomoDataStore dataStore;
+
+	private final Cache<RootReladomoTreeNode, ImmutableList<Navigation<?>>> navigationsByTree = CacheBuilder.newBuilder()
+		.weakKeys()
+		.build();
+
+	public ReladomoTreeNodeDeepFetchPlanCache(ReladomoDataStore dataStore) {
+		this.dataStore = Objects.requireNonNull(dataStore);
+	}
+
+	public void deepFetch(DomainList domainList, Klass klass, RootReladomoTreeNode rootReladomoTreeNode) {
+		for (Navigation<?> navigation : this.getNavigations(klass, rootReladomoTreeNode)) {
+			domainList.deepFetch(navigation);
+		}
+	}
+
+	public ImmutableList<Navigation<?>> getNavigations(Klass klass, RootReladomoTreeNode rootReladomoTreeNode) {
+		try {
+			return this.navigationsByTree.get(
+				rootReladomoTreeNode,
+				() -> this.compileNavigations(klass, rootReladomoTreeNode)
+			);
+		} catch (UncheckedExecutionException e) {
+			throw (RuntimeException) e.getCause();
+		} catch (ExecutionException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private ImmutableList<Navigation<?>> compileNavigations(Klass klass, RootReladomoTreeNode rootReladomoTreeNode) {
+		MutableList<Navigation<?>> result = Lists.mutable.empty();
+		var listener = new ReladomoTreeNodeDeepFetcherListener(this.dataStore, result::add, klass);
+		rootReladomoTreeNode.walk(listener);
+		return result.toImmutable();
+	}
+}
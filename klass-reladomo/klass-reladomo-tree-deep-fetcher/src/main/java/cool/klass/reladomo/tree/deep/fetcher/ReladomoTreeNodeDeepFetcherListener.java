@@ -16,6 +16,9 @@
 
 package cool.klass.reladomo.tree.deep.fetcher;
 
+import java.util.Objects;
+import java.util.function.Consumer;
+
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Converter;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
@@ -45,12 +48,20 @@ public class ReladomoTreeNodeDeepFetcherListener implements ReladomoTreeNodeList
 	private final MutableStack<NamedElement> contextStack = new ArrayStack<>();
 
 	private final ReladomoDataStore dataStore;
-	private final DomainList domainList;
+	private final Consumer<Navigation<?>> navigationConsumer;
 	private final Klass klass;
 
 	public ReladomoTreeNodeDeepFetcherListener(ReladomoDataStore dataStore, DomainList domainList, Klass klass) {
+		this(dataStore, domainList::deepFetch, klass);
+	}
+
+	public ReladomoTreeNodeDeepFetcherListener(
+		ReladomoDataStore dataStore,
+		Consumer<Navigation<?>> navigationConsumer,
+		Klass klass
+	) {
 		this.dataStore = dataStore;
-		this.domainList = domainList;
+		this.navigationConsumer = Objects.requireNonNull(navigationConsumer);
 		this.klass = klass;
 	}
 
@@ -101,7 +112,7 @@ public class ReladomoTreeNodeDeepFetcherListener implements ReladomoTreeNodeList
 	public void exitSuperClass(SuperClassReladomoTreeNode superClassReladomoTreeNode) {
 		RelatedFinder<?> relatedFinder = this.stack.peek();
 		var navigation = (Navigation<?>) relatedFinder;
-		this.domainList.deepFetch(navigation);
+		this.navigationConsumer.accept(navigation);
 		this.stack.pop();
 		this.contextStack.pop();
 	}
@@ -120,7 +131,7 @@ public class ReladomoTreeNodeDeepFetcherListener implements ReladomoTreeNodeList
 	public void exitSubClass(SubClassReladomoTreeNode subClassReladomoTreeNode) {
 		RelatedFinder<?> relatedFinder = this.stack.peek();
 		var navigation = (Navigation<?>) relatedFinder;
-		this.domainList.deepFetch(navigation);
+		this.navigationConsumer.accept(navigation);
 		this.stack.pop();
 		this.contextStack.pop();
 	}
@@ -139,7 +150,7 @@ public class ReladomoTreeNodeDeepFetcherListener implements ReladomoTreeNodeList
 	public void exitReferenceProperty(ReferencePropertyReladomoTreeNode referencePropertyReladomoTreeNode) {
 		RelatedFinder<?> relatedFinder = this.stack.peek();
 		var navigation = (Navigation<?>) relatedFinder;
-		this.domainList.deepFetch(navigation);
+		this.navigationConsumer.accept(navigation);
 		this.stack.pop();
 		this.contextStack.pop();
 	}
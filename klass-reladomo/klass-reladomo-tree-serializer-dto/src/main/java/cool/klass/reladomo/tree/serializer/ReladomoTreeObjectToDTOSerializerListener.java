@@ -42,6 +42,7 @@ import cool.klass.model.reladomo.tree.ReladomoTreeNodeToManyAwareListener;
 import cool.klass.model.reladomo.tree.RootReladomoTreeNode;
 import cool.klass.model.reladomo.tree.SubClassReladomoTreeNode;
 import cool.klass.model.reladomo.tree.SuperClassReladomoTreeNode;
+import cool.klass.request.statistics.RequestStatistics;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.stack.ImmutableStack;
@@ -350,6 +351,9 @@ public class ReladomoTreeObjectToDTOSerializerListener implements ReladomoTreeNo
 			throw new AssertionError(detailMessage);
 		}
 
+		// One DTO per persistent instance read
+		RequestStatistics.recordRowsMaterialized(1);
+
 		String dtoFQCN = classifier.getPackageName() + ".dto." + classifier.getName() + "DTO";
 		try {
 			Class<?> aClass = this.reflectionCache.classForName(dtoFQCN);
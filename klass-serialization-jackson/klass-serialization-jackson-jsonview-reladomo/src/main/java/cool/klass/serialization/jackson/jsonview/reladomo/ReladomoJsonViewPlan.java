@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.jsonview.reladomo;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import cool.klass.model.meta.domain.api.Classifier;
+import cool.klass.model.meta.domain.api.DataType;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.property.ReferenceProperty;
+import cool.klass.model.reladomo.projection.ProjectionDataTypePropertyReladomoNode;
+import cool.klass.model.reladomo.projection.ProjectionElementReladomoNode;
+import cool.klass.model.reladomo.projection.ProjectionWithReferencePropertyReladomoNode;
+import cool.klass.model.reladomo.projection.RootReladomoNode;
+import cool.klass.model.reladomo.projection.SubClassReladomoNode;
+import cool.klass.model.reladomo.projection.SuperClassReladomoNode;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodec;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * A flattened form of a {@link RootReladomoNode} tree, compiled once per projection and class, and then reused for every
+ * object that {@link ReladomoJsonViewSerializer} writes with it.
+ */
+public final class ReladomoJsonViewPlan {
+
+	@Nonnull
+	private final ProjectionElementReladomoNode node;
+
+	@Nullable
+	private final Klass polymorphicType;
+
+	// Assigned once after construction, so that recursive projections can refer back to plans that are still compiling
+	private ImmutableList<Step> steps;
+
+	private ReladomoJsonViewPlan(@Nonnull ProjectionElementReladomoNode node, @Nullable Klass polymorphicType) {
+		this.node = Objects.requireNonNull(node);
+		this.polymorphicType = polymorphicType;
+	}
+
+	@Nonnull
+	public static ReladomoJsonViewPlan compile(
+		@Nonnull RootReladomoNode rootReladomoNode,
+		@Nonnull DataTypeJsonCodecs codecs
+	) {
+		return compile(rootReladomoNode, codecs, new IdentityHashMap<>());
+	}
+
+	@Nonnull
+	private static ReladomoJsonViewPlan compile(
+		@Nonnull ProjectionElementReladomoNode node,
+		@Nonnull DataTypeJsonCodecs codecs,
+		@Nonnull Map<ProjectionElementReladomoNode, ReladomoJsonViewPlan> plansByNode
+	) {
+		// Projection references share the children of the referenced projection's root node
+		ProjectionElementReladomoNode effectiveNode = node.getRootReladomoNode() == null
+			? node
+			: node.getRootReladomoNode();
+
+		ReladomoJsonViewPlan existingPlan = plansByNode.get(effectiveNode);
+		if (existingPlan != null) {
+			return existingPlan;
+		}
+
+		Klass polymorphicType = node.hasPolymorphicChildren() ? (Klass) node.getType() : null;
+		var result = new ReladomoJsonViewPlan(effectiveNode, polymorphicType);
+		plansByNode.put(effectiveNode, result);
+
+		MutableList<Step> steps = Lists.mutable.empty();
+		for (ProjectionElementReladomoNode child : node.getChildren()) {
+			steps.add(compileStep(child, codecs, plansByNode));
+		}
+		result.steps = steps.toImmutable();
+		return result;
+	}
+
+	@Nonnull
+	private static Step compileStep(
+		@Nonnull ProjectionElementReladomoNode child,
+		@Nonnull DataTypeJsonCodecs codecs,
+		@Nonnull Map<ProjectionElementReladomoNode, ReladomoJsonViewPlan> plansByNode
+	) {
+		if (child instanceof ProjectionDataTypePropertyReladomoNode dataTypePropertyNode) {
+			DataType dataType = dataTypePropertyNode.getType();
+			return new DataTypeStep(
+				dataTypePropertyNode.getProperty(),
+				new SerializedString(dataTypePropertyNode.getName()),
+				codecs.getCodec(dataType)
+			);
+		}
+
+		if (child instanceof ProjectionWithReferencePropertyReladomoNode referencePropertyNode) {
+			ReferenceProperty referenceProperty = referencePropertyNode.getReferenceProperty();
+			return new ReferenceStep(
+				referenceProperty,
+				new SerializedString(referenceProperty.getName()),
+				referenceProperty.getMultiplicity().isToMany(),
+				compile(referencePropertyNode, codecs, plansByNode)
+			);
+		}
+
+		if (child instanceof SuperClassReladomoNode superClassNode) {
+			Classifier owningClassifier = superClassNode.getOwningClassifier();
+			Classifier type = superClassNode.getType();
+			if (((Klass) owningClassifier).getSuperClass().get() != type) {
+				throw new AssertionError("Expected superclass of " + owningClassifier + " to be " + type);
+			}
+			return new SuperClassStep((Klass) owningClassifier, compile(superClassNode, codecs, plansByNode));
+		}
+
+		if (child instanceof SubClassReladomoNode subClassNode) {
+			Classifier owningClassifier = subClassNode.getOwningClassifier();
+			Classifier type = subClassNode.getType();
+			if (((Klass) type).getSuperClass().get() != owningClassifier) {
+				throw new AssertionError("Expected subclass of " + owningClassifier + " to be " + type);
+			}
+			return new SubClassStep((Klass) owningClassifier, (Klass) type, compile(subClassNode, codecs, plansByNode));
+		}
+
+		throw new AssertionError(child.getClass().getSimpleName());
+	}
+
+	@Nonnull
+	public ProjectionElementReladomoNode getNode() {
+		return this.node;
+	}
+
+	@Nullable
+	public Klass getPolymorphicType() {
+		return this.polymorphicType;
+	}
+
+	@Nonnull
+	public ImmutableList<Step> getSteps() {
+		return this.steps;
+	}
+
+	@Override
+	public String toString() {
+		return this.node.toString();
+	}
+
+	public sealed interface Step permits DataTypeStep, ReferenceStep, SuperClassStep, SubClassStep {}
+
+	public record DataTypeStep(
+		@Nonnull DataTypeProperty property,
+		@Nonnull SerializedString fieldName,
+		@Nonnull DataTypeJsonCodec codec
+	) implements Step {}
+
+	public record ReferenceStep(
+		@Nonnull ReferenceProperty referenceProperty,
+		@Nonnull SerializedString fieldName,
+		boolean toMany,
+		@Nonnull ReladomoJsonViewPlan plan
+	) implements Step {}
+
+	public record SuperClassStep(@Nonnull Klass owningKlass, @Nonnull ReladomoJsonViewPlan plan) implements Step {}
+
+	public record SubClassStep(
+		@Nonnull Klass owningKlass,
+		@Nonnull Klass subClass,
+		@Nonnull ReladomoJsonViewPlan plan
+	) implements Step {}
+}
@@ -22,45 +22,69 @@ import java.util.Objects;
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraObject;
 import cool.klass.data.store.DataStore;
-import cool.klass.model.meta.domain.api.Classifier;
-import cool.klass.model.meta.domain.api.DataType;
 import cool.klass.model.meta.domain.api.DomainModel;
-import cool.klass.model.meta.domain.api.Enumeration;
-import cool.klass.model.meta.domain.api.EnumerationLiteral;
 import cool.klass.model.meta.domain.api.Klass;
-import cool.klass.model.meta.domain.api.Multiplicity;
 import cool.klass.model.meta.domain.api.PrimitiveType;
 import cool.klass.model.meta.domain.api.projection.Projection;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
-import cool.klass.model.meta.domain.api.property.ReferenceProperty;
-import cool.klass.model.meta.domain.api.visitor.PrimitiveTypeVisitor;
-import cool.klass.model.reladomo.projection.ProjectionDataTypePropertyReladomoNode;
-import cool.klass.model.reladomo.projection.ProjectionElementReladomoNode;
-import cool.klass.model.reladomo.projection.ProjectionWithReferencePropertyReladomoNode;
 import cool.klass.model.reladomo.projection.ReladomoProjectionConverter;
 import cool.klass.model.reladomo.projection.RootReladomoNode;
-import cool.klass.model.reladomo.projection.SubClassReladomoNode;
-import cool.klass.model.reladomo.projection.SuperClassReladomoNode;
+import cool.klass.request.statistics.RequestStatistics;
 import cool.klass.serialization.jackson.jsonview.KlassJsonView;
-import cool.klass.serialization.jackson.model.data.property.SerializeValueToJsonFieldPrimitiveTypeVisitor;
-import org.eclipse.collections.api.map.MutableMap;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.DataTypeStep;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.ReferenceStep;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.Step;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.SubClassStep;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.SuperClassStep;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 
 public class ReladomoJsonViewSerializer extends JsonSerializer<MithraObject> {
 
+	private static final SerializedString TYPENAME = new SerializedString("__typename");
+
 	@Nonnull
 	private final DomainModel domainModel;
 
 	@Nonnull
 	private final DataStore dataStore;
 
+	@Nonnull
+	private final DataTypeJsonCodecs codecs;
+
+	// Keyed by active view class, then by concrete MithraObject class
+	private final ConcurrentMutableMap<Class<?>, ConcurrentMutableMap<Class<?>, ReladomoJsonViewPlan>> plansByViewClass =
+		ConcurrentHashMap.newMap();
+
+	// Keyed by projection, then by concrete class. Shared by all view classes that name the same projection
+	private final ConcurrentMutableMap<Projection, ConcurrentMutableMap<Klass, ReladomoJsonViewPlan>> plansByProjection =
+		ConcurrentHashMap.newMap();
+
 	public ReladomoJsonViewSerializer(@Nonnull DomainModel domainModel, @Nonnull DataStore dataStore) {
 		this.domainModel = Objects.requireNonNull(domainModel);
 		this.dataStore = Objects.requireNonNull(dataStore);
+		this.codecs = new DataTypeJsonCodecs(domainModel);
+	}
+
+	/**
+	 * Compiles the plans for every projection and every concrete class it can be applied to, so that the first requests
+	 * don't pay for it.
+	 */
+	public void warmUp() {
+		for (Projection projection : this.domainModel.getProjections()) {
+			for (Klass klass : this.domainModel.getClasses()) {
+				if (!klass.isAbstract() && klass.isSubTypeOf(projection.getClassifier())) {
+					this.getPlan(projection, klass);
+				}
+			}
+		}
 	}
 
 	@Override
@@ -77,6 +101,31 @@ public class ReladomoJsonViewSerializer extends JsonSerializer<MithraObject> {
 			)
 		);
 
+		ReladomoJsonViewPlan plan = this.getPlan(activeViewClass, mithraObject.getClass());
+		this.serialize(mithraObject, jsonGenerator, plan);
+	}
+
+	@Nonnull
+	ReladomoJsonViewPlan getPlan(@Nonnull Class<?> activeViewClass, @Nonnull Class<?> mithraClass) {
+		ConcurrentMutableMap<Class<?>, ReladomoJsonViewPlan> plansByMithraClass = this.plansByViewClass.get(
+			activeViewClass
+		);
+		if (plansByMithraClass == null) {
+			plansByMithraClass = this.plansByViewClass.getIfAbsentPut(activeViewClass, ConcurrentHashMap::newMap);
+		}
+
+		ReladomoJsonViewPlan plan = plansByMithraClass.get(mithraClass);
+		if (plan != null) {
+			return plan;
+		}
+
+		ReladomoJsonViewPlan compiledPlan = this.compilePlan(activeViewClass, mithraClass);
+		ReladomoJsonViewPlan existingPlan = plansByMithraClass.putIfAbsent(mithraClass, compiledPlan);
+		return existingPlan == null ? compiledPlan : existingPlan;
+	}
+
+	@Nonnull
+	private ReladomoJsonViewPlan compilePlan(@Nonnull Class<?> activeViewClass, @Nonnull Class<?> mithraClass) {
 		if (!KlassJsonView.class.isAssignableFrom(activeViewClass)) {
 			throw new IllegalStateException(activeViewClass.getCanonicalName());
 		}
@@ -95,7 +144,7 @@ public class ReladomoJsonViewSerializer extends JsonSerializer<MithraObject> {
 			)
 		);
 
-		String className = mithraObject.getClass().getSimpleName();
+		String className = mithraClass.getSimpleName();
 		Klass klass = this.domainModel.findClassByName(className).orElseThrow(() ->
 			new IllegalStateException(
 				String.format(
@@ -103,34 +152,46 @@ public class ReladomoJsonViewSerializer extends JsonSerializer<MithraObject> {
 					+ "Code generation produced a MithraObject of type %s but the runtime DomainModel does not contain this class. "
 					+ "Ensure the runtime DomainModel's sourcePackages include all packages used during code generation.",
 					className,
-					mithraObject.getClass().getCanonicalName()
+					mithraClass.getCanonicalName()
 				)
 			)
 		);
 
-		var reladomoProjectionConverter = new ReladomoProjectionConverter();
-		RootReladomoNode projectionReladomoNode = reladomoProjectionConverter.getRootReladomoNode(klass, projection);
-
 		// This would work if we consistently used the same DomainModel everywhere (instead of sometimes compiled and sometimes code generated).
 		// Projection projection = this.domainModel.getProjections().selectInstancesOf(activeView).getOnly();
-		this.serialize(mithraObject, jsonGenerator, projectionReladomoNode);
+		return this.getPlan(projection, klass);
+	}
+
+	@Nonnull
+	private ReladomoJsonViewPlan getPlan(@Nonnull Projection projection, @Nonnull Klass klass) {
+		return this.plansByProjection
+			.getIfAbsentPut(projection, ConcurrentHashMap::newMap)
+			.getIfAbsentPutWith(klass, (each) -> this.compilePlan(each, projection), klass);
+	}
+
+	@Nonnull
+	private ReladomoJsonViewPlan compilePlan(@Nonnull Klass klass, @Nonnull Projection projection) {
+		var reladomoProjectionConverter = new ReladomoProjectionConverter();
+		RootReladomoNode projectionReladomoNode = reladomoProjectionConverter.getRootReladomoNode(klass, projection);
+		return ReladomoJsonViewPlan.compile(projectionReladomoNode, this.codecs);
 	}
 
 	private void serialize(
 		@Nonnull MithraObject mithraObject,
 		@Nonnull JsonGenerator jsonGenerator,
-		@Nonnull ProjectionElementReladomoNode projectionReladomoNode
+		@Nonnull ReladomoJsonViewPlan plan
 	) throws IOException {
+		RequestStatistics.recordRowsMaterialized(1);
 		jsonGenerator.writeStartObject();
 		try {
-			boolean hasPolymorphicChildren = projectionReladomoNode.hasPolymorphicChildren();
-			if (hasPolymorphicChildren) {
-				var type = (Klass) projectionReladomoNode.getType();
-				Klass mostSpecificSubclass = this.dataStore.getMostSpecificSubclass(mithraObject, type);
-				jsonGenerator.writeStringField("__typename", mostSpecificSubclass.getFullyQualifiedName());
+			Klass polymorphicType = plan.getPolymorphicType();
+			if (polymorphicType != null) {
+				Klass mostSpecificSubclass = this.dataStore.getMostSpecificSubclass(mithraObject, polymorphicType);
+				jsonGenerator.writeFieldName(TYPENAME);
+				jsonGenerator.writeString(mostSpecificSubclass.getFullyQualifiedName());
 			}
 
-			this.handleObjectMembers(mithraObject, jsonGenerator, projectionReladomoNode);
+			this.handleObjectMembers(mithraObject, jsonGenerator, plan);
 		} finally {
 			jsonGenerator.writeEndObject();
 		}
@@ -139,53 +200,31 @@ public class ReladomoJsonViewSerializer extends JsonSerializer<MithraObject> {
 	private void handleObjectMembers(
 		@Nonnull MithraObject mithraObject,
 		@Nonnull JsonGenerator jsonGenerator,
-		@Nonnull ProjectionElementReladomoNode projectionReladomoNode
+		@Nonnull ReladomoJsonViewPlan plan
 	) throws IOException {
 		Objects.requireNonNull(mithraObject);
 
-		// TODO: Use listener?
-		MutableMap<String, ProjectionElementReladomoNode> children = projectionReladomoNode.getChildren();
-		for (ProjectionElementReladomoNode projectionElementReladomoNode : children) {
-			if (
-				projectionElementReladomoNode
-				instanceof ProjectionDataTypePropertyReladomoNode projectionDataTypePropertyReladomoNode
-			) {
-				this.handleProjectionPrimitiveMember(
-					jsonGenerator,
+		for (Step step : plan.getSteps()) {
+			if (step instanceof DataTypeStep dataTypeStep) {
+				this.handleProjectionPrimitiveMember(jsonGenerator, mithraObject, dataTypeStep);
+			} else if (step instanceof ReferenceStep referenceStep) {
+				this.handleProjectionWithReferenceProperty(jsonGenerator, mithraObject, referenceStep);
+			} else if (step instanceof SuperClassStep superClassStep) {
+				Object superClass = this.dataStore.getSuperClass(mithraObject, superClassStep.owningKlass());
+				this.handleObjectMembers((MithraObject) superClass, jsonGenerator, superClassStep.plan());
+			} else if (step instanceof SubClassStep subClassStep) {
+				Object subClass = this.dataStore.getSubClass(
 					mithraObject,
-					projectionDataTypePropertyReladomoNode
+					subClassStep.owningKlass(),
+					subClassStep.subClass()
 				);
-			} else if (
-				projectionElementReladomoNode
-				instanceof ProjectionWithReferencePropertyReladomoNode projectionWithReferencePropertyReladomoNode
-			) {
-				this.handleProjectionWithReferenceProperty(
-					jsonGenerator,
-					mithraObject,
-					projectionWithReferencePropertyReladomoNode
-				);
-			} else if (projectionElementReladomoNode instanceof SuperClassReladomoNode superClassReladomoNode) {
-				Classifier owningClassifier = superClassReladomoNode.getOwningClassifier();
-				Classifier type = superClassReladomoNode.getType();
-				if (((Klass) owningClassifier).getSuperClass().get() != type) {
-					throw new AssertionError("Expected superclass of " + owningClassifier + " to be " + type);
-				}
-				Object superClass = this.dataStore.getSuperClass(mithraObject, (Klass) owningClassifier);
-				this.handleObjectMembers((MithraObject) superClass, jsonGenerator, superClassReladomoNode);
-			} else if (projectionElementReladomoNode instanceof SubClassReladomoNode subClassReladomoNode) {
-				Classifier owningClassifier = subClassReladomoNode.getOwningClassifier();
-				Classifier type = subClassReladomoNode.getType();
-				if (((Klass) type).getSuperClass().get() != owningClassifier) {
-					throw new AssertionError("Expected subclass of " + owningClassifier + " to be " + type);
-				}
-				Object subClass = this.dataStore.getSubClass(mithraObject, (Klass) owningClassifier, (Klass) type);
 				// TODO: There are two separate concepts of definite subclasses and polymorphic projections.
 				// In other words, we should know in advance whether null is ok here.
 				if (subClass != null) {
-					this.handleObjectMembers((MithraObject) subClass, jsonGenerator, subClassReladomoNode);
+					this.handleObjectMembers((MithraObject) subClass, jsonGenerator, subClassStep.plan());
 				}
 			} else {
-				throw new AssertionError(projectionElementReladomoNode.getClass().getSimpleName());
+				throw new AssertionError(step.getClass().getSimpleName());
 			}
 		}
 	}
@@ -202,87 +241,68 @@ public class ReladomoJsonViewSerializer extends JsonSerializer<MithraObject> {
 	private void handleProjectionPrimitiveMember(
 		@Nonnull JsonGenerator jsonGenerator,
 		@Nonnull MithraObject mithraObject,
-		@Nonnull ProjectionDataTypePropertyReladomoNode projectionDataTypePropertyReladomoNode
+		@Nonnull DataTypeStep dataTypeStep
 	) throws IOException {
 		Objects.requireNonNull(mithraObject);
 
-		DataTypeProperty property = projectionDataTypePropertyReladomoNode.getProperty();
-		String propertyName = projectionDataTypePropertyReladomoNode.getName();
-		DataType dataType = projectionDataTypePropertyReladomoNode.getType();
-
+		DataTypeProperty property = dataTypeStep.property();
 		Object dataTypeValue = this.dataStore.getDataTypeProperty(mithraObject, property);
 		if (dataTypeValue == null) {
 			// TODO: Make this configurable
-			jsonGenerator.writeNullField(propertyName);
+			jsonGenerator.writeFieldName(dataTypeStep.fieldName());
+			jsonGenerator.writeNull();
 			return;
 		}
 
-		if (dataType instanceof Enumeration) {
-			var enumerationLiteral = (EnumerationLiteral) dataTypeValue;
-			jsonGenerator.writeStringField(propertyName, enumerationLiteral.getPrettyName());
-			return;
+		// Thrown before the field name is written, so that the generator is not left expecting a value
+		if (property.getType() == PrimitiveType.TEMPORAL_RANGE) {
+			throw new IllegalStateException("Cannot serialize temporal range property " + property);
 		}
 
-		if (dataType instanceof PrimitiveType primitiveType) {
-			PrimitiveTypeVisitor visitor = new SerializeValueToJsonFieldPrimitiveTypeVisitor(
-				jsonGenerator,
-				propertyName,
-				dataTypeValue
-			);
-			primitiveType.visit(visitor);
-			return;
-		}
-
-		throw new AssertionError("Unhandled data type: " + dataType.getClass().getCanonicalName());
+		jsonGenerator.writeFieldName(dataTypeStep.fieldName());
+		dataTypeStep.codec().write(jsonGenerator, dataTypeValue);
 	}
 
 	public void handleProjectionWithReferenceProperty(
 		@Nonnull JsonGenerator jsonGenerator,
 		MithraObject mithraObject,
-		@Nonnull ProjectionWithReferencePropertyReladomoNode projectionWithReferencePropertyReladomoNode
+		@Nonnull ReferenceStep referenceStep
 	) throws IOException {
-		ReferenceProperty referenceProperty = projectionWithReferencePropertyReladomoNode.getReferenceProperty();
-		Multiplicity multiplicity = referenceProperty.getMultiplicity();
-		String associationEndName = referenceProperty.getName();
-
-		if (multiplicity.isToMany()) {
-			Object value = this.dataStore.getToMany(mithraObject, referenceProperty);
+		if (referenceStep.toMany()) {
+			Object value = this.dataStore.getToMany(mithraObject, referenceStep.referenceProperty());
 			var mithraList = (MithraList<MithraObject>) Objects.requireNonNull(value);
 
 			// TODO: Add configuration to disable serialization of empty lists
-			jsonGenerator.writeArrayFieldStart(associationEndName);
+			jsonGenerator.writeFieldName(referenceStep.fieldName());
+			jsonGenerator.writeStartArray();
 			try {
 				mithraList.forEachWithCursor((eachChildValue) ->
-					this.recurse(
-						(MithraObject) eachChildValue,
-						jsonGenerator,
-						projectionWithReferencePropertyReladomoNode
-					)
+					this.recurse((MithraObject) eachChildValue, jsonGenerator, referenceStep.plan())
 				);
 			} finally {
 				jsonGenerator.writeEndArray();
 			}
 		} else {
-			Object value = this.dataStore.getToOne(mithraObject, referenceProperty);
+			Object value = this.dataStore.getToOne(mithraObject, referenceStep.referenceProperty());
+			jsonGenerator.writeFieldName(referenceStep.fieldName());
 			// TODO: Add configuration to disable serialization of null values
 			if (value == null) {
 				// Should only happen for to-one optional relationships
-				jsonGenerator.writeNullField(associationEndName);
+				jsonGenerator.writeNull();
 				return;
 			}
 
-			jsonGenerator.writeFieldName(associationEndName);
-			this.recurse((MithraObject) value, jsonGenerator, projectionWithReferencePropertyReladomoNode);
+			this.recurse((MithraObject) value, jsonGenerator, referenceStep.plan());
 		}
 	}
 
 	public boolean recurse(
 		@Nonnull MithraObject eachChildValue,
 		@Nonnull JsonGenerator jsonGenerator,
-		@Nonnull ProjectionElementReladomoNode projectionReladomoNode
+		@Nonnull ReladomoJsonViewPlan plan
 	) {
 		try {
-			this.serialize(eachChildValue, jsonGenerator, projectionReladomoNode);
+			this.serialize(eachChildValue, jsonGenerator, plan);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
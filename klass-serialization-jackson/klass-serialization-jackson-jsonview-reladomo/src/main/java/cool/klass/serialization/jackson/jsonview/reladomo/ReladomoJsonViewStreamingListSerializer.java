@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.jsonview.reladomo;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.google.common.base.CaseFormat;
+import com.google.common.base.Converter;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.DateAttribute;
+import com.gs.fw.common.mithra.attribute.IntegerAttribute;
+import com.gs.fw.common.mithra.attribute.LongAttribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.attribute.TimestampAttribute;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.list.DelegatingList;
+import com.gs.fw.finder.Navigation;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.ReferenceStep;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.Step;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.SubClassStep;
+import cool.klass.serialization.jackson.jsonview.reladomo.ReladomoJsonViewPlan.SuperClassStep;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * Writes operation-based {@link MithraList}s without resolving their deep fetches all at once. When the list has no
+ * orderBy, the root objects are read in pages of {@code chunkSize}, in primary key order, each page seeking past the
+ * last primary key of the one before. Each page is deep fetched according to the projection and written through
+ * {@link ReladomoJsonViewSerializer} before the next page is read. Peak memory is bounded by one page's deep fetched
+ * graph, and no connection is held between queries.
+ *
+ * <p>Lists with an orderBy, and lists whose primary key cannot be seeked, are resolved in full in their own order, and
+ * only their deep fetches are chunked. Peak memory is then bounded by the root objects plus one chunk's deep fetched
+ * graph. The generated services only order lists that are paginated or have an orderBy in the model, which keeps the
+ * root objects bounded by the page size or by the model's choice.
+ *
+ * <p>Deep fetches that were set on the incoming list are ignored. The navigations are derived from the projection
+ * instead.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ReladomoJsonViewStreamingListSerializer extends JsonSerializer<MithraList> {
+
+	private static final Converter<String, String> UPPER_TO_LOWER_CAMEL = CaseFormat.UPPER_CAMEL.converterTo(
+		CaseFormat.LOWER_CAMEL
+	);
+
+	@Nonnull
+	private final ReladomoJsonViewSerializer serializer;
+
+	private final int chunkSize;
+
+	private final ConcurrentMutableMap<ReladomoJsonViewPlan, ImmutableList<Navigation<?>>> navigationsByPlan =
+		ConcurrentHashMap.newMap();
+
+	public ReladomoJsonViewStreamingListSerializer(@Nonnull ReladomoJsonViewSerializer serializer, int chunkSize) {
+		this.serializer = Objects.requireNonNull(serializer);
+		this.chunkSize = chunkSize;
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Expected a positive chunk size but got " + chunkSize);
+		}
+	}
+
+	@Override
+	public void serialize(
+		@Nonnull MithraList mithraList,
+		@Nonnull JsonGenerator jsonGenerator,
+		@Nonnull SerializerProvider serializers
+	) throws IOException {
+		Class<?> activeViewClass = serializers.getActiveView();
+		Objects.requireNonNull(activeViewClass, () ->
+			String.format(
+				"Could not find json serializer for %s. Usually this is caused by a missing @JsonView() annotation.",
+				mithraList.getClass().getCanonicalName()
+			)
+		);
+
+		jsonGenerator.writeStartArray();
+		try {
+			if (mithraList.isOperationBased()) {
+				this.serializeInPages(mithraList, jsonGenerator, activeViewClass);
+			} else {
+				// Ad-hoc lists are already in memory
+				for (Object each : mithraList) {
+					var mithraObject = (MithraObject) each;
+					ReladomoJsonViewPlan plan = this.serializer.getPlan(activeViewClass, mithraObject.getClass());
+					this.serializer.recurse(mithraObject, jsonGenerator, plan);
+				}
+			}
+		} finally {
+			jsonGenerator.writeEndArray();
+		}
+	}
+
+	private void serializeInPages(
+		@Nonnull MithraList<?> mithraList,
+		@Nonnull JsonGenerator jsonGenerator,
+		@Nonnull Class<?> activeViewClass
+	) {
+		Operation operation = mithraList.getOperation();
+		RelatedFinder<?> rootFinder = operation.getResultObjectPortal().getFinder();
+		ImmutableList<Attribute> keyAttributes = Lists.immutable.with(rootFinder.getPrimaryKeyAttributes());
+
+		if (
+			!isUnordered(mithraList)
+			|| !keyAttributes.allSatisfy(ReladomoJsonViewStreamingListSerializer::isSeekable)
+		) {
+			// Resolving the list itself keeps its order and its maxObjectsToRetrieve
+			MutableList<MithraObject> rootObjects = ListAdapter.adapt((List<MithraObject>) mithraList);
+			for (RichIterable<MithraObject> chunk : rootObjects.chunk(this.chunkSize)) {
+				this.serializeChunk(chunk, rootFinder, jsonGenerator, activeViewClass);
+			}
+			return;
+		}
+
+		OrderBy keyOrderBy = keyAttributes
+			.collect((each) -> (OrderBy) each.ascendingOrderBy())
+			.reduce(OrderBy::and)
+			.orElseThrow(() -> new AssertionError("Expected at least one primary key attribute on " + rootFinder));
+
+		Operation pageOperation = operation;
+		while (true) {
+			MithraList<MithraObject> page = (MithraList<MithraObject>) rootFinder.findMany(pageOperation);
+			page.setOrderBy(keyOrderBy);
+			page.setMaxObjectsToRetrieve(this.chunkSize);
+			if (page.isEmpty()) {
+				return;
+			}
+
+			this.serializeChunk(ListAdapter.adapt(page), rootFinder, jsonGenerator, activeViewClass);
+			if (page.size() < this.chunkSize) {
+				return;
+			}
+
+			MithraObject lastObject = page.get(page.size() - 1);
+			pageOperation = operation.and(getSeekOperation(keyAttributes, lastObject, 0));
+		}
+	}
+
+	private static boolean isUnordered(@Nonnull MithraList<?> mithraList) {
+		return mithraList instanceof DelegatingList<?> delegatingList && delegatingList.getOrderBy() == null;
+	}
+
+	private static boolean isSeekable(@Nonnull Attribute attribute) {
+		if (attribute.getMetaData().isNullable()) {
+			return false;
+		}
+		return attribute instanceof StringAttribute
+			|| attribute instanceof IntegerAttribute
+			|| attribute instanceof LongAttribute
+			|| attribute instanceof TimestampAttribute
+			|| attribute instanceof DateAttribute;
+	}
+
+	// Rows after the last object in primary key order: (a > ?) or (a = ? and ((b > ?) or (b = ? and ...)))
+	@Nonnull
+	private static Operation getSeekOperation(
+		@Nonnull ImmutableList<Attribute> keyAttributes,
+		@Nonnull MithraObject lastObject,
+		int index
+	) {
+		Attribute attribute = keyAttributes.get(index);
+		Object value = attribute.valueOf(lastObject);
+		Operation seek = getGreaterThanOperation(attribute, value);
+		if (index == keyAttributes.size() - 1) {
+			return seek;
+		}
+
+		Operation equality = attribute.nonPrimitiveEq(value);
+		return seek.or(equality.and(getSeekOperation(keyAttributes, lastObject, index + 1)));
+	}
+
+	@Nonnull
+	private static Operation getGreaterThanOperation(@Nonnull Attribute attribute, @Nonnull Object value) {
+		if (attribute instanceof StringAttribute stringAttribute) {
+			return stringAttribute.greaterThan((String) value);
+		}
+		if (attribute instanceof IntegerAttribute integerAttribute) {
+			return integerAttribute.greaterThan((Integer) value);
+		}
+		if (attribute instanceof LongAttribute longAttribute) {
+			return longAttribute.greaterThan((Long) value);
+		}
+		if (attribute instanceof TimestampAttribute timestampAttribute) {
+			return timestampAttribute.greaterThan((Timestamp) value);
+		}
+		if (attribute instanceof DateAttribute dateAttribute) {
+			return dateAttribute.greaterThan((Date) value);
+		}
+		throw new AssertionError(attribute);
+	}
+
+	private void serializeChunk(
+		@Nonnull RichIterable<MithraObject> chunk,
+		@Nonnull RelatedFinder<?> rootFinder,
+		@Nonnull JsonGenerator jsonGenerator,
+		@Nonnull Class<?> activeViewClass
+	) {
+		// Every object read through one finder has the same concrete class
+		ReladomoJsonViewPlan plan = this.serializer.getPlan(activeViewClass, chunk.getAny().getClass());
+
+		MithraList<MithraObject> chunkList = (MithraList<MithraObject>) rootFinder.constructEmptyList();
+		chunk.forEach(chunkList::add);
+		for (Navigation<?> navigation : this.getNavigations(plan, rootFinder)) {
+			chunkList.deepFetch((Navigation<MithraObject>) navigation);
+		}
+
+		// Resolved up front rather than on first iteration, so that the deep fetch is timed on its own
+		long deepFetchStartNanos = System.nanoTime();
+		chunkList.forceResolve();
+		RequestStatistics.recordPhase(RequestPhase.DEEP_FETCH, deepFetchStartNanos);
+
+		for (MithraObject mithraObject : chunkList) {
+			this.serializer.recurse(mithraObject, jsonGenerator, plan);
+		}
+	}
+
+	@Nonnull
+	private ImmutableList<Navigation<?>> getNavigations(
+		@Nonnull ReladomoJsonViewPlan plan,
+		@Nonnull RelatedFinder<?> rootFinder
+	) {
+		ImmutableList<Navigation<?>> navigations = this.navigationsByPlan.get(plan);
+		if (navigations != null) {
+			return navigations;
+		}
+
+		MutableList<Navigation<?>> result = Lists.mutable.empty();
+		Set<ReladomoJsonViewPlan> path = Collections.newSetFromMap(new IdentityHashMap<>());
+		collectNavigations(plan, rootFinder, path, result);
+		ImmutableList<Navigation<?>> compiledNavigations = result.toImmutable();
+		ImmutableList<Navigation<?>> existingNavigations = this.navigationsByPlan.putIfAbsent(
+			plan,
+			compiledNavigations
+		);
+		return existingNavigations == null ? compiledNavigations : existingNavigations;
+	}
+
+	private static void collectNavigations(
+		@Nonnull ReladomoJsonViewPlan plan,
+		@Nonnull RelatedFinder<?> relatedFinder,
+		@Nonnull Set<ReladomoJsonViewPlan> path,
+		@Nonnull MutableList<Navigation<?>> result
+	) {
+		// Recursive projections are deep fetched one level, like the generated deep fetches
+		if (!path.add(plan)) {
+			return;
+		}
+
+		for (Step step : plan.getSteps()) {
+			if (step instanceof ReferenceStep referenceStep) {
+				String relationshipName = referenceStep.referenceProperty().getName();
+				collectNavigation(relatedFinder, relationshipName, referenceStep.plan(), path, result);
+			} else if (step instanceof SuperClassStep superClassStep) {
+				Klass superClass = superClassStep.owningKlass().getSuperClass().get();
+				String relationshipName = UPPER_TO_LOWER_CAMEL.convert(superClass.getName()) + "SuperClass";
+				collectNavigation(relatedFinder, relationshipName, superClassStep.plan(), path, result);
+			} else if (step instanceof SubClassStep subClassStep) {
+				String relationshipName = UPPER_TO_LOWER_CAMEL.convert(subClassStep.subClass().getName()) + "SubClass";
+				collectNavigation(relatedFinder, relationshipName, subClassStep.plan(), path, result);
+			}
+		}
+
+		path.remove(plan);
+	}
+
+	private static void collectNavigation(
+		@Nonnull RelatedFinder<?> relatedFinder,
+		@Nonnull String relationshipName,
+		@Nonnull ReladomoJsonViewPlan childPlan,
+		@Nonnull Set<ReladomoJsonViewPlan> path,
+		@Nonnull MutableList<Navigation<?>> result
+	) {
+		RelatedFinder<?> nextFinder = relatedFinder.getRelationshipFinderByName(relationshipName);
+		if (nextFinder == null) {
+			String detailMessage = String.format(
+				"Domain model and generated code are out of sync. Try rerunning a full clean build. Could not find relationship '%s' on %s.",
+				relationshipName,
+				relatedFinder.getFinderClassName()
+			);
+			throw new AssertionError(detailMessage);
+		}
+		result.add((Navigation<?>) nextFinder);
+		collectNavigations(childPlan, nextFinder, path, result);
+	}
+}
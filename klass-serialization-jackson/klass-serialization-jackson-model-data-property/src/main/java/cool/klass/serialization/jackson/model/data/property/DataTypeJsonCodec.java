@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.model.data.property;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Converts the values of one {@link cool.klass.model.meta.domain.api.DataType} between their Java form and json.
+ * Codecs are immutable. Get them from {@link DataTypeJsonCodecs}.
+ */
+public interface DataTypeJsonCodec {
+	void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException;
+
+	@Nonnull
+	Object read(@Nonnull JsonNode jsonNode);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.model.data.property;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.meta.domain.api.DataType;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Enumeration;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import org.eclipse.collections.api.map.ImmutableMap;
+
+/**
+ * The {@link DataTypeJsonCodec}s of one {@link DomainModel}. There is one codec per {@link PrimitiveType}, shared by
+ * all models, and one per {@link Enumeration} of the model, created up front. Enumerations are looked up by fully
+ * qualified name, so that a projection from another copy of the same model, such as the compiled one, finds the same
+ * codecs.
+ */
+public final class DataTypeJsonCodecs {
+
+	@Nonnull
+	private final ImmutableMap<String, EnumerationJsonCodec> enumerationCodecsByFullyQualifiedName;
+
+	public DataTypeJsonCodecs(@Nonnull DomainModel domainModel) {
+		this.enumerationCodecsByFullyQualifiedName = domainModel
+			.getEnumerations()
+			.groupByUniqueKey(Enumeration::getFullyQualifiedName)
+			.collectValues((fullyQualifiedName, enumeration) -> new EnumerationJsonCodec(enumeration))
+			.toImmutable();
+	}
+
+	@Nonnull
+	public DataTypeJsonCodec getCodec(@Nonnull DataType dataType) {
+		if (dataType instanceof PrimitiveType primitiveType) {
+			return PrimitiveTypeJsonCodec.of(primitiveType);
+		}
+		if (dataType instanceof Enumeration enumeration) {
+			return this.getEnumerationCodec(enumeration);
+		}
+		throw new AssertionError("Unhandled data type: " + dataType.getClass().getCanonicalName());
+	}
+
+	@Nonnull
+	public EnumerationJsonCodec getEnumerationCodec(@Nonnull Enumeration enumeration) {
+		String fullyQualifiedName = enumeration.getFullyQualifiedName();
+		EnumerationJsonCodec codec = this.enumerationCodecsByFullyQualifiedName.get(fullyQualifiedName);
+		if (codec == null) {
+			String detailMessage = "Enumeration " + fullyQualifiedName + " is not in the domain model";
+			throw new IllegalArgumentException(detailMessage);
+		}
+		return codec;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.model.data.property;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import cool.klass.model.meta.domain.api.Enumeration;
+import cool.klass.model.meta.domain.api.EnumerationLiteral;
+import org.eclipse.collections.api.map.ImmutableMap;
+
+/**
+ * Writes enumeration literals as their pretty names, which are encoded once, when the codec is created. Reads them back
+ * with {@link Enumeration#findEnumerationLiteralByPrettyName}.
+ */
+public final class EnumerationJsonCodec implements DataTypeJsonCodec {
+
+	@Nonnull
+	private final Enumeration enumeration;
+
+	// Keyed by name rather than by literal, so that literals from another copy of the same model are found too
+	@Nonnull
+	private final ImmutableMap<String, SerializedString> serializedPrettyNamesByName;
+
+	public EnumerationJsonCodec(@Nonnull Enumeration enumeration) {
+		this.enumeration = Objects.requireNonNull(enumeration);
+		this.serializedPrettyNamesByName = enumeration
+			.getEnumerationLiterals()
+			.groupByUniqueKey(EnumerationLiteral::getName)
+			.collectValues((name, enumerationLiteral) -> new SerializedString(enumerationLiteral.getPrettyName()))
+			.toImmutable();
+	}
+
+	@Nonnull
+	public Enumeration getEnumeration() {
+		return this.enumeration;
+	}
+
+	@Override
+	public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+		var enumerationLiteral = (EnumerationLiteral) value;
+		SerializedString serializedPrettyName = this.serializedPrettyNamesByName.get(enumerationLiteral.getName());
+		if (serializedPrettyName == null) {
+			String detailMessage = "No enumeration literal named " + enumerationLiteral.getName() + " in "
+				+ this.enumeration.getName();
+			throw new IllegalArgumentException(detailMessage);
+		}
+		jsonGenerator.writeString(serializedPrettyName);
+	}
+
+	/**
+	 * @throws NoSuchElementException if the pretty name is not one of the enumeration's literals.
+	 */
+	@Nonnull
+	@Override
+	public EnumerationLiteral read(@Nonnull JsonNode jsonNode) {
+		return read(this.enumeration, jsonNode);
+	}
+
+	/**
+	 * Reads a literal of {@code enumeration} without a codec, for callers that don't write.
+	 *
+	 * @throws NoSuchElementException if the pretty name is not one of the enumeration's literals.
+	 */
+	@Nonnull
+	public static EnumerationLiteral read(@Nonnull Enumeration enumeration, @Nonnull JsonNode jsonNode) {
+		if (!jsonNode.isTextual()) {
+			throw new AssertionError();
+		}
+
+		String prettyName = jsonNode.textValue();
+		return enumeration
+			.findEnumerationLiteralByPrettyName(prettyName)
+			.orElseThrow(() ->
+				new NoSuchElementException(
+					"No enumeration literal found for " + prettyName + " in " + enumeration.getName()
+				)
+			);
+	}
+
+	@Override
+	public String toString() {
+		return this.enumeration.getName();
+	}
+}
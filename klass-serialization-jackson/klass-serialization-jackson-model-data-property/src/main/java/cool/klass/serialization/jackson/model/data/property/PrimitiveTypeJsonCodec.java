@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.model.data.property;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+
+public enum PrimitiveTypeJsonCodec implements DataTypeJsonCodec {
+	INTEGER {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeNumber((Integer) value);
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!jsonNode.isIntegralNumber() || !jsonNode.canConvertToInt()) {
+				throw new AssertionError();
+			}
+
+			return jsonNode.intValue();
+		}
+	},
+	LONG {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeNumber((Long) value);
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!jsonNode.isIntegralNumber() || !jsonNode.canConvertToLong()) {
+				throw new AssertionError();
+			}
+
+			return jsonNode.longValue();
+		}
+	},
+	DOUBLE {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeNumber((Double) value);
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!isFloatingPointCompatible(jsonNode)) {
+				throw new AssertionError();
+			}
+
+			return jsonNode.doubleValue();
+		}
+	},
+	FLOAT {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeNumber((Float) value);
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!isFloatingPointCompatible(jsonNode) || !hasValidFloatString(jsonNode)) {
+				throw new AssertionError();
+			}
+
+			return jsonNode.floatValue();
+		}
+	},
+	BOOLEAN {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeBoolean((Boolean) value);
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!jsonNode.isBoolean()) {
+				throw new AssertionError();
+			}
+
+			return jsonNode.booleanValue();
+		}
+	},
+	STRING {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeString((String) value);
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!jsonNode.isTextual()) {
+				throw new AssertionError();
+			}
+
+			return jsonNode.textValue();
+		}
+	},
+	INSTANT {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeString(value.toString());
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			return readTemporal(jsonNode);
+		}
+	},
+	LOCAL_DATE {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeString(value.toString());
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			if (!jsonNode.isTextual()) {
+				throw new AssertionError();
+			}
+
+			String text = jsonNode.textValue();
+			if (text.equals("now")) {
+				throw new RuntimeException("TODO: Support 'now' as a value for dates.");
+			}
+			if (text.equals("infinity")) {
+				throw new RuntimeException("TODO: Support 'infinity' as a value for dates.");
+			}
+
+			return LocalDate.parse(text);
+		}
+	},
+	TEMPORAL_INSTANT {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) throws IOException {
+			jsonGenerator.writeString(value.toString());
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			return readTemporal(jsonNode);
+		}
+	},
+	TEMPORAL_RANGE {
+		@Override
+		public void write(@Nonnull JsonGenerator jsonGenerator, @Nonnull Object value) {
+			throw new IllegalStateException();
+		}
+
+		@Nonnull
+		@Override
+		public Object read(@Nonnull JsonNode jsonNode) {
+			return readTemporal(jsonNode);
+		}
+	};
+
+	@Nonnull
+	public static PrimitiveTypeJsonCodec of(@Nonnull PrimitiveType primitiveType) {
+		return switch (primitiveType) {
+			case INTEGER -> INTEGER;
+			case LONG -> LONG;
+			case DOUBLE -> DOUBLE;
+			case FLOAT -> FLOAT;
+			case BOOLEAN -> BOOLEAN;
+			case STRING -> STRING;
+			case INSTANT -> INSTANT;
+			case LOCAL_DATE -> LOCAL_DATE;
+			case TEMPORAL_INSTANT -> TEMPORAL_INSTANT;
+			case TEMPORAL_RANGE -> TEMPORAL_RANGE;
+		};
+	}
+
+	private static boolean isFloatingPointCompatible(@Nonnull JsonNode jsonNode) {
+		return jsonNode.isDouble() || jsonNode.isFloat() || jsonNode.isInt() || jsonNode.isLong();
+	}
+
+	private static boolean hasValidFloatString(@Nonnull JsonNode jsonNode) {
+		double doubleValue = jsonNode.doubleValue();
+		float floatValue = jsonNode.floatValue();
+		String doubleString = Double.toString(doubleValue);
+		String floatString = Float.toString(floatValue);
+		return doubleString.equals(floatString);
+	}
+
+	@Nonnull
+	private static Instant readTemporal(@Nonnull JsonNode jsonNode) {
+		if (!jsonNode.isTextual()) {
+			throw new AssertionError();
+		}
+
+		String text = jsonNode.textValue();
+		if (text.equals("now")) {
+			throw new RuntimeException("TODO: Support 'now' as a value for dates.");
+		}
+		if (text.equals("infinity")) {
+			throw new RuntimeException("TODO: Support 'infinity' as a value for dates.");
+		}
+
+		try {
+			return Instant.parse(text);
+		} catch (DateTimeParseException e) {
+			throw new AssertionError(e);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.model.data.property;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import cool.klass.model.converter.compiler.CompilationResult;
+import cool.klass.model.converter.compiler.CompilationUnit;
+import cool.klass.model.converter.compiler.KlassCompiler;
+import cool.klass.model.converter.compiler.annotation.AbstractCompilerAnnotation;
+import cool.klass.model.converter.compiler.annotation.RootCompilerAnnotation;
+import cool.klass.model.converter.compiler.syntax.highlighter.ansi.scheme.ColorSchemeProvider;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Enumeration;
+import cool.klass.model.meta.domain.api.EnumerationLiteral;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.junit.extension.match.FileSlurper;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(LogMarkerTestExtension.class)
+class DataTypeJsonCodecsTest {
+
+	private static final String SOURCE_NAME = "DataTypeJsonCodecsTest.klass";
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private DomainModel domainModel;
+	private Enumeration status;
+	private DataTypeJsonCodecs codecs;
+
+	@BeforeEach
+	void setUp() {
+		this.domainModel = this.compile();
+		this.status = this.domainModel.getEnumerations().detect((each) -> each.getName().equals("Status"));
+		this.codecs = new DataTypeJsonCodecs(this.domainModel);
+	}
+
+	@Test
+	void enumerationRoundTrip() throws IOException {
+		DataTypeJsonCodec codec = this.codecs.getCodec(this.status);
+		for (EnumerationLiteral enumerationLiteral : this.status.getEnumerationLiterals()) {
+			String json = write(codec, enumerationLiteral);
+			assertThat(codec.read(OBJECT_MAPPER.readTree(json))).isSameAs(enumerationLiteral);
+		}
+
+		assertThat(write(codec, this.status.getEnumerationLiterals().get(1))).isEqualTo("\"In progress\"");
+		assertThat(write(codec, this.status.getEnumerationLiterals().get(2))).isEqualTo("\"CLOSED\"");
+	}
+
+	@Test
+	void enumerationReadUnknownPrettyName() {
+		DataTypeJsonCodec codec = this.codecs.getCodec(this.status);
+		JsonNode jsonNode = JsonNodeFactory.instance.textNode("IN_PROGRESS");
+
+		assertThatThrownBy(() -> codec.read(jsonNode))
+			.isInstanceOf(NoSuchElementException.class)
+			.hasMessage("No enumeration literal found for IN_PROGRESS in Status");
+	}
+
+	@Test
+	void enumerationFromAnotherCopyOfTheModel() throws IOException {
+		DomainModel otherDomainModel = this.compile();
+		Enumeration otherStatus = otherDomainModel
+			.getEnumerations()
+			.detect((each) -> each.getName().equals("Status"));
+		EnumerationLiteral otherLiteral = otherStatus.getEnumerationLiterals().getFirst();
+
+		DataTypeJsonCodec codec = this.codecs.getCodec(otherStatus);
+		assertThat(codec).isSameAs(this.codecs.getCodec(this.status));
+		assertThat(write(codec, otherLiteral)).isEqualTo("\"Open\"");
+	}
+
+	@Test
+	void enumerationNotInTheModel() {
+		DomainModel emptyModel = this.compile("package com.example.empty\n\nclass Empty\n{\n    id: Long key id;\n}\n");
+		var emptyCodecs = new DataTypeJsonCodecs(emptyModel);
+		assertThatThrownBy(() -> emptyCodecs.getCodec(this.status))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Enumeration com.example.Status is not in the domain model");
+	}
+
+	@Test
+	void primitiveTypeRoundTrip() throws IOException {
+		assertRoundTrip(PrimitiveType.INTEGER, 7, "7");
+		assertRoundTrip(PrimitiveType.LONG, 7L, "7");
+		assertRoundTrip(PrimitiveType.BOOLEAN, true, "true");
+		assertRoundTrip(PrimitiveType.STRING, "seven", "\"seven\"");
+	}
+
+	private void assertRoundTrip(PrimitiveType primitiveType, Object value, String expectedJson) throws IOException {
+		DataTypeJsonCodec codec = this.codecs.getCodec(primitiveType);
+		String json = write(codec, value);
+		assertThat(json).isEqualTo(expectedJson);
+		assertThat(codec.read(OBJECT_MAPPER.readTree(json))).isEqualTo(value);
+	}
+
+	private static String write(DataTypeJsonCodec codec, Object value) throws IOException {
+		var stringWriter = new StringWriter();
+		try (JsonGenerator jsonGenerator = OBJECT_MAPPER.getFactory().createGenerator(stringWriter)) {
+			codec.write(jsonGenerator, value);
+		}
+		return stringWriter.toString();
+	}
+
+	private DomainModel compile() {
+		return this.compile(FileSlurper.slurp(SOURCE_NAME, this.getClass()));
+	}
+
+	private DomainModel compile(String sourceCodeText) {
+		CompilationUnit compilationUnit = CompilationUnit.createFromText(
+			0,
+			Optional.empty(),
+			SOURCE_NAME,
+			sourceCodeText
+		);
+		var compiler = new KlassCompiler(compilationUnit, ColorSchemeProvider.getByName("dark"));
+		CompilationResult compilationResult = compiler.compile();
+		ImmutableList<RootCompilerAnnotation> compilerErrors = compilationResult
+			.compilerAnnotations()
+			.select(AbstractCompilerAnnotation::isError);
+		assertThat(compilerErrors).as(compilerErrors.makeString("\n")).isEmpty();
+		return compilationResult.domainModelWithSourceCode().get();
+	}
+}
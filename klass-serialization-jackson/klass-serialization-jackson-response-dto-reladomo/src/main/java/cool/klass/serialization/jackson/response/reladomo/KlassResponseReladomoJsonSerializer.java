@@ -28,6 +28,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.gs.fw.common.mithra.MithraObject;
 import cool.klass.data.store.DataStore;
 import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
 import cool.klass.serialization.jackson.response.KlassResponse;
 import cool.klass.serialization.jackson.response.KlassResponseMetadata;
 
@@ -40,9 +41,13 @@ public class KlassResponseReladomoJsonSerializer extends JsonSerializer<KlassRes
 	@Nonnull
 	private final DataStore dataStore;
 
+	@Nonnull
+	private final DataTypeJsonCodecs codecs;
+
 	public KlassResponseReladomoJsonSerializer(@Nonnull DomainModel domainModel, @Nonnull DataStore dataStore) {
 		this.domainModel = Objects.requireNonNull(domainModel);
 		this.dataStore = Objects.requireNonNull(dataStore);
+		this.codecs = new DataTypeJsonCodecs(domainModel);
 	}
 
 	@Override
@@ -51,14 +56,7 @@ public class KlassResponseReladomoJsonSerializer extends JsonSerializer<KlassRes
 		@Nonnull JsonGenerator jsonGenerator,
 		@Nonnull SerializerProvider serializerProvider
 	) throws IOException {
-		Class<?> activeViewClass = serializerProvider.getActiveView();
-		if (activeViewClass != null) {
-			String detailMessage = "Expected no active view while serializing KlassResponse but got %s".formatted(
-				activeViewClass.getCanonicalName()
-			);
-			throw new IllegalStateException(detailMessage);
-		}
-
+		// Paginated GETs declare the projection's JsonView, which is redundant with the projection in the metadata
 		KlassResponseMetadata metadata = klassResponse.getMetadata();
 
 		jsonGenerator.writeStartObject();
@@ -129,6 +127,6 @@ public class KlassResponseReladomoJsonSerializer extends JsonSerializer<KlassRes
 	private ReladomoContextJsonSerializer getReladomoContextJsonSerializer(@Nonnull KlassResponse klassResponse) {
 		KlassResponseMetadata metadata = klassResponse.getMetadata();
 
-		return new ReladomoContextJsonSerializer(this.domainModel, this.dataStore, metadata);
+		return new ReladomoContextJsonSerializer(this.domainModel, this.dataStore, this.codecs, metadata);
 	}
 }
@@ -30,10 +30,7 @@ import cool.klass.data.store.DataStore;
 import cool.klass.model.meta.domain.api.Classifier;
 import cool.klass.model.meta.domain.api.DataType;
 import cool.klass.model.meta.domain.api.DomainModel;
-import cool.klass.model.meta.domain.api.Enumeration;
-import cool.klass.model.meta.domain.api.EnumerationLiteral;
 import cool.klass.model.meta.domain.api.Multiplicity;
-import cool.klass.model.meta.domain.api.PrimitiveType;
 import cool.klass.model.meta.domain.api.projection.Projection;
 import cool.klass.model.meta.domain.api.projection.ProjectionChild;
 import cool.klass.model.meta.domain.api.projection.ProjectionDataTypeProperty;
@@ -42,8 +39,7 @@ import cool.klass.model.meta.domain.api.projection.ProjectionParent;
 import cool.klass.model.meta.domain.api.projection.ProjectionWithReferenceProperty;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
 import cool.klass.model.meta.domain.api.property.ReferenceProperty;
-import cool.klass.model.meta.domain.api.visitor.PrimitiveTypeVisitor;
-import cool.klass.serialization.jackson.model.data.property.SerializeValueToJsonFieldPrimitiveTypeVisitor;
+import cool.klass.serialization.jackson.model.data.property.DataTypeJsonCodecs;
 import cool.klass.serialization.jackson.response.KlassResponseMetadata;
 import org.eclipse.collections.api.list.ImmutableList;
 
@@ -55,16 +51,21 @@ public class ReladomoContextJsonSerializer extends JsonSerializer<MithraObject>
 	@Nonnull
 	private final DataStore dataStore;
 
+	@Nonnull
+	private final DataTypeJsonCodecs codecs;
+
 	@Nonnull
 	private final KlassResponseMetadata metadata;
 
 	public ReladomoContextJsonSerializer(
 		@Nonnull DomainModel domainModel,
 		@Nonnull DataStore dataStore,
+		@Nonnull DataTypeJsonCodecs codecs,
 		@Nonnull KlassResponseMetadata metadata
 	) {
 		this.domainModel = Objects.requireNonNull(domainModel);
 		this.dataStore = Objects.requireNonNull(dataStore);
+		this.codecs = Objects.requireNonNull(codecs);
 		this.metadata = Objects.requireNonNull(metadata);
 	}
 
@@ -74,11 +75,7 @@ public class ReladomoContextJsonSerializer extends JsonSerializer<MithraObject>
 		@Nonnull JsonGenerator jsonGenerator,
 		@Nonnull SerializerProvider serializers
 	) throws IOException {
-		Class<?> activeViewClass = serializers.getActiveView();
-		if (activeViewClass != null) {
-			throw new IllegalStateException(activeViewClass.getCanonicalName());
-		}
-
+		// Any active view, as on paginated GETs, is redundant with the projection in the metadata
 		Projection projection = this.metadata.getProjection();
 
 		// This would work if we consistently used the same DomainModel everywhere (instead of sometimes compiled and sometimes code generated).
@@ -147,23 +144,8 @@ public class ReladomoContextJsonSerializer extends JsonSerializer<MithraObject>
 			return;
 		}
 
-		if (dataType instanceof Enumeration) {
-			var enumerationLiteral = (EnumerationLiteral) dataTypeValue;
-			jsonGenerator.writeStringField(propertyName, enumerationLiteral.getPrettyName());
-			return;
-		}
-
-		if (dataType instanceof PrimitiveType primitiveType) {
-			PrimitiveTypeVisitor visitor = new SerializeValueToJsonFieldPrimitiveTypeVisitor(
-				jsonGenerator,
-				propertyName,
-				dataTypeValue
-			);
-			primitiveType.visit(visitor);
-			return;
-		}
-
-		throw new AssertionError("Unhandled data type: " + dataType.getClass().getCanonicalName());
+		jsonGenerator.writeFieldName(propertyName);
+		this.codecs.getCodec(dataType).write(jsonGenerator, dataTypeValue);
 	}
 
 	public void handleProjectionWithReferenceProperty(
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Date;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Accumulates the validator for a conditional GET. Generated read services add the key and version values of each root
+ * object, so that the entity tag changes whenever an object is added, removed, or versioned, without serializing the
+ * response.
+ */
+public final class KlassEntityTag {
+
+	// Separates values so that ("ab", "c") and ("a", "bc") hash differently
+	private static final byte SEPARATOR = 0;
+
+	@Nonnull
+	private final MessageDigest messageDigest;
+
+	@Nullable
+	private Timestamp lastModified;
+
+	// Computing the digest resets it, so the value is kept once computed
+	@Nullable
+	private String value;
+
+	public KlassEntityTag(@Nonnull String projectionName) {
+		try {
+			this.messageDigest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError(e);
+		}
+		this.add(projectionName);
+	}
+
+	@Nonnull
+	public KlassEntityTag add(Object... values) {
+		if (this.value != null) {
+			throw new IllegalStateException("Cannot add values after the entity tag was computed.");
+		}
+		for (Object value : values) {
+			this.messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+			this.messageDigest.update(SEPARATOR);
+		}
+		return this;
+	}
+
+	@Nonnull
+	public KlassEntityTag addLastModified(@Nullable Timestamp timestamp) {
+		if (timestamp != null && (this.lastModified == null || timestamp.after(this.lastModified))) {
+			this.lastModified = timestamp;
+		}
+		return this;
+	}
+
+	@Nonnull
+	public String getValue() {
+		if (this.value == null) {
+			this.value = Base64.getUrlEncoder().withoutPadding().encodeToString(this.messageDigest.digest());
+		}
+		return this.value;
+	}
+
+	@Nullable
+	public Date getLastModified() {
+		return this.lastModified == null ? null : new Date(this.lastModified.getTime());
+	}
+}
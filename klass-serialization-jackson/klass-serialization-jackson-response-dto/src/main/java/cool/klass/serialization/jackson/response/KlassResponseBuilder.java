@@ -79,6 +79,20 @@ public class KlassResponseBuilder {
 		return this;
 	}
 
+	public KlassResponseBuilder setPagination(int pageSize, @Nonnull Optional<String> nextCursor) {
+		if (!this.multiplicity.isToMany()) {
+			throw new IllegalStateException();
+		}
+
+		if (this.pagination.isPresent()) {
+			throw new IllegalStateException();
+		}
+
+		var klassResponsePagination = new KlassResponsePagination(pageSize, nextCursor);
+		this.pagination = Optional.of(klassResponsePagination);
+		return this;
+	}
+
 	public KlassResponseBuilder setPrincipal(@Nonnull Principal principal) {
 		if (this.principal.isPresent()) {
 			throw new IllegalStateException();
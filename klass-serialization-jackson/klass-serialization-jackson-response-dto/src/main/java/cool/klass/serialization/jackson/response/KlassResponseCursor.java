@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.serialization.jackson.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An opaque keyset pagination cursor. It holds the order-by and key values of the last row of a page, and the next page
+ * is the rows strictly after those values.
+ */
+public final class KlassResponseCursor {
+
+	private static final char STRING = 'S';
+	private static final char INTEGER = 'I';
+	private static final char LONG = 'L';
+	private static final char DOUBLE = 'D';
+	private static final char FLOAT = 'F';
+	private static final char TIMESTAMP = 'T';
+	private static final char DATE = 'd';
+
+	@Nonnull
+	private final List<Object> values;
+
+	private KlassResponseCursor(@Nonnull List<Object> values) {
+		this.values = Objects.requireNonNull(values);
+	}
+
+	@Nonnull
+	public static String encode(@Nonnull Object... values) {
+		var byteArrayOutputStream = new ByteArrayOutputStream();
+		try (var dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+			dataOutputStream.writeShort(values.length);
+			for (Object value : values) {
+				writeValue(dataOutputStream, value);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(byteArrayOutputStream.toByteArray());
+	}
+
+	private static void writeValue(@Nonnull DataOutputStream dataOutputStream, Object value) throws IOException {
+		if (value instanceof String string) {
+			dataOutputStream.writeChar(STRING);
+			dataOutputStream.writeUTF(string);
+		} else if (value instanceof Integer integer) {
+			dataOutputStream.writeChar(INTEGER);
+			dataOutputStream.writeInt(integer);
+		} else if (value instanceof Long longValue) {
+			dataOutputStream.writeChar(LONG);
+			dataOutputStream.writeLong(longValue);
+		} else if (value instanceof Double doubleValue) {
+			dataOutputStream.writeChar(DOUBLE);
+			dataOutputStream.writeDouble(doubleValue);
+		} else if (value instanceof Float floatValue) {
+			dataOutputStream.writeChar(FLOAT);
+			dataOutputStream.writeFloat(floatValue);
+		} else if (value instanceof Timestamp timestamp) {
+			dataOutputStream.writeChar(TIMESTAMP);
+			dataOutputStream.writeUTF(timestamp.toInstant().toString());
+		} else if (value instanceof java.util.Date date) {
+			dataOutputStream.writeChar(DATE);
+			dataOutputStream.writeUTF(new Date(date.getTime()).toLocalDate().toString());
+		} else {
+			String detailMessage = value == null
+				? "Cursor values must not be null."
+				: "Unsupported cursor value type: " + value.getClass().getCanonicalName();
+			throw new IllegalArgumentException(detailMessage);
+		}
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the cursor is malformed or does not hold {@code expectedSize} values.
+	 */
+	@Nonnull
+	public static KlassResponseCursor decode(@Nonnull String cursor, int expectedSize) {
+		try {
+			byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+			var dataInputStream = new DataInputStream(new ByteArrayInputStream(bytes));
+			int size = dataInputStream.readShort();
+			if (size != expectedSize) {
+				throw new IllegalArgumentException(
+					String.format("Expected cursor with %d values but got %d.", expectedSize, size)
+				);
+			}
+
+			List<Object> values = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				values.add(readValue(dataInputStream));
+			}
+			if (dataInputStream.available() > 0) {
+				throw new IllegalArgumentException("Unexpected trailing bytes in cursor.");
+			}
+			return new KlassResponseCursor(values);
+		} catch (IOException | DateTimeParseException e) {
+			throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+		}
+	}
+
+	@Nonnull
+	private static Object readValue(@Nonnull DataInputStream dataInputStream) throws IOException {
+		char type = dataInputStream.readChar();
+		return switch (type) {
+			case STRING -> dataInputStream.readUTF();
+			case INTEGER -> dataInputStream.readInt();
+			case LONG -> dataInputStream.readLong();
+			case DOUBLE -> dataInputStream.readDouble();
+			case FLOAT -> dataInputStream.readFloat();
+			case TIMESTAMP -> Timestamp.from(Instant.parse(dataInputStream.readUTF()));
+			case DATE -> Date.valueOf(LocalDate.parse(dataInputStream.readUTF()));
+			default -> throw new IllegalArgumentException("Unknown cursor value type: " + type);
+		};
+	}
+
+	@Nonnull
+	public String getString(int index) {
+		return this.get(index, String.class);
+	}
+
+	public int getInteger(int index) {
+		return this.get(index, Integer.class);
+	}
+
+	public long getLong(int index) {
+		return this.get(index, Long.class);
+	}
+
+	public double getDouble(int index) {
+		return this.get(index, Double.class);
+	}
+
+	public float getFloat(int index) {
+		return this.get(index, Float.class);
+	}
+
+	@Nonnull
+	public Timestamp getTimestamp(int index) {
+		return this.get(index, Timestamp.class);
+	}
+
+	@Nonnull
+	public Date getDate(int index) {
+		return this.get(index, Date.class);
+	}
+
+	@Nonnull
+	private <T> T get(int index, @Nonnull Class<T> type) {
+		Object value = this.values.get(index);
+		if (!type.isInstance(value)) {
+			String detailMessage = String.format(
+				"Expected cursor value %d to be %s but got %s.",
+				index,
+				type.getSimpleName(),
+				value.getClass().getSimpleName()
+			);
+			throw new IllegalArgumentException(detailMessage);
+		}
+		return type.cast(value);
+	}
+
+	@Override
+	public String toString() {
+		return this.values.toString();
+	}
+}
@@ -16,19 +16,58 @@
 
 package cool.klass.serialization.jackson.response;
 
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.liftwizard.logging.slf4j.mdc.MultiMDCCloseable;
 
+/**
+ * Offset pagination reports the page number and the number of pages. Keyset pagination reports the cursor of the next
+ * page instead, which is absent on the last page. Properties that do not apply are left out of the json.
+ */
 public class KlassResponsePagination {
 
 	private final int pageSize;
-	private final int numberOfPages;
-	private final int pageNumber;
+
+	// Serialized from the fields, since the int getters cannot represent keyset pagination
+	@JsonProperty
+	@JsonInclude(Include.NON_NULL)
+	@Nullable
+	private final Integer numberOfPages;
+
+	@JsonProperty
+	@JsonInclude(Include.NON_NULL)
+	@Nullable
+	private final Integer pageNumber;
+
+	@Nonnull
+	private final Optional<String> nextCursor;
 
 	public KlassResponsePagination(int pageSize, int numberOfPages, int pageNumber) {
+		this(pageSize, Integer.valueOf(numberOfPages), Integer.valueOf(pageNumber), Optional.empty());
+	}
+
+	public KlassResponsePagination(int pageSize, @Nonnull Optional<String> nextCursor) {
+		this(pageSize, null, null, nextCursor);
+	}
+
+	private KlassResponsePagination(
+		int pageSize,
+		@Nullable Integer numberOfPages,
+		@Nullable Integer pageNumber,
+		@Nonnull Optional<String> nextCursor
+	) {
 		this.pageSize = pageSize;
 		this.numberOfPages = numberOfPages;
 		this.pageNumber = pageNumber;
+		this.nextCursor = Objects.requireNonNull(nextCursor);
 	}
 
 	@JsonProperty
@@ -36,29 +75,61 @@ public class KlassResponsePagination {
 		return this.pageSize;
 	}
 
-	@JsonProperty
+	/**
+	 * @return whether this is offset pagination, with a page number and number of pages.
+	 */
+	public boolean hasPageNumbers() {
+		return this.pageNumber != null;
+	}
+
+	/**
+	 * @throws IllegalStateException for keyset pagination; check {@link #hasPageNumbers()} first.
+	 */
+	@JsonIgnore
 	public int getNumberOfPages() {
+		if (this.numberOfPages == null) {
+			throw new IllegalStateException("Keyset pagination has no number of pages.");
+		}
 		return this.numberOfPages;
 	}
 
-	@JsonProperty
+	/**
+	 * @throws IllegalStateException for keyset pagination; check {@link #hasPageNumbers()} first.
+	 */
+	@JsonIgnore
 	public int getPageNumber() {
+		if (this.pageNumber == null) {
+			throw new IllegalStateException("Keyset pagination has no page number.");
+		}
 		return this.pageNumber;
 	}
 
+	@JsonProperty
+	@JsonInclude(Include.NON_ABSENT)
+	@Nonnull
+	public Optional<String> getNextCursor() {
+		return this.nextCursor;
+	}
+
 	@Override
 	public String toString() {
-		return String.format(
-			"{pageSize:%d,numberOfPages:%d,pageNumber:%d}",
-			this.pageSize,
-			this.numberOfPages,
-			this.pageNumber
-		);
+		if (this.hasPageNumbers()) {
+			return String.format(
+				"{pageSize:%d,numberOfPages:%d,pageNumber:%d}",
+				this.pageSize,
+				this.numberOfPages,
+				this.pageNumber
+			);
+		}
+		return String.format("{pageSize:%d,nextCursor:%s}", this.pageSize, this.nextCursor.orElse(null));
 	}
 
 	public void withMDC(MultiMDCCloseable mdc) {
 		mdc.put("klass.response.pagination.pageSize", String.valueOf(this.pageSize));
-		mdc.put("klass.response.pagination.numberOfPages", String.valueOf(this.numberOfPages));
-		mdc.put("klass.response.pagination.pageNumber", String.valueOf(this.pageNumber));
+		if (this.hasPageNumbers()) {
+			mdc.put("klass.response.pagination.numberOfPages", String.valueOf(this.numberOfPages));
+			mdc.put("klass.response.pagination.pageNumber", String.valueOf(this.pageNumber));
+		}
+		this.nextCursor.ifPresent((cursor) -> mdc.put("klass.response.pagination.nextCursor", cursor));
 	}
 }
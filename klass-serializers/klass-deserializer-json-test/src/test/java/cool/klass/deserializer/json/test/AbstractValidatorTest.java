@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import cool.klass.deserializer.json.OperationMode;
 import cool.klass.deserializer.json.RequiredPropertiesValidator;
+import cool.klass.deserializer.json.ValidationPlans;
 import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingValidator;
 import cool.klass.dropwizard.configuration.domain.model.loader.compiler.DomainModelCompilerFactory;
 import cool.klass.model.meta.domain.api.DomainModel;
@@ -57,6 +58,8 @@ public abstract class AbstractValidatorTest {
 
 	protected final DomainModel domainModel = AbstractValidatorTest.getDomainModel(this.objectMapper);
 
+	protected final ValidationPlans validationPlans = new ValidationPlans(this.domainModel);
+
 	protected final void validate(String testName) throws IOException {
 		String incomingJsonName = this.getClass().getSimpleName() + '.' + testName + ".json5";
 		String incomingJson = FileSlurper.slurp(incomingJsonName, this.getClass());
@@ -93,9 +96,10 @@ public abstract class AbstractValidatorTest {
 	}
 
 	protected final void performValidation(@Nonnull ObjectNode incomingInstance) {
-		ObjectNodeTypeCheckingValidator.validate(this.actualErrors, incomingInstance, this.getKlass());
+		ObjectNodeTypeCheckingValidator.validate(this.validationPlans, this.actualErrors, incomingInstance, this.getKlass());
 
 		RequiredPropertiesValidator.validate(
+			this.validationPlans,
 			this.actualErrors,
 			this.actualWarnings,
 			this.getKlass(),
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.deserializer.json.test;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cool.klass.deserializer.json.OperationMode;
+import cool.klass.deserializer.json.RequiredPropertiesPlan;
+import cool.klass.deserializer.json.ValidationPlans;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingPlan;
+import cool.klass.dropwizard.configuration.domain.model.loader.compiler.DomainModelCompilerFactory;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(LogMarkerTestExtension.class)
+class ValidationPlansTest {
+
+	private final DomainModel domainModel = getDomainModel();
+	private final ValidationPlans validationPlans = new ValidationPlans(this.domainModel);
+	private final Klass klass = this.domainModel.getClassByName("PropertiesRequired");
+
+	@Test
+	void typeCheckingPlansAreCompiledOncePerClass() {
+		ObjectNodeTypeCheckingPlan plan = this.validationPlans.getTypeCheckingPlan(this.klass);
+
+		assertThat(plan.getKlass()).isSameAs(this.klass);
+		assertThat(this.validationPlans.getTypeCheckingPlan(this.klass)).isSameAs(plan);
+	}
+
+	@Test
+	void typeCheckingPlansAreFoundForAnotherCopyOfTheModel() {
+		Klass otherKlass = getDomainModel().getClassByName("PropertiesRequired");
+
+		assertThat(otherKlass).isNotSameAs(this.klass);
+		assertThat(this.validationPlans.getTypeCheckingPlan(otherKlass))
+			.isSameAs(this.validationPlans.getTypeCheckingPlan(this.klass));
+	}
+
+	@Test
+	void requiredPropertiesPlansAreCachedByPosition() {
+		RequiredPropertiesPlan createPlan = this.getRootPlan(this.validationPlans, OperationMode.CREATE);
+
+		assertThat(this.getRootPlan(this.validationPlans, OperationMode.CREATE)).isSameAs(createPlan);
+		assertThat(this.getRootPlan(this.validationPlans, OperationMode.REPLACE)).isNotSameAs(createPlan);
+	}
+
+	@Test
+	void plansAreOwnedByEachInstance() {
+		var otherValidationPlans = new ValidationPlans(this.domainModel);
+
+		assertThat(otherValidationPlans.getTypeCheckingPlan(this.klass))
+			.isNotSameAs(this.validationPlans.getTypeCheckingPlan(this.klass));
+		assertThat(this.getRootPlan(otherValidationPlans, OperationMode.CREATE))
+			.isNotSameAs(this.getRootPlan(this.validationPlans, OperationMode.CREATE));
+	}
+
+	private RequiredPropertiesPlan getRootPlan(ValidationPlans plans, OperationMode operationMode) {
+		return plans.getRequiredPropertiesPlan(this.klass, operationMode, Optional.empty(), true, true);
+	}
+
+	private static DomainModel getDomainModel() {
+		var domainModelCompilerFactory = new DomainModelCompilerFactory();
+		domainModelCompilerFactory.setSourcePackages(List.of("cool.klass.xample.coverage"));
+		domainModelCompilerFactory.setColorScheme("dark");
+		return domainModelCompilerFactory.createDomainModel(new ObjectMapper());
+	}
+}
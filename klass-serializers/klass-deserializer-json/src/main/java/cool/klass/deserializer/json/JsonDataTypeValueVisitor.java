@@ -17,14 +17,15 @@
 package cool.klass.deserializer.json;
 
 import java.util.Objects;
-import java.util.Optional;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import cool.klass.model.meta.domain.api.EnumerationLiteral;
+import cool.klass.model.meta.domain.api.DataType;
+import cool.klass.model.meta.domain.api.Enumeration;
+import cool.klass.model.meta.domain.api.PrimitiveType;
 import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.AssociationEndSignature;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
@@ -32,6 +33,8 @@ import cool.klass.model.meta.domain.api.property.EnumerationProperty;
 import cool.klass.model.meta.domain.api.property.ParameterizedProperty;
 import cool.klass.model.meta.domain.api.property.PrimitiveProperty;
 import cool.klass.model.meta.domain.api.property.PropertyVisitor;
+import cool.klass.serialization.jackson.model.data.property.EnumerationJsonCodec;
+import cool.klass.serialization.jackson.model.data.property.PrimitiveTypeJsonCodec;
 
 public class JsonDataTypeValueVisitor implements PropertyVisitor {
 
@@ -51,6 +54,9 @@ public class JsonDataTypeValueVisitor implements PropertyVisitor {
 		return jsonDataTypeValue.isMissingNode() || jsonDataTypeValue.isNull();
 	}
 
+	/**
+	 * @throws java.util.NoSuchElementException if an enumeration value is not one of the enumeration's pretty names.
+	 */
 	// TODO: Needs temporal context
 	@Nullable
 	public static Object extractDataTypePropertyFromJson(
@@ -62,9 +68,11 @@ public class JsonDataTypeValueVisitor implements PropertyVisitor {
 			return null;
 		}
 
-		var visitor = new JsonDataTypeValueVisitor(jsonDataTypeValue);
-		dataTypeProperty.visit(visitor);
-		return visitor.getResult();
+		DataType dataType = dataTypeProperty.getType();
+		if (dataType instanceof PrimitiveType primitiveType) {
+			return PrimitiveTypeJsonCodec.of(primitiveType).read(jsonDataTypeValue);
+		}
+		return EnumerationJsonCodec.read((Enumeration) dataType, jsonDataTypeValue);
 	}
 
 	public Object getResult() {
@@ -73,22 +81,12 @@ public class JsonDataTypeValueVisitor implements PropertyVisitor {
 
 	@Override
 	public void visitPrimitiveProperty(@Nonnull PrimitiveProperty primitiveProperty) {
-		var visitor = new JsonPrimitiveTypeValueVisitor(this.jsonDataTypeValue);
-		primitiveProperty.getType().visit(visitor);
-		this.result = visitor.getResult();
+		this.result = PrimitiveTypeJsonCodec.of(primitiveProperty.getType()).read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitEnumerationProperty(@Nonnull EnumerationProperty enumerationProperty) {
-		if (!this.jsonDataTypeValue.isTextual()) {
-			throw new AssertionError();
-		}
-		String textValue = this.jsonDataTypeValue.textValue();
-		Optional<EnumerationLiteral> enumerationLiteral = enumerationProperty
-			.getType()
-			.getEnumerationLiterals()
-			.detectOptional((each) -> each.getPrettyName().equals(textValue));
-		this.result = enumerationLiteral.get();
+		this.result = EnumerationJsonCodec.read(enumerationProperty.getType(), this.jsonDataTypeValue);
 	}
 
 	@Override
@@ -16,13 +16,11 @@
 
 package cool.klass.deserializer.json;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import cool.klass.model.meta.domain.api.visitor.PrimitiveTypeVisitor;
+import cool.klass.serialization.jackson.model.data.property.PrimitiveTypeJsonCodec;
 
 public class JsonPrimitiveTypeValueVisitor implements PrimitiveTypeVisitor {
 
@@ -40,126 +38,51 @@ public class JsonPrimitiveTypeValueVisitor implements PrimitiveTypeVisitor {
 
 	@Override
 	public void visitString() {
-		if (!this.jsonDataTypeValue.isTextual()) {
-			throw new AssertionError();
-		}
-
-		this.result = this.jsonDataTypeValue.textValue();
+		this.result = PrimitiveTypeJsonCodec.STRING.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitInteger() {
-		if (!this.jsonDataTypeValue.isIntegralNumber() || !this.jsonDataTypeValue.canConvertToInt()) {
-			throw new AssertionError();
-		}
-
-		this.result = this.jsonDataTypeValue.intValue();
+		this.result = PrimitiveTypeJsonCodec.INTEGER.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitLong() {
-		if (!this.jsonDataTypeValue.isIntegralNumber() || !this.jsonDataTypeValue.canConvertToLong()) {
-			throw new AssertionError();
-		}
-
-		this.result = this.jsonDataTypeValue.longValue();
+		this.result = PrimitiveTypeJsonCodec.LONG.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitDouble() {
-		if (
-			!this.jsonDataTypeValue.isDouble()
-			&& !this.jsonDataTypeValue.isFloat()
-			&& !this.jsonDataTypeValue.isInt()
-			&& !this.jsonDataTypeValue.isLong()
-		) {
-			throw new AssertionError();
-		}
-
-		this.result = this.jsonDataTypeValue.doubleValue();
+		this.result = PrimitiveTypeJsonCodec.DOUBLE.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitFloat() {
-		if (
-			(!this.jsonDataTypeValue.isDouble()
-				&& !this.jsonDataTypeValue.isFloat()
-				&& !this.jsonDataTypeValue.isInt()
-				&& !this.jsonDataTypeValue.isLong())
-			|| !this.hasValidFloatString()
-		) {
-			throw new AssertionError();
-		}
-
-		this.result = this.jsonDataTypeValue.floatValue();
-	}
-
-	private boolean hasValidFloatString() {
-		double doubleValue = this.jsonDataTypeValue.doubleValue();
-		float floatValue = this.jsonDataTypeValue.floatValue();
-		String doubleString = Double.toString(doubleValue);
-		String floatString = Float.toString(floatValue);
-		return doubleString.equals(floatString);
+		this.result = PrimitiveTypeJsonCodec.FLOAT.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitBoolean() {
-		if (!this.jsonDataTypeValue.isBoolean()) {
-			throw new AssertionError();
-		}
-
-		this.result = this.jsonDataTypeValue.booleanValue();
+		this.result = PrimitiveTypeJsonCodec.BOOLEAN.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitInstant() {
-		this.visitTemporal();
+		this.result = PrimitiveTypeJsonCodec.INSTANT.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitLocalDate() {
-		if (!this.jsonDataTypeValue.isTextual()) {
-			throw new AssertionError();
-		}
-
-		String text = this.jsonDataTypeValue.textValue();
-		if (text.equals("now")) {
-			throw new RuntimeException("TODO: Support 'now' as a value for dates.");
-		}
-		if (text.equals("infinity")) {
-			throw new RuntimeException("TODO: Support 'infinity' as a value for dates.");
-		}
-
-		this.result = LocalDate.parse(text);
+		this.result = PrimitiveTypeJsonCodec.LOCAL_DATE.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitTemporalInstant() {
-		this.visitTemporal();
+		this.result = PrimitiveTypeJsonCodec.TEMPORAL_INSTANT.read(this.jsonDataTypeValue);
 	}
 
 	@Override
 	public void visitTemporalRange() {
-		this.visitTemporal();
-	}
-
-	private void visitTemporal() {
-		if (!this.jsonDataTypeValue.isTextual()) {
-			throw new AssertionError();
-		}
-
-		String text = this.jsonDataTypeValue.textValue();
-		if (text.equals("now")) {
-			throw new RuntimeException("TODO: Support 'now' as a value for dates.");
-		}
-		if (text.equals("infinity")) {
-			throw new RuntimeException("TODO: Support 'infinity' as a value for dates.");
-		}
-
-		try {
-			this.result = Instant.parse(text);
-		} catch (DateTimeParseException e) {
-			throw new AssertionError(e);
-		}
+		this.result = PrimitiveTypeJsonCodec.TEMPORAL_RANGE.read(this.jsonDataTypeValue);
 	}
 }
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.deserializer.json;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.Multiplicity;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * The property checks that {@link RequiredPropertiesValidator} runs on one json object. Everything that depends only on
+ * the class and the position of the object in the incoming tree is decided once when the plan is compiled, leaving
+ * only the lookups of the json values for each validation.
+ *
+ * <p>Get plans from {@link ValidationPlans}, which caches them by class, operation mode and path.
+ */
+public final class RequiredPropertiesPlan {
+
+	@Nonnull
+	private final Key key;
+
+	@Nonnull
+	private final ImmutableList<DataTypePropertyCheck> dataTypePropertyChecks;
+
+	@Nonnull
+	private final ImmutableList<AssociationEndCheck> associationEndChecks;
+
+	private RequiredPropertiesPlan(
+		@Nonnull Key key,
+		@Nonnull ImmutableList<DataTypePropertyCheck> dataTypePropertyChecks,
+		@Nonnull ImmutableList<AssociationEndCheck> associationEndChecks
+	) {
+		this.key = Objects.requireNonNull(key);
+		this.dataTypePropertyChecks = Objects.requireNonNull(dataTypePropertyChecks);
+		this.associationEndChecks = Objects.requireNonNull(associationEndChecks);
+	}
+
+	@Nonnull
+	static RequiredPropertiesPlan compile(@Nonnull Key key) {
+		MutableList<DataTypePropertyCheck> dataTypePropertyChecks = Lists.mutable.empty();
+		for (DataTypeProperty dataTypeProperty : key.klass().getDataTypeProperties()) {
+			compileDataTypeProperty(key, dataTypeProperty).ifPresent(dataTypePropertyChecks::add);
+		}
+
+		ImmutableList<AssociationEndCheck> associationEndChecks = key
+			.klass()
+			.getAssociationEnds()
+			.collect((associationEnd) -> new AssociationEndCheck(associationEnd, getKind(key, associationEnd)));
+
+		return new RequiredPropertiesPlan(key, dataTypePropertyChecks.toImmutable(), associationEndChecks);
+	}
+
+	// region DataTypeProperties
+	@Nonnull
+	private static Optional<DataTypePropertyCheck> compileDataTypeProperty(
+		@Nonnull Key key,
+		@Nonnull DataTypeProperty dataTypeProperty
+	) {
+		if (dataTypeProperty.isID()) {
+			return compileIdProperty(key, dataTypeProperty);
+		}
+		if (dataTypeProperty.isKey()) {
+			return compileKeyProperty(key, dataTypeProperty);
+		}
+		if (dataTypeProperty.isCreatedBy() || dataTypeProperty.isLastUpdatedBy()) {
+			Severity severity = dataTypeProperty.isPrivate() ? Severity.ERROR : Severity.WARNING;
+			return ifPresent(dataTypeProperty, "audit", severity);
+		}
+		if (dataTypeProperty.isCreatedOn()) {
+			return compileCreatedOnProperty(key, dataTypeProperty);
+		}
+		if (dataTypeProperty.isForeignKey()) {
+			Severity severity = dataTypeProperty.isPrivate() ? Severity.ERROR : Severity.WARNING;
+			return ifPresent(dataTypeProperty, "foreign key", severity);
+		}
+		if (dataTypeProperty.isDerived()) {
+			return ifPresent(dataTypeProperty, "derived", Severity.WARNING);
+		}
+		if (dataTypeProperty.getType() == PrimitiveType.TEMPORAL_RANGE) {
+			return ifPresent(dataTypeProperty, "temporal range", Severity.ERROR);
+		}
+		if (dataTypeProperty.getType() == PrimitiveType.TEMPORAL_INSTANT && key.isInProjection()) {
+			if (key.operationMode() == OperationMode.CREATE) {
+				return ifPresent(dataTypeProperty, "temporal", Severity.WARNING);
+			}
+			return Optional.empty();
+		}
+		if (dataTypeProperty.isPrivate()) {
+			return ifPresent(dataTypeProperty, "private", Severity.ERROR);
+		}
+		if (dataTypeProperty.isVersion()) {
+			return Optional.of(new VersionCheck(dataTypeProperty));
+		}
+		return compilePlainProperty(key, dataTypeProperty);
+	}
+
+	@Nonnull
+	private static Optional<DataTypePropertyCheck> compileIdProperty(
+		@Nonnull Key key,
+		@Nonnull DataTypeProperty dataTypeProperty
+	) {
+		if (key.operationMode() == OperationMode.CREATE) {
+			return Optional.empty();
+		}
+
+		if (key.operationMode() == OperationMode.REPLACE && key.isRoot()) {
+			return Optional.empty();
+		}
+
+		if (key.pathHere().isPresent() && key.pathHere().get().getMultiplicity() == Multiplicity.ONE_TO_ONE) {
+			return Optional.of(new RequiredValueCheck(dataTypeProperty, "required id"));
+		}
+
+		return Optional.empty();
+	}
+
+	@Nonnull
+	private static Optional<DataTypePropertyCheck> compileKeyProperty(
+		@Nonnull Key key,
+		@Nonnull DataTypeProperty dataTypeProperty
+	) {
+		// TODO: Handle foreign key properties that are also key properties at the root
+		if (key.pathHere().map(dataTypeProperty::isForeignKeyMatchingKeyOnPath).orElse(false)) {
+			return ifPresent(dataTypeProperty, "foreign key matching key on path", Severity.WARNING);
+		}
+
+		// TODO: Exclude path here
+		if (
+			dataTypeProperty
+				.getKeysMatchingThisForeignKey()
+				.keysView()
+				.anySatisfy(RequiredPropertiesPlan::isToOneRequired)
+		) {
+			return ifPresent(dataTypeProperty, "foreign key matching key of required nested object", Severity.WARNING);
+		}
+
+		if (key.isRoot()) {
+			return ifPresent(dataTypeProperty, "root key", Severity.WARNING);
+		}
+
+		if (dataTypeProperty.isForeignKeyWithOpposite()) {
+			return ifPresent(dataTypeProperty, "foreign key", Severity.WARNING);
+		}
+
+		if (key.pathHere().isPresent() && dataTypeProperty.isForeignKeyMatchingKeyOnPath(key.pathHere().get())) {
+			return Optional.of(new IfPresentAssociationEndCheck(dataTypeProperty, key.pathHere().get()));
+		}
+
+		if (key.operationMode() == OperationMode.PATCH) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new RequiredValueCheck(dataTypeProperty, "key"));
+	}
+
+	@Nonnull
+	private static Optional<DataTypePropertyCheck> compileCreatedOnProperty(
+		@Nonnull Key key,
+		@Nonnull DataTypeProperty dataTypeProperty
+	) {
+		OperationMode operationMode = key.operationMode();
+		if (key.isInProjection() && operationMode == OperationMode.CREATE) {
+			return ifPresent(dataTypeProperty, "audit", Severity.WARNING);
+		}
+		if (
+			key.isInProjection()
+			&& (operationMode == OperationMode.REPLACE || operationMode == OperationMode.PATCH)
+		) {
+			// Validate in Incoming(Create|Update)DataModelValidator
+			return Optional.empty();
+		}
+		if (!key.isInProjection()) {
+			// Validate in Incoming(Create|Update)DataModelValidator
+			return Optional.empty();
+		}
+		throw new AssertionError();
+	}
+
+	@Nonnull
+	private static Optional<DataTypePropertyCheck> compilePlainProperty(
+		@Nonnull Key key,
+		@Nonnull DataTypeProperty dataTypeProperty
+	) {
+		if (!dataTypeProperty.isRequired()) {
+			return Optional.empty();
+		}
+
+		if (!key.isInProjection()) {
+			return ifPresent(dataTypeProperty, "outside projection", Severity.WARNING);
+		}
+
+		if (key.operationMode() == OperationMode.PATCH) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new RequiredValueCheck(dataTypeProperty, "required"));
+	}
+
+	@Nonnull
+	private static Optional<DataTypePropertyCheck> ifPresent(
+		@Nonnull DataTypeProperty dataTypeProperty,
+		@Nonnull String propertyKind,
+		@Nonnull Severity severity
+	) {
+		return Optional.of(new IfPresentCheck(dataTypeProperty, propertyKind, severity));
+	}
+
+	private static boolean isToOneRequired(@Nonnull AssociationEnd associationEnd) {
+		Multiplicity multiplicity = associationEnd.getMultiplicity();
+		return multiplicity.isToOne() && multiplicity.isRequired();
+	}
+
+	// endregion
+
+	// region AssociationEnds
+	@Nonnull
+	private static AssociationEndKind getKind(@Nonnull Key key, @Nonnull AssociationEnd associationEnd) {
+		if (key.pathHere().equals(Optional.of(associationEnd.getOpposite()))) {
+			return AssociationEndKind.OPPOSITE;
+		}
+		if (associationEnd.isVersion()) {
+			return AssociationEndKind.VERSION;
+		}
+		if (associationEnd.isCreatedBy() || associationEnd.isLastUpdatedBy()) {
+			return AssociationEndKind.AUDIT;
+		}
+		if (associationEnd.isOwned()) {
+			return AssociationEndKind.OWNED;
+		}
+		return AssociationEndKind.OUTSIDE_PROJECTION;
+	}
+
+	// endregion
+
+	@Nonnull
+	public ImmutableList<DataTypePropertyCheck> getDataTypePropertyChecks() {
+		return this.dataTypePropertyChecks;
+	}
+
+	@Nonnull
+	public ImmutableList<AssociationEndCheck> getAssociationEndChecks() {
+		return this.associationEndChecks;
+	}
+
+	@Override
+	public String toString() {
+		return this.key.toString();
+	}
+
+	public enum Severity {
+		ERROR,
+		WARNING,
+	}
+
+	public enum AssociationEndKind {
+		OPPOSITE,
+		VERSION,
+		AUDIT,
+		OWNED,
+		OUTSIDE_PROJECTION,
+	}
+
+	record Key(
+		@Nonnull Klass klass,
+		@Nonnull OperationMode operationMode,
+		@Nonnull Optional<AssociationEnd> pathHere,
+		boolean isRoot,
+		boolean isInProjection
+	) {}
+
+	public sealed interface DataTypePropertyCheck
+		permits IfPresentCheck, IfPresentAssociationEndCheck, RequiredValueCheck, VersionCheck {
+		@Nonnull
+		DataTypeProperty property();
+	}
+
+	/**
+	 * Reports a value that was sent for a property that shouldn't be.
+	 */
+	public record IfPresentCheck(
+		@Nonnull DataTypeProperty property,
+		@Nonnull String propertyKind,
+		@Nonnull Severity severity
+	) implements DataTypePropertyCheck {}
+
+	/**
+	 * Reports a value that was sent for the association end on the path here, in place of a key that matches it.
+	 */
+	public record IfPresentAssociationEndCheck(
+		@Nonnull DataTypeProperty property,
+		@Nonnull AssociationEnd pathHere
+	) implements DataTypePropertyCheck {}
+
+	/**
+	 * Reports a missing or null value for a required property.
+	 */
+	public record RequiredValueCheck(
+		@Nonnull DataTypeProperty property,
+		@Nonnull String propertyKind
+	) implements DataTypePropertyCheck {}
+
+	public record VersionCheck(@Nonnull DataTypeProperty property) implements DataTypePropertyCheck {}
+
+	public record AssociationEndCheck(@Nonnull AssociationEnd associationEnd, @Nonnull AssociationEndKind kind) {}
+}
@@ -26,12 +26,20 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import cool.klass.deserializer.json.context.ContextNode;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.AssociationEndCheck;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.DataTypePropertyCheck;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.IfPresentAssociationEndCheck;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.IfPresentCheck;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.RequiredValueCheck;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.Severity;
+import cool.klass.deserializer.json.RequiredPropertiesPlan.VersionCheck;
 import cool.klass.deserializer.json.context.ContextStack;
 import cool.klass.model.meta.domain.api.Klass;
 import cool.klass.model.meta.domain.api.Multiplicity;
-import cool.klass.model.meta.domain.api.PrimitiveType;
 import cool.klass.model.meta.domain.api.property.AssociationEnd;
 import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.OrderedMap;
@@ -44,6 +52,9 @@ public class RequiredPropertiesValidator {
 	@Nonnull
 	protected final ContextStack contextStack;
 
+	@Nonnull
+	protected final ValidationPlans validationPlans;
+
 	@Nonnull
 	protected final Klass klass;
 
@@ -59,8 +70,12 @@ public class RequiredPropertiesValidator {
 	protected final boolean isRoot;
 	protected final boolean isInProjection;
 
+	@Nonnull
+	protected final RequiredPropertiesPlan plan;
+
 	public RequiredPropertiesValidator(
 		@Nonnull ContextStack contextStack,
+		@Nonnull ValidationPlans validationPlans,
 		@Nonnull Klass klass,
 		@Nonnull ObjectNode objectNode,
 		@Nonnull OperationMode operationMode,
@@ -69,23 +84,28 @@ public class RequiredPropertiesValidator {
 		boolean isInProjection
 	) {
 		this.contextStack = Objects.requireNonNull(contextStack);
+		this.validationPlans = Objects.requireNonNull(validationPlans);
 		this.klass = Objects.requireNonNull(klass);
 		this.objectNode = Objects.requireNonNull(objectNode);
 		this.operationMode = Objects.requireNonNull(operationMode);
 		this.pathHere = Objects.requireNonNull(pathHere);
 		this.isRoot = isRoot;
 		this.isInProjection = isInProjection;
+		this.plan = validationPlans.getRequiredPropertiesPlan(klass, operationMode, pathHere, isRoot, isInProjection);
 	}
 
 	public static void validate(
+		@Nonnull ValidationPlans validationPlans,
 		@Nonnull MutableList<String> errors,
 		@Nonnull MutableList<String> warnings,
 		@Nonnull Klass klass,
 		@Nonnull ObjectNode objectNode,
 		@Nonnull OperationMode operationMode
 	) {
+		long startNanos = System.nanoTime();
 		var validator = new RequiredPropertiesValidator(
 			new ContextStack(errors, warnings),
+			validationPlans,
 			klass,
 			objectNode,
 			operationMode,
@@ -94,6 +114,7 @@ public class RequiredPropertiesValidator {
 			true
 		);
 		validator.validate();
+		RequestStatistics.recordPhase(RequestPhase.VALIDATION, startNanos);
 	}
 
 	public void validate() {
@@ -111,156 +132,41 @@ public class RequiredPropertiesValidator {
 
 	// region DataTypeProperties
 	protected void handleDataTypeProperties() {
-		ImmutableList<DataTypeProperty> dataTypeProperties = this.klass.getDataTypeProperties();
-		for (DataTypeProperty dataTypeProperty : dataTypeProperties) {
-			var contextNode = new ContextNode(dataTypeProperty);
-			this.contextStack.runWithContext(contextNode, () -> this.handleDataTypeProperty(dataTypeProperty));
-		}
-	}
-
-	protected void handleDataTypeProperty(@Nonnull DataTypeProperty dataTypeProperty) {
-		if (dataTypeProperty.isID()) {
-			this.handleIdProperty(dataTypeProperty);
-		} else if (dataTypeProperty.isKey()) {
-			this.handleKeyProperty(dataTypeProperty);
-		} else if (dataTypeProperty.isCreatedBy() || dataTypeProperty.isLastUpdatedBy()) {
-			Severity severity = dataTypeProperty.isPrivate() ? Severity.ERROR : Severity.WARNING;
-			this.handleIfPresent(dataTypeProperty, "audit", severity);
-		} else if (dataTypeProperty.isCreatedOn()) {
-			this.handleCreatedOnProperty(dataTypeProperty);
-		} else if (dataTypeProperty.isForeignKey()) {
-			Severity severity = dataTypeProperty.isPrivate() ? Severity.ERROR : Severity.WARNING;
-			this.handleIfPresent(dataTypeProperty, "foreign key", severity);
-		} else if (dataTypeProperty.isDerived()) {
-			this.handleIfPresent(dataTypeProperty, "derived", Severity.WARNING);
-		} else if (dataTypeProperty.getType() == PrimitiveType.TEMPORAL_RANGE) {
-			this.handleIfPresent(dataTypeProperty, "temporal range", Severity.ERROR);
-		} else if (dataTypeProperty.getType() == PrimitiveType.TEMPORAL_INSTANT && this.isInProjection) {
-			if (this.operationMode == OperationMode.CREATE && this.isInProjection) {
-				this.handleIfPresent(dataTypeProperty, "temporal", Severity.WARNING);
-			}
-		} else if (dataTypeProperty.isPrivate()) {
-			this.handleIfPresent(dataTypeProperty, "private", Severity.ERROR);
-		} else if (dataTypeProperty.isDerived()) {
-			this.handleIfPresent(dataTypeProperty, "derived", Severity.WARNING);
-		} else if (dataTypeProperty.isVersion()) {
-			this.handleVersionProperty(dataTypeProperty);
-		} else if (dataTypeProperty.isPrivate()) {
-			this.handleIfPresent(dataTypeProperty, "private", Severity.ERROR);
-		} else {
-			this.handlePlainProperty(dataTypeProperty);
-		}
-	}
-
-	protected void handleIdProperty(@Nonnull DataTypeProperty dataTypeProperty) {
-		if (this.operationMode == OperationMode.CREATE) {
-			return;
-		}
-
-		if (this.operationMode == OperationMode.REPLACE && this.isRoot) {
-			return;
-		}
-
-		if (this.pathHere.isPresent() && this.pathHere.get().getMultiplicity() == Multiplicity.ONE_TO_ONE) {
-			JsonNode jsonNode = this.objectNode.path(dataTypeProperty.getName());
-			if (jsonNode.isMissingNode() || jsonNode.isNull()) {
-				String error = String.format(
-					"Expected value for required id property '%s.%s: %s%s' but value was %s.",
-					dataTypeProperty.getOwningClassifier().getName(),
-					dataTypeProperty.getName(),
-					dataTypeProperty.getType(),
-					dataTypeProperty.isOptional() ? "?" : "",
-					jsonNode.getNodeType().toString().toLowerCase(Locale.ROOT)
+		for (DataTypePropertyCheck check : this.plan.getDataTypePropertyChecks()) {
+			if (check instanceof IfPresentCheck ifPresentCheck) {
+				this.handleIfPresent(
+					ifPresentCheck.property(),
+					ifPresentCheck.propertyKind(),
+					ifPresentCheck.severity()
 				);
-				this.contextStack.addError(error);
+			} else if (check instanceof IfPresentAssociationEndCheck ifPresentAssociationEndCheck) {
+				this.handleIfPresent(ifPresentAssociationEndCheck.property(), ifPresentAssociationEndCheck.pathHere());
+			} else if (check instanceof RequiredValueCheck requiredValueCheck) {
+				this.handleRequiredValue(requiredValueCheck.property(), requiredValueCheck.propertyKind());
+			} else if (check instanceof VersionCheck versionCheck) {
+				this.handleVersionProperty(versionCheck.property());
+			} else {
+				throw new AssertionError(check);
 			}
 		}
 	}
 
-	protected void handleKeyProperty(@Nonnull DataTypeProperty dataTypeProperty) {
-		// TODO: Handle foreign key properties that are also key properties at the root
-		if (this.isForeignKeyMatchingKeyOnPath(dataTypeProperty)) {
-			this.handleIfPresent(dataTypeProperty, "foreign key matching key on path", Severity.WARNING);
-			return;
-		}
-
-		// TODO: Exclude path here
-		if (this.isForeignKeyMatchingRequiredNested(dataTypeProperty)) {
-			this.handleIfPresent(
-				dataTypeProperty,
-				"foreign key matching key of required nested object",
-				Severity.WARNING
-			);
-			return;
-		}
-
-		if (this.isRoot) {
-			this.handleIfPresent(dataTypeProperty, "root key", Severity.WARNING);
-			return;
-		}
-
-		if (dataTypeProperty.isForeignKeyWithOpposite()) {
-			this.handleIfPresent(dataTypeProperty, "foreign key", Severity.WARNING);
-			return;
-		}
-
-		if (this.pathHere.isPresent() && dataTypeProperty.isForeignKeyMatchingKeyOnPath(this.pathHere.get())) {
-			this.handleIfPresent(this.pathHere.get(), dataTypeProperty.getName());
-			return;
-		}
-
-		if (this.operationMode == OperationMode.PATCH) {
-			return;
-		}
-
-		JsonNode jsonNode = this.objectNode.path(dataTypeProperty.getName());
+	protected void handleRequiredValue(@Nonnull DataTypeProperty property, String propertyKind) {
+		JsonNode jsonNode = this.objectNode.path(property.getName());
 		if (jsonNode.isMissingNode() || jsonNode.isNull()) {
 			String error = String.format(
-				"Expected value for key property '%s.%s: %s%s' but value was %s.",
-				dataTypeProperty.getOwningClassifier().getName(),
-				dataTypeProperty.getName(),
-				dataTypeProperty.getType(),
-				dataTypeProperty.isOptional() ? "?" : "",
+				"Expected value for %s property '%s.%s: %s%s' but value was %s.",
+				propertyKind,
+				property.getOwningClassifier().getName(),
+				property.getName(),
+				property.getType(),
+				property.isOptional() ? "?" : "",
 				jsonNode.getNodeType().toString().toLowerCase(Locale.ROOT)
 			);
-			this.contextStack.addError(error);
+			this.contextStack.addError(property, error);
 		}
 	}
 
-	protected boolean isForeignKeyMatchingRequiredNested(DataTypeProperty dataTypeProperty) {
-		// TODO: Exclude path here
-		return dataTypeProperty.getKeysMatchingThisForeignKey().keysView().anySatisfy(this::isToOneRequired);
-	}
-
-	private void handleCreatedOnProperty(@Nonnull DataTypeProperty dataTypeProperty) {
-		if (this.isInProjection && this.operationMode == OperationMode.CREATE) {
-			this.handleIfPresent(dataTypeProperty, "audit", Severity.WARNING);
-		} else if (
-			this.isInProjection
-			&& (this.operationMode == OperationMode.REPLACE || this.operationMode == OperationMode.PATCH)
-		) {
-			// Validate in Incoming(Create|Update)DataModelValidator
-		} else if (!this.isInProjection) {
-			// Validate in Incoming(Create|Update)DataModelValidator
-		} else {
-			throw new AssertionError();
-		}
-	}
-
-	protected boolean isToOneRequired(AssociationEnd associationEnd) {
-		Multiplicity multiplicity = associationEnd.getMultiplicity();
-		return multiplicity.isToOne() && multiplicity.isRequired();
-	}
-
-	protected boolean isForeignKeyMatchingKeyOnPath(DataTypeProperty dataTypeProperty) {
-		return this.pathHere.map(dataTypeProperty::isForeignKeyMatchingKeyOnPath).orElse(false);
-	}
-
-	private enum Severity {
-		ERROR,
-		WARNING,
-	}
-
 	protected void handleIfPresent(@Nonnull DataTypeProperty property, String propertyKind, Severity severity) {
 		JsonNode jsonNode = this.objectNode.path(property.getName());
 		if (jsonNode.isMissingNode()) {
@@ -279,20 +185,40 @@ public class RequiredPropertiesValidator {
 			jsonNodeString
 		);
 		switch (severity) {
-			case ERROR -> this.contextStack.addError(annotation);
-			case WARNING -> this.contextStack.addWarning(annotation);
+			case ERROR -> this.contextStack.addError(property, annotation);
+			case WARNING -> this.contextStack.addWarning(property, annotation);
 			default -> throw new AssertionError("Unexpected value: " + severity);
 		}
 	}
 
+	protected void handleIfPresent(@Nonnull DataTypeProperty keyProperty, @Nonnull AssociationEnd pathHere) {
+		JsonNode jsonNode = this.objectNode.path(pathHere.getName());
+		if (jsonNode.isMissingNode()) {
+			return;
+		}
+
+		String warning = getIfPresentWarning(pathHere, keyProperty.getName(), jsonNode);
+		this.contextStack.addWarning(keyProperty, warning);
+	}
+
 	protected void handleIfPresent(@Nonnull AssociationEnd property, String propertyKind) {
 		JsonNode jsonNode = this.objectNode.path(property.getName());
 		if (jsonNode.isMissingNode()) {
 			return;
 		}
 
+		String warning = getIfPresentWarning(property, propertyKind, jsonNode);
+		this.contextStack.addWarning(warning);
+	}
+
+	@Nonnull
+	private static String getIfPresentWarning(
+		@Nonnull AssociationEnd property,
+		String propertyKind,
+		@Nonnull JsonNode jsonNode
+	) {
 		String jsonNodeString = jsonNode.isNull() ? "" : ": " + jsonNode;
-		String warning = String.format(
+		return String.format(
 			"Didn't expect to receive value for %s association end '%s.%s: %s[%s]' but value was %s%s.",
 			propertyKind,
 			property.getOwningClassifier().getName(),
@@ -302,35 +228,6 @@ public class RequiredPropertiesValidator {
 			jsonNode.getNodeType().toString().toLowerCase(Locale.ROOT),
 			jsonNodeString
 		);
-		this.contextStack.addWarning(warning);
-	}
-
-	protected void handlePlainProperty(@Nonnull DataTypeProperty property) {
-		if (!property.isRequired()) {
-			return;
-		}
-
-		if (!this.isInProjection) {
-			this.handleIfPresent(property, "outside projection", Severity.WARNING);
-			return;
-		}
-
-		if (this.operationMode == OperationMode.PATCH) {
-			return;
-		}
-
-		JsonNode jsonNode = this.objectNode.path(property.getName());
-		if (jsonNode.isMissingNode() || jsonNode.isNull()) {
-			String error = String.format(
-				"Expected value for required property '%s.%s: %s%s' but value was %s.",
-				property.getOwningClassifier().getName(),
-				property.getName(),
-				property.getType(),
-				property.isOptional() ? "?" : "",
-				jsonNode.getNodeType().toString().toLowerCase(Locale.ROOT)
-			);
-			this.contextStack.addError(error);
-		}
 	}
 
 	private void handleVersionProperty(DataTypeProperty property) {
@@ -352,7 +249,7 @@ public class RequiredPropertiesValidator {
 				property.isOptional() ? "?" : "",
 				jsonNode.getNodeType().toString().toLowerCase(Locale.ROOT)
 			);
-			this.contextStack.addError(error);
+			this.contextStack.addError(property, error);
 		}
 	}
 
@@ -360,22 +257,16 @@ public class RequiredPropertiesValidator {
 
 	// region AssociationEnds
 	protected void handleAssociationEnds() {
-		for (AssociationEnd associationEnd : this.klass.getAssociationEnds()) {
-			this.handleAssociationEnd(associationEnd);
-		}
-	}
-
-	protected void handleAssociationEnd(AssociationEnd associationEnd) {
-		if (this.isBackward(associationEnd)) {
-			this.handleIfPresent(associationEnd, "opposite");
-		} else if (associationEnd.isVersion()) {
-			this.handleVersionAssociationEnd(associationEnd);
-		} else if (associationEnd.isCreatedBy() || associationEnd.isLastUpdatedBy()) {
-			this.handleAuditAssociationEnd(associationEnd);
-		} else if (associationEnd.isOwned()) {
-			this.handleOwnedAssociationEnd(associationEnd);
-		} else {
-			this.handleAssociationEndOutsideProjection(associationEnd);
+		for (AssociationEndCheck associationEndCheck : this.plan.getAssociationEndChecks()) {
+			AssociationEnd associationEnd = associationEndCheck.associationEnd();
+			switch (associationEndCheck.kind()) {
+				case OPPOSITE -> this.handleIfPresent(associationEnd, "opposite");
+				case VERSION -> this.handleVersionAssociationEnd(associationEnd);
+				case AUDIT -> this.handleAuditAssociationEnd(associationEnd);
+				case OWNED -> this.handleOwnedAssociationEnd(associationEnd);
+				case OUTSIDE_PROJECTION -> this.handleAssociationEndOutsideProjection(associationEnd);
+				default -> throw new AssertionError("Unexpected value: " + associationEndCheck.kind());
+			}
 		}
 	}
 
@@ -508,6 +399,7 @@ public class RequiredPropertiesValidator {
 
 				var validator = new RequiredPropertiesValidator(
 					this.contextStack,
+					this.validationPlans,
 					associationEnd.getType(),
 					objectNode,
 					nextMode,
@@ -569,6 +461,7 @@ public class RequiredPropertiesValidator {
 
 					var validator = new RequiredPropertiesValidator(
 						this.contextStack,
+						this.validationPlans,
 						associationEnd.getType(),
 						(ObjectNode) childJsonNode,
 						nextMode,
@@ -683,6 +576,7 @@ public class RequiredPropertiesValidator {
 						OperationMode nextMode = this.getNextMode(this.operationMode, associationEnd);
 						var validator = new RequiredPropertiesValidator(
 							this.contextStack,
+							this.validationPlans,
 							associationEnd.getType(),
 							objectNode,
 							nextMode,
@@ -725,6 +619,7 @@ public class RequiredPropertiesValidator {
 	) {
 		var validator = new RequiredPropertiesValidator(
 			this.contextStack,
+			this.validationPlans,
 			associationEnd.getType(),
 			objectNode,
 			nextMode,
@@ -815,8 +710,5 @@ public class RequiredPropertiesValidator {
 		return Objects.requireNonNull(result);
 	}
 
-	protected boolean isBackward(@Nonnull AssociationEnd associationEnd) {
-		return this.pathHere.equals(Optional.of(associationEnd.getOpposite()));
-	}
 	// endregion AssociationEnds
 }
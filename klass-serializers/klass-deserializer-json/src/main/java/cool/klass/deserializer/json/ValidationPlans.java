@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.deserializer.json;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import cool.klass.deserializer.json.RequiredPropertiesPlan.Key;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingPlan;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * The validation plans of one {@link DomainModel}. There is one {@link ObjectNodeTypeCheckingPlan} per class of the
+ * model, compiled up front. The {@link RequiredPropertiesPlan}s depend on where an object is in the incoming tree, so
+ * they are compiled the first time an object is found in that position and reused after that. Create one per domain
+ * model and share it between requests, so that the plans are released along with the model.
+ */
+public final class ValidationPlans {
+
+	@Nonnull
+	private final ImmutableMap<String, ObjectNodeTypeCheckingPlan> typeCheckingPlansByFullyQualifiedName;
+
+	private final ConcurrentMutableMap<Key, RequiredPropertiesPlan> requiredPropertiesPlans =
+		ConcurrentHashMap.newMap();
+
+	public ValidationPlans(@Nonnull DomainModel domainModel) {
+		this.typeCheckingPlansByFullyQualifiedName = domainModel
+			.getClasses()
+			.groupByUniqueKey(Klass::getFullyQualifiedName)
+			.collectValues((fullyQualifiedName, klass) -> ObjectNodeTypeCheckingPlan.compile(klass))
+			.toImmutable();
+	}
+
+	@Nonnull
+	public ObjectNodeTypeCheckingPlan getTypeCheckingPlan(@Nonnull Klass klass) {
+		String fullyQualifiedName = klass.getFullyQualifiedName();
+		ObjectNodeTypeCheckingPlan plan = this.typeCheckingPlansByFullyQualifiedName.get(fullyQualifiedName);
+		if (plan == null) {
+			throw new IllegalArgumentException("Class " + fullyQualifiedName + " is not in the domain model");
+		}
+		return plan;
+	}
+
+	@Nonnull
+	public RequiredPropertiesPlan getRequiredPropertiesPlan(
+		@Nonnull Klass klass,
+		@Nonnull OperationMode operationMode,
+		@Nonnull Optional<AssociationEnd> pathHere,
+		boolean isRoot,
+		boolean isInProjection
+	) {
+		var key = new Key(klass, operationMode, pathHere, isRoot, isInProjection);
+		return this.requiredPropertiesPlans.getIfAbsentPutWith(key, RequiredPropertiesPlan::compile, key);
+	}
+}
@@ -21,6 +21,7 @@ import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import cool.klass.model.meta.domain.api.NamedElement;
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.stack.MutableStack;
@@ -73,6 +74,27 @@ public class ContextStack {
 		this.warnings.add(warning);
 	}
 
+	/**
+	 * Like {@link #addError(String)} with {@code namedElement} pushed, but only builds the context when called.
+	 */
+	public void addError(@Nonnull NamedElement namedElement, String message) {
+		String error = String.format("Error at %s. %s", this.getPath(namedElement), message);
+		this.errors.add(error);
+	}
+
+	public void addWarning(@Nonnull NamedElement namedElement, String message) {
+		String warning = String.format("Warning at %s. %s", this.getPath(namedElement), message);
+		this.warnings.add(warning);
+	}
+
+	@Nonnull
+	private String getPath(@Nonnull NamedElement namedElement) {
+		if (this.delegate.isEmpty()) {
+			return namedElement.getName();
+		}
+		return this + "." + namedElement.getName();
+	}
+
 	@Override
 	public String toString() {
 		return this.delegate.toList().asReversed().makeString(".");
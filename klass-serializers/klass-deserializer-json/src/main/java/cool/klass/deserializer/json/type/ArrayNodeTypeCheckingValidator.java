@@ -23,6 +23,7 @@ import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import cool.klass.deserializer.json.ValidationPlans;
 import cool.klass.deserializer.json.context.ContextNode;
 import cool.klass.deserializer.json.context.ContextStack;
 import cool.klass.model.meta.domain.api.Klass;
@@ -34,6 +35,9 @@ public final class ArrayNodeTypeCheckingValidator {
 	@Nonnull
 	private final ContextStack contextStack;
 
+	@Nonnull
+	private final ValidationPlans validationPlans;
+
 	@Nonnull
 	private final NamedElement context;
 
@@ -45,20 +49,33 @@ public final class ArrayNodeTypeCheckingValidator {
 
 	public ArrayNodeTypeCheckingValidator(
 		@Nonnull ContextStack contextStack,
+		@Nonnull ValidationPlans validationPlans,
 		@Nonnull NamedElement context,
 		@Nonnull Klass klass,
 		@Nonnull JsonNode jsonNode
 	) {
 		this.contextStack = Objects.requireNonNull(contextStack);
+		this.validationPlans = Objects.requireNonNull(validationPlans);
 		this.context = context;
 
 		this.jsonNode = Objects.requireNonNull(jsonNode);
 		this.klass = Objects.requireNonNull(klass);
 	}
 
-	public static void validate(@Nonnull MutableList<String> errors, @Nonnull JsonNode jsonNode, @Nonnull Klass klass) {
+	public static void validate(
+		@Nonnull ValidationPlans validationPlans,
+		@Nonnull MutableList<String> errors,
+		@Nonnull JsonNode jsonNode,
+		@Nonnull Klass klass
+	) {
 		var contextStack = new ContextStack(errors, null);
-		var incomingDataValidator = new ArrayNodeTypeCheckingValidator(contextStack, klass, klass, jsonNode);
+		var incomingDataValidator = new ArrayNodeTypeCheckingValidator(
+			contextStack,
+			validationPlans,
+			klass,
+			klass,
+			jsonNode
+		);
 		incomingDataValidator.validateIncomingData();
 	}
 
@@ -81,7 +98,12 @@ public final class ArrayNodeTypeCheckingValidator {
 			JsonNode childJsonNode = arrayNode.path(index);
 			var contextNode = new ContextNode(this.context, index);
 			this.contextStack.runWithContext(contextNode, () -> {
-					var validator = new ObjectNodeTypeCheckingValidator(this.contextStack, this.klass, childJsonNode);
+					var validator = new ObjectNodeTypeCheckingValidator(
+						this.contextStack,
+						this.validationPlans,
+						this.klass,
+						childJsonNode
+					);
 					validator.validateIncomingData();
 				});
 		}
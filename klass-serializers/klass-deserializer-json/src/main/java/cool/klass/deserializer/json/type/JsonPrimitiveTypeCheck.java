@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.deserializer.json.type;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import cool.klass.deserializer.json.context.ContextStack;
+import cool.klass.model.meta.domain.api.PrimitiveType;
+import cool.klass.model.meta.domain.api.modifier.Modifier;
+import cool.klass.model.meta.domain.api.property.PrimitiveProperty;
+
+/**
+ * The json type check for each {@link PrimitiveType}, chosen once per property by {@link #of(PrimitiveType)}.
+ */
+public enum JsonPrimitiveTypeCheck {
+	// TODO: Test nullable primitives
+	STRING {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!jsonNode.isTextual()) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+			}
+		}
+	},
+	INTEGER {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!jsonNode.isIntegralNumber() || !jsonNode.canConvertToInt()) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+			}
+		}
+	},
+	LONG {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!jsonNode.isIntegralNumber() || !jsonNode.canConvertToLong()) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+			}
+		}
+	},
+	DOUBLE {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!isFloatingPointCompatible(jsonNode)) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+			}
+		}
+	},
+	FLOAT {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!isFloatingPointCompatible(jsonNode) || !hasValidFloatString(jsonNode)) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+			}
+		}
+	},
+	BOOLEAN {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!jsonNode.isBoolean()) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+			}
+		}
+	},
+	LOCAL_DATE {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (!jsonNode.isTextual()) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+				return;
+			}
+
+			String text = jsonNode.textValue();
+			if (text.equals("now") || text.equals("infinity")) {
+				return;
+			}
+
+			try {
+				LocalDate.parse(text);
+			} catch (DateTimeParseException e) {
+				String error = String.format(
+					"Expected property with type '%s' but got '%s' which could not be parsed by LocalDate.parse() which expects a String like '1999-12-31.",
+					primitiveProperty,
+					jsonNode
+				);
+				contextStack.addError(primitiveProperty, error);
+			}
+		}
+	},
+	TEMPORAL {
+		@Override
+		public void validate(
+			@Nonnull ContextStack contextStack,
+			@Nonnull PrimitiveProperty primitiveProperty,
+			@Nonnull JsonNode jsonNode
+		) {
+			if (
+				jsonNode.isNull()
+				&& primitiveProperty.isTemporalInstant()
+				&& primitiveProperty.getModifiers().anySatisfy(Modifier::isTo)
+			) {
+				// TODO: Other validations might make this one unreachable
+				return;
+			}
+
+			if (!jsonNode.isTextual()) {
+				emitTypeError(contextStack, primitiveProperty, jsonNode);
+				return;
+			}
+
+			String text = jsonNode.textValue();
+			if (text.equals("now") || text.equals("infinity")) {
+				return;
+			}
+
+			try {
+				Instant.parse(text);
+			} catch (DateTimeParseException e) {
+				String error = String.format(
+					"Expected property with type '%s' but got '%s' which could not be parsed by java.time.format.DateTimeFormatter.ISO_INSTANT which expects a String like '1999-12-31T23:59:59Z'",
+					primitiveProperty,
+					jsonNode
+				);
+				contextStack.addError(primitiveProperty, error);
+			}
+		}
+	};
+
+	public abstract void validate(
+		@Nonnull ContextStack contextStack,
+		@Nonnull PrimitiveProperty primitiveProperty,
+		@Nonnull JsonNode jsonNode
+	);
+
+	@Nonnull
+	public static JsonPrimitiveTypeCheck of(@Nonnull PrimitiveType primitiveType) {
+		return switch (primitiveType) {
+			case STRING -> STRING;
+			case INTEGER -> INTEGER;
+			case LONG -> LONG;
+			case DOUBLE -> DOUBLE;
+			case FLOAT -> FLOAT;
+			case BOOLEAN -> BOOLEAN;
+			case LOCAL_DATE -> LOCAL_DATE;
+			case INSTANT, TEMPORAL_INSTANT, TEMPORAL_RANGE -> TEMPORAL;
+		};
+	}
+
+	private static void emitTypeError(
+		@Nonnull ContextStack contextStack,
+		@Nonnull PrimitiveProperty primitiveProperty,
+		@Nonnull JsonNode jsonNode
+	) {
+		String error = String.format(
+			"Expected property with type '%s.%s: %s%s' but got '%s' with type '%s'.",
+			primitiveProperty.getOwningClassifier().getName(),
+			primitiveProperty.getName(),
+			primitiveProperty.getType().getPrettyName(),
+			primitiveProperty.isOptional() ? "?" : "",
+			jsonNode,
+			jsonNode.getNodeType().toString().toLowerCase(Locale.ROOT)
+		);
+		contextStack.addError(primitiveProperty, error);
+	}
+
+	private static boolean isFloatingPointCompatible(@Nonnull JsonNode jsonNode) {
+		return jsonNode.isDouble() || jsonNode.isFloat() || jsonNode.isInt() || jsonNode.isLong();
+	}
+
+	private static boolean hasValidFloatString(@Nonnull JsonNode jsonNode) {
+		double doubleValue = jsonNode.doubleValue();
+		float floatValue = jsonNode.floatValue();
+		String doubleString = Double.toString(doubleValue);
+		String floatString = Float.toString(floatValue);
+		return doubleString.equals(floatString);
+	}
+}
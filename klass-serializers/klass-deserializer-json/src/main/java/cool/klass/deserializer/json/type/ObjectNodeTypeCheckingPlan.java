@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cool.klass.deserializer.json.type;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import cool.klass.model.meta.domain.api.EnumerationLiteral;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.NamedElement;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.property.EnumerationProperty;
+import cool.klass.model.meta.domain.api.property.PrimitiveProperty;
+import cool.klass.model.meta.domain.api.property.Property;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.ImmutableSet;
+
+/**
+ * The checks that {@link ObjectNodeTypeCheckingValidator} runs for each json field of a {@link Klass}, compiled once
+ * per class and then looked up by field name. Get plans from {@link cool.klass.deserializer.json.ValidationPlans}.
+ */
+public final class ObjectNodeTypeCheckingPlan {
+
+	@Nonnull
+	private final Klass klass;
+
+	@Nonnull
+	private final ImmutableMap<String, PropertyCheck> checksByName;
+
+	@Nonnull
+	private final String expectedPropertyNames;
+
+	private ObjectNodeTypeCheckingPlan(
+		@Nonnull Klass klass,
+		@Nonnull ImmutableMap<String, PropertyCheck> checksByName,
+		@Nonnull String expectedPropertyNames
+	) {
+		this.klass = Objects.requireNonNull(klass);
+		this.checksByName = Objects.requireNonNull(checksByName);
+		this.expectedPropertyNames = Objects.requireNonNull(expectedPropertyNames);
+	}
+
+	@Nonnull
+	public static ObjectNodeTypeCheckingPlan compile(@Nonnull Klass klass) {
+		MutableMap<String, PropertyCheck> checksByName = Maps.mutable.empty();
+		for (DataTypeProperty dataTypeProperty : klass.getDataTypeProperties()) {
+			checksByName.put(dataTypeProperty.getName(), compileDataTypePropertyCheck(dataTypeProperty));
+		}
+		for (AssociationEnd associationEnd : klass.getAssociationEnds()) {
+			var associationEndCheck = new AssociationEndCheck(associationEnd);
+			PropertyCheck duplicate = checksByName.put(associationEnd.getName(), associationEndCheck);
+			if (duplicate != null) {
+				throw new IllegalStateException(
+					"Property "
+					+ associationEnd.getName()
+					+ " is both a data type property and an association end on "
+					+ klass.getName()
+				);
+			}
+		}
+
+		String expectedPropertyNames = klass
+			.getProperties()
+			.reject(Property::isPrivate)
+			.collect(NamedElement::getName)
+			.makeString();
+		return new ObjectNodeTypeCheckingPlan(klass, checksByName.toImmutable(), expectedPropertyNames);
+	}
+
+	@Nonnull
+	private static PropertyCheck compileDataTypePropertyCheck(@Nonnull DataTypeProperty dataTypeProperty) {
+		if (dataTypeProperty instanceof PrimitiveProperty primitiveProperty) {
+			JsonPrimitiveTypeCheck typeCheck = JsonPrimitiveTypeCheck.of(primitiveProperty.getType());
+			return new PrimitivePropertyCheck(primitiveProperty, typeCheck);
+		}
+
+		if (dataTypeProperty instanceof EnumerationProperty enumerationProperty) {
+			ImmutableList<EnumerationLiteral> enumerationLiterals = enumerationProperty
+				.getType()
+				.getEnumerationLiterals();
+			ImmutableList<String> literalNames = enumerationLiterals.collect(EnumerationLiteral::getPrettyName);
+			ImmutableSet<String> prettyNames = literalNames.toSet().toImmutable();
+			String quotedPrettyNames = literalNames.collect((each) -> '"' + each + '"').makeString();
+			return new EnumerationPropertyCheck(enumerationProperty, prettyNames, quotedPrettyNames);
+		}
+
+		throw new AssertionError(dataTypeProperty.getClass().getSimpleName());
+	}
+
+	@Nonnull
+	public Klass getKlass() {
+		return this.klass;
+	}
+
+	@Nullable
+	public PropertyCheck getCheck(@Nonnull String fieldName) {
+		return this.checksByName.get(fieldName);
+	}
+
+	@Nonnull
+	public String getExpectedPropertyNames() {
+		return this.expectedPropertyNames;
+	}
+
+	@Override
+	public String toString() {
+		return this.klass.toString();
+	}
+
+	public sealed interface PropertyCheck
+		permits PrimitivePropertyCheck, EnumerationPropertyCheck, AssociationEndCheck {}
+
+	public record PrimitivePropertyCheck(
+		@Nonnull PrimitiveProperty primitiveProperty,
+		@Nonnull JsonPrimitiveTypeCheck typeCheck
+	) implements PropertyCheck {}
+
+	public record EnumerationPropertyCheck(
+		@Nonnull EnumerationProperty enumerationProperty,
+		@Nonnull ImmutableSet<String> prettyNames,
+		@Nonnull String quotedPrettyNames
+	) implements PropertyCheck {}
+
+	public record AssociationEndCheck(@Nonnull AssociationEnd associationEnd) implements PropertyCheck {}
+}
@@ -16,20 +16,28 @@
 
 package cool.klass.deserializer.json.type;
 
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
 
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import cool.klass.deserializer.json.ValidationPlans;
 import cool.klass.deserializer.json.context.ContextNode;
 import cool.klass.deserializer.json.context.ContextStack;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingPlan.AssociationEndCheck;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingPlan.EnumerationPropertyCheck;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingPlan.PrimitivePropertyCheck;
+import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingPlan.PropertyCheck;
 import cool.klass.model.meta.domain.api.Klass;
-import cool.klass.model.meta.domain.api.NamedElement;
-import cool.klass.model.meta.domain.api.property.Property;
-import cool.klass.model.meta.domain.api.property.PropertyVisitor;
+import cool.klass.model.meta.domain.api.Multiplicity;
+import cool.klass.model.meta.domain.api.property.AssociationEnd;
+import cool.klass.model.meta.domain.api.property.EnumerationProperty;
+import cool.klass.request.statistics.RequestPhase;
+import cool.klass.request.statistics.RequestStatistics;
 import org.eclipse.collections.api.list.MutableList;
 
 public final class ObjectNodeTypeCheckingValidator {
@@ -38,28 +46,40 @@ public final class ObjectNodeTypeCheckingValidator {
 	private final ContextStack contextStack;
 
 	@Nonnull
-	private final Klass klass;
+	private final ValidationPlans validationPlans;
+
+	@Nonnull
+	private final ObjectNodeTypeCheckingPlan plan;
 
 	@Nonnull
 	private final JsonNode jsonNode;
 
 	public ObjectNodeTypeCheckingValidator(
 		@Nonnull ContextStack contextStack,
+		@Nonnull ValidationPlans validationPlans,
 		@Nonnull Klass klass,
 		@Nonnull JsonNode jsonNode
 	) {
 		this.contextStack = Objects.requireNonNull(contextStack);
-		this.klass = Objects.requireNonNull(klass);
+		this.validationPlans = Objects.requireNonNull(validationPlans);
+		this.plan = validationPlans.getTypeCheckingPlan(klass);
 		this.jsonNode = Objects.requireNonNull(jsonNode);
 	}
 
-	public static void validate(@Nonnull MutableList<String> errors, @Nonnull JsonNode jsonNode, @Nonnull Klass klass) {
+	public static void validate(
+		@Nonnull ValidationPlans validationPlans,
+		@Nonnull MutableList<String> errors,
+		@Nonnull JsonNode jsonNode,
+		@Nonnull Klass klass
+	) {
+		long startNanos = System.nanoTime();
 		var contextStack = new ContextStack(errors, null);
 		var contextNode = new ContextNode(klass);
 		contextStack.runWithContext(contextNode, () -> {
-			var validator = new ObjectNodeTypeCheckingValidator(contextStack, klass, jsonNode);
+			var validator = new ObjectNodeTypeCheckingValidator(contextStack, validationPlans, klass, jsonNode);
 			validator.validateIncomingData();
 		});
+		RequestStatistics.recordPhase(RequestPhase.VALIDATION, startNanos);
 	}
 
 	public void validateIncomingData() {
@@ -76,39 +96,105 @@ public final class ObjectNodeTypeCheckingValidator {
 	}
 
 	private void validateObjectNode(@Nonnull ObjectNode objectNode) {
-		objectNode
-			.fields()
-			.forEachRemaining((entry) -> {
-				String childFieldName = entry.getKey();
-				JsonNode childJsonNode = entry.getValue();
-				Optional<Property> optionalProperty = this.klass.findPropertyByName(childFieldName);
-
-				if (optionalProperty.isEmpty()) {
-					this.handleMissingProperty(childFieldName, childJsonNode);
-					return;
-				}
-
-				if (childJsonNode.isNull()) {
-					return;
-				}
-
-				Property property = optionalProperty.get();
-				PropertyVisitor visitor = new JsonTypeCheckingPropertyVisitor(
+		Iterator<Entry<String, JsonNode>> fields = objectNode.fields();
+		while (fields.hasNext()) {
+			Entry<String, JsonNode> entry = fields.next();
+			String childFieldName = entry.getKey();
+			JsonNode childJsonNode = entry.getValue();
+			PropertyCheck propertyCheck = this.plan.getCheck(childFieldName);
+
+			if (propertyCheck == null) {
+				this.handleMissingProperty(childFieldName, childJsonNode);
+			} else if (!childJsonNode.isNull()) {
+				this.validateProperty(propertyCheck, childJsonNode);
+			}
+		}
+	}
+
+	private void validateProperty(@Nonnull PropertyCheck propertyCheck, @Nonnull JsonNode childJsonNode) {
+		if (propertyCheck instanceof PrimitivePropertyCheck primitivePropertyCheck) {
+			primitivePropertyCheck
+				.typeCheck()
+				.validate(this.contextStack, primitivePropertyCheck.primitiveProperty(), childJsonNode);
+		} else if (propertyCheck instanceof EnumerationPropertyCheck enumerationPropertyCheck) {
+			this.validateEnumerationProperty(enumerationPropertyCheck, childJsonNode);
+		} else if (propertyCheck instanceof AssociationEndCheck associationEndCheck) {
+			this.validateAssociationEnd(associationEndCheck.associationEnd(), childJsonNode);
+		} else {
+			throw new AssertionError(propertyCheck);
+		}
+	}
+
+	private void validateEnumerationProperty(
+		@Nonnull EnumerationPropertyCheck enumerationPropertyCheck,
+		@Nonnull JsonNode childJsonNode
+	) {
+		EnumerationProperty enumerationProperty = enumerationPropertyCheck.enumerationProperty();
+		if (!childJsonNode.isTextual()) {
+			String error = String.format(
+				"Expected enumerated property with type '%s.%s: %s%s' but got %s with type '%s'.",
+				enumerationProperty.getOwningClassifier().getName(),
+				enumerationProperty.getName(),
+				enumerationProperty.getType().getName(),
+				enumerationProperty.isOptional() ? "?" : "",
+				childJsonNode,
+				childJsonNode.getNodeType().toString().toLowerCase(Locale.ROOT)
+			);
+			this.contextStack.addError(enumerationProperty, error);
+		}
+
+		String textValue = childJsonNode.textValue();
+		if (!enumerationPropertyCheck.prettyNames().contains(textValue)) {
+			String error = String.format(
+				"Expected enumerated property with type '%s.%s: %s%s' but got %s with type '%s'. Expected one of %s.",
+				enumerationProperty.getOwningClassifier().getName(),
+				enumerationProperty.getName(),
+				enumerationProperty.getType().getName(),
+				enumerationProperty.isOptional() ? "?" : "",
+				childJsonNode,
+				childJsonNode.getNodeType().toString().toLowerCase(Locale.ROOT),
+				enumerationPropertyCheck.quotedPrettyNames()
+			);
+			this.contextStack.addError(enumerationProperty, error);
+		}
+	}
+
+	private void validateAssociationEnd(@Nonnull AssociationEnd associationEnd, @Nonnull JsonNode childJsonNode) {
+		Multiplicity multiplicity = associationEnd.getMultiplicity();
+		if (multiplicity.isToOne()) {
+			this.contextStack.push(new ContextNode(associationEnd));
+			try {
+				var validator = new ObjectNodeTypeCheckingValidator(
 					this.contextStack,
-					property,
+					this.validationPlans,
+					associationEnd.getType(),
 					childJsonNode
 				);
-				property.visit(visitor);
-			});
+				validator.validateIncomingData();
+			} finally {
+				this.contextStack.pop();
+			}
+		} else if (multiplicity.isToMany()) {
+			var validator = new ArrayNodeTypeCheckingValidator(
+				this.contextStack,
+				this.validationPlans,
+				associationEnd,
+				associationEnd.getType(),
+				childJsonNode
+			);
+			validator.validateIncomingData();
+		} else {
+			throw new AssertionError(multiplicity);
+		}
 	}
 
 	private void handleMissingProperty(String childFieldName, JsonNode childJsonNode) {
 		String error = String.format(
 			"No such property '%s.%s' but got %s. Expected properties: %s.",
-			this.klass,
+			this.plan.getKlass(),
 			childFieldName,
 			childJsonNode,
-			this.klass.getProperties().reject(Property::isPrivate).collect(NamedElement::getName).makeString()
+			this.plan.getExpectedPropertyNames()
 		);
 		this.contextStack.addError(error);
 	}
@@ -45,7 +45,32 @@ class ServiceResourceGeneratorTest {
 	@Test
 	void stackOverflow() {
 		String sourceCodeText = FileSlurper.slurp("/com/stackoverflow/stackoverflow.klass", this.getClass());
+		this.assertServiceGroupSourceCode(sourceCodeText, "StackOverflow", "com.stackoverflow");
+	}
+
+	@Test
+	void paginated() {
+		String sourceCodeText = FileSlurper.slurp(
+			this.getClass().getSimpleName() + ".paginated.klass",
+			this.getClass()
+		);
+		this.assertServiceGroupSourceCode(sourceCodeText, "Example", "com.example");
+	}
+
+	@Test
+	void conditional() {
+		String sourceCodeText = FileSlurper.slurp(
+			this.getClass().getSimpleName() + ".conditional.klass",
+			this.getClass()
+		);
+		this.assertServiceGroupSourceCode(sourceCodeText, "Example", "com.example");
+	}
 
+	private void assertServiceGroupSourceCode(
+		String sourceCodeText,
+		String applicationName,
+		String rootPackageName
+	) {
 		CompilationUnit compilationUnit = CompilationUnit.createFromText(
 			0,
 			Optional.empty(),
@@ -64,8 +89,8 @@ class ServiceResourceGeneratorTest {
 
 			var serviceResourceGenerator = new ServiceResourceGenerator(
 				domainModel,
-				"StackOverflow",
-				"com.stackoverflow"
+				applicationName,
+				rootPackageName
 			);
 
 			ImmutableList<ServiceGroup> serviceGroups = domainModel.getServiceGroups();
@@ -0,0 +1,125 @@
+package com.example.service.resource;
+
+import java.security.Principal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.*;
+import javax.ws.rs.*;
+import javax.ws.rs.core.*;
+import javax.ws.rs.core.Response.Status;
+
+import com.example.*;
+import com.example.json.view.*;
+import com.codahale.metrics.annotation.*;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.gs.fw.common.mithra.finder.*;
+import cool.klass.data.store.*;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.Multiplicity;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.model.meta.domain.api.projection.Projection;
+import cool.klass.serialization.jackson.response.KlassResponseBuilder;
+import cool.klass.serialization.jackson.response.KlassResponse;
+import cool.klass.serialization.jackson.response.KlassResponseCursor;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.LongSets;
+import org.eclipse.collections.impl.set.mutable.*;
+import org.eclipse.collections.impl.utility.*;
+
+/**
+ * Auto-generated by {@link cool.klass.generator.service.ServiceResourceGenerator}
+ */
+@Path("/")
+public class ArticleResource
+{
+    @Nonnull
+    private final DomainModel domainModel;
+    @Nonnull
+    private final DataStore   dataStore;
+    @Nonnull
+    private final Clock       clock;
+
+    public ArticleResource(
+            @Nonnull DomainModel domainModel,
+            @Nonnull DataStore dataStore,
+            @Nonnull Clock clock)
+    {
+        this.domainModel = Objects.requireNonNull(domainModel);
+        this.dataStore   = Objects.requireNonNull(dataStore);
+        this.clock       = Objects.requireNonNull(clock);
+    }
+
+    @Timed
+    @ExceptionMetered
+    @GET
+    @Path("/articles")
+    @Produces(MediaType.APPLICATION_JSON)
+    @JsonView(ArticleProjection_JsonView.class)
+    public KlassResponse method0(
+            @Nullable @QueryParam("pageSize") Integer pageSize,
+            @Nullable @QueryParam("cursor") String cursor)
+    {
+        // Article
+
+        Operation queryOperation     = ArticleFinder.all();
+
+        int effectivePageSize = pageSize == null ? 20 : pageSize;
+        if (effectivePageSize < 1 || effectivePageSize > 100)
+        {
+            throw new BadRequestException("Expected pageSize between 1 and 100 but got " + effectivePageSize);
+        }
+
+        Operation pageOperation = queryOperation;
+        if (cursor != null)
+        {
+            try
+            {
+                KlassResponseCursor decodedCursor = KlassResponseCursor.decode(cursor, 2);
+                pageOperation = pageOperation.and(ArticleFinder.publishedOn().lessThan(decodedCursor.getTimestamp(0)).or(ArticleFinder.publishedOn().eq(decodedCursor.getTimestamp(0)).and(ArticleFinder.id().greaterThan(decodedCursor.getLong(1)))));
+            }
+            catch (IllegalArgumentException e)
+            {
+                throw new BadRequestException("Invalid cursor: " + cursor, e);
+            }
+        }
+
+        ArticleList result = ArticleFinder.findMany(pageOperation);
+        // Deep fetch using projection ArticleProjection
+
+        result.setOrderBy(ArticleFinder.publishedOn().descendingOrderBy().and(ArticleFinder.id().ascendingOrderBy()));
+        // One extra row tells whether there is a next page
+        result.setMaxObjectsToRetrieve(effectivePageSize + 1);
+
+        boolean hasNextPage = result.size() > effectivePageSize;
+        List<Article> page = hasNextPage ? result.subList(0, effectivePageSize) : result;
+        Optional<String> nextCursor = Optional.empty();
+        if (hasNextPage)
+        {
+            Article lastInstance = page.get(effectivePageSize - 1);
+            nextCursor = Optional.of(KlassResponseCursor.encode(
+                        ArticleFinder.publishedOn().valueOf(lastInstance),
+                        ArticleFinder.id().valueOf(lastInstance)));
+        }
+
+        Projection projection = this.domainModel.getProjectionByName("ArticleProjection");
+
+        return new KlassResponseBuilder(
+                page,
+                projection,
+                Multiplicity.ONE_TO_MANY,
+                Instant.now(this.clock))
+                .setPagination(effectivePageSize, nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.service.resource;
+
+import java.security.Principal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.*;
+import javax.ws.rs.*;
+import javax.ws.rs.core.*;
+import javax.ws.rs.core.Response.Status;
+
+import com.example.*;
+import com.example.json.view.*;
+import com.codahale.metrics.annotation.*;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.gs.fw.common.mithra.finder.*;
+import cool.klass.data.store.*;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.Multiplicity;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.LongSets;
+import org.eclipse.collections.impl.set.mutable.*;
+import org.eclipse.collections.impl.utility.*;
+
+/**
+ * Auto-generated by {@link cool.klass.generator.service.ServiceResourceGenerator}
+ */
+@Path("/")
+public class LedgerResource
+{
+    @Nonnull
+    private final DomainModel domainModel;
+    @Nonnull
+    private final DataStore   dataStore;
+    @Nonnull
+    private final Clock       clock;
+
+    public LedgerResource(
+            @Nonnull DomainModel domainModel,
+            @Nonnull DataStore dataStore,
+            @Nonnull Clock clock)
+    {
+        this.domainModel = Objects.requireNonNull(domainModel);
+        this.dataStore   = Objects.requireNonNull(dataStore);
+        this.clock       = Objects.requireNonNull(clock);
+    }
+
+    @Timed
+    @ExceptionMetered
+    @GET
+    @Path("/ledger/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @JsonView(LedgerProjection_JsonView.class)
+    public Ledger method0(@PathParam("id") Long id)
+    {
+        // Ledger
+
+        Operation queryOperation     = LedgerFinder.id().eq(id);
+
+        LedgerList result = LedgerFinder.findMany(queryOperation);
+        // Deep fetch using projection LedgerProjection
+        result.deepFetch(LedgerFinder.entries());
+
+        if (result.isEmpty())
+        {
+            throw new ClientErrorException("Url valid, data not found.", Status.GONE);
+        }
+        return Iterate.getOnly(result);
+    }
+}
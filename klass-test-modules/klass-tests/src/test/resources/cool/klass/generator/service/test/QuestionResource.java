@@ -51,6 +51,8 @@ public class QuestionResource
     private final DataStore   dataStore;
     @Nonnull
     private final Clock       clock;
+    @Nonnull
+    private final ValidationPlans validationPlans;
 
     public QuestionResource(
             @Nonnull DomainModel domainModel,
@@ -60,6 +62,7 @@ public class QuestionResource
         this.domainModel = Objects.requireNonNull(domainModel);
         this.dataStore   = Objects.requireNonNull(dataStore);
         this.clock       = Objects.requireNonNull(clock);
+        this.validationPlans = new ValidationPlans(domainModel);
     }
 
     @Timed
@@ -104,8 +107,9 @@ public class QuestionResource
 
         MutableList<String> errors = Lists.mutable.empty();
         MutableList<String> warnings = Lists.mutable.empty();
-        ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
+        ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
         RequiredPropertiesValidator.validate(
+                this.validationPlans,
                 errors,
                 warnings,
                 klass,
@@ -258,8 +262,9 @@ public class QuestionResource
 
         MutableList<String> errors = Lists.mutable.empty();
         MutableList<String> warnings = Lists.mutable.empty();
-        ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
+        ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
         RequiredPropertiesValidator.validate(
+                this.validationPlans,
                 errors,
                 warnings,
                 klass,
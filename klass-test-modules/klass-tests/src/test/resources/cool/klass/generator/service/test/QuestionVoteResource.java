@@ -53,6 +53,8 @@ public class QuestionVoteResource
     private final DataStore   dataStore;
     @Nonnull
     private final Clock       clock;
+    @Nonnull
+    private final ValidationPlans validationPlans;
 
     public QuestionVoteResource(
             @Nonnull DomainModel domainModel,
@@ -62,6 +64,7 @@ public class QuestionVoteResource
         this.domainModel = Objects.requireNonNull(domainModel);
         this.dataStore   = Objects.requireNonNull(dataStore);
         this.clock       = Objects.requireNonNull(clock);
+        this.validationPlans = new ValidationPlans(domainModel);
     }
 
     @Timed
@@ -78,8 +81,9 @@ public class QuestionVoteResource
 
         MutableList<String> errors = Lists.mutable.empty();
         MutableList<String> warnings = Lists.mutable.empty();
-        ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
+        ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
         RequiredPropertiesValidator.validate(
+                this.validationPlans,
                 errors,
                 warnings,
                 klass,
@@ -202,8 +206,9 @@ public class QuestionVoteResource
 
         MutableList<String> errors = Lists.mutable.empty();
         MutableList<String> warnings = Lists.mutable.empty();
-        ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
+        ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
         RequiredPropertiesValidator.validate(
+                this.validationPlans,
                 errors,
                 warnings,
                 klass,
@@ -0,0 +1,107 @@
+package com.example.service.resource;
+
+import java.security.Principal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.*;
+import javax.ws.rs.*;
+import javax.ws.rs.core.*;
+import javax.ws.rs.core.Response.Status;
+
+import com.example.*;
+import com.example.json.view.*;
+import com.codahale.metrics.annotation.*;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.gs.fw.common.mithra.finder.*;
+import cool.klass.data.store.*;
+import cool.klass.model.meta.domain.api.DomainModel;
+import cool.klass.model.meta.domain.api.Klass;
+import cool.klass.model.meta.domain.api.Multiplicity;
+import cool.klass.model.meta.domain.api.property.DataTypeProperty;
+import cool.klass.serialization.jackson.response.KlassEntityTag;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.LongSets;
+import org.eclipse.collections.impl.set.mutable.*;
+import org.eclipse.collections.impl.utility.*;
+
+/**
+ * Auto-generated by {@link cool.klass.generator.service.ServiceResourceGenerator}
+ */
+@Path("/")
+public class ReportResource
+{
+    @Nonnull
+    private final DomainModel domainModel;
+    @Nonnull
+    private final DataStore   dataStore;
+    @Nonnull
+    private final Clock       clock;
+
+    public ReportResource(
+            @Nonnull DomainModel domainModel,
+            @Nonnull DataStore dataStore,
+            @Nonnull Clock clock)
+    {
+        this.domainModel = Objects.requireNonNull(domainModel);
+        this.dataStore   = Objects.requireNonNull(dataStore);
+        this.clock       = Objects.requireNonNull(clock);
+    }
+
+    @Timed
+    @ExceptionMetered
+    @GET
+    @Path("/report/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @JsonView(ReportProjection_JsonView.class)
+    public Response method0(
+            @PathParam("id") Long id,
+            @Context javax.ws.rs.core.Request request)
+    {
+        // Report
+
+        Operation queryOperation     = ReportFinder.id().eq(id);
+
+        ReportList result = ReportFinder.findMany(queryOperation);
+
+        if (result.isEmpty())
+        {
+            throw new ClientErrorException("Url valid, data not found.", Status.GONE);
+        }
+
+        KlassEntityTag validator = new KlassEntityTag("ReportProjection");
+        for (Report each : result)
+        {
+            validator.add(ReportFinder.id().valueOf(each), ReportFinder.systemFrom().valueOf(each));
+            validator.addLastModified(ReportFinder.systemFrom().valueOf(each));
+        }
+        // Weak, since the validator covers the projected values, not the bytes
+        EntityTag      entityTag    = new EntityTag(validator.getValue(), true);
+        java.util.Date lastModified = validator.getLastModified();
+        Response.ResponseBuilder notModified = lastModified == null
+                ? request.evaluatePreconditions(entityTag)
+                : request.evaluatePreconditions(lastModified, entityTag);
+        if (notModified != null)
+        {
+            return notModified.tag(entityTag).build();
+        }
+
+        ReportList projected = new ReportList();
+        projected.addAll(result);
+        // Deep fetch using projection ReportProjection
+
+        return Response.ok(Iterate.getOnly(projected))
+                .tag(entityTag)
+                .lastModified(lastModified)
+                .build();
+    }
+}
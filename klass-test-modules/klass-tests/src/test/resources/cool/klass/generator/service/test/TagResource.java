@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import cool.klass.deserializer.json.*;
 import cool.klass.deserializer.json.type.*;
 import cool.klass.reladomo.persistent.writer.*;
+import cool.klass.serialization.jackson.response.KlassEntityTag;
 
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
@@ -51,6 +52,8 @@ public class TagResource
     private final DataStore   dataStore;
     @Nonnull
     private final Clock       clock;
+    @Nonnull
+    private final ValidationPlans validationPlans;
 
     public TagResource(
             @Nonnull DomainModel domainModel,
@@ -60,6 +63,7 @@ public class TagResource
         this.domainModel = Objects.requireNonNull(domainModel);
         this.dataStore   = Objects.requireNonNull(dataStore);
         this.clock       = Objects.requireNonNull(clock);
+        this.validationPlans = new ValidationPlans(domainModel);
     }
 
     @Timed
@@ -68,21 +72,47 @@ public class TagResource
     @Path("/tag/{name}")
     @Produces(MediaType.APPLICATION_JSON)
     @JsonView(TagProjection_JsonView.class)
-    public Tag method0(
-            @PathParam("name") String name)
+    public Response method0(
+            @PathParam("name") String name,
+            @Context javax.ws.rs.core.Request request)
     {
         // Tag
 
         Operation queryOperation     = TagFinder.name().eq(name);
 
         TagList result = TagFinder.findMany(queryOperation);
-        // Deep fetch using projection TagProjection
+        result.deepFetch(TagFinder.version());
 
         if (result.isEmpty())
         {
             throw new ClientErrorException("Url valid, data not found.", Status.GONE);
         }
-        return Iterate.getOnly(result);
+
+        KlassEntityTag validator = new KlassEntityTag("TagProjection");
+        for (Tag each : result)
+        {
+            validator.add(TagFinder.name().valueOf(each), TagFinder.version().number().valueOf(each));
+            validator.addLastModified(TagFinder.version().systemFrom().valueOf(each));
+        }
+        // Weak, since the validator covers the projected values, not the bytes
+        EntityTag      entityTag    = new EntityTag(validator.getValue(), true);
+        java.util.Date lastModified = validator.getLastModified();
+        Response.ResponseBuilder notModified = lastModified == null
+                ? request.evaluatePreconditions(entityTag)
+                : request.evaluatePreconditions(lastModified, entityTag);
+        if (notModified != null)
+        {
+            return notModified.tag(entityTag).build();
+        }
+
+        TagList projected = new TagList();
+        projected.addAll(result);
+        // Deep fetch using projection TagProjection
+
+        return Response.ok(Iterate.getOnly(projected))
+                .tag(entityTag)
+                .lastModified(lastModified)
+                .build();
     }
 
     @Timed
@@ -128,16 +158,39 @@ public class TagResource
     @Path("/tag")
     @Produces(MediaType.APPLICATION_JSON)
     @JsonView(TagProjection_JsonView.class)
-    public List<Tag> method2()
+    public Response method2(@Context javax.ws.rs.core.Request request)
     {
         // Tag
 
         Operation queryOperation     = TagFinder.all();
 
         TagList result = TagFinder.findMany(queryOperation);
+        result.deepFetch(TagFinder.version());
+
+        KlassEntityTag validator = new KlassEntityTag("TagProjection");
+        for (Tag each : result)
+        {
+            validator.add(TagFinder.name().valueOf(each), TagFinder.version().number().valueOf(each));
+        }
+        // Weak, since the validator covers the projected values, not the bytes
+        EntityTag      entityTag    = new EntityTag(validator.getValue(), true);
+        java.util.Date lastModified = validator.getLastModified();
+        Response.ResponseBuilder notModified = lastModified == null
+                ? request.evaluatePreconditions(entityTag)
+                : request.evaluatePreconditions(lastModified, entityTag);
+        if (notModified != null)
+        {
+            return notModified.tag(entityTag).build();
+        }
+
+        TagList projected = new TagList();
+        projected.addAll(result);
         // Deep fetch using projection TagProjection
 
-        return result;
+        return Response.ok(projected)
+                .tag(entityTag)
+                .lastModified(lastModified)
+                .build();
     }
 
     @Timed
@@ -153,8 +206,9 @@ public class TagResource
 
         MutableList<String> errors = Lists.mutable.empty();
         MutableList<String> warnings = Lists.mutable.empty();
-        ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
+        ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
         RequiredPropertiesValidator.validate(
+                this.validationPlans,
                 errors,
                 warnings,
                 klass,
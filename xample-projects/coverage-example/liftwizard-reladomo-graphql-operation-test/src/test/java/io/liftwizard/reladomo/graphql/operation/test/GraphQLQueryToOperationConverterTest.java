@@ -27,6 +27,7 @@ import javax.annotation.Nonnull;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import cool.klass.graphql.reladomo.keyset.KeysetConnection;
 import cool.klass.xample.coverage.OwnedNaturalOneToManySourceFinder;
 import cool.klass.xample.coverage.PropertiesOptionalFinder;
 import cool.klass.xample.coverage.PropertiesRequiredFinder;
@@ -35,6 +36,7 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.scalars.java.JavaPrimitives;
+import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
@@ -95,27 +97,31 @@ public class GraphQLQueryToOperationConverterTest {
 			      }
 			    ]
 			  ) {
-			    propertiesOptionalId
-			    optionalString
-			    optionalInteger
-			    optionalLong
-			    optionalDouble
-			    optionalFloat
-			    optionalBoolean
-			    optionalInstant
-			    optionalLocalDate
-			    systemFrom
-			    systemTo
-			    createdBy {
-			        userId
-			    }
-			    createdOn
-			    lastUpdatedBy {
-			        userId
-			    }
-			    version {
-			      number
+			    nodes {
+			      propertiesOptionalId
+			      optionalString
+			      optionalInteger
+			      optionalLong
+			      optionalDouble
+			      optionalFloat
+			      optionalBoolean
+			      optionalInstant
+			      optionalLocalDate
+			      systemFrom
+			      systemTo
+			      createdBy {
+			          userId
+			      }
+			      createdOn
+			      lastUpdatedBy {
+			          userId
+			      }
+			      version {
+			        number
+			      }
 			    }
+			    endCursor
+			    hasNextPage
 			  }
 			}
 			""";
@@ -128,66 +134,66 @@ public class GraphQLQueryToOperationConverterTest {
 	@Test
 	void nullityOperation() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { system: { eq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { system: { eq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { system: { notEq: null } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { system: { notEq: null } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void equalsEdgePointOperation() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { system: { equalsEdgePoint: {} } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { system: { equalsEdgePoint: {} } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
@@ -196,183 +202,183 @@ public class GraphQLQueryToOperationConverterTest {
 	@Test
 	void equalityOperation() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { eq: true } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { eq: true } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { eq: 4 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { eq: 4 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { eq: 5000000000 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { eq: 5000000000 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { eq: 6.6 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { eq: 6.6 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { eq: 7.7 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { eq: 7.7 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { eq: \"2010-12-31\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { eq: \"2010-12-31\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { eq: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { eq: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { eq: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { eq: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { system: { eq: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { system: { eq: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { notEq: true } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { notEq: true } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { notEq: 4 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { notEq: 4 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { notEq: 5000000000 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { notEq: 5000000000 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { notEq: 6.6 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { notEq: 6.6 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { notEq: 7.7 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { notEq: 7.7 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { notEq: \"2010-12-31\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { notEq: \"2010-12-31\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { notEq: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { notEq: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { notEq: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { notEq: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void inequalityOperation() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { greaterThan: 4 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { greaterThan: 4 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { greaterThan: 5000000000 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { greaterThan: 5000000000 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { greaterThan: 6.6 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { greaterThan: 6.6 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { greaterThan: 7.7 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { greaterThan: 7.7 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { greaterThan: \"2010-12-31\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { greaterThan: \"2010-12-31\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { greaterThan: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { greaterThan: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { greaterThan: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { greaterThan: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { greaterThanEquals: 4 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { greaterThanEquals: 4 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { greaterThanEquals: 5000000000 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { greaterThanEquals: 5000000000 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { greaterThanEquals: 6.6 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { greaterThanEquals: 6.6 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { greaterThanEquals: 7.7 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { greaterThanEquals: 7.7 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { greaterThanEquals: \"2010-12-31\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { greaterThanEquals: \"2010-12-31\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { greaterThanEquals: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { greaterThanEquals: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { greaterThanEquals: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { greaterThanEquals: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { lessThan: 4 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { lessThan: 4 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { lessThan: 5000000000 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { lessThan: 5000000000 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { lessThan: 6.6 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { lessThan: 6.6 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { lessThan: 7.7 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { lessThan: 7.7 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { lessThan: \"2010-12-31\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { lessThan: \"2010-12-31\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { lessThan: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { lessThan: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { lessThan: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { lessThan: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { lessThanEquals: 4 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { lessThanEquals: 4 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { lessThanEquals: 5000000000 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { lessThanEquals: 5000000000 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { lessThanEquals: 6.6 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { lessThanEquals: 6.6 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { lessThanEquals: 7.7 } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { lessThanEquals: 7.7 } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { lessThanEquals: \"2010-12-31\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { lessThanEquals: \"2010-12-31\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { lessThanEquals: \"2010-12-31T23:59:00.0Z\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { lessThanEquals: \"2010-12-31T23:59:00.0Z\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { lessThanEquals: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { lessThanEquals: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void stringLikeOperations() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { endsWith: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { endsWith: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { contains: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { contains: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { startsWith: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { startsWith: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { wildCardEquals: \"Value?\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { wildCardEquals: \"Value?\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { notEndsWith: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { notEndsWith: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { notContains: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { notContains: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { notStartsWith: \"Value\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { notStartsWith: \"Value\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { wildCardNotEquals: \"Value?\" } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { wildCardNotEquals: \"Value?\" } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void stringDerivedAttributes() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { lower: { eq: \"Value\" } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { lower: { eq: \"Value\" } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		// TODO substring
 	}
@@ -380,113 +386,113 @@ public class GraphQLQueryToOperationConverterTest {
 	@Test
 	void numberDerivedAttributes() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { abs: { eq: 1 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { abs: { eq: 1 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void instantDerivedAttributes() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { year: { eq: 1999 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { year: { eq: 1999 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { month: { eq: 12 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { month: { eq: 12 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { dayOfMonth: { eq: 31 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { dayOfMonth: { eq: 31 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { year: { eq: 1999 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { year: { eq: 1999 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { month: { eq: 12 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { month: { eq: 12 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { dayOfMonth: { eq: 31 } } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { dayOfMonth: { eq: 31 } } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void inOperation() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { in: [true, false] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { in: [true, false] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { in: [4, 5] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { in: [4, 5] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { in: [5000000000, 6000000000] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { in: [5000000000, 6000000000] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { in: [6.6, 7.7] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { in: [6.6, 7.7] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { in: [7.7, 8.8] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { in: [7.7, 8.8] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { in: [\"2010-12-31\", \"2011-01-01\", null] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { in: [\"2010-12-31\", \"2011-01-01\", null] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { in: [\"2010-12-31T23:59:00.0Z\", \"2011-01-01T23:59:00.0Z\", null] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { in: [\"2010-12-31T23:59:00.0Z\", \"2011-01-01T23:59:00.0Z\", null] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { in: [\"Value\", \"Value2\", null] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { in: [\"Value\", \"Value2\", null] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { notIn: [true, false] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalBoolean: { notIn: [true, false] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInteger: { notIn: [4, 5] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInteger: { notIn: [4, 5] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLong: { notIn: [5000000000, 6000000000] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLong: { notIn: [5000000000, 6000000000] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalFloat: { notIn: [6.6, 7.7] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalFloat: { notIn: [6.6, 7.7] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalDouble: { notIn: [7.7, 8.8] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalDouble: { notIn: [7.7, 8.8] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { notIn: [\"2010-12-31\", \"2011-01-01\", null] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalLocalDate: { notIn: [\"2010-12-31\", \"2011-01-01\", null] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalInstant: { notIn: [\"2010-12-31T23:59:00.0Z\", \"2011-01-01T23:59:00.0Z\", null] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalInstant: { notIn: [\"2010-12-31T23:59:00.0Z\", \"2011-01-01T23:59:00.0Z\", null] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { optionalString: { notIn: [\"Value\", \"Value2\", null] } }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { optionalString: { notIn: [\"Value\", \"Value2\", null] } }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void relationshipNavigation() {
 		this.assertCompiles(
-			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { exists: {} } }) { value } }"
+			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { exists: {} } }) { nodes { value } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { notExists: {} } }) { value } }"
+			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { notExists: {} } }) { nodes { value } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { recursiveNotExists: {} } }) { value } }"
+			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { recursiveNotExists: {} } }) { nodes { value } endCursor hasNextPage } }"
 		);
 
 		this.assertCompiles(
-			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { notExists: { source: { value: { eq: \"Value\" } } } } }) { value } }"
+			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { notExists: { source: { value: { eq: \"Value\" } } } } }) { nodes { value } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { recursiveNotExists: { source: { value: { eq: \"Value\" } } } } }) { value } }"
+			"{ ownedNaturalOneToManySourceByFinder(operation: { targets: { recursiveNotExists: { source: { value: { eq: \"Value\" } } } } }) { nodes { value } endCursor hasNextPage } }"
 		);
 	}
 
 	@Test
 	void conjunctionOperations() {
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { AND: [{ optionalBoolean: { eq: true } }, { optionalInteger: { eq: 4 } }] }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { AND: [{ optionalBoolean: { eq: true } }, { optionalInteger: { eq: 4 } }] }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 		this.assertCompiles(
-			"{ propertiesOptionalByFinder(operation: { OR: [{ optionalBoolean: { eq: true } }, { optionalInteger: { eq: 4 } }] }) { propertiesOptionalId } }"
+			"{ propertiesOptionalByFinder(operation: { OR: [{ optionalBoolean: { eq: true } }, { optionalInteger: { eq: 4 } }] }) { nodes { propertiesOptionalId } endCursor hasNextPage } }"
 		);
 	}
 
@@ -564,9 +570,24 @@ public class GraphQLQueryToOperationConverterTest {
 		return schemaParser.parse(result);
 	}
 
-	private static final class FakeReladomoFinderDataFetcher<T> extends ReladomoFinderDataFetcher<T> {
+	private static final class FakeReladomoFinderDataFetcher<T> implements DataFetcher<KeysetConnection<T>> {
+
+		private final OperationAssertingDataFetcher<T> operationAssertingDataFetcher;
 
 		private FakeReladomoFinderDataFetcher(AbstractRelatedFinder<T, ?, ?, ?, ?> finder) {
+			this.operationAssertingDataFetcher = new OperationAssertingDataFetcher<>(finder);
+		}
+
+		@Override
+		public KeysetConnection<T> get(DataFetchingEnvironment environment) {
+			this.operationAssertingDataFetcher.get(environment);
+			return new KeysetConnection<>(Lists.mutable.empty(), null, false);
+		}
+	}
+
+	private static final class OperationAssertingDataFetcher<T> extends ReladomoFinderDataFetcher<T> {
+
+		private OperationAssertingDataFetcher(AbstractRelatedFinder<T, ?, ?, ?, ?> finder) {
 			super(finder);
 		}
 
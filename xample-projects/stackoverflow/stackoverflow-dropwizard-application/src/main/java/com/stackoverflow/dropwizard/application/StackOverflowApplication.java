@@ -17,6 +17,7 @@
 package com.stackoverflow.dropwizard.application;
 
 import java.time.Clock;
+import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
@@ -36,6 +37,8 @@ import io.liftwizard.servlet.logging.mdc.StructuredArgumentsMDCLogger;
 
 public class StackOverflowApplication extends AbstractStackOverflowApplication {
 
+	private DataStore dataStore;
+
 	public static void main(String[] args) throws Exception {
 		new StackOverflowApplication().run(args);
 	}
@@ -83,9 +86,16 @@ public class StackOverflowApplication extends AbstractStackOverflowApplication {
 		ObjectMapper objectMapper = environment.getObjectMapper();
 		KlassFactory klassFactory = configuration.getKlassFactory();
 		DomainModel domainModel = klassFactory.getDomainModelFactory().createDomainModel(objectMapper);
-		DataStore dataStore = klassFactory.getDataStoreFactory().createDataStore(domainModel);
+		this.dataStore = klassFactory.getDataStoreFactory().createDataStore(domainModel);
 		Clock clock = configuration.getClockFactory().createClock();
 
-		environment.jersey().register(new QuestionResourceManual(domainModel, dataStore, clock));
+		environment.jersey().register(new QuestionResourceManual(domainModel, this.dataStore, clock));
+	}
+
+	/**
+	 * The data store that the resources write through, available once {@link #run} has been called.
+	 */
+	public DataStore getDataStore() {
+		return Objects.requireNonNull(this.dataStore, "The application has not been run yet");
 	}
 }
@@ -21,14 +21,35 @@ import javax.validation.Valid;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.smoketurner.dropwizard.graphql.GraphQLFactory;
+import cool.klass.dropwizard.bundle.graphql.GraphQLExecutionFactory;
+import cool.klass.dropwizard.bundle.graphql.GraphQLExecutionFactoryProvider;
+import cool.klass.dropwizard.bundle.graphql.GraphQLPersistedQueryFactory;
+import cool.klass.dropwizard.bundle.graphql.GraphQLPersistedQueryFactoryProvider;
+import cool.klass.dropwizard.bundle.graphql.GraphQLQueryCostFactory;
+import cool.klass.dropwizard.bundle.graphql.GraphQLQueryCostFactoryProvider;
 import cool.klass.dropwizard.configuration.AbstractKlassConfiguration;
 import io.liftwizard.dropwizard.configuration.graphql.GraphQLFactoryProvider;
 
-public class StackOverflowConfiguration extends AbstractKlassConfiguration implements GraphQLFactoryProvider {
+public class StackOverflowConfiguration
+	extends AbstractKlassConfiguration
+	implements
+		GraphQLFactoryProvider,
+		GraphQLQueryCostFactoryProvider,
+		GraphQLExecutionFactoryProvider,
+		GraphQLPersistedQueryFactoryProvider {
 
 	@Nonnull
 	private @Valid GraphQLFactory graphQL = new GraphQLFactory();
 
+	@Nonnull
+	private @Valid GraphQLQueryCostFactory graphQLQueryCost = new GraphQLQueryCostFactory();
+
+	@Nonnull
+	private @Valid GraphQLExecutionFactory graphQLExecution = new GraphQLExecutionFactory();
+
+	@Nonnull
+	private @Valid GraphQLPersistedQueryFactory graphQLPersistedQueries = new GraphQLPersistedQueryFactory();
+
 	@Override
 	@Nonnull
 	@JsonProperty("graphQL")
@@ -40,5 +61,41 @@ public class StackOverflowConfiguration extends AbstractKlassConfiguration imple
 	public void setGraphQLFactory(@Nonnull GraphQLFactory factory) {
 		this.graphQL = factory;
 	}
+
+	@Override
+	@Nonnull
+	@JsonProperty("graphQLQueryCost")
+	public GraphQLQueryCostFactory getGraphQLQueryCostFactory() {
+		return this.graphQLQueryCost;
+	}
+
+	@JsonProperty("graphQLQueryCost")
+	public void setGraphQLQueryCostFactory(@Nonnull GraphQLQueryCostFactory factory) {
+		this.graphQLQueryCost = factory;
+	}
+
+	@Override
+	@Nonnull
+	@JsonProperty("graphQLExecution")
+	public GraphQLExecutionFactory getGraphQLExecutionFactory() {
+		return this.graphQLExecution;
+	}
+
+	@JsonProperty("graphQLExecution")
+	public void setGraphQLExecutionFactory(@Nonnull GraphQLExecutionFactory factory) {
+		this.graphQLExecution = factory;
+	}
+
+	@Override
+	@Nonnull
+	@JsonProperty("graphQLPersistedQueries")
+	public GraphQLPersistedQueryFactory getGraphQLPersistedQueryFactory() {
+		return this.graphQLPersistedQueries;
+	}
+
+	@JsonProperty("graphQLPersistedQueries")
+	public void setGraphQLPersistedQueryFactory(@Nonnull GraphQLPersistedQueryFactory factory) {
+		this.graphQLPersistedQueries = factory;
+	}
 	// TODO: implement service configuration
 }
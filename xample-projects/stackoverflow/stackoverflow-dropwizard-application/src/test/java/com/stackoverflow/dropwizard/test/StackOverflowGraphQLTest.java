@@ -44,4 +44,31 @@ class StackOverflowGraphQLTest extends AbstractStackOverflowApplicationTest {
 
 		this.assertResponse("graphqlSmokeTest", Status.OK, response);
 	}
+
+	@Test
+	@ReladomoTestFile("test-data/existing-question.txt")
+	void includeDirective() {
+		Client client = this.getClient("includeDirective");
+
+		String queryName = this.getClass().getSimpleName() + ".includeDirective.graphql";
+		String query = FileSlurper.slurp(queryName, this.getClass());
+
+		// The same document with different variables selects different fields, so it must not share a cached tree
+		Response withTags = this.postQuery(client, query, true);
+		this.assertResponse("includeDirective_withTags", Status.OK, withTags);
+
+		Response withoutTags = this.postQuery(client, query, false);
+		this.assertResponse("includeDirective_withoutTags", Status.OK, withoutTags);
+
+		Response withTagsAgain = this.postQuery(client, query, true);
+		this.assertResponse("includeDirective_withTags", Status.OK, withTagsAgain);
+	}
+
+	private Response postQuery(Client client, String query, boolean withTags) {
+		return client
+			.target("http://localhost:{port}/graphql")
+			.resolveTemplate("port", this.appExtension.getLocalPort())
+			.request()
+			.post(Entity.json(Maps.mutable.with("query", query, "variables", Maps.mutable.with("withTags", withTags))));
+	}
 }
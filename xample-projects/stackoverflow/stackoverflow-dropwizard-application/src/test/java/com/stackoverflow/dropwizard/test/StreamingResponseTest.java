@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stackoverflow.dropwizard.test;
+
+import javax.annotation.Nonnull;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import com.stackoverflow.dropwizard.application.StackOverflowApplication;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.ResourceHelpers;
+import io.liftwizard.dropwizard.testing.junit.AbstractDropwizardAppTest;
+import io.liftwizard.junit.extension.app.LiftwizardAppExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoTestFile;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs to-many GETs through the streaming list serializer with a chunk size of one, so that every root object is deep
+ * fetched in its own chunk after the cursor is closed. The responses must match the non-streaming responses.
+ */
+class StreamingResponseTest extends AbstractDropwizardAppTest {
+
+	@Nonnull
+	@Override
+	protected LiftwizardAppExtension<?> getDropwizardAppExtension() {
+		return new LiftwizardAppExtension<>(
+			StackOverflowApplication.class,
+			ResourceHelpers.resourceFilePath("config-test.json5"),
+			ConfigOverride.config("klass.dataStore.streamingChunkSize", "1")
+		);
+	}
+
+	@Test
+	@ReladomoTestFile("test-data/existing-question.txt")
+	void get_tags() {
+		Client client = this.getClient("get_tags");
+
+		Response response = client
+			.target("http://localhost:{port}/api/tag")
+			.resolveTemplate("port", this.appExtension.getLocalPort())
+			.request()
+			.get();
+
+		this.assertResponse("get_tags", Status.OK, response);
+	}
+
+	@Test
+	@ReladomoTestFile("test-data/existing-question.txt")
+	void get_user_questions() {
+		Client client = this.getClient("get_user_questions");
+
+		Response response = client
+			.target("http://localhost:{port}/api/user/{userId}/questions")
+			.resolveTemplate("port", this.appExtension.getLocalPort())
+			.resolveTemplate("userId", "test user 1")
+			.request()
+			.get();
+
+		this.assertResponse("get_user_questions", Status.OK, response);
+	}
+}
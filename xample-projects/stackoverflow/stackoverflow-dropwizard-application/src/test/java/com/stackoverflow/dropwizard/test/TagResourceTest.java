@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stackoverflow.dropwizard.test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import io.liftwizard.reladomo.test.extension.ReladomoTestFile;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code GET /api/tag/{name}} is conditional, since {@code TagProjection} only includes properties of the versioned
+ * Tag itself.
+ */
+class TagResourceTest extends AbstractStackOverflowApplicationTest {
+
+	@Test
+	@ReladomoTestFile("test-data/versioned-tag.txt")
+	void get_conditional() {
+		Client client = this.getClient("get_conditional");
+
+		Response response = this.getTag(client, null, null);
+		assertThat(response.getStatus()).isEqualTo(Status.OK.getStatusCode());
+		EntityTag entityTag = response.getEntityTag();
+		assertThat(entityTag).isNotNull();
+		assertThat(entityTag.isWeak()).isTrue();
+		String lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+		assertThat(lastModified).isNotNull();
+		assertThat(response.readEntity(String.class)).contains("\"name\":\"test tag 1\"");
+
+		Response notModified = this.getTag(client, entityTag.toString(), null);
+		assertThat(notModified.getStatus()).isEqualTo(Status.NOT_MODIFIED.getStatusCode());
+		assertThat(notModified.getEntityTag()).isEqualTo(entityTag);
+		assertThat(notModified.hasEntity()).isFalse();
+
+		Response notModifiedSince = this.getTag(client, null, lastModified);
+		assertThat(notModifiedSince.getStatus()).isEqualTo(Status.NOT_MODIFIED.getStatusCode());
+
+		Response modified = this.getTag(client, new EntityTag("stale", true).toString(), null);
+		assertThat(modified.getStatus()).isEqualTo(Status.OK.getStatusCode());
+		assertThat(modified.getEntityTag()).isEqualTo(entityTag);
+		assertThat(modified.readEntity(String.class)).contains("\"name\":\"test tag 1\"");
+	}
+
+	private Response getTag(
+		@Nonnull Client client,
+		@Nullable String ifNoneMatch,
+		@Nullable String ifModifiedSince
+	) {
+		return client
+			.target("http://localhost:{port}/api/tag/{name}")
+			.resolveTemplate("port", this.appExtension.getLocalPort())
+			.resolveTemplate("name", "test tag 1")
+			.request()
+			.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+			.header(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince)
+			.get();
+	}
+}
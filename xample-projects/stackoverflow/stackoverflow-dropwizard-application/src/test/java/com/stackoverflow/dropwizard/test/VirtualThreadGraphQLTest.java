@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stackoverflow.dropwizard.test;
+
+import javax.annotation.Nonnull;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import com.stackoverflow.dropwizard.application.StackOverflowApplication;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.ResourceHelpers;
+import io.liftwizard.dropwizard.testing.junit.AbstractDropwizardAppTest;
+import io.liftwizard.junit.extension.app.LiftwizardAppExtension;
+import io.liftwizard.junit.extension.match.FileSlurper;
+import io.liftwizard.reladomo.test.extension.ReladomoTestFile;
+import org.eclipse.collections.api.factory.Maps;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs Jersey on virtual threads and GraphQL in async mode together. Jersey is mapped to {@code /*}, so the virtual
+ * thread filter's url pattern covers the GraphQL servlet too, and both kinds of request must still succeed.
+ */
+class VirtualThreadGraphQLTest extends AbstractDropwizardAppTest {
+
+	@Nonnull
+	@Override
+	protected LiftwizardAppExtension<?> getDropwizardAppExtension() {
+		return new LiftwizardAppExtension<>(
+			StackOverflowApplication.class,
+			ResourceHelpers.resourceFilePath("config-test.json5"),
+			ConfigOverride.config("server.rootPath", "/*"),
+			ConfigOverride.config("requestExecution.virtualThreads", "true"),
+			ConfigOverride.config("graphQLExecution.async", "true")
+		);
+	}
+
+	@Test
+	@ReladomoTestFile("test-data/existing-question.txt")
+	void graphqlSmokeTest() {
+		Client client = this.getClient("graphqlSmokeTest");
+
+		String query = FileSlurper.slurp("StackOverflowGraphQLTest.smokeTest.graphql", this.getClass());
+
+		Response response = client
+			.target("http://localhost:{port}/graphql")
+			.resolveTemplate("port", this.appExtension.getLocalPort())
+			.request()
+			.post(Entity.json(Maps.mutable.with("query", query)));
+
+		this.assertResponse("graphqlSmokeTest", Status.OK, response);
+	}
+
+	@Test
+	@ReladomoTestFile("test-data/existing-question.txt")
+	void get_tags() {
+		Client client = this.getClient("get_tags");
+
+		Response response = client
+			.target("http://localhost:{port}/tag")
+			.resolveTemplate("port", this.appExtension.getLocalPort())
+			.request()
+			.get();
+
+		this.assertResponse("get_tags", Status.OK, response);
+	}
+}
@@ -57,6 +57,7 @@ import com.stackoverflow.QuestionList;
 import cool.klass.data.store.DataStore;
 import cool.klass.deserializer.json.OperationMode;
 import cool.klass.deserializer.json.RequiredPropertiesValidator;
+import cool.klass.deserializer.json.ValidationPlans;
 import cool.klass.deserializer.json.type.ObjectNodeTypeCheckingValidator;
 import cool.klass.model.meta.domain.api.DomainModel;
 import cool.klass.model.meta.domain.api.Klass;
@@ -96,6 +97,9 @@ public class QuestionResourceManual {
 	@Nonnull
 	private final Clock clock;
 
+	@Nonnull
+	private final ValidationPlans validationPlans;
+
 	public QuestionResourceManual(
 		@Nonnull DomainModel domainModel,
 		@Nonnull DataStore dataStore,
@@ -104,6 +108,7 @@ public class QuestionResourceManual {
 		this.domainModel = Objects.requireNonNull(domainModel);
 		this.dataStore = Objects.requireNonNull(dataStore);
 		this.clock = Objects.requireNonNull(clock);
+		this.validationPlans = new ValidationPlans(domainModel);
 	}
 
 	@Nonnull
@@ -162,8 +167,15 @@ public class QuestionResourceManual {
 
 		MutableList<String> errors = Lists.mutable.empty();
 		MutableList<String> warnings = Lists.mutable.empty();
-		ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
-		RequiredPropertiesValidator.validate(errors, warnings, klass, incomingInstance, OperationMode.REPLACE);
+		ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
+		RequiredPropertiesValidator.validate(
+			this.validationPlans,
+			errors,
+			warnings,
+			klass,
+			incomingInstance,
+			OperationMode.REPLACE
+		);
 
 		if (errors.notEmpty()) {
 			Response response = Response.status(Status.BAD_REQUEST).entity(errors).build();
@@ -446,8 +458,15 @@ public class QuestionResourceManual {
 
 		MutableList<String> errors = Lists.mutable.empty();
 		MutableList<String> warnings = Lists.mutable.empty();
-		ObjectNodeTypeCheckingValidator.validate(errors, incomingInstance, klass);
-		RequiredPropertiesValidator.validate(errors, warnings, klass, incomingInstance, OperationMode.CREATE);
+		ObjectNodeTypeCheckingValidator.validate(this.validationPlans, errors, incomingInstance, klass);
+		RequiredPropertiesValidator.validate(
+			this.validationPlans,
+			errors,
+			warnings,
+			klass,
+			incomingInstance,
+			OperationMode.CREATE
+		);
 		if (errors.notEmpty()) {
 			Response response = Response.status(Status.BAD_REQUEST).entity(errors).build();
 			throw new BadRequestException("Incoming data failed validation.", response);